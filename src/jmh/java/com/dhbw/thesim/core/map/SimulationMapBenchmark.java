@@ -0,0 +1,55 @@
+package com.dhbw.thesim.core.map;
+
+import com.dhbw.thesim.core.util.Vector2D;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the tile search of a {@link SimulationMap}, which is used to find water sources.
+ *
+ * @author Daniel Czeschner
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SimulationMapBenchmark {
+
+    //region variables
+
+    /**
+     * The searched range. (A typical view range of a dinosaur)
+     */
+    @Param({"200", "400"})
+    public double range;
+
+    private SimulationMap simulationMap;
+
+    private Vector2D[] origins;
+
+    private int next;
+
+    //endregion
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        simulationMap = new SimulationMap(SimulationMap.LANDSCAPE_ONE_NAME);
+
+        Random random = new Random(42);
+        origins = new Vector2D[256];
+        for (int i = 0; i < origins.length; i++) {
+            origins[i] = simulationMap.getRandomTileCenterPosition(false, false, random);
+        }
+    }
+
+    @Benchmark
+    public List<Vector2D> getMidCoordinatesTilesWhereConditionsAre() {
+        next = (next + 1) % origins.length;
+        return simulationMap.getMidCoordinatesTilesWhereConditionsAre(origins[next], range, true, false);
+    }
+}
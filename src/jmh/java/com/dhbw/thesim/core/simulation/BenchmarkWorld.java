@@ -0,0 +1,124 @@
+package com.dhbw.thesim.core.simulation;
+
+import com.dhbw.thesim.core.entity.Dinosaur;
+import com.dhbw.thesim.core.entity.Plant;
+import com.dhbw.thesim.core.entity.SimulationObject;
+import com.dhbw.thesim.core.entity.Species;
+import com.dhbw.thesim.core.map.SimulationMap;
+import com.dhbw.thesim.core.map.Tile;
+import com.dhbw.thesim.core.util.Vector2D;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Creates reproducible {@link Simulation}s for the benchmarks. <br>
+ * The objects are not spawned with the free position search of the {@link Simulation}, because the map has not enough
+ * free tiles for thousands of objects. Instead, each object is placed randomly on a tile, which matches its conditions.
+ *
+ * @author Daniel Czeschner
+ */
+public final class BenchmarkWorld {
+
+    //region variables
+
+    /**
+     * The seed, which is used by all benchmarks.
+     */
+    public static final long SEED = 42;
+
+    /**
+     * The part of the objects, which are plants.
+     */
+    private static final double PLANT_SHARE = 1 / 3d;
+
+    /**
+     * The shared {@link Species} of all plants.
+     */
+    private static final Species FERN = new Species("Farn", "farn.png", 1);
+
+    /**
+     * The shared {@link Species} of all brachiosaurus. (Values of the default simulation objects configuration)
+     */
+    private static final Species BRACHIOSAURUS = new Species("Brachiosaurus", "brachiosaurus.png", 1, 'p', false, false);
+
+    /**
+     * The shared {@link Species} of all abrictosaurus. (Values of the default simulation objects configuration)
+     */
+    private static final Species ABRICTOSAURUS = new Species("Abrictosaurus", "abrictosaurus.png", 1, 'a', false, true);
+
+    /**
+     * The shared {@link Species} of all tyrannosaurus rex. (Values of the default simulation objects configuration)
+     */
+    private static final Species TYRANNOSAURUS = new Species("Tyrannosaurus Rex", "tyrannosaurus_rex.png", 1, 'f', false, false);
+
+    //endregion
+
+    private BenchmarkWorld() {
+    }
+
+    /**
+     * Creates a {@link Simulation} without images on the first landscape.
+     *
+     * @param objectCount The amount of {@link SimulationObject}s.
+     * @param seed        The seed for the placement and the {@link Random} of the simulation.
+     * @return The new {@link Simulation}.
+     */
+    public static Simulation create(int objectCount, long seed) {
+        Random random = new Random(seed);
+        SimulationMap simulationMap = new SimulationMap(SimulationMap.LANDSCAPE_ONE_NAME);
+        Simulation simulation = new Simulation(simulationMap, new Random(seed + 1));
+
+        int plantCount = (int) (objectCount * PLANT_SHARE);
+        for (int i = 0; i < objectCount; i++) {
+            SimulationObject simulationObject;
+            Vector2D tileCenter;
+            if (i < plantCount) {
+                simulationObject = new Plant(FERN, 15, 3);
+                tileCenter = simulationMap.getRandomTileCenterPositionWhereConditionsAre(false, false, true, random);
+            } else {
+                Dinosaur dinosaur = createDinosaur(i, random);
+                simulationObject = dinosaur;
+                tileCenter = simulationMap.getRandomTileCenterPosition(dinosaur.canSwim(), dinosaur.canClimb(), random);
+            }
+            //Place the object randomly inside the tile.
+            simulationObject.setPosition(tileCenter.add(new Vector2D(
+                    (random.nextDouble() - 0.5) * Tile.TILE_SIZE / 2,
+                    (random.nextDouble() - 0.5) * Tile.TILE_SIZE / 2)));
+            simulation.getSimulationObjects().add(simulationObject);
+        }
+        return simulation;
+    }
+
+    /**
+     * Gets all {@link Dinosaur}s of a {@link Simulation}.
+     *
+     * @param simulation The {@link Simulation}.
+     * @return All {@link Dinosaur}s in list order.
+     */
+    public static List<Dinosaur> getDinosaurs(Simulation simulation) {
+        List<Dinosaur> dinosaurs = new ArrayList<>();
+        for (SimulationObject simulationObject : simulation.getSimulationObjects()) {
+            if (simulationObject instanceof Dinosaur dinosaur)
+                dinosaurs.add(dinosaur);
+        }
+        return dinosaurs;
+    }
+
+    /**
+     * Creates a dinosaur of one of the three shared species.
+     *
+     * @param index  The index of the object. Defines the species.
+     * @param random The used {@link Random}.
+     * @return The new {@link Dinosaur}.
+     */
+    private static Dinosaur createDinosaur(int index, Random random) {
+        char gender = random.nextBoolean() ? 'm' : 'f';
+        return switch (index % 3) {
+            case 0 -> new Dinosaur(BRACHIOSAURUS, 45, 40, 3, 30, 1, 40000, 27, 12, 360, 65, gender);
+            case 1 -> new Dinosaur(ABRICTOSAURUS, 30, 20, 3, 45, 1.3, 30, 1.2, 0.5, 230, 36, gender);
+            default -> new Dinosaur(TYRANNOSAURUS, 28, 25, 7, 40, 0.8, 8000, 12, 4, 300, 50, gender);
+        };
+    }
+}
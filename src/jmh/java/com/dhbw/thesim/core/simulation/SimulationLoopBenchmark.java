@@ -0,0 +1,48 @@
+package com.dhbw.thesim.core.simulation;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for one complete update of the {@link SimulationLoop}. (decision phase, apply phase, removing and spawning) <br>
+ * The simulation is created again for each iteration, so each iteration starts with the same world.
+ *
+ * @author Daniel Czeschner
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SimulationLoopBenchmark {
+
+    //region variables
+
+    /**
+     * The delta time of one update. (Same as the update rate of the automatic mode)
+     */
+    private static final double DELTA_TIME = 1.0d / 60;
+
+    /**
+     * The amount of {@link com.dhbw.thesim.core.entity.SimulationObject}s inside the simulation.
+     */
+    @Param({"100", "1000", "10000"})
+    public int objectCount;
+
+    private SimulationLoop simulationLoop;
+
+    //endregion
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        simulationLoop = new SimulationLoop(1, 1, BenchmarkWorld.create(objectCount, BenchmarkWorld.SEED), 0, 10);
+    }
+
+    @Benchmark
+    public int tick() {
+        simulationLoop.update(DELTA_TIME);
+        return simulationLoop.getCurrentSimulation().getSimulationObjects().size();
+    }
+}
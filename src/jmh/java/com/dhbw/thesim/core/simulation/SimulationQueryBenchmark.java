@@ -0,0 +1,93 @@
+package com.dhbw.thesim.core.simulation;
+
+import com.dhbw.thesim.core.entity.Dinosaur;
+import com.dhbw.thesim.core.entity.SimulationObject;
+import com.dhbw.thesim.core.util.Vector2D;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for the world queries of a {@link Simulation}, which are called by the dinosaur states each update. <br>
+ * Each call uses the next {@link Dinosaur} of the simulation, so the results are not dominated by one position.
+ *
+ * @author Daniel Czeschner
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SimulationQueryBenchmark {
+
+    //region variables
+
+    /**
+     * The amount of {@link SimulationObject}s inside the simulation.
+     */
+    @Param({"100", "1000", "10000"})
+    public int objectCount;
+
+    private Simulation simulation;
+
+    private List<Dinosaur> dinosaurs;
+
+    /**
+     * A target inside the view range for each {@link Dinosaur}. (Same index as {@link #dinosaurs})
+     */
+    private Vector2D[] targets;
+
+    private int next;
+
+    //endregion
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        simulation = BenchmarkWorld.create(objectCount, BenchmarkWorld.SEED);
+        dinosaurs = BenchmarkWorld.getDinosaurs(simulation);
+
+        Random random = new Random(BenchmarkWorld.SEED);
+        targets = new Vector2D[dinosaurs.size()];
+        for (int i = 0; i < targets.length; i++) {
+            Dinosaur dinosaur = dinosaurs.get(i);
+            double angle = random.nextDouble() * 2 * Math.PI;
+            double distance = random.nextDouble() * dinosaur.getViewRange();
+            targets[i] = dinosaur.getPosition().add(new Vector2D(Math.cos(angle) * distance, Math.sin(angle) * distance));
+        }
+    }
+
+    /**
+     * Gets the index of the next used {@link Dinosaur}.
+     *
+     * @return The index.
+     */
+    private int nextIndex() {
+        next = (next + 1) % dinosaurs.size();
+        return next;
+    }
+
+    @Benchmark
+    public boolean canMoveTo() {
+        int index = nextIndex();
+        Dinosaur dinosaur = dinosaurs.get(index);
+        return simulation.canMoveTo(dinosaur.getPosition(), targets[index], dinosaur.getInteractionRange(), dinosaur.canSwim(), dinosaur.canClimb(),
+                dinosaur.getRenderOffset(), false, false, null);
+    }
+
+    @Benchmark
+    public SimulationObject getClosestReachableFoodSourceInRange() {
+        Dinosaur dinosaur = dinosaurs.get(nextIndex());
+        return simulation.getClosestReachableFoodSourceInRange(dinosaur.getPosition(), dinosaur.getViewRange(), dinosaur.getInteractionRange(), dinosaur.getDiet(),
+                dinosaur.getSpeciesId(), dinosaur.canSwim(), dinosaur.canClimb(), dinosaur.getStrength());
+    }
+
+    @Benchmark
+    public Vector2D getRandomMovementTargetInRange() {
+        Dinosaur dinosaur = dinosaurs.get(nextIndex());
+        return simulation.getRandomMovementTargetInRange(dinosaur.getPosition(), dinosaur.getViewRange(), dinosaur.getInteractionRange(),
+                dinosaur.canSwim(), dinosaur.canClimb(), dinosaur.getRenderOffset());
+    }
+}
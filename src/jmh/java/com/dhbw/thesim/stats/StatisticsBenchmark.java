@@ -0,0 +1,53 @@
+package com.dhbw.thesim.stats;
+
+import com.dhbw.thesim.core.simulation.BenchmarkWorld;
+import com.dhbw.thesim.core.simulation.Simulation;
+import com.dhbw.thesim.core.util.SimulationTime;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for the evaluation of the collected {@link Statistics} at the end of a simulation.
+ *
+ * @author Daniel Czeschner
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StatisticsBenchmark {
+
+    //region variables
+
+    /**
+     * The amount of collected statistic points. (The simulation loop collects one every 5% of the max run time)
+     */
+    private static final int STATISTIC_POINTS = 20;
+
+    /**
+     * The amount of {@link com.dhbw.thesim.core.entity.SimulationObject}s inside the simulation.
+     */
+    @Param({"100", "1000", "10000"})
+    public int objectCount;
+
+    private Statistics statistics;
+
+    //endregion
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Simulation simulation = BenchmarkWorld.create(objectCount, BenchmarkWorld.SEED);
+        statistics = new Statistics();
+        for (int i = 0; i < STATISTIC_POINTS; i++) {
+            statistics.addSimulationObjectList(simulation.getSimulationObjects(), new SimulationTime(i * 30));
+        }
+    }
+
+    @Benchmark
+    public StatisticsStruct getSimulationStats() {
+        return statistics.getSimulationStats();
+    }
+}
@@ -0,0 +1,210 @@
+package com.dhbw.thesim.batch;
+
+import com.dhbw.thesim.core.simulation.Simulation;
+import com.dhbw.thesim.core.simulation.SimulationLoop;
+import com.dhbw.thesim.core.util.SimulationTime;
+import com.dhbw.thesim.core.util.SpriteMetrics;
+import com.dhbw.thesim.impexp.JsonHandler;
+import com.dhbw.thesim.stats.StatisticsSeriesWriter;
+import com.dhbw.thesim.stats.StatisticsStruct;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs all {@link BatchScenario}s of a {@link ParameterSweep} without a graphical user interface. <br>
+ * The simulations run concurrently on a fixed amount of threads. After each finished run, its parameters and its
+ * {@link StatisticsStruct} are appended as one json line to the results file. <br>
+ * The samples of each run are additionally streamed to a binary series file next to the results file. (see {@link StatisticsSeriesWriter}) <br>
+ * Usage: BatchRunner &lt;sweep configuration file&gt; &lt;results file&gt; [threads]
+ *
+ * @author Daniel Czeschner
+ * @see ParameterSweep
+ * @see SimulationLoop#runHeadless()
+ */
+public class BatchRunner {
+
+    //region variables
+
+    /**
+     * The executed {@link ParameterSweep}.
+     */
+    private final ParameterSweep parameterSweep;
+
+    /**
+     * The max amount of concurrently running simulations.
+     */
+    private final int threads;
+
+    //endregion
+
+    /**
+     * Constructor
+     *
+     * @param parameterSweep The executed {@link ParameterSweep}.
+     * @param threads        The max amount of concurrently running simulations.
+     */
+    public BatchRunner(ParameterSweep parameterSweep, int threads) {
+        if (threads < 1)
+            throw new IllegalArgumentException("A batch runner needs at least one thread.");
+        this.parameterSweep = parameterSweep;
+        this.threads = threads;
+    }
+
+    /**
+     * Runs all scenarios of the {@link #parameterSweep} and writes the results.
+     *
+     * @param resultsFile The file, to which the results are written. (json lines)
+     * @throws IOException          If the results file can't be written.
+     * @throws InterruptedException If the thread got interrupted while waiting for the runs.
+     */
+    public void run(File resultsFile) throws IOException, InterruptedException {
+        List<BatchScenario> scenarios = parameterSweep.getScenarios();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CompletionService<JSONObject> completionService = new ExecutorCompletionService<>(executor);
+
+        try (BufferedWriter writer = Files.newBufferedWriter(resultsFile.toPath(), StandardCharsets.UTF_8)) {
+            for (BatchScenario scenario : scenarios) {
+                File seriesFile = getSeriesFile(resultsFile, scenario);
+                completionService.submit(() -> runScenario(scenario, seriesFile));
+            }
+
+            //Write the results in the order they are finished, so finished runs are not lost, if the batch is cancelled.
+            for (int i = 0; i < scenarios.size(); i++) {
+                JSONObject result;
+                try {
+                    result = completionService.take().get();
+                } catch (ExecutionException e) {
+                    //runScenario catches all exceptions of a run, so this should not happen.
+                    throw new IllegalStateException(e.getCause());
+                }
+                writer.write(result.toString());
+                writer.newLine();
+                writer.flush();
+                System.out.printf("Run %d/%d finished.%n", i + 1, scenarios.size());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Gets the series file of a scenario. The file is placed next to the results file.
+     *
+     * @param resultsFile The file, to which the results are written.
+     * @param scenario    The {@link BatchScenario}.
+     * @return The series file. (e.g. results-3-1.stats for the run 3 and the repetition 1)
+     */
+    private static File getSeriesFile(File resultsFile, BatchScenario scenario) {
+        String name = resultsFile.getName();
+        int extension = name.lastIndexOf('.');
+        if (extension > 0)
+            name = name.substring(0, extension);
+        return new File(resultsFile.getAbsoluteFile().getParentFile(), name + "-" + scenario.run() + "-" + scenario.repetition() + ".stats");
+    }
+
+    /**
+     * Runs one scenario until it is finished.
+     *
+     * @param scenario   The {@link BatchScenario}.
+     * @param seriesFile The file, to which the samples of the run are streamed.
+     * @return The parameters and the statistics (or the error) of the run.
+     */
+    private JSONObject runScenario(BatchScenario scenario, File seriesFile) {
+        JSONObject result = toJson(scenario);
+        try (StatisticsSeriesWriter seriesWriter = new StatisticsSeriesWriter(seriesFile.toPath())) {
+            Simulation simulation = new Simulation(scenario.landscapeName(), scenario.dinosaurs(), scenario.plants(), scenario.plantGrowth(), scenario.populationLimit(), SpriteMetrics.SQUARE);
+            SimulationLoop simulationLoop = new SimulationLoop(parameterSweep.getSimulationSpeedMultiplier(), 1, simulation, 0, parameterSweep.getMaxRunTimeInMinutes());
+            simulationLoop.getStatistics().setSeriesWriter(seriesWriter);
+            //The runs already use all threads, so a parallel decision phase would only oversubscribe the cores.
+            if (threads > 1)
+                simulationLoop.setDecisionPool(null);
+            simulationLoop.runHeadless();
+            result.put("Statistik", toJson(simulationLoop.getStatistics().getSimulationStats()));
+            result.put("Zeitreihe", seriesFile.getName());
+            result.put("VerworfeneGeburten", simulation.getDroppedBirths());
+        } catch (Exception e) {
+            result.put("Fehler", e.toString());
+        }
+        return result;
+    }
+
+    /**
+     * Converts the parameters of a {@link BatchScenario} to json. (Same keys as a scenario configuration file)
+     *
+     * @param scenario The {@link BatchScenario}.
+     * @return The json object.
+     */
+    private static JSONObject toJson(BatchScenario scenario) {
+        JSONObject json = new JSONObject();
+        json.put("Lauf", scenario.run());
+        json.put("Wiederholung", scenario.repetition());
+        json.put("Landschaft", scenario.landscapeName());
+        json.put("Dinosaurier", new JSONObject(scenario.dinosaurs()));
+        json.put("Pflanzen", new JSONObject(scenario.plants()));
+        json.put("Pflanzenwachstum", scenario.plantGrowth());
+        json.put("Populationsgrenze", scenario.populationLimit());
+        return json;
+    }
+
+    /**
+     * Converts a {@link StatisticsStruct} to json.
+     *
+     * @param stats The {@link StatisticsStruct}.
+     * @return The json object.
+     */
+    private static JSONObject toJson(StatisticsStruct stats) {
+        JSONArray simulationTimes = new JSONArray();
+        for (SimulationTime simulationTime : stats.simulationTimeList()) {
+            simulationTimes.put(simulationTime.getTime());
+        }
+
+        JSONObject json = new JSONObject();
+        json.put("simulationTime", stats.simulationTime());
+        json.put("averageNutritionPredators", stats.averageNutritionPredators());
+        json.put("averageNutritionChased", stats.averageNutritionChased());
+        json.put("averageHydrationPredators", stats.averageHydrationPredators());
+        json.put("averageHydrationChased", stats.averageHydrationChased());
+        json.put("absolutePercentagePredators", stats.absolutePercentagePredators());
+        json.put("absolutePercentageChased", stats.absolutePercentageChased());
+        json.put("allLivingDinosaurs", new JSONArray(stats.allLivingDinosaurs()));
+        json.put("allLivingSpecies", new JSONArray(stats.allLivingSpecies()));
+        json.put("allSpecies", new JSONArray(stats.allSpecies()));
+        json.put("allLivingPredators", new JSONArray(stats.allLivingPredators()));
+        json.put("allLivingChased", new JSONArray(stats.allLivingChased()));
+        json.put("simulationTimeList", simulationTimes);
+        return json;
+    }
+
+    /**
+     * Entrypoint for parameter sweeps without a graphical user interface.
+     *
+     * @param args The sweep configuration file, the results file and optional the amount of threads.
+     * @throws IOException          If a file can't be read or written.
+     * @throws InterruptedException If the thread got interrupted while waiting for the runs.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 2) {
+            System.err.println("Usage: BatchRunner <sweep configuration file> <results file> [threads]");
+            return;
+        }
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        //The simulation objects are created out of the configuration file inside the working directory.
+        JsonHandler.setDirectory();
+        JsonHandler.exportDefaultSimulationObjectsConfig();
+
+        new BatchRunner(ParameterSweep.load(new File(args[0])), threads).run(new File(args[1]));
+    }
+}
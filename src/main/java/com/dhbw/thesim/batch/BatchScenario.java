@@ -0,0 +1,60 @@
+package com.dhbw.thesim.batch;
+
+import com.dhbw.thesim.core.simulation.Simulation;
+import com.dhbw.thesim.impexp.JsonHandler;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * One run of a {@link ParameterSweep}. Holds the parameters of a scenario configuration file.
+ *
+ * @param run           The number of the run inside the {@link ParameterSweep}.
+ * @param repetition    The repetition of the same parameters. (starts with 0)
+ * @param landscapeName The name of the used landscape.
+ * @param dinosaurs     The amount of each dinosaur species. Key = Dinosaur-Name Value = Amount.
+ * @param plants        The amount of each plant species. Key = Plant-Name Value = Amount.
+ * @param plantGrowth     The growth rate for each plant.
+ * @param populationLimit The max amount of simulation objects or {@link Simulation#NO_POPULATION_LIMIT}.
+ * @author Daniel Czeschner
+ * @see ParameterSweep#getScenarios()
+ */
+public record BatchScenario(int run, int repetition, String landscapeName, Map<String, Integer> dinosaurs,
+                            Map<String, Integer> plants, double plantGrowth, int populationLimit) {
+
+    /**
+     * Creates a copy of this scenario with one changed parameter.
+     *
+     * @param type  The type of the parameter. (Only {@link JsonHandler.ScenarioConfigParams#DINO}, {@link JsonHandler.ScenarioConfigParams#PLANT},
+     *              {@link JsonHandler.ScenarioConfigParams#PLANT_GROWTH} and {@link JsonHandler.ScenarioConfigParams#POPULATION_LIMIT})
+     * @param name  The name of the species. Is ignored for the plant growth and the population limit.
+     * @param value The new value.
+     * @return The changed copy.
+     */
+    public BatchScenario with(JsonHandler.ScenarioConfigParams type, String name, double value) {
+        Map<String, Integer> changedDinosaurs = new HashMap<>(dinosaurs);
+        Map<String, Integer> changedPlants = new HashMap<>(plants);
+        double changedPlantGrowth = plantGrowth;
+        int changedPopulationLimit = populationLimit;
+
+        switch (type) {
+            case DINO -> changedDinosaurs.put(name, (int) value);
+            case PLANT -> changedPlants.put(name, (int) value);
+            case PLANT_GROWTH -> changedPlantGrowth = value;
+            case POPULATION_LIMIT -> changedPopulationLimit = (int) value;
+            default -> throw new IllegalArgumentException("The parameter " + type + " can't be changed in a parameter sweep.");
+        }
+        return new BatchScenario(run, repetition, landscapeName, changedDinosaurs, changedPlants, changedPlantGrowth, changedPopulationLimit);
+    }
+
+    /**
+     * Creates a copy of this scenario with another run number.
+     *
+     * @param run        The number of the run.
+     * @param repetition The repetition of the same parameters.
+     * @return The changed copy.
+     */
+    public BatchScenario asRun(int run, int repetition) {
+        return new BatchScenario(run, repetition, landscapeName, dinosaurs, plants, plantGrowth, populationLimit);
+    }
+}
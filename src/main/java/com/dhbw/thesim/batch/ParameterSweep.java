@@ -0,0 +1,254 @@
+package com.dhbw.thesim.batch;
+
+import com.dhbw.thesim.core.simulation.Simulation;
+import com.dhbw.thesim.impexp.JsonHandler;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * A parameter sweep over a scenario configuration file. <br>
+ * Contains a base scenario (the format of {@link JsonHandler#exportScenarioConfig(HashMap, HashMap, String, Double, Integer, String)})
+ * and value ranges for the amount of dinosaurs, plants, the plant growth and the population limit. Each combination of values is one {@link BatchScenario}. <br>
+ * Structure of a sweep configuration file:
+ * <pre>
+ * {
+ *   "Szenario": "defaultScenarioConfiguration.json",
+ *   "Dinosaurier": {"Tyrannosaurus Rex": [1, 2, 4]},
+ *   "Pflanzen": {"Farn": {"Von": 5, "Bis": 20, "Schritt": 5}},
+ *   "Pflanzenwachstum": [1.0, 3.0],
+ *   "Populationsgrenze": [500, 5000],
+ *   "Wiederholungen": 3,
+ *   "Laufzeit": 10,
+ *   "Geschwindigkeit": 10
+ * }
+ * </pre>
+ * A relative path of the scenario is resolved against the folder of the sweep configuration file.
+ *
+ * @author Daniel Czeschner
+ * @see BatchRunner
+ */
+public class ParameterSweep {
+
+    //region variables
+
+    /**
+     * One swept parameter.
+     *
+     * @param type   The type of the parameter.
+     * @param name   The name of the species. Is null for the plant growth.
+     * @param values All values, which should be used.
+     */
+    public record Parameter(JsonHandler.ScenarioConfigParams type, String name, List<Double> values) {
+    }
+
+    /**
+     * The scenario, which values are changed.
+     */
+    private final BatchScenario baseScenario;
+
+    /**
+     * All swept parameters.
+     */
+    private final List<Parameter> parameters;
+
+    /**
+     * How often each combination is simulated.
+     */
+    private final int repetitions;
+
+    /**
+     * The max amount of time a simulation is running. (In Minutes)
+     */
+    private final int maxRunTimeInMinutes;
+
+    /**
+     * The speed multiplier of each simulation.
+     */
+    private final int simulationSpeedMultiplier;
+
+    //endregion
+
+    /**
+     * Constructor
+     *
+     * @param baseScenario              The scenario, which values are changed.
+     * @param parameters                All swept parameters.
+     * @param repetitions               How often each combination is simulated.
+     * @param maxRunTimeInMinutes       The max amount of time a simulation is running. (In Minutes)
+     * @param simulationSpeedMultiplier The speed multiplier of each simulation.
+     */
+    public ParameterSweep(BatchScenario baseScenario, List<Parameter> parameters, int repetitions, int maxRunTimeInMinutes, int simulationSpeedMultiplier) {
+        if (repetitions < 1 || maxRunTimeInMinutes < 1 || simulationSpeedMultiplier < 1)
+            throw new IllegalArgumentException("The repetitions, the run time and the speed of a parameter sweep need to be at least 1.");
+        this.baseScenario = baseScenario;
+        this.parameters = List.copyOf(parameters);
+        this.repetitions = repetitions;
+        this.maxRunTimeInMinutes = maxRunTimeInMinutes;
+        this.simulationSpeedMultiplier = simulationSpeedMultiplier;
+    }
+
+    /**
+     * Loads a sweep configuration file.
+     *
+     * @param sweepConfigFile The sweep configuration file.
+     * @return The loaded {@link ParameterSweep}.
+     * @throws IOException If the sweep configuration file or the scenario configuration file can't be found.
+     */
+    public static ParameterSweep load(File sweepConfigFile) throws IOException {
+        if (!sweepConfigFile.exists()) {
+            throw new FileNotFoundException("Cannot find sweep configuration file '" + sweepConfigFile.getName() + "'");
+        }
+
+        JSONObject sweepConfig;
+        try (InputStream inputStream = new FileInputStream(sweepConfigFile)) {
+            sweepConfig = new JSONObject(new JSONTokener(inputStream));
+        }
+
+        File scenarioFile = new File(sweepConfig.getString("Szenario"));
+        if (!scenarioFile.isAbsolute())
+            scenarioFile = new File(sweepConfigFile.getAbsoluteFile().getParentFile(), scenarioFile.getPath());
+
+        List<Parameter> parameters = new ArrayList<>();
+        JSONObject dinosaurs = sweepConfig.optJSONObject("Dinosaurier");
+        if (dinosaurs != null) {
+            for (String name : new TreeSet<>(dinosaurs.keySet())) {
+                parameters.add(new Parameter(JsonHandler.ScenarioConfigParams.DINO, name, parseValues(dinosaurs.get(name))));
+            }
+        }
+        JSONObject plants = sweepConfig.optJSONObject("Pflanzen");
+        if (plants != null) {
+            for (String name : new TreeSet<>(plants.keySet())) {
+                parameters.add(new Parameter(JsonHandler.ScenarioConfigParams.PLANT, name, parseValues(plants.get(name))));
+            }
+        }
+        if (sweepConfig.has("Pflanzenwachstum")) {
+            parameters.add(new Parameter(JsonHandler.ScenarioConfigParams.PLANT_GROWTH, null, parseValues(sweepConfig.get("Pflanzenwachstum"))));
+        }
+        if (sweepConfig.has("Populationsgrenze")) {
+            parameters.add(new Parameter(JsonHandler.ScenarioConfigParams.POPULATION_LIMIT, null, parseValues(sweepConfig.get("Populationsgrenze"))));
+        }
+
+        return new ParameterSweep(loadScenario(scenarioFile), parameters,
+                sweepConfig.optInt("Wiederholungen", 1),
+                sweepConfig.optInt("Laufzeit", 10),
+                sweepConfig.optInt("Geschwindigkeit", 1));
+    }
+
+    /**
+     * Creates all combinations of the swept parameters. Each combination is repeated {@link #repetitions} times.
+     *
+     * @return All {@link BatchScenario}s in a fixed order.
+     */
+    public List<BatchScenario> getScenarios() {
+        List<BatchScenario> combinations = new ArrayList<>();
+        combinations.add(baseScenario);
+        for (Parameter parameter : parameters) {
+            List<BatchScenario> extended = new ArrayList<>();
+            for (BatchScenario combination : combinations) {
+                for (double value : parameter.values()) {
+                    extended.add(combination.with(parameter.type(), parameter.name(), value));
+                }
+            }
+            combinations = extended;
+        }
+
+        List<BatchScenario> scenarios = new ArrayList<>();
+        for (BatchScenario combination : combinations) {
+            for (int repetition = 0; repetition < repetitions; repetition++) {
+                scenarios.add(combination.asRun(scenarios.size(), repetition));
+            }
+        }
+        return scenarios;
+    }
+
+    /**
+     * Gets the max amount of time a simulation is running.
+     *
+     * @return The {@link #maxRunTimeInMinutes}.
+     */
+    public int getMaxRunTimeInMinutes() {
+        return maxRunTimeInMinutes;
+    }
+
+    /**
+     * Gets the speed multiplier of each simulation.
+     *
+     * @return The {@link #simulationSpeedMultiplier}.
+     */
+    public int getSimulationSpeedMultiplier() {
+        return simulationSpeedMultiplier;
+    }
+
+    /**
+     * Loads the base scenario out of a scenario configuration file.
+     *
+     * @param scenarioFile The scenario configuration file.
+     * @return The base scenario.
+     * @throws IOException If the scenario configuration file can't be found.
+     */
+    private static BatchScenario loadScenario(File scenarioFile) throws IOException {
+        String landscapeName = JsonHandler.importScenarioConfig(scenarioFile, JsonHandler.ScenarioConfigParams.LANDSCAPE).get("Landscape").toString();
+        double plantGrowth = ((Number) JsonHandler.importScenarioConfig(scenarioFile, JsonHandler.ScenarioConfigParams.PLANT_GROWTH).get("PlantGrowth")).doubleValue();
+        Object populationLimit = JsonHandler.importScenarioConfig(scenarioFile, JsonHandler.ScenarioConfigParams.POPULATION_LIMIT).get("PopulationLimit");
+        return new BatchScenario(0, 0, landscapeName,
+                toAmounts(JsonHandler.importScenarioConfig(scenarioFile, JsonHandler.ScenarioConfigParams.DINO)),
+                toAmounts(JsonHandler.importScenarioConfig(scenarioFile, JsonHandler.ScenarioConfigParams.PLANT)),
+                plantGrowth,
+                populationLimit == null ? Simulation.NO_POPULATION_LIMIT : ((Number) populationLimit).intValue());
+    }
+
+    /**
+     * Converts the imported amounts of a scenario configuration file.
+     *
+     * @param importedAmounts The imported amounts.
+     * @return The amounts as integers.
+     */
+    private static Map<String, Integer> toAmounts(Map<String, Object> importedAmounts) {
+        Map<String, Integer> amounts = new HashMap<>();
+        for (Map.Entry<String, Object> entry : importedAmounts.entrySet()) {
+            amounts.put(entry.getKey(), ((Number) entry.getValue()).intValue());
+        }
+        return amounts;
+    }
+
+    /**
+     * Parses the values of a parameter. <br>
+     * The values are either a list (e.g. [1, 2, 4]) or a range (e.g. {"Von": 5, "Bis": 20, "Schritt": 5}).
+     *
+     * @param json The json values.
+     * @return All values.
+     */
+    private static List<Double> parseValues(Object json) {
+        List<Double> values = new ArrayList<>();
+        if (json instanceof JSONArray jsonArray) {
+            for (int i = 0; i < jsonArray.length(); i++) {
+                values.add(jsonArray.getDouble(i));
+            }
+        } else if (json instanceof JSONObject range) {
+            double from = range.getDouble("Von");
+            double to = range.getDouble("Bis");
+            double step = range.optDouble("Schritt", 1);
+            if (step <= 0)
+                throw new IllegalArgumentException("The step of a range needs to be greater than 0.");
+            //Use a counter, so the steps don't add up rounding errors.
+            for (int i = 0; from + i * step <= to + step * 1e-9; i++) {
+                values.add(from + i * step);
+            }
+        } else {
+            values.add(((Number) json).doubleValue());
+        }
+        return values;
+    }
+}
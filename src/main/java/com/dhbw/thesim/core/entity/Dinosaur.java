@@ -2,10 +2,10 @@ package com.dhbw.thesim.core.entity;
 
 import com.dhbw.thesim.core.simulation.Simulation;
 import com.dhbw.thesim.core.statemachine.state.State;
-import com.dhbw.thesim.core.statemachine.state.dinosaur.Stand;
+import com.dhbw.thesim.core.statemachine.state.StateFactory;
+import com.dhbw.thesim.core.util.ScreenScale;
 import com.dhbw.thesim.core.util.SimulationTime;
-import com.dhbw.thesim.gui.Display;
-import javafx.scene.image.Image;
+import com.dhbw.thesim.core.util.Vector2D;
 
 /**
  * Represents a dinosaur inside the simulation. <br>
@@ -83,23 +83,10 @@ public class Dinosaur extends SimulationObject {
     private final double height;
 
     /**
-     * Describes whether the dino can swim <br>
-     * true = dinosaur can swim.
+     * The diet, gender and mobility of the dinosaur packed into one value. <br>
+     * Holds the {@link Species#getFlags()} of the species and the {@link #FEMALE} flag, so the filters don't need to ask the {@link #species}.
      */
-    private final boolean canSwim;
-
-    /**
-     * Describes whether the dinosaur can climb <br>
-     * true = dinosaur can climb.
-     */
-    private final boolean canClimb;
-
-    /**
-     * The diet type of the dinosaur.
-     *
-     * @see dietType
-     */
-    private final dietType diet;
+    private final int flags;
 
     /**
      * The range in pixels the dinosaur can see.
@@ -111,11 +98,6 @@ public class Dinosaur extends SimulationObject {
      */
     private final SimulationTime timeOfBirth;
 
-    /**
-     * The gender of the dinosaur.
-     */
-    private final char gender;
-
     /**
      * The current value of reproduction will. <br>
      * A dinosaur willing to mate, if this value reaches his maximum amount.
@@ -148,18 +130,30 @@ public class Dinosaur extends SimulationObject {
      */
     private Dinosaur partner;
 
+    /**
+     * The {@link DinosaurStore} this {@link Dinosaur} is attached to. <br>
+     * If it is attached, the {@link #nutrition}, {@link #hydration} and {@link #reproductionValue} fields are not used,
+     * because the values are stored in the slot of the store.
+     */
+    private DinosaurStore store;
+
+    /**
+     * The slot of this {@link Dinosaur} inside the {@link #store}. Is -1 if it is not attached.
+     */
+    private int slot = -1;
+
     //endregion
 
     //region constants
     /**
      * Used as a decrease rate for nutrition per update.
      */
-    private static final double NUTRITION_REDUCTION_RATE = 0.3;
+    static final double NUTRITION_REDUCTION_RATE = 0.3;
 
     /**
      * Used as a decrease rate for hydration per update.
      */
-    private static final double HYDRATION_REDUCTION_RATE = 0.45;
+    static final double HYDRATION_REDUCTION_RATE = 0.45;
 
     /**
      * Defines the max level of the reproduction value.
@@ -173,6 +167,16 @@ public class Dinosaur extends SimulationObject {
      */
     public static final double PROXIMITY_RANGE = 5;
 
+    /**
+     * The flag for a female dinosaur. The lower bits are used by the {@link Species#getFlags()}.
+     */
+    private static final int FEMALE = 1 << 4;
+
+    /**
+     * All {@link dietType}s by their ordinal. {@link dietType#values()} creates a new array on each call.
+     */
+    private static final dietType[] DIETS = dietType.values();
+
     //endregion
 
     /**
@@ -194,10 +198,12 @@ public class Dinosaur extends SimulationObject {
 
 
     /**
-     * Constructor for a {@link Dinosaur} object.
+     * Constructor for a {@link Dinosaur} object with its own {@link Species}. <br>
+     * Dinosaurs of the same type should share one {@link Species} instead. (see {@link #Dinosaur(Species, double, double, double, double, double, double, double, double, double, double, char)}) <br>
+     * The sprite is assumed to be a square.
      *
      * @param type             The type of the {@link Dinosaur}
-     * @param image            The image which is used for the graphical representation.
+     * @param spriteName       The name of the sprite, which is used for the graphical representation.
      * @param nutrition        The maximum level of nutrition.
      * @param hydration        The maximum level of hydration.
      * @param strength         The strength of the {@link Dinosaur}.
@@ -211,21 +217,41 @@ public class Dinosaur extends SimulationObject {
      * @param diet             The died of the dinosaur as char. 'a'=OMNIVORE, 'f'=CARNIVORE, 'p' and all other chars = CARNIVORE
      * @param viewRange        The range the {@link Dinosaur} can see. (In pixels)
      * @param interactionRange The range for interactions with other {@link SimulationObject}-objects. (in pixels)
-     * @param gender           The gender of the {@link Dinosaur} as char.
+     * @param gender           The gender of the {@link Dinosaur} as char. 'f'=female, all other chars = male
      * @see SimulationObject
      */
-    public Dinosaur(String type, Image image, double nutrition, double hydration,
+    public Dinosaur(String type, String spriteName, double nutrition, double hydration,
                     double strength, double speed, double reproductionRate, double weight, double length, double height,
                     boolean canSwim, boolean canClimb, char diet, double viewRange,
                     double interactionRange, char gender) {
-        super(type, interactionRange, image);
+        this(new Species(type, spriteName, 1, diet, canSwim, canClimb), nutrition, hydration, strength, speed, reproductionRate,
+                weight, length, height, viewRange, interactionRange, gender);
+    }
 
-        if (diet == 'a')
-            this.diet = dietType.OMNIVORE;
-        else if (diet == 'f')
-            this.diet = dietType.CARNIVORE;
-        else
-            this.diet = dietType.HERBIVORE;
+    /**
+     * Constructor for a {@link Dinosaur} object of a shared {@link Species}. <br>
+     * Only the individual values are passed, the type, image, diet and mobility are taken from the {@link Species}.
+     *
+     * @param species          The shared {@link Species} of the {@link Dinosaur}.
+     * @param nutrition        The maximum level of nutrition.
+     * @param hydration        The maximum level of hydration.
+     * @param strength         The strength of the {@link Dinosaur}.
+     * @param speed            The movement speed.
+     * @param reproductionRate The rate the reproduction will is increasing per update.
+     * @param weight           The wight of the {@link Dinosaur}.
+     * @param length           The length of the {@link Dinosaur}.
+     * @param height           The height of the {@link Dinosaur}.
+     * @param viewRange        The range the {@link Dinosaur} can see. (In pixels)
+     * @param interactionRange The range for interactions with other {@link SimulationObject}-objects. (in pixels)
+     * @param gender           The gender of the {@link Dinosaur} as char. 'f'=female, all other chars = male
+     * @see SimulationObject
+     */
+    public Dinosaur(Species species, double nutrition, double hydration,
+                    double strength, double speed, double reproductionRate, double weight, double length, double height,
+                    double viewRange, double interactionRange, char gender) {
+        super(species, interactionRange);
+
+        this.flags = species.getFlags() | (gender == 'f' ? FEMALE : 0);
 
         //Set dinosaur variables
         this.nutrition = nutrition;
@@ -235,9 +261,6 @@ public class Dinosaur extends SimulationObject {
         this.weight = weight;
         this.length = length;
         this.height = height;
-        this.gender = gender;
-        this.canSwim = canSwim;
-        this.canClimb = canClimb;
         this.reproductionRate = reproductionRate;
         this.viewRange = viewRange;
         this.timeOfBirth = new SimulationTime();
@@ -252,7 +275,7 @@ public class Dinosaur extends SimulationObject {
         this.isChased = false;
 
         //Init in stand state.
-        setState(new Stand(this));
+        enterState(StateFactory.getState(StateFactory.States.stand, this));
     }
 
     /**
@@ -261,12 +284,12 @@ public class Dinosaur extends SimulationObject {
      * @return A copy of the {@link Dinosaur} object.
      */
     public Dinosaur copyOf() {
-        Dinosaur copy = new Dinosaur(this.getType(), this.getJavaFXObj().getImage(), this.nutrition, this.hydration,
+        Dinosaur copy = new Dinosaur(this.species, getNutrition(), getHydration(),
                 this.strength, this.speed, this.reproductionRate, this.weight, this.length, this.height,
-                this.canSwim, this.canClimb, this.getCharDiet(), this.viewRange,
-                this.interactionRange, this.gender);
+                this.viewRange, this.interactionRange, getGender());
+        copy.setSprite(getSpriteName(), getSpriteAspectRatio());
 
-        copy.setReproductionValue(this.reproductionValue);
+        copy.setReproductionValue(getReproductionValue());
         copy.setTarget(this.target);
         copy.setIsChased(this.isChased);
         copy.setState(this.currentState);
@@ -289,7 +312,9 @@ public class Dinosaur extends SimulationObject {
         //Update the current state
         currentState.update(deltaTime, currentSimulationData);
 
-        updateStats(deltaTime);
+        //An attached dinosaur gets his stats updated by the store for all dinosaurs at once.
+        if (store == null)
+            updateStats(deltaTime);
     }
 
     /**
@@ -319,8 +344,10 @@ public class Dinosaur extends SimulationObject {
      * Reduces the nutrition by {@link #NUTRITION_REDUCTION_RATE}. <br>
      * Reduces the hydration by {@link #HYDRATION_REDUCTION_RATE}. <br>
      * Increases the reproduction will, by {@link #reproductionRate}. <br>
+     * Is only used, if this {@link Dinosaur} is not attached to a {@link DinosaurStore}.
      *
      * @param deltaTime The time since the last update call in seconds.
+     * @see DinosaurStore#updateStats(double)
      */
     private void updateStats(double deltaTime) {
         this.hydration -= HYDRATION_REDUCTION_RATE * deltaTime;
@@ -329,18 +356,6 @@ public class Dinosaur extends SimulationObject {
             this.reproductionValue += reproductionRate * deltaTime;
     }
 
-    /**
-     * Updates the position of the graphical representation for this {@link Dinosaur}.
-     */
-    @Override
-    public void updateGraphics() {
-        //Center the image and update his position.
-        imageObj.setTranslateX(position.getX() - renderOffset.getX());
-        imageObj.setTranslateY(position.getY() - renderOffset.getY());
-        this.selectionRing.setTranslateX(position.getX());
-        this.selectionRing.setTranslateY(position.getY());
-    }
-
     //region getter & setter
 
     /**
@@ -351,7 +366,7 @@ public class Dinosaur extends SimulationObject {
      * @return true if the {@link Dinosaur} is willing to mate.
      */
     public boolean isWillingToMate() {
-        return reproductionValue >= REPRODUCTION_VALUE_FULL && !isHungry() && !isThirsty() && !isChased();
+        return getReproductionValue() >= REPRODUCTION_VALUE_FULL && !isHungry() && !isThirsty() && !isChased();
     }
 
     /**
@@ -360,7 +375,7 @@ public class Dinosaur extends SimulationObject {
      * @return The {@link dietType}.
      */
     public dietType getDiet() {
-        return diet;
+        return DIETS[flags & Species.DIET_MASK];
     }
 
     /**
@@ -369,13 +384,11 @@ public class Dinosaur extends SimulationObject {
      * @return 'a' for OMNIVORE, 'f' for CARNIVORE and 'p' for HERBIVORE. Default is p.
      */
     public char getCharDiet() {
-
+        dietType diet = getDiet();
         if (diet == dietType.OMNIVORE)
             return 'a';
         else if (diet == dietType.CARNIVORE)
             return 'f';
-        else if (this.diet == dietType.HERBIVORE)
-            return 'p';
         else
             return 'p';
     }
@@ -386,7 +399,7 @@ public class Dinosaur extends SimulationObject {
      * @return The {@link #nutrition}.
      */
     public double getNutrition() {
-        return nutrition;
+        return store != null ? store.getNutrition(slot) : nutrition;
     }
 
     /**
@@ -395,7 +408,7 @@ public class Dinosaur extends SimulationObject {
      * @return The {@link #hydration}.
      */
     public double getHydration() {
-        return hydration;
+        return store != null ? store.getHydration(slot) : hydration;
     }
 
     /**
@@ -446,10 +459,10 @@ public class Dinosaur extends SimulationObject {
     /**
      * Gets the gender of this {@link Dinosaur}.
      *
-     * @return The gender as a char.
+     * @return The gender as a char. 'f' or 'm'
      */
     public char getGender() {
-        return gender;
+        return (flags & FEMALE) != 0 ? 'f' : 'm';
     }
 
     /**
@@ -458,7 +471,7 @@ public class Dinosaur extends SimulationObject {
      * @return true, if the dinosaur can swim.
      */
     public boolean canSwim() {
-        return canSwim;
+        return (flags & Species.CAN_SWIM) != 0;
     }
 
     /**
@@ -467,7 +480,18 @@ public class Dinosaur extends SimulationObject {
      * @return true, if the {@link Dinosaur} can climb.
      */
     public boolean canClimb() {
-        return canClimb;
+        return (flags & Species.CAN_CLIMB) != 0;
+    }
+
+    /**
+     * Gets the interned id of the species of this {@link Dinosaur}. <br>
+     * Two {@link Dinosaur}s have the same id, if their {@link #getType()} is equal ignoring the case.
+     *
+     * @return The species id.
+     * @see SpeciesRegistry
+     */
+    public int getSpeciesId() {
+        return species.getId();
     }
 
     /**
@@ -485,17 +509,17 @@ public class Dinosaur extends SimulationObject {
      * @return The {@link #reproductionValue}
      */
     public double getReproductionValue() {
-        return reproductionValue;
+        return store != null ? store.getReproductionValue(slot) : reproductionValue;
     }
 
     /**
      * Gets the scaled range in pixels this {@link Dinosaur} can see.
      *
      * @return The {@link #viewRange} adjusted by the cale
-     * @see Display#adjustScale(double, double)
+     * @see ScreenScale#adjustX(double)
      */
     public double getViewRange() {
-        return Display.adjustScale(viewRange, Display.SCALE_X);
+        return ScreenScale.adjustX(viewRange);
     }
 
     /**
@@ -558,7 +582,10 @@ public class Dinosaur extends SimulationObject {
      * @param nutrition The new {@link #nutrition}.
      */
     public void setNutrition(double nutrition) {
-        this.nutrition = nutrition;
+        if (store != null)
+            store.setNutrition(slot, nutrition);
+        else
+            this.nutrition = nutrition;
     }
 
     /**
@@ -567,7 +594,10 @@ public class Dinosaur extends SimulationObject {
      * @param hydration The new {@link #hydration}.
      */
     public void setHydration(double hydration) {
-        this.hydration = hydration;
+        if (store != null)
+            store.setHydration(slot, hydration);
+        else
+            this.hydration = hydration;
     }
 
     /**
@@ -594,7 +624,10 @@ public class Dinosaur extends SimulationObject {
      * @param reproductionValue The new {@link #reproductionValue}
      */
     public void setReproductionValue(double reproductionValue) {
-        this.reproductionValue = reproductionValue;
+        if (store != null)
+            store.setReproductionValue(slot, reproductionValue);
+        else
+            this.reproductionValue = reproductionValue;
     }
 
     /**
@@ -652,7 +685,7 @@ public class Dinosaur extends SimulationObject {
      * @return true, if the {@link Dinosaur} is hungry.
      */
     public boolean isHungry() {
-        return nutrition / nutritionFull <= 0.5;
+        return getNutrition() / nutritionFull <= 0.5;
     }
 
     /**
@@ -680,7 +713,7 @@ public class Dinosaur extends SimulationObject {
      * @return true, if the {@link Dinosaur} is thirsty.
      */
     public boolean isThirsty() {
-        return hydration / hydrationFull <= 0.5;
+        return getHydration() / hydrationFull <= 0.5;
     }
 
     /**
@@ -690,7 +723,7 @@ public class Dinosaur extends SimulationObject {
      * @return true, if the dinosaur died of thirst.
      */
     public boolean diedOfThirst() {
-        return hydration <= 0;
+        return getHydration() <= 0;
     }
 
     /**
@@ -700,7 +733,49 @@ public class Dinosaur extends SimulationObject {
      * @return true, if the {@link Dinosaur} died of starvation.
      */
     public boolean diedOfHunger() {
-        return nutrition <= 0;
+        return getNutrition() <= 0;
+    }
+
+    /**
+     * Gets the {@link DinosaurStore} this {@link Dinosaur} is attached to.
+     *
+     * @return The {@link #store} or null.
+     */
+    public DinosaurStore getStore() {
+        return store;
+    }
+
+    /**
+     * Gets the slot of this {@link Dinosaur} inside the {@link DinosaurStore}.
+     *
+     * @return The {@link #slot} or -1, if it is not attached.
+     */
+    public int getSlot() {
+        return slot;
+    }
+
+    /**
+     * Attaches this {@link Dinosaur} to a slot of a {@link DinosaurStore}. Is also called, if the slot got moved. <br>
+     * Is called by the {@link DinosaurStore} itself.
+     *
+     * @param store The {@link DinosaurStore}.
+     * @param slot  The slot inside the store.
+     */
+    void attach(DinosaurStore store, int slot) {
+        this.store = store;
+        this.slot = slot;
+    }
+
+    /**
+     * Copies the values of the slot back into this {@link Dinosaur} and detaches it. <br>
+     * Is called by the {@link DinosaurStore} itself.
+     */
+    void detach() {
+        this.nutrition = store.getNutrition(slot);
+        this.hydration = store.getHydration(slot);
+        this.reproductionValue = store.getReproductionValue(slot);
+        this.store = null;
+        this.slot = -1;
     }
 
     //endregion
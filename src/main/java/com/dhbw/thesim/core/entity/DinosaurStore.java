@@ -0,0 +1,196 @@
+package com.dhbw.thesim.core.entity;
+
+import java.util.Arrays;
+
+/**
+ * Optional stats store, which holds the stats, that change each update, of many {@link Dinosaur}s in parallel primitive arrays. <br>
+ * Each attached {@link Dinosaur} owns one slot in all arrays and reads and writes its nutrition, hydration
+ * and reproduction value through this store. A {@link Dinosaur}, which is not attached, keeps these values in its own fields. <br>
+ * The slots are kept dense. If a {@link Dinosaur} gets detached, the last slot is moved into the free one, so
+ * {@link #updateStats(double)} streams through the arrays without any gaps. <br>
+ * Positions, ranges and species stay in the {@link Dinosaur} objects, because the proximity queries read them from the
+ * {@link com.dhbw.thesim.core.simulation.SpatialGrid}. Mirroring them here would only add writes to each movement.
+ *
+ * @author Daniel Czeschner
+ * @see Dinosaur
+ */
+public class DinosaurStore {
+
+    //region variables
+
+    /**
+     * The capacity of a new store.
+     */
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * The current nutrition levels.
+     */
+    private double[] nutrition;
+
+    /**
+     * The current hydration levels.
+     */
+    private double[] hydration;
+
+    /**
+     * The current reproduction will values.
+     */
+    private double[] reproductionValue;
+
+    /**
+     * The increase rates of the reproduction will values.
+     */
+    private double[] reproductionRate;
+
+    /**
+     * The {@link Dinosaur} of each slot. Needed to move the slot of a {@link Dinosaur}, if another one gets detached.
+     */
+    private Dinosaur[] dinosaurs;
+
+    /**
+     * The amount of used slots. The used slots are always 0 to size - 1.
+     */
+    private int size;
+
+    //endregion
+
+    /**
+     * Constructor
+     */
+    public DinosaurStore() {
+        this.nutrition = new double[INITIAL_CAPACITY];
+        this.hydration = new double[INITIAL_CAPACITY];
+        this.reproductionValue = new double[INITIAL_CAPACITY];
+        this.reproductionRate = new double[INITIAL_CAPACITY];
+        this.dinosaurs = new Dinosaur[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Attaches a {@link Dinosaur} to a new slot. The current values of the {@link Dinosaur} are copied into this store.
+     *
+     * @param dinosaur The {@link Dinosaur}, which should be attached.
+     * @see Dinosaur#attach(DinosaurStore, int)
+     */
+    public void attach(Dinosaur dinosaur) {
+        if (dinosaur.getStore() != null)
+            return;
+
+        if (size == dinosaurs.length)
+            grow();
+
+        int slot = size++;
+        nutrition[slot] = dinosaur.getNutrition();
+        hydration[slot] = dinosaur.getHydration();
+        reproductionValue[slot] = dinosaur.getReproductionValue();
+        reproductionRate[slot] = dinosaur.getReproductionRate();
+        dinosaurs[slot] = dinosaur;
+
+        dinosaur.attach(this, slot);
+    }
+
+    /**
+     * Detaches a {@link Dinosaur}. The current values of the slot are copied back into the {@link Dinosaur}. <br>
+     * The last slot is moved into the free slot.
+     *
+     * @param dinosaur The {@link Dinosaur}, which should be detached.
+     * @see Dinosaur#detach()
+     */
+    public void detach(Dinosaur dinosaur) {
+        if (dinosaur.getStore() != this)
+            return;
+
+        int slot = dinosaur.getSlot();
+        dinosaur.detach();
+
+        int last = --size;
+        if (slot != last) {
+            nutrition[slot] = nutrition[last];
+            hydration[slot] = hydration[last];
+            reproductionValue[slot] = reproductionValue[last];
+            reproductionRate[slot] = reproductionRate[last];
+            dinosaurs[slot] = dinosaurs[last];
+            dinosaurs[slot].attach(this, slot);
+        }
+        dinosaurs[last] = null;
+    }
+
+    /**
+     * Detaches all {@link Dinosaur}s.
+     */
+    public void clear() {
+        for (int slot = size - 1; slot >= 0; slot--) {
+            if (dinosaurs[slot].getStore() == this)
+                dinosaurs[slot].detach();
+            dinosaurs[slot] = null;
+        }
+        size = 0;
+    }
+
+    /**
+     * Reduces the nutrition and hydration and increases the reproduction value of all attached {@link Dinosaur}s. <br>
+     * Does the same as each {@link Dinosaur} does for itself, if it is not attached.
+     *
+     * @param deltaTime The time since the last update call in seconds.
+     * @see Dinosaur#update(double, com.dhbw.thesim.core.simulation.Simulation)
+     */
+    public void updateStats(double deltaTime) {
+        double hydrationReduction = Dinosaur.HYDRATION_REDUCTION_RATE * deltaTime;
+        double nutritionReduction = Dinosaur.NUTRITION_REDUCTION_RATE * deltaTime;
+        for (int slot = 0; slot < size; slot++) {
+            hydration[slot] -= hydrationReduction;
+            nutrition[slot] -= nutritionReduction;
+            if (reproductionValue[slot] < Dinosaur.REPRODUCTION_VALUE_FULL)
+                reproductionValue[slot] += reproductionRate[slot] * deltaTime;
+        }
+    }
+
+    /**
+     * Gets the amount of attached {@link Dinosaur}s.
+     *
+     * @return The amount of used slots.
+     */
+    public int size() {
+        return size;
+    }
+
+    //region slot getter & setter
+
+    public double getNutrition(int slot) {
+        return nutrition[slot];
+    }
+
+    public double getHydration(int slot) {
+        return hydration[slot];
+    }
+
+    public double getReproductionValue(int slot) {
+        return reproductionValue[slot];
+    }
+
+    void setNutrition(int slot, double value) {
+        nutrition[slot] = value;
+    }
+
+    void setHydration(int slot, double value) {
+        hydration[slot] = value;
+    }
+
+    void setReproductionValue(int slot, double value) {
+        reproductionValue[slot] = value;
+    }
+
+    //endregion
+
+    /**
+     * Doubles the capacity of all arrays.
+     */
+    private void grow() {
+        int capacity = dinosaurs.length * 2;
+        nutrition = Arrays.copyOf(nutrition, capacity);
+        hydration = Arrays.copyOf(hydration, capacity);
+        reproductionValue = Arrays.copyOf(reproductionValue, capacity);
+        reproductionRate = Arrays.copyOf(reproductionRate, capacity);
+        dinosaurs = Arrays.copyOf(dinosaurs, capacity);
+    }
+}
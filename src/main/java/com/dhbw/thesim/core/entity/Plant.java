@@ -2,9 +2,7 @@ package com.dhbw.thesim.core.entity;
 
 import com.dhbw.thesim.core.simulation.Simulation;
 import com.dhbw.thesim.core.statemachine.state.State;
-import com.dhbw.thesim.core.statemachine.state.plant.Growing;
-import com.dhbw.thesim.core.statemachine.state.plant.Grown;
-import javafx.scene.image.Image;
+import com.dhbw.thesim.core.statemachine.state.StateFactory;
 
 /**
  * Represents a plant inside the simulation, which can be eaten. <br>
@@ -41,26 +39,40 @@ public class Plant extends SimulationObject {
     //endregion
 
     /**
-     * Constructor for a {@link Plant}-object.
+     * Constructor for a {@link Plant}-object with its own {@link Species}. <br>
+     * Plants of the same type should share one {@link Species} instead. (see {@link #Plant(Species, double, double)}) <br>
+     * The sprite is assumed to be a square.
      *
      * @param type             The type of the {@link Plant}.
-     * @param image            The image for the graphical representation.
+     * @param spriteName       The name of the sprite for the graphical representation.
      * @param interactionRange The range for interactions with other {@link SimulationObject}-objects. (in pixels)
      * @param growthRate       The rate this {@link Plant} is growing per update.
      * @see SimulationObject
      */
-    public Plant(String type, Image image, double interactionRange, double growthRate) {
-        super(type, interactionRange, image);
+    public Plant(String type, String spriteName, double interactionRange, double growthRate) {
+        this(new Species(type, spriteName, 1), interactionRange, growthRate);
+    }
+
+    /**
+     * Constructor for a {@link Plant}-object of a shared {@link Species}.
+     *
+     * @param species          The shared {@link Species} of the {@link Plant}.
+     * @param interactionRange The range for interactions with other {@link SimulationObject}-objects. (in pixels)
+     * @param growthRate       The rate this {@link Plant} is growing per update.
+     * @see SimulationObject
+     */
+    public Plant(Species species, double interactionRange, double growthRate) {
+        super(species, interactionRange);
         this.growthRate = growthRate;
 
         //75% chance, that a plant is already grown at the start.
         if (Math.random() > 0.25) {
             this.growth = MAX_GROWTH;
-            this.setState(new Grown(this));
+            this.enterState(StateFactory.getState(StateFactory.States.grown, this));
         } else {
             this.growth = 0;
-            this.setState(new Growing(this));
-            this.getJavaFXObj().setVisible(false);
+            this.enterState(StateFactory.getState(StateFactory.States.growing, this));
+            this.setVisible(false);
         }
 
     }
@@ -80,15 +92,6 @@ public class Plant extends SimulationObject {
         currentState.update(deltaTime, currentSimulationData);
     }
 
-    /**
-     * Updates the visuals for a {@link Plant}-object.
-     */
-    @Override
-    public void updateGraphics() {
-        imageObj.setTranslateX(position.getX() - renderOffset.getX());
-        imageObj.setTranslateY(position.getY() - renderOffset.getY());
-    }
-
     /**
      * Call if this {@link Plant} gets eaten.
      */
@@ -4,18 +4,16 @@ import com.dhbw.thesim.core.map.SimulationMap;
 import com.dhbw.thesim.core.map.Tile;
 import com.dhbw.thesim.core.simulation.Simulation;
 import com.dhbw.thesim.core.simulation.SimulationLoop;
+import com.dhbw.thesim.core.simulation.SpatialGrid;
 import com.dhbw.thesim.core.statemachine.StateMachine;
+import com.dhbw.thesim.core.util.ScreenScale;
 import com.dhbw.thesim.core.util.Vector2D;
-import com.dhbw.thesim.gui.Display;
-import com.dhbw.thesim.gui.SimulationOverlay;
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
-import javafx.scene.paint.Color;
-import javafx.scene.shape.Circle;
 
 /**
  * Represents an object, which is handled in our simulation. <br>
- * Extends the {@link StateMachine}.
+ * Extends the {@link StateMachine}. <br>
+ * A {@link SimulationObject} holds no scene-graph nodes. The graphical representation is created by a renderer,
+ * which observes the simulation. (see {@link com.dhbw.thesim.core.simulation.SimulationObserver})
  *
  * @author Daniel Czeschner
  * @see StateMachine
@@ -25,10 +23,15 @@ public abstract class SimulationObject extends StateMachine {
     //region variables
 
     /**
-     * The representation object for this {@link SimulationObject}.
-     * Contains an {@link Image}
+     * The name of the sprite, which is resolved by a renderer for the graphical representation of this {@link SimulationObject}. <br>
+     * Is the sprite of the {@link #species}, unless it was replaced with {@link #setSprite(String, double)}.
      */
-    protected ImageView imageObj;
+    protected String spriteName;
+
+    /**
+     * The aspect ratio (width / height) of the sprite.
+     */
+    protected double spriteAspectRatio;
 
     /**
      * The position for this {@link SimulationObject}.
@@ -39,14 +42,26 @@ public abstract class SimulationObject extends StateMachine {
 
     /**
      * Offset for the image to center it on the actual position of this {@link SimulationObject}. <br>
-     * The {@link ImageView} has his origin on the top left.
+     * A rendered image has his origin on the top left.
      */
     protected Vector2D renderOffset;
 
     /**
-     * The type of this {@link SimulationObject}. E.g. "Brachiosaurus"
+     * Is the sprite mirrored horizontally?
+     *
+     * @see #faceDirection(Vector2D)
+     */
+    protected boolean mirrored;
+
+    /**
+     * Should this {@link SimulationObject} be shown by a renderer?
+     */
+    protected boolean visible;
+
+    /**
+     * The shared data of the type of this {@link SimulationObject}. E.g. "Brachiosaurus"
      */
-    protected final String type;
+    protected final Species species;
 
     /**
      * The collision range of this {@link SimulationObject}, in which collisions are counted.
@@ -54,37 +69,33 @@ public abstract class SimulationObject extends StateMachine {
     protected final double interactionRange;
 
     /**
-     * Used, when a dinosaur gets selected.
+     * The {@link SpatialGrid} this {@link SimulationObject} is stored in. Is null if it is not handled by any grid.
      */
-    protected final Circle selectionRing;
+    private SpatialGrid spatialGrid;
+
+    /**
+     * The slot of this {@link SimulationObject} inside the {@link #spatialGrid}. Is -1 if it is not handled by any grid.
+     */
+    private int spatialGridSlot = -1;
 
     //endregion
 
     /**
      * Constructor
      *
-     * @param type             The type of this {@link SimulationObject}.
+     * @param species          The shared {@link Species} of this {@link SimulationObject}.
      * @param interactionRange The range, in which collisions with other {@link SimulationObject} are handled. (in pixels)
-     * @param image            The image, which is used for the graphical representation for this {@link SimulationObject}.
      */
-    protected SimulationObject(String type, double interactionRange, Image image) {
-        this.type = type;
+    protected SimulationObject(Species species, double interactionRange) {
+        this.species = species;
         this.interactionRange = interactionRange;
-        this.imageObj = new ImageView();
 
         this.position = new Vector2D(0, 0);
         this.renderOffset = new Vector2D(0, 0);
+        this.mirrored = false;
+        this.visible = true;
 
-        imageObj.setPreserveRatio(true);
-        imageObj.setFitHeight(Display.adjustScale(interactionRange * 2, Display.SCALE_Y==0?1:Display.SCALE_Y));
-        imageObj.setFitWidth(Display.adjustScale(interactionRange * 2, Display.SCALE_X==0?1:Display.SCALE_X));
-
-        selectionRing = new Circle(0, 0, getInteractionRange());
-        selectionRing.setVisible(false);
-        selectionRing.setFill(Color.TRANSPARENT);
-        selectionRing.setStroke(Color.YELLOW);
-
-        setSprite(image);
+        setSprite(species.getSpriteName(), species.getSpriteAspectRatio());
     }
 
     /**
@@ -95,11 +106,6 @@ public abstract class SimulationObject extends StateMachine {
      */
     public abstract void update(double deltaTime, Simulation currentSimulation);
 
-    /**
-     * Is called each render call. (FPS)
-     */
-    public abstract void updateGraphics();
-
     /**
      * Eats this {@link SimulationObject}.
      */
@@ -107,24 +113,6 @@ public abstract class SimulationObject extends StateMachine {
 
     //region getter & setter
 
-    /**
-     * Sets the visibility for the selection ring of this {@link SimulationObject}.
-     *
-     * @param visible true, if the rind should be visible.
-     */
-    public void setSelectionRingVisibility(boolean visible) {
-        this.selectionRing.setVisible(visible);
-    }
-
-    /**
-     * Gets the {@link #selectionRing} object
-     *
-     * @return The {@link #selectionRing} object.
-     */
-    public Circle getSelectionRing() {
-        return this.selectionRing;
-    }
-
     /**
      * Checks, if this {@link SimulationObject} can eat by another {@link SimulationObject}.
      *
@@ -136,18 +124,19 @@ public abstract class SimulationObject extends StateMachine {
     //region getter & setter
 
     /**
-     * Sets/Updates and image for the representation of this {@link SimulationObject} <br>
+     * Sets/Updates the sprite for the representation of this {@link SimulationObject} <br>
      * This method also updates the {@link #renderOffset} to center the image/sprite. <br>
      * The position of the {@link SimulationObject} is in the center of the image.
      *
-     * @param image The new image, which should be shown.
+     * @param spriteName  The name of the new sprite, which should be shown. Can be null.
+     * @param aspectRatio The aspect ratio (width / height) of the sprite. (see {@link com.dhbw.thesim.core.util.SpriteMetrics})
      */
-    public void setSprite(Image image) {
-        imageObj.setImage(image);
+    public void setSprite(String spriteName, double aspectRatio) {
+        this.spriteName = spriteName;
+        this.spriteAspectRatio = aspectRatio;
 
-        double aspectRatio = image.getWidth() / image.getHeight();
-        double realWidth = Math.min(imageObj.getFitWidth(), imageObj.getFitHeight() * aspectRatio);
-        double realHeight = Math.min(imageObj.getFitHeight(), imageObj.getFitWidth() / aspectRatio);
+        double realWidth = Math.min(getSpriteWidth(), getSpriteHeight() * aspectRatio);
+        double realHeight = Math.min(getSpriteHeight(), getSpriteWidth() / aspectRatio);
 
         renderOffset.setX(realWidth / 2);
         renderOffset.setY(realHeight / 2 + Dinosaur.PROXIMITY_RANGE);
@@ -178,7 +167,7 @@ public abstract class SimulationObject extends StateMachine {
      * @return The collision range.
      */
     public double getInteractionRange() {
-        return Display.adjustScale(interactionRange - 10, Display.SCALE_X==0?1:Display.SCALE_X);
+        return ScreenScale.adjustX(interactionRange - 10);
     }
 
     public double getRealInteractionRange() {
@@ -186,25 +175,59 @@ public abstract class SimulationObject extends StateMachine {
     }
 
     /**
-     * Flips the image facing a direction. <br>
+     * Lets the sprite face a direction. <br>
      * The prerequisite is that the picture is facing to the right.
      *
      * @param direction The {@link Vector2D} direction.
+     * @see #isMirrored()
      */
-    public void flipImage(Vector2D direction) {
-        if (direction.getX() < 0)
-            imageObj.setScaleX(imageObj.getScaleX() < 0 ? imageObj.getScaleX() * -1 : imageObj.getScaleX());
-        else
-            imageObj.setScaleX(imageObj.getScaleX() < 0 ? imageObj.getScaleX() : imageObj.getScaleX() * -1);
+    public void faceDirection(Vector2D direction) {
+        this.mirrored = direction.getX() >= 0;
+    }
+
+    /**
+     * Is the sprite mirrored horizontally?
+     *
+     * @return The {@link #mirrored} value.
+     */
+    public boolean isMirrored() {
+        return mirrored;
+    }
+
+    /**
+     * Should this {@link SimulationObject} be shown?
+     *
+     * @return The {@link #visible} value.
+     */
+    public boolean isVisible() {
+        return visible;
+    }
+
+    /**
+     * Sets, if this {@link SimulationObject} should be shown by a renderer.
+     *
+     * @param visible true, if it should be shown.
+     */
+    public void setVisible(boolean visible) {
+        this.visible = visible;
     }
 
     /**
      * Gets the type.
      *
-     * @return The type {@link #type}
+     * @return The name of the {@link #species}.
      */
     public String getType() {
-        return type;
+        return species.getName();
+    }
+
+    /**
+     * Gets the shared data of the type.
+     *
+     * @return The {@link #species}.
+     */
+    public Species getSpecies() {
+        return species;
     }
 
     /**
@@ -218,15 +241,65 @@ public abstract class SimulationObject extends StateMachine {
             position = new Vector2D(0, 0);
         }
         this.position = position;
+        if (spatialGrid != null)
+            spatialGrid.update(this);
+    }
+
+    /**
+     * Sets the {@link SpatialGrid}, which needs to be notified, if the position of this {@link SimulationObject} changes. <br>
+     * Is called by the {@link SpatialGrid} itself.
+     *
+     * @param spatialGrid The {@link SpatialGrid} or null.
+     * @param slot        The slot inside the {@link SpatialGrid} or -1.
+     */
+    public void setSpatialGrid(SpatialGrid spatialGrid, int slot) {
+        this.spatialGrid = spatialGrid;
+        this.spatialGridSlot = slot;
+    }
+
+    /**
+     * Gets the slot of this {@link SimulationObject} inside its {@link SpatialGrid}.
+     *
+     * @return The {@link #spatialGridSlot} or -1.
+     */
+    public int getSpatialGridSlot() {
+        return spatialGridSlot;
+    }
+
+    /**
+     * Gets the name of the sprite for the graphical representation of this {@link SimulationObject}.
+     *
+     * @return The {@link #spriteName} or null.
+     */
+    public String getSpriteName() {
+        return spriteName;
+    }
+
+    /**
+     * Gets the aspect ratio of the sprite.
+     *
+     * @return The {@link #spriteAspectRatio}.
+     */
+    public double getSpriteAspectRatio() {
+        return spriteAspectRatio;
+    }
+
+    /**
+     * Gets the max width of the rendered sprite. The sprite keeps its aspect ratio inside this bound.
+     *
+     * @return The max width in pixels.
+     */
+    public double getSpriteWidth() {
+        return ScreenScale.adjustX(interactionRange * 2);
     }
 
     /**
-     * Gets the current JavaFX object for the graphical representation for this {@link SimulationObject}.
+     * Gets the max height of the rendered sprite. The sprite keeps its aspect ratio inside this bound.
      *
-     * @return An {@link ImageView}.
+     * @return The max height in pixels.
      */
-    public ImageView getJavaFXObj() {
-        return imageObj;
+    public double getSpriteHeight() {
+        return ScreenScale.adjustY(interactionRange * 2);
     }
 
     /**
@@ -238,8 +311,8 @@ public abstract class SimulationObject extends StateMachine {
      */
     public static boolean willBeRenderedOutside(Vector2D targetPosition, Vector2D renderOffset) {
         return (targetPosition.getX() - renderOffset.getX()) < 0 || (targetPosition.getY() - renderOffset.getY()) < 0 ||
-                targetPosition.getX() + renderOffset.getX() > SimulationOverlay.BACKGROUND_WIDTH ||
-                targetPosition.getY() + renderOffset.getY() > SimulationOverlay.BACKGROUND_HEIGHT;
+                targetPosition.getX() + renderOffset.getX() > SimulationMap.WORLD_WIDTH ||
+                targetPosition.getY() + renderOffset.getY() > SimulationMap.WORLD_HEIGHT;
     }
 
     //endregion
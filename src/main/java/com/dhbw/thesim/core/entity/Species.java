@@ -0,0 +1,211 @@
+package com.dhbw.thesim.core.entity;
+
+import com.dhbw.thesim.core.util.SpriteMetrics;
+
+/**
+ * Holds the data, which is the same for all {@link SimulationObject}s of one type. (Flyweight) <br>
+ * Each species is created once, when the simulation objects configuration is loaded
+ * (see {@link com.dhbw.thesim.impexp.Json2Objects#initSimObjects(java.util.Map, java.util.Map, double, SpriteMetrics)}),
+ * and is shared by all {@link Dinosaur}s and {@link Plant}s of this type, including all newborn {@link Dinosaur}s. <br>
+ * The diet and mobility of a dinosaur species is packed into {@link #getFlags()}.
+ *
+ * @author Daniel Czeschner
+ * @see SpeciesRegistry
+ */
+public final class Species {
+
+    //region variables
+
+    /**
+     * The bits of the {@link #flags}, which hold the {@link Dinosaur.dietType#ordinal()}.
+     */
+    static final int DIET_MASK = 0b11;
+
+    /**
+     * All {@link Dinosaur.dietType}s by their ordinal. {@link Dinosaur.dietType#values()} creates a new array on each call.
+     */
+    private static final Dinosaur.dietType[] DIETS = Dinosaur.dietType.values();
+
+    /**
+     * The flag for a species, which can swim.
+     */
+    static final int CAN_SWIM = 1 << 2;
+
+    /**
+     * The flag for a species, which can climb.
+     */
+    static final int CAN_CLIMB = 1 << 3;
+
+    /**
+     * The id of a species, which is not interned in the {@link SpeciesRegistry}. (e.g. a {@link Plant} species)
+     */
+    public static final int NO_ID = -1;
+
+    /**
+     * The name of the species. E.g. "Brachiosaurus"
+     */
+    private final String name;
+
+    /**
+     * The interned id of the {@link #name}.
+     *
+     * @see SpeciesRegistry
+     */
+    private final int id;
+
+    /**
+     * The name of the shared sprite of the species. Is resolved to an image by a renderer.
+     */
+    private final String spriteName;
+
+    /**
+     * The aspect ratio (width / height) of the sprite.
+     *
+     * @see SpriteMetrics
+     */
+    private final double spriteAspectRatio;
+
+    /**
+     * The diet and mobility packed into one value.
+     *
+     * @see #DIET_MASK
+     * @see #CAN_SWIM
+     * @see #CAN_CLIMB
+     */
+    private final int flags;
+
+    //endregion
+
+    /**
+     * Constructor for a {@link Dinosaur} species.
+     *
+     * @param name              The name of the species.
+     * @param spriteName        The name of the shared sprite of the species. Can be null.
+     * @param spriteAspectRatio The aspect ratio (width / height) of the sprite.
+     * @param diet              The diet of the species as char. 'a'=OMNIVORE, 'f'=CARNIVORE, 'p' and all other chars = HERBIVORE
+     * @param canSwim           true, if the species can swim.
+     * @param canClimb          true, if the species can climb.
+     */
+    public Species(String name, String spriteName, double spriteAspectRatio, char diet, boolean canSwim, boolean canClimb) {
+        this(name, SpeciesRegistry.intern(name), spriteName, spriteAspectRatio, toDietType(diet).ordinal()
+                | (canSwim ? CAN_SWIM : 0)
+                | (canClimb ? CAN_CLIMB : 0));
+    }
+
+    /**
+     * Constructor for a {@link Plant} species. <br>
+     * Plants are not interned in the {@link SpeciesRegistry}, because its ids only count {@link Dinosaur} species.
+     *
+     * @param name              The name of the species.
+     * @param spriteName        The name of the shared sprite of the species. Can be null.
+     * @param spriteAspectRatio The aspect ratio (width / height) of the sprite.
+     */
+    public Species(String name, String spriteName, double spriteAspectRatio) {
+        this(name, NO_ID, spriteName, spriteAspectRatio, Dinosaur.dietType.HERBIVORE.ordinal());
+    }
+
+    /**
+     * Constructor
+     *
+     * @param name              The name of the species.
+     * @param id                The interned id of the name or {@link #NO_ID}.
+     * @param spriteName        The name of the shared sprite of the species. Can be null.
+     * @param spriteAspectRatio The aspect ratio (width / height) of the sprite.
+     * @param flags             The diet and mobility packed into one value.
+     */
+    private Species(String name, int id, String spriteName, double spriteAspectRatio, int flags) {
+        this.name = name;
+        this.id = id;
+        this.spriteName = spriteName;
+        this.spriteAspectRatio = spriteAspectRatio;
+        this.flags = flags;
+    }
+
+    /**
+     * Converts the diet char of the configuration into a {@link Dinosaur.dietType}.
+     *
+     * @param diet The diet as char. 'a'=OMNIVORE, 'f'=CARNIVORE, 'p' and all other chars = HERBIVORE
+     * @return The {@link Dinosaur.dietType}.
+     */
+    private static Dinosaur.dietType toDietType(char diet) {
+        if (diet == 'a')
+            return Dinosaur.dietType.OMNIVORE;
+        else if (diet == 'f')
+            return Dinosaur.dietType.CARNIVORE;
+        else
+            return Dinosaur.dietType.HERBIVORE;
+    }
+
+    /**
+     * Gets the name of the species.
+     *
+     * @return The {@link #name}.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the interned id of the species.
+     *
+     * @return The species id or {@link #NO_ID} for a {@link Plant} species.
+     * @see SpeciesRegistry
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Gets the name of the shared sprite of the species.
+     *
+     * @return The {@link #spriteName} or null.
+     */
+    public String getSpriteName() {
+        return spriteName;
+    }
+
+    /**
+     * Gets the aspect ratio of the sprite.
+     *
+     * @return The {@link #spriteAspectRatio}.
+     */
+    public double getSpriteAspectRatio() {
+        return spriteAspectRatio;
+    }
+
+    /**
+     * Gets the diet and mobility packed into one value.
+     *
+     * @return The {@link #flags}.
+     */
+    public int getFlags() {
+        return flags;
+    }
+
+    /**
+     * Gets the diet of the species.
+     *
+     * @return The {@link Dinosaur.dietType}.
+     */
+    public Dinosaur.dietType getDiet() {
+        return DIETS[flags & DIET_MASK];
+    }
+
+    /**
+     * Can the species swim?
+     *
+     * @return true, if the species can swim.
+     */
+    public boolean canSwim() {
+        return (flags & CAN_SWIM) != 0;
+    }
+
+    /**
+     * Can the species climb?
+     *
+     * @return true, if the species can climb.
+     */
+    public boolean canClimb() {
+        return (flags & CAN_CLIMB) != 0;
+    }
+}
@@ -0,0 +1,85 @@
+package com.dhbw.thesim.core.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns the species names of all {@link Dinosaur}s to dense int ids. <br>
+ * The species are compared ignoring the case, like the perception queries did before. So comparing two ids gives the same result as
+ * {@link String#equalsIgnoreCase(String)} on the names, without touching the strings in the inner loops of the queries. <br>
+ * The ids start at 0 and are valid for the whole runtime, so they can be used as array index.
+ *
+ * @author Daniel Czeschner
+ * @see Dinosaur#getSpeciesId()
+ */
+public final class SpeciesRegistry {
+
+    //region variables
+
+    /**
+     * The id of each interned species. Key = the species name in lower case.
+     */
+    private static final Map<String, Integer> ids = new ConcurrentHashMap<>();
+
+    /**
+     * The name of each species. Index = id.
+     */
+    private static final List<String> names = new ArrayList<>();
+
+    //endregion
+
+    private SpeciesRegistry() {
+    }
+
+    /**
+     * Gets the id of a species. A new id is created for an unknown species.
+     *
+     * @param species The species name. E.g. "Brachiosaurus"
+     * @return The id of the species.
+     */
+    public static int intern(String species) {
+        if (species == null)
+            return -1;
+
+        Integer id = ids.get(key(species));
+        if (id != null)
+            return id;
+
+        synchronized (names) {
+            return ids.computeIfAbsent(key(species), key -> {
+                names.add(species);
+                return names.size() - 1;
+            });
+        }
+    }
+
+    /**
+     * Gets the name of a species, with which it was interned first.
+     *
+     * @param id The id of the species.
+     * @return The species name.
+     */
+    public static String getName(int id) {
+        synchronized (names) {
+            return names.get(id);
+        }
+    }
+
+    /**
+     * Gets the amount of interned species.
+     *
+     * @return The amount of species. All ids are smaller than this value.
+     */
+    public static int size() {
+        synchronized (names) {
+            return names.size();
+        }
+    }
+
+    private static String key(String species) {
+        return species.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,189 @@
+package com.dhbw.thesim.core.map;
+
+/**
+ * Precomputed line of passage between all {@link Tile}s of a {@link SimulationMap}. <br>
+ * For each mobility class (the four combinations of canSwim and canClimb) one bit per pair of tiles is stored.
+ * The bit is set, if all tiles on the bresenham line between the two tiles (without the start and the target tile) can be crossed. <br>
+ * The map is static, so the table is built once at map load and replaces the tile walk of each movement check with a lookup. <br>
+ * The memory grows quadratically with the amount of tiles. Therefore, a table is only built up to {@link #MAX_TILES} tiles.
+ *
+ * @author Daniel Czeschner
+ * @see SimulationMap#getPassageTable()
+ */
+public class PassageTable {
+
+    //region variables
+
+    /**
+     * The max amount of tiles, for which a table is built. (4 * 4096² bits = 8 MiB)
+     */
+    public static final int MAX_TILES = 4096;
+
+    /**
+     * The amount of mobility classes. (canSwim x canClimb)
+     */
+    private static final int MOBILITY_CLASSES = 4;
+
+    /**
+     * A mask with the bits of all mobility classes.
+     */
+    private static final int ALL_CLASSES = (1 << MOBILITY_CLASSES) - 1;
+
+    /**
+     * The width of the grid.
+     */
+    private final int width;
+
+    /**
+     * The amount of tiles.
+     */
+    private final int tileCount;
+
+    /**
+     * The mobility classes, which can cross a tile. Index = tile index, bit i = mobility class i can cross.
+     */
+    private final byte[] tileMasks;
+
+    /**
+     * The passage bits of all mobility classes. (see {@link #bitIndex(int, int, int)})
+     */
+    private final long[] passageBits;
+
+    //endregion
+
+    /**
+     * Constructor <br>
+     * Walks the line between each pair of tiles once and stores the result for all mobility classes at once.
+     *
+     * @param simulationMap The {@link SimulationMap}, which tiles are used.
+     * @param width         The width of the grid.
+     * @param height        The height of the grid.
+     */
+    private PassageTable(SimulationMap simulationMap, int width, int height) {
+        this.width = width;
+        this.tileCount = width * height;
+        this.tileMasks = new byte[tileCount];
+        this.passageBits = new long[(int) (((long) MOBILITY_CLASSES * tileCount * tileCount + 63) / 64)];
+
+        for (int tile = 0; tile < tileCount; tile++) {
+            int mask = 0;
+            for (int mobilityClass = 0; mobilityClass < MOBILITY_CLASSES; mobilityClass++) {
+                if (simulationMap.tileMatchedConditions(tile % width, tile / width, canSwim(mobilityClass), canClimb(mobilityClass)))
+                    mask |= 1 << mobilityClass;
+            }
+            tileMasks[tile] = (byte) mask;
+        }
+
+        for (int start = 0; start < tileCount; start++) {
+            for (int target = 0; target < tileCount; target++) {
+                int mask = walk(start % width, start / width, target % width, target / width);
+                for (int mobilityClass = 0; mobilityClass < MOBILITY_CLASSES; mobilityClass++) {
+                    if ((mask & (1 << mobilityClass)) != 0) {
+                        long bit = bitIndex(mobilityClass, start, target);
+                        passageBits[(int) (bit >>> 6)] |= 1L << bit;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates the {@link PassageTable} of a {@link SimulationMap}.
+     *
+     * @param simulationMap The {@link SimulationMap} with all tiles already set.
+     * @param width         The width of the grid.
+     * @param height        The height of the grid.
+     * @return The new {@link PassageTable} or null, if the map has more than {@link #MAX_TILES} tiles.
+     */
+    public static PassageTable create(SimulationMap simulationMap, int width, int height) {
+        if ((long) width * height > MAX_TILES)
+            return null;
+        return new PassageTable(simulationMap, width, height);
+    }
+
+    /**
+     * Checks, if all tiles from the start tile to the target tile can be crossed. <br>
+     * Gives the same result as the bresenham walk in {@link com.dhbw.thesim.core.simulation.Simulation}.
+     *
+     * @param startX           The x grid coordinate of the start tile.
+     * @param startY           The y grid coordinate of the start tile.
+     * @param targetX          The x grid coordinate of the target tile.
+     * @param targetY          The y grid coordinate of the target tile.
+     * @param canSwim          Can the {@link com.dhbw.thesim.core.entity.Dinosaur} swim?
+     * @param canClimb         Can the {@link com.dhbw.thesim.core.entity.Dinosaur} climb?
+     * @param ignoreTargetTile true, we don't want to check the conditions for the target tile. (Swimmable, Climbable)
+     * @return true, if all tiles from the start to the target can be crossed.
+     */
+    public boolean canBeReached(int startX, int startY, int targetX, int targetY, boolean canSwim, boolean canClimb, boolean ignoreTargetTile) {
+        int start = startY * width + startX;
+        int target = targetY * width + targetX;
+        if (start == target)
+            return true;
+
+        int mobilityClass = mobilityClass(canSwim, canClimb);
+        if (!ignoreTargetTile && (tileMasks[target] & (1 << mobilityClass)) == 0)
+            return false;
+
+        long bit = bitIndex(mobilityClass, start, target);
+        return (passageBits[(int) (bit >>> 6)] & (1L << bit)) != 0;
+    }
+
+    /**
+     * Walks the bresenham line from the start tile to the target tile.
+     *
+     * @return The mobility classes, which can cross all tiles between the start and the target tile.
+     */
+    private int walk(int startX, int startY, int targetX, int targetY) {
+        int dx = targetX - startX;
+        int dy = targetY - startY;
+        int adx = Math.abs(dx);
+        int ady = Math.abs(dy);
+        int sdx = Integer.signum(dx);
+        int sdy = Integer.signum(dy);
+
+        //x or y is the fast direction
+        boolean xIsFaster = adx > ady;
+        int deltaSlowDirection = xIsFaster ? ady : adx;
+        int deltaFastDirection = xIsFaster ? adx : ady;
+
+        int mask = ALL_CLASSES;
+        int x = startX;
+        int y = startY;
+        int error = deltaFastDirection / 2;
+        //The last step is the target tile, which is checked separately.
+        for (int i = 0; i < deltaFastDirection - 1 && mask != 0; ++i) {
+            error -= deltaSlowDirection;
+            if (error < 0) {
+                //diagonal step
+                error += deltaFastDirection;
+                x += sdx;
+                y += sdy;
+            } else if (xIsFaster) {
+                x += sdx;
+            } else {
+                y += sdy;
+            }
+            mask &= tileMasks[y * width + x];
+        }
+        return mask;
+    }
+
+    /**
+     * Gets the index of the bit for a mobility class and a pair of tiles.
+     */
+    private long bitIndex(int mobilityClass, int start, int target) {
+        return ((long) mobilityClass * tileCount + start) * tileCount + target;
+    }
+
+    private static int mobilityClass(boolean canSwim, boolean canClimb) {
+        return (canSwim ? 1 : 0) | (canClimb ? 2 : 0);
+    }
+
+    private static boolean canSwim(int mobilityClass) {
+        return (mobilityClass & 1) != 0;
+    }
+
+    private static boolean canClimb(int mobilityClass) {
+        return (mobilityClass & 2) != 0;
+    }
+}
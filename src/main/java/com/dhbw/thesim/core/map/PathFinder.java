@@ -0,0 +1,527 @@
+package com.dhbw.thesim.core.map;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Finds paths over the {@link Tile}s of a {@link SimulationMap} for each mobility class (the four combinations of canSwim and canClimb). <br>
+ * The path is searched with A* over the 8 neighbors of a tile. A diagonal step is only allowed, if both tiles next to it can be crossed,
+ * so a path never cuts the corner of a water or mountain tile. Afterwards all tiles, which can be skipped on a straight line
+ * (see {@link PassageTable}), are removed, so only the tiles, where the direction changes, are left as waypoints. <br>
+ * The found paths are stored in a LRU cache with the key (start tile, goal tile, mobility class), so dinosaurs moving from the same
+ * tile to the same goal (e.g. a herd moving to the same water tile) search only once. <br>
+ * Before a search, the connected areas of each mobility class are compared. So a goal, which can't be reached at all, is detected without a search. <br>
+ * The arrays of a search are kept per thread and marked with a generation stamp, so an uncached search does not allocate or clear arrays with the size of the map.
+ *
+ * @author Daniel Czeschner
+ * @see SimulationMap#getPathFinder()
+ */
+public class PathFinder {
+
+    //region variables
+
+    /**
+     * The max amount of cached paths.
+     */
+    public static final int CACHE_SIZE = 512;
+
+    /**
+     * The amount of mobility classes. (canSwim x canClimb)
+     */
+    private static final int MOBILITY_CLASSES = 4;
+
+    /**
+     * The costs of a straight and a diagonal step.
+     */
+    private static final double STRAIGHT_COST = 1, DIAGONAL_COST = Math.sqrt(2);
+
+    /**
+     * The offsets of the 8 neighbors. (x, y)
+     */
+    private static final int[][] NEIGHBORS = {{1, 0}, {-1, 0}, {0, 1}, {0, -1}, {1, 1}, {1, -1}, {-1, 1}, {-1, -1}};
+
+    /**
+     * The cached result for a goal, which can't be reached.
+     */
+    private static final List<Tile> NO_PATH = Collections.unmodifiableList(new ArrayList<>());
+
+    /**
+     * The {@link SimulationMap}, which tiles are used.
+     */
+    private final SimulationMap simulationMap;
+
+    /**
+     * The width of the grid.
+     */
+    private final int width;
+
+    /**
+     * The height of the grid.
+     */
+    private final int height;
+
+    /**
+     * Can a tile be crossed by a mobility class? Index = [mobility class][tile index]
+     */
+    private final boolean[][] passable;
+
+    /**
+     * The id of the connected area of each tile for each mobility class. -1 for a tile, which can't be crossed.
+     */
+    private final int[][] areas;
+
+    /**
+     * The cached paths. Ordered by the last access, so the eldest entry is the least recently used one.
+     */
+    private final Map<Long, List<Tile>> cache;
+
+    /**
+     * The amount of searches, which were answered by the {@link #cache}.
+     */
+    private long cacheHits;
+
+    /**
+     * The arrays of the A* search for each thread, which searches paths.
+     */
+    private final ThreadLocal<SearchScratch> searchScratch;
+
+    //endregion
+
+    /**
+     * Constructor <br>
+     * Labels the connected areas of all mobility classes.
+     *
+     * @param simulationMap The {@link SimulationMap} with all tiles already set.
+     * @param width         The width of the grid.
+     * @param height        The height of the grid.
+     */
+    public PathFinder(SimulationMap simulationMap, int width, int height) {
+        this.simulationMap = simulationMap;
+        this.width = width;
+        this.height = height;
+        this.passable = new boolean[MOBILITY_CLASSES][width * height];
+        this.areas = new int[MOBILITY_CLASSES][width * height];
+        this.searchScratch = ThreadLocal.withInitial(() -> new SearchScratch(width * height));
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, List<Tile>> eldest) {
+                return size() > CACHE_SIZE;
+            }
+        };
+
+        for (int mobilityClass = 0; mobilityClass < MOBILITY_CLASSES; mobilityClass++) {
+            for (int tile = 0; tile < width * height; tile++) {
+                passable[mobilityClass][tile] = simulationMap.tileMatchedConditions(tile % width, tile / width, canSwim(mobilityClass), canClimb(mobilityClass));
+            }
+            labelAreas(mobilityClass);
+        }
+    }
+
+    /**
+     * Labels the connected areas of a mobility class with a breadth-first search. <br>
+     * Because a diagonal step needs both tiles next to it, two tiles are connected exactly if they are connected over the 4 direct neighbors.
+     *
+     * @param mobilityClass The mobility class.
+     */
+    private void labelAreas(int mobilityClass) {
+        int[] area = areas[mobilityClass];
+        Arrays.fill(area, -1);
+
+        int nextArea = 0;
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int tile = 0; tile < area.length; tile++) {
+            if (!passable[mobilityClass][tile] || area[tile] != -1)
+                continue;
+
+            area[tile] = nextArea;
+            queue.add(tile);
+            while (!queue.isEmpty()) {
+                int current = queue.poll();
+                for (int i = 0; i < 4; i++) {
+                    int x = current % width + NEIGHBORS[i][0];
+                    int y = current / width + NEIGHBORS[i][1];
+                    if (!isInside(x, y))
+                        continue;
+                    int neighbor = y * width + x;
+                    if (passable[mobilityClass][neighbor] && area[neighbor] == -1) {
+                        area[neighbor] = nextArea;
+                        queue.add(neighbor);
+                    }
+                }
+            }
+            nextArea++;
+        }
+    }
+
+    /**
+     * Checks, if a goal tile can be reached from a start tile over any path.
+     *
+     * @param start    The start {@link Tile}.
+     * @param goal     The goal {@link Tile}.
+     * @param canSwim  Can the {@link com.dhbw.thesim.core.entity.Dinosaur} swim?
+     * @param canClimb Can the {@link com.dhbw.thesim.core.entity.Dinosaur} climb?
+     * @return true, if both tiles can be crossed and are in the same connected area.
+     */
+    public boolean isConnected(Tile start, Tile goal, boolean canSwim, boolean canClimb) {
+        int[] area = areas[mobilityClass(canSwim, canClimb)];
+        int startArea = area[index(start)];
+        return startArea != -1 && startArea == area[index(goal)];
+    }
+
+    /**
+     * Gets the path from a start tile to a goal tile. <br>
+     * The path is taken from the cache or searched and then cached.
+     *
+     * @param start          The start {@link Tile}.
+     * @param goal           The goal {@link Tile}.
+     * @param canSwim        Can the {@link com.dhbw.thesim.core.entity.Dinosaur} swim?
+     * @param canClimb       Can the {@link com.dhbw.thesim.core.entity.Dinosaur} climb?
+     * @param ignoreGoalTile true, if the goal tile itself does not need to be crossable. (e.g. a water tile for a dinosaur, which can't swim)
+     * @return An unmodifiable list with the waypoint tiles after the start tile, which ends with the goal tile.
+     * Empty, if the start is the goal. null, if the goal can't be reached.
+     */
+    public List<Tile> findPath(Tile start, Tile goal, boolean canSwim, boolean canClimb, boolean ignoreGoalTile) {
+        int mobilityClass = mobilityClass(canSwim, canClimb);
+        int startIndex = index(start);
+        int goalIndex = index(goal);
+        long key = (((long) startIndex * width * height + goalIndex) * MOBILITY_CLASSES + mobilityClass) * 2 + (ignoreGoalTile ? 1 : 0);
+
+        synchronized (cache) {
+            List<Tile> cached = cache.get(key);
+            if (cached != null) {
+                cacheHits++;
+                return cached == NO_PATH ? null : cached;
+            }
+        }
+
+        List<Tile> path = search(startIndex, goalIndex, mobilityClass, ignoreGoalTile);
+
+        synchronized (cache) {
+            cache.put(key, path == null ? NO_PATH : path);
+        }
+        return path;
+    }
+
+    /**
+     * Searches a path with A*.
+     *
+     * @param start          The index of the start tile.
+     * @param goal           The index of the goal tile.
+     * @param mobilityClass  The mobility class.
+     * @param ignoreGoalTile true, if the goal tile itself does not need to be crossable.
+     * @return The smoothed path or null.
+     */
+    private List<Tile> search(int start, int goal, int mobilityClass, boolean ignoreGoalTile) {
+        if (start == goal)
+            return List.of();
+
+        boolean[] canCross = passable[mobilityClass];
+        if (!canCross[start] || !ignoreGoalTile && !isConnectedIndex(start, goal, mobilityClass))
+            return null;
+
+        SearchScratch scratch = searchScratch.get();
+        int generation = scratch.nextGeneration();
+        //A tile was reached in this search, if its stamp is the generation. It is closed, if its stamp is the generation + 1.
+        int closed = generation + 1;
+        int[] stamps = scratch.stamps;
+        double[] costs = scratch.costs;
+        int[] previous = scratch.previous;
+        scratch.clearOpen();
+
+        stamps[start] = generation;
+        costs[start] = 0;
+        previous[start] = -1;
+        scratch.push(start, heuristic(start, goal));
+
+        while (!scratch.isOpenEmpty()) {
+            int current = scratch.pop();
+            if (current == goal)
+                return smooth(start, goal, previous, mobilityClass, ignoreGoalTile);
+            stamps[current] = closed;
+
+            int currentX = current % width;
+            int currentY = current / width;
+            for (int[] offset : NEIGHBORS) {
+                int x = currentX + offset[0];
+                int y = currentY + offset[1];
+                if (!isInside(x, y))
+                    continue;
+
+                int neighbor = y * width + x;
+                boolean diagonal = offset[0] != 0 && offset[1] != 0;
+                if (stamps[neighbor] == closed || !canCross[neighbor] && !(ignoreGoalTile && neighbor == goal))
+                    continue;
+                //Don't cut the corner of a tile, which can't be crossed.
+                if (diagonal && (!canCross[currentY * width + x] || !canCross[y * width + currentX]))
+                    continue;
+
+                double cost = costs[current] + (diagonal ? DIAGONAL_COST : STRAIGHT_COST);
+                if (stamps[neighbor] != generation) {
+                    stamps[neighbor] = generation;
+                    costs[neighbor] = cost;
+                    previous[neighbor] = current;
+                    scratch.push(neighbor, cost + heuristic(neighbor, goal));
+                } else if (cost < costs[neighbor]) {
+                    costs[neighbor] = cost;
+                    previous[neighbor] = current;
+                    scratch.decrease(neighbor, cost + heuristic(neighbor, goal));
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Removes all tiles of a found path, which can be skipped on a straight line.
+     *
+     * @param start          The index of the start tile.
+     * @param goal           The index of the goal tile.
+     * @param previous       The previous tile of each tile on the found path.
+     * @param mobilityClass  The mobility class.
+     * @param ignoreGoalTile true, if the goal tile itself does not need to be crossable.
+     * @return An unmodifiable list with the remaining waypoint tiles.
+     */
+    private List<Tile> smooth(int start, int goal, int[] previous, int mobilityClass, boolean ignoreGoalTile) {
+        List<Integer> path = new ArrayList<>();
+        for (int tile = goal; tile != start; tile = previous[tile])
+            path.add(tile);
+        Collections.reverse(path);
+
+        PassageTable passageTable = simulationMap.getPassageTable();
+        List<Tile> waypoints = new ArrayList<>();
+        int anchor = start;
+        int i = 0;
+        while (i < path.size()) {
+            //Go as far as possible on a straight line from the anchor.
+            int next = i;
+            if (passageTable != null) {
+                for (int j = path.size() - 1; j > i; j--) {
+                    int tile = path.get(j);
+                    if (passageTable.canBeReached(anchor % width, anchor / width, tile % width, tile / width,
+                            canSwim(mobilityClass), canClimb(mobilityClass), ignoreGoalTile && tile == goal)) {
+                        next = j;
+                        break;
+                    }
+                }
+            }
+            anchor = path.get(next);
+            waypoints.add(simulationMap.getTileAtPosition(anchor % width, anchor / width));
+            i = next + 1;
+        }
+        return Collections.unmodifiableList(waypoints);
+    }
+
+    /**
+     * Gets the amount of searches, which were answered by the cache.
+     *
+     * @return The amount of cache hits.
+     */
+    public long getCacheHits() {
+        synchronized (cache) {
+            return cacheHits;
+        }
+    }
+
+    /**
+     * Gets the amount of cached paths.
+     *
+     * @return The amount of cached paths. Never larger than {@link #CACHE_SIZE}.
+     */
+    public int getCachedPathCount() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * The arrays of the A* search, which are reused by all searches of one thread. <br>
+     * Instead of clearing the arrays before each search, the reached tiles are marked with the generation of the search.
+     * So the costs and previous tiles are only valid for tiles, whose stamp belongs to the current generation. <br>
+     * The open tiles are kept in a binary min heap of tile indices, ordered by the estimated total costs. Because the heuristic is consistent,
+     * each tile is only once inside the heap and a cheaper way to an open tile moves it up instead of adding it again.
+     */
+    private static final class SearchScratch {
+
+        /**
+         * The generation stamp of each tile. (generation = reached, generation + 1 = closed)
+         */
+        private final int[] stamps;
+
+        /**
+         * The costs from the start to each reached tile.
+         */
+        private final double[] costs;
+
+        /**
+         * The previous tile of each reached tile.
+         */
+        private final int[] previous;
+
+        /**
+         * The estimated total costs (costs + heuristic) of each open tile.
+         */
+        private final double[] estimates;
+
+        /**
+         * The open tile indices as binary min heap.
+         */
+        private final int[] heap;
+
+        /**
+         * The position of each open tile inside the {@link #heap}.
+         */
+        private final int[] heapPositions;
+
+        /**
+         * The amount of open tiles.
+         */
+        private int openCount;
+
+        /**
+         * The generation of the current search. Each search uses two stamp values.
+         */
+        private int generation;
+
+        private SearchScratch(int tileCount) {
+            this.stamps = new int[tileCount];
+            this.costs = new double[tileCount];
+            this.previous = new int[tileCount];
+            this.estimates = new double[tileCount];
+            this.heap = new int[tileCount];
+            this.heapPositions = new int[tileCount];
+        }
+
+        private void clearOpen() {
+            openCount = 0;
+        }
+
+        private boolean isOpenEmpty() {
+            return openCount == 0;
+        }
+
+        /**
+         * Adds a tile, which is not open yet.
+         *
+         * @param tile     The tile index.
+         * @param estimate The estimated total costs of the tile.
+         */
+        private void push(int tile, double estimate) {
+            estimates[tile] = estimate;
+            heap[openCount] = tile;
+            heapPositions[tile] = openCount;
+            siftUp(openCount++);
+        }
+
+        /**
+         * Lowers the estimated total costs of an open tile.
+         *
+         * @param tile     The tile index.
+         * @param estimate The new estimated total costs of the tile.
+         */
+        private void decrease(int tile, double estimate) {
+            estimates[tile] = estimate;
+            siftUp(heapPositions[tile]);
+        }
+
+        /**
+         * Removes the open tile with the lowest estimated total costs.
+         *
+         * @return The tile index.
+         */
+        private int pop() {
+            int first = heap[0];
+            openCount--;
+            if (openCount > 0) {
+                heap[0] = heap[openCount];
+                heapPositions[heap[0]] = 0;
+                siftDown(0);
+            }
+            return first;
+        }
+
+        private void siftUp(int position) {
+            int tile = heap[position];
+            while (position > 0) {
+                int parent = (position - 1) >>> 1;
+                if (estimates[heap[parent]] <= estimates[tile])
+                    break;
+                heap[position] = heap[parent];
+                heapPositions[heap[position]] = position;
+                position = parent;
+            }
+            heap[position] = tile;
+            heapPositions[tile] = position;
+        }
+
+        private void siftDown(int position) {
+            int tile = heap[position];
+            while (true) {
+                int child = position * 2 + 1;
+                if (child >= openCount)
+                    break;
+                if (child + 1 < openCount && estimates[heap[child + 1]] < estimates[heap[child]])
+                    child++;
+                if (estimates[heap[child]] >= estimates[tile])
+                    break;
+                heap[position] = heap[child];
+                heapPositions[heap[position]] = position;
+                position = child;
+            }
+            heap[position] = tile;
+            heapPositions[tile] = position;
+        }
+
+        /**
+         * Starts a new search. The stamps are only cleared, if the generation overflows.
+         *
+         * @return The generation of the new search.
+         */
+        private int nextGeneration() {
+            if (generation >= Integer.MAX_VALUE - 2) {
+                Arrays.fill(stamps, 0);
+                generation = 0;
+            }
+            generation += 2;
+            return generation;
+        }
+    }
+
+    /**
+     * The octile distance between two tiles. Never larger than the real path costs.
+     */
+    private double heuristic(int from, int to) {
+        int dx = Math.abs(from % width - to % width);
+        int dy = Math.abs(from / width - to / width);
+        return STRAIGHT_COST * Math.max(dx, dy) + (DIAGONAL_COST - STRAIGHT_COST) * Math.min(dx, dy);
+    }
+
+    private boolean isConnectedIndex(int start, int goal, int mobilityClass) {
+        int[] area = areas[mobilityClass];
+        return area[start] != -1 && area[start] == area[goal];
+    }
+
+    private boolean isInside(int x, int y) {
+        return x >= 0 && y >= 0 && x < width && y < height;
+    }
+
+    private int index(Tile tile) {
+        return tile.getGridY() * width + tile.getGridX();
+    }
+
+    private static int mobilityClass(boolean canSwim, boolean canClimb) {
+        return (canSwim ? 1 : 0) | (canClimb ? 2 : 0);
+    }
+
+    private static boolean canSwim(int mobilityClass) {
+        return (mobilityClass & 1) != 0;
+    }
+
+    private static boolean canClimb(int mobilityClass) {
+        return (mobilityClass & 2) != 0;
+    }
+}
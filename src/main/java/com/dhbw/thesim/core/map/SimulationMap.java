@@ -1,6 +1,6 @@
 package com.dhbw.thesim.core.map;
 
-import com.dhbw.thesim.core.util.SpriteLibrary;
+import com.dhbw.thesim.core.util.ScreenScale;
 import com.dhbw.thesim.core.util.Vector2D;
 
 import java.util.ArrayList;
@@ -27,6 +27,34 @@ public class SimulationMap {
      */
     private final Tile[][] tiles;
 
+    /**
+     * The precomputed line of passage between all tiles. (null, if the map is too large)
+     *
+     * @see PassageTable
+     */
+    private PassageTable passageTable;
+
+    /**
+     * The distance field to the nearest water tile.
+     *
+     * @see WaterDistanceField
+     */
+    private final WaterDistanceField waterDistanceField;
+
+    /**
+     * The lists of all tiles grouped by their conditions, which are used to draw random tiles.
+     *
+     * @see TileIndex
+     */
+    private TileIndex tileIndex;
+
+    /**
+     * Finds and caches the paths over the tiles.
+     *
+     * @see PathFinder
+     */
+    private PathFinder pathFinder;
+
     //region constants
 
     /**
@@ -38,6 +66,16 @@ public class SimulationMap {
      */
     public static final int HEIGHT = 24;
 
+    /**
+     * The width of the whole map in pixels.
+     */
+    public static final double WORLD_WIDTH = ScreenScale.adjustX(WIDTH * Tile.TILE_SIZE);
+
+    /**
+     * The height of the whole map in pixels.
+     */
+    public static final double WORLD_HEIGHT = ScreenScale.adjustY(HEIGHT * Tile.TILE_SIZE);
+
     /**
      * The name for the first defined landscape.
      */
@@ -48,11 +86,6 @@ public class SimulationMap {
      */
     public static final String LANDSCAPE_TWO_NAME = "Landschaft2";
 
-    /**
-     * The instance of the {@link SpriteLibrary}
-     */
-    private final SpriteLibrary spriteLibrary;
-
     //endregion
 
     /**
@@ -87,11 +120,9 @@ public class SimulationMap {
      * The constructor for a new {@link SimulationMap}.
      *
      * @param landscapeName The name for this landscape
-     * @param spriteLibrary The instance of the {@link SpriteLibrary}
      */
-    public SimulationMap(String landscapeName, SpriteLibrary spriteLibrary) {
+    public SimulationMap(String landscapeName) {
         this.landscapeName = landscapeName;
-        this.spriteLibrary = spriteLibrary;
         this.tiles = new Tile[WIDTH][HEIGHT];
 
         //Select a defined landscape based on the name.
@@ -101,6 +132,11 @@ public class SimulationMap {
             landscapeTwo();
         else
             landscapeOne();
+
+        this.passageTable = PassageTable.create(this, WIDTH, HEIGHT);
+        this.waterDistanceField = new WaterDistanceField(this, WIDTH, HEIGHT);
+        this.tileIndex = new TileIndex(tiles);
+        this.pathFinder = new PathFinder(this, WIDTH, HEIGHT);
     }
 
     //region landscape definition
@@ -113,60 +149,60 @@ public class SimulationMap {
 
         for (int x = 0; x < WIDTH; x++) {
             for (int y = 0; y < HEIGHT; y++) {
-                tiles[x][y] = new Tile(this.spriteLibrary.getImage(TILES.GRASS.imgName), x, y, TILES.GRASS.swimmable, TILES.GRASS.climbable, TILES.GRASS.canContainPlants);
+                tiles[x][y] = new Tile(TILES.GRASS.imgName, x, y, TILES.GRASS.swimmable, TILES.GRASS.climbable, TILES.GRASS.canContainPlants);
             }
         }
 
         //Create river
         for (int x = 0; x < 14; x++) {
             int y = 10;
-            tiles[x][y] = new Tile(this.spriteLibrary.getImage(TILES.WATER.imgName), x, y, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
+            tiles[x][y] = new Tile(TILES.WATER.imgName, x, y, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
         }
         for (int y = 6; y < HEIGHT - 7; y++) {
             int x = 13;
-            tiles[x][y] = new Tile(this.spriteLibrary.getImage(TILES.WATER.imgName), x, y, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
+            tiles[x][y] = new Tile(TILES.WATER.imgName, x, y, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
         }
         for (int x = 13; x < 17; x++) {
             int y = HEIGHT - 7;
-            tiles[x][y] = new Tile(this.spriteLibrary.getImage(TILES.WATER.imgName), x, y, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
+            tiles[x][y] = new Tile(TILES.WATER.imgName, x, y, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
         }
 
         //Create lake
         for (int x = WIDTH - 10; x < WIDTH - 4; x++) {
             for (int y = 8; y < 14; y++) {
-                tiles[x][y] = new Tile(this.spriteLibrary.getImage(TILES.WATER.imgName), x, y, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
+                tiles[x][y] = new Tile(TILES.WATER.imgName, x, y, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
             }
         }
-        tiles[WIDTH - 11][8] = new Tile(this.spriteLibrary.getImage(TILES.WATER.imgName), WIDTH - 11, 8, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
-        tiles[WIDTH - 12][8] = new Tile(this.spriteLibrary.getImage(TILES.WATER.imgName), WIDTH - 12, 8, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
+        tiles[WIDTH - 11][8] = new Tile(TILES.WATER.imgName, WIDTH - 11, 8, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
+        tiles[WIDTH - 12][8] = new Tile(TILES.WATER.imgName, WIDTH - 12, 8, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
 
         //Create desert
-        tiles[WIDTH - 5][13] = new Tile(this.spriteLibrary.getImage(TILES.SAND.imgName), WIDTH - 4, 14, TILES.SAND.swimmable, TILES.SAND.climbable, TILES.WATER.canContainPlants);
+        tiles[WIDTH - 5][13] = new Tile(TILES.SAND.imgName, WIDTH - 5, 13, TILES.SAND.swimmable, TILES.SAND.climbable, TILES.SAND.canContainPlants);
         for (int x = WIDTH - 9; x < WIDTH; x++) {
             for (int y = 0; y < 8; y++) {
-                tiles[x][y] = new Tile(this.spriteLibrary.getImage(TILES.SAND.imgName), x, y, TILES.SAND.swimmable, TILES.SAND.climbable, TILES.SAND.canContainPlants);
+                tiles[x][y] = new Tile(TILES.SAND.imgName, x, y, TILES.SAND.swimmable, TILES.SAND.climbable, TILES.SAND.canContainPlants);
             }
         }
         for (int x = WIDTH - 4; x < WIDTH; x++) {
             for (int y = 8; y < 14; y++) {
-                tiles[x][y] = new Tile(this.spriteLibrary.getImage(TILES.SAND.imgName), x, y, TILES.SAND.swimmable, TILES.SAND.climbable, TILES.SAND.canContainPlants);
+                tiles[x][y] = new Tile(TILES.SAND.imgName, x, y, TILES.SAND.swimmable, TILES.SAND.climbable, TILES.SAND.canContainPlants);
             }
         }
         for (int x = WIDTH - 3; x < WIDTH; x++) {
             for (int y = 14; y < 16; y++) {
-                tiles[x][y] = new Tile(this.spriteLibrary.getImage(TILES.SAND.imgName), x, y, TILES.SAND.swimmable, TILES.SAND.climbable, TILES.SAND.canContainPlants);
+                tiles[x][y] = new Tile(TILES.SAND.imgName, x, y, TILES.SAND.swimmable, TILES.SAND.climbable, TILES.SAND.canContainPlants);
             }
         }
 
         //Create mountain
         for (int x = WIDTH - 16; x < WIDTH - 10; x++) {
             for (int y = HEIGHT - 5; y < HEIGHT; y++) {
-                tiles[x][y] = new Tile(this.spriteLibrary.getImage(TILES.MOUNTAIN.imgName), x, y, TILES.MOUNTAIN.swimmable, TILES.MOUNTAIN.climbable, TILES.MOUNTAIN.canContainPlants);
+                tiles[x][y] = new Tile(TILES.MOUNTAIN.imgName, x, y, TILES.MOUNTAIN.swimmable, TILES.MOUNTAIN.climbable, TILES.MOUNTAIN.canContainPlants);
             }
         }
         for (int x = WIDTH - 20; x < WIDTH - 16; x++) {
             for (int y = HEIGHT - 1; y < HEIGHT; y++) {
-                tiles[x][y] = new Tile(this.spriteLibrary.getImage(TILES.MOUNTAIN.imgName), x, y, TILES.MOUNTAIN.swimmable, TILES.MOUNTAIN.climbable, TILES.MOUNTAIN.canContainPlants);
+                tiles[x][y] = new Tile(TILES.MOUNTAIN.imgName, x, y, TILES.MOUNTAIN.swimmable, TILES.MOUNTAIN.climbable, TILES.MOUNTAIN.canContainPlants);
             }
         }
 
@@ -174,20 +210,20 @@ public class SimulationMap {
         for (int x = 0; x < 9; x++) {
             if (x < 6)
                 for (int y = 0; y < 6; y++) {
-                    tiles[x][y] = new Tile(this.spriteLibrary.getImage(TILES.WATER.imgName), x, y, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
+                    tiles[x][y] = new Tile(TILES.WATER.imgName, x, y, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
                 }
             else
-                tiles[x][0] = new Tile(this.spriteLibrary.getImage(TILES.WATER.imgName), x, 0, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
+                tiles[x][0] = new Tile(TILES.WATER.imgName, x, 0, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
         }
-        tiles[6][1] = new Tile(this.spriteLibrary.getImage(TILES.WATER.imgName), 6, 1, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
+        tiles[6][1] = new Tile(TILES.WATER.imgName, 6, 1, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
 
         //Create small desert
         for (int x = 0; x < 3; x++) {
             for (int y = HEIGHT - 3; y < HEIGHT; y++) {
-                tiles[x][y] = new Tile(this.spriteLibrary.getImage(TILES.SAND.imgName), x, y, TILES.SAND.swimmable, TILES.SAND.climbable, TILES.SAND.canContainPlants);
+                tiles[x][y] = new Tile(TILES.SAND.imgName, x, y, TILES.SAND.swimmable, TILES.SAND.climbable, TILES.SAND.canContainPlants);
             }
         }
-        tiles[3][HEIGHT - 1] = new Tile(this.spriteLibrary.getImage(TILES.SAND.imgName), 3, HEIGHT - 1, TILES.SAND.swimmable, TILES.SAND.climbable, TILES.SAND.canContainPlants);
+        tiles[3][HEIGHT - 1] = new Tile(TILES.SAND.imgName, 3, HEIGHT - 1, TILES.SAND.swimmable, TILES.SAND.climbable, TILES.SAND.canContainPlants);
 
     }
 
@@ -199,103 +235,103 @@ public class SimulationMap {
         //initial
         for (int x = 0; x < WIDTH; x++) {
             for (int y = 0; y < HEIGHT; y++) {
-                tiles[x][y] = new Tile(this.spriteLibrary.getImage(TILES.GRASS.imgName), x, y, TILES.GRASS.swimmable, TILES.GRASS.climbable, TILES.GRASS.canContainPlants);
+                tiles[x][y] = new Tile(TILES.GRASS.imgName, x, y, TILES.GRASS.swimmable, TILES.GRASS.climbable, TILES.GRASS.canContainPlants);
             }
         }
 
         //create river
         for (int x = 0; x < 7; x++) {
             for (int y = 0; y < 6; y++) {
-                tiles[x][y] = new Tile(this.spriteLibrary.getImage(TILES.WATER.imgName), x, y, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
+                tiles[x][y] = new Tile(TILES.WATER.imgName, x, y, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
             }
         }
         for (int x = 0; x < 5; x++) {
             for (int y = 6; y < 9; y++) {
-                tiles[x][y] = new Tile(this.spriteLibrary.getImage(TILES.WATER.imgName), x, y, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
+                tiles[x][y] = new Tile(TILES.WATER.imgName, x, y, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
             }
         }
         for (int x = 0; x < 3; x++) {
             for (int y = 9; y < 11; y++) {
-                tiles[x][y] = new Tile(this.spriteLibrary.getImage(TILES.WATER.imgName), x, y, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
+                tiles[x][y] = new Tile(TILES.WATER.imgName, x, y, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
             }
         }
-        tiles[0][11] = new Tile(this.spriteLibrary.getImage(TILES.WATER.imgName), 0, 11, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
+        tiles[0][11] = new Tile(TILES.WATER.imgName, 0, 11, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
         for (int x = 7; x < 11; x++) {
             for (int y = 0; y < 3; y++) {
-                tiles[x][y] = new Tile(this.spriteLibrary.getImage(TILES.WATER.imgName), x, y, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
+                tiles[x][y] = new Tile(TILES.WATER.imgName, x, y, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
             }
         }
 
         //create second river
         for (int y = 0; y < 3; y++) {
             int x = WIDTH - 7;
-            tiles[x][y] = new Tile(this.spriteLibrary.getImage(TILES.WATER.imgName), x, y, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
+            tiles[x][y] = new Tile(TILES.WATER.imgName, x, y, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
         }
 
         for (int x = WIDTH - 6; x < WIDTH; x++) {
             for (int y = 0; y < 8; y++) {
-                tiles[x][y] = new Tile(this.spriteLibrary.getImage(TILES.WATER.imgName), x, y, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
+                tiles[x][y] = new Tile(TILES.WATER.imgName, x, y, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
             }
         }
         for (int x = WIDTH - 4; x < WIDTH; x++) {
             for (int y = 8; y < 11; y++) {
-                tiles[x][y] = new Tile(this.spriteLibrary.getImage(TILES.WATER.imgName), x, y, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
+                tiles[x][y] = new Tile(TILES.WATER.imgName, x, y, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
             }
         }
 
         //create lake in the middle
         for (int x = 10; x < 15; x++) {
             for (int y = 10; y < 15; y++) {
-                tiles[x][y] = new Tile(this.spriteLibrary.getImage(TILES.WATER.imgName), x, y, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
+                tiles[x][y] = new Tile(TILES.WATER.imgName, x, y, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
             }
         }
         for (int x = 12; x < 15; x++) {
             int y = 15;
-            tiles[x][y] = new Tile(this.spriteLibrary.getImage(TILES.WATER.imgName), x, y, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
+            tiles[x][y] = new Tile(TILES.WATER.imgName, x, y, TILES.WATER.swimmable, TILES.WATER.climbable, TILES.WATER.canContainPlants);
         }
 
         //create little dessert in the middle
         for (int y = 11; y < 15; y++) {
             int x = 15;
-            tiles[x][y] = new Tile(this.spriteLibrary.getImage(TILES.SAND.imgName), x, y, TILES.SAND.swimmable, TILES.SAND.climbable, TILES.SAND.canContainPlants);
+            tiles[x][y] = new Tile(TILES.SAND.imgName, x, y, TILES.SAND.swimmable, TILES.SAND.climbable, TILES.SAND.canContainPlants);
         }
         for (int y = 11; y < 13; y++) {
             int x = 16;
-            tiles[x][y] = new Tile(this.spriteLibrary.getImage(TILES.SAND.imgName), x, y, TILES.SAND.swimmable, TILES.SAND.climbable, TILES.SAND.canContainPlants);
+            tiles[x][y] = new Tile(TILES.SAND.imgName, x, y, TILES.SAND.swimmable, TILES.SAND.climbable, TILES.SAND.canContainPlants);
         }
 
         //create big right dessert
         for (int x = WIDTH - 11; x < WIDTH; x++) {
             for (int y = 11; y < 17; y++) {
-                tiles[x][y] = new Tile(this.spriteLibrary.getImage(TILES.SAND.imgName), x, y, TILES.SAND.swimmable, TILES.SAND.climbable, TILES.SAND.canContainPlants);
+                tiles[x][y] = new Tile(TILES.SAND.imgName, x, y, TILES.SAND.swimmable, TILES.SAND.climbable, TILES.SAND.canContainPlants);
             }
         }
         for (int x = WIDTH - 9; x < WIDTH - 4; x++) {
             for (int y = 8; y < 11; y++) {
-                tiles[x][y] = new Tile(this.spriteLibrary.getImage(TILES.SAND.imgName), x, y, TILES.SAND.swimmable, TILES.SAND.climbable, TILES.SAND.canContainPlants);
+                tiles[x][y] = new Tile(TILES.SAND.imgName, x, y, TILES.SAND.swimmable, TILES.SAND.climbable, TILES.SAND.canContainPlants);
             }
         }
         for (int x = WIDTH - 7; x < WIDTH - 3; x++) {
             for (int y = 17; y < 20; y++) {
-                tiles[x][y] = new Tile(this.spriteLibrary.getImage(TILES.SAND.imgName), x, y, TILES.SAND.swimmable, TILES.SAND.climbable, TILES.SAND.canContainPlants);
+                tiles[x][y] = new Tile(TILES.SAND.imgName, x, y, TILES.SAND.swimmable, TILES.SAND.climbable, TILES.SAND.canContainPlants);
             }
         }
-        tiles[WIDTH - 8][17] = new Tile(this.spriteLibrary.getImage(TILES.SAND.imgName), WIDTH - 8, 17, TILES.SAND.swimmable, TILES.SAND.climbable, TILES.SAND.canContainPlants);
+        tiles[WIDTH - 8][17] = new Tile(TILES.SAND.imgName, WIDTH - 8, 17, TILES.SAND.swimmable, TILES.SAND.climbable, TILES.SAND.canContainPlants);
 
         //create mountain
         for (int x = WIDTH - 3; x < WIDTH; x++) {
             for (int y = HEIGHT - 7; y < HEIGHT; y++) {
-                tiles[x][y] = new Tile(this.spriteLibrary.getImage(TILES.MOUNTAIN.imgName), x, y, TILES.MOUNTAIN.swimmable, TILES.MOUNTAIN.climbable, TILES.MOUNTAIN.canContainPlants);
+                tiles[x][y] = new Tile(TILES.MOUNTAIN.imgName, x, y, TILES.MOUNTAIN.swimmable, TILES.MOUNTAIN.climbable, TILES.MOUNTAIN.canContainPlants);
             }
         }
         for (int x = WIDTH - 10; x < WIDTH - 3; x++) {
             for (int y = HEIGHT - 4; y < HEIGHT; y++) {
-                tiles[x][y] = new Tile(this.spriteLibrary.getImage(TILES.MOUNTAIN.imgName), x, y, TILES.MOUNTAIN.swimmable, TILES.MOUNTAIN.climbable, TILES.MOUNTAIN.canContainPlants);
+                tiles[x][y] = new Tile(TILES.MOUNTAIN.imgName, x, y, TILES.MOUNTAIN.swimmable, TILES.MOUNTAIN.climbable, TILES.MOUNTAIN.canContainPlants);
             }
         }
         for (int x = WIDTH - 13; x < WIDTH - 10; x++) {
             for (int y = HEIGHT - 2; y < HEIGHT; y++) {
-                tiles[x][y] = new Tile(this.spriteLibrary.getImage(TILES.MOUNTAIN.imgName), x, y, TILES.MOUNTAIN.swimmable, TILES.MOUNTAIN.climbable, TILES.MOUNTAIN.canContainPlants);
+                tiles[x][y] = new Tile(TILES.MOUNTAIN.imgName, x, y, TILES.MOUNTAIN.swimmable, TILES.MOUNTAIN.climbable, TILES.MOUNTAIN.canContainPlants);
             }
         }
     }
@@ -513,23 +549,75 @@ public class SimulationMap {
     }
 
     /**
-     * Gets a random tile on the map, matching the conditions.
+     * Gets the precomputed line of passage between all tiles of this map.
+     *
+     * @return The {@link PassageTable} or null, if the map has more than {@link PassageTable#MAX_TILES} tiles.
+     */
+    public PassageTable getPassageTable() {
+        return passageTable;
+    }
+
+    /**
+     * Gets the distance field to the nearest water tile of this map.
+     *
+     * @return The {@link WaterDistanceField}.
+     */
+    public WaterDistanceField getWaterDistanceField() {
+        return waterDistanceField;
+    }
+
+    /**
+     * Gets the lists of all tiles grouped by their conditions.
+     *
+     * @return The {@link TileIndex}.
+     */
+    public TileIndex getTileIndex() {
+        return tileIndex;
+    }
+
+    /**
+     * Gets the path finder of this map.
+     *
+     * @return The {@link PathFinder}.
+     */
+    public PathFinder getPathFinder() {
+        return pathFinder;
+    }
+
+    /**
+     * Replaces a {@link Tile} of the map. <br>
+     * The {@link PassageTable}, the {@link TileIndex} and the {@link PathFinder} (with an empty path cache) are built again
+     * and the {@link WaterDistanceField} is updated around the changed tile.
+     *
+     * @param gridX    The x grid coordinate.
+     * @param gridY    The y grid coordinate.
+     * @param tileType The {@link TILES} type of the new tile.
+     */
+    public void setTile(int gridX, int gridY, TILES tileType) {
+        if (!isInsideOfGrid(gridX, gridY))
+            return;
+
+        tiles[gridX][gridY] = new Tile(tileType.imgName, gridX, gridY, tileType.swimmable, tileType.climbable, tileType.canContainPlants);
+        this.passageTable = PassageTable.create(this, WIDTH, HEIGHT);
+        this.waterDistanceField.update(gridX, gridY);
+        this.tileIndex = new TileIndex(tiles);
+        this.pathFinder = new PathFinder(this, WIDTH, HEIGHT);
+    }
+
+    /**
+     * Gets a random tile on the map, matching the conditions. <br>
+     * The tile is drawn from the precomputed {@link TileIndex}, so only one random number is needed.
      *
      * @param canSwim  Can the {@link Tile} be swimmable?
      * @param canClimb Can the {@link Tile} be climbable?
      * @param random   A {@link Random} object.
-     * @return A random {@link Tile}.
+     * @return A random {@link Tile} or null, if no tile matches.
      * @see #tileMatchedConditions(Tile, boolean, boolean)
      */
     public Tile getRandomTile(boolean canSwim, boolean canClimb, Random random) {
         if(canSwim && canClimb) return null;
 
-        Tile tile = getTileAtPosition(random.nextInt(0, WIDTH), random.nextInt(0, HEIGHT));
-
-        if (!tileMatchedConditions(tile, canSwim, canClimb)) {
-            return getRandomTile(canSwim, canClimb, random);
-        }
-        return tile;
+        return tileIndex.getRandomMatchingTile(canSwim, canClimb, random);
     }
 
     /**
@@ -539,18 +627,13 @@ public class SimulationMap {
      * @param canClimb    Does the {@link Tile} needs to be climbable?
      * @param allowPlants Does the tile needs to allow plants?
      * @param random      A {@link Random} object.
-     * @return A random {@link Tile}.
-     * @see #tileConditionsAre(Tile, boolean, boolean)
+     * @return A random {@link Tile} or null, if no tile has the conditions.
+     * @see TileIndex#getRandomTileWhereConditionsAre(boolean, boolean, boolean, Random)
      */
     public Tile getRandomTileWhereConditionsAre(boolean canSwim, boolean canClimb, boolean allowPlants, Random random) {
         if((canSwim || canClimb) && allowPlants || canSwim && canClimb) return null;
 
-        Tile tile = getTileAtPosition(random.nextInt(0, WIDTH), random.nextInt(0, HEIGHT));
-
-        if (!tileConditionsAre(tile, canSwim, canClimb) || tile.arePlantsAllowed() != allowPlants) {
-            return getRandomTileWhereConditionsAre(canSwim, canClimb, allowPlants, random);
-        }
-        return tile;
+        return tileIndex.getRandomTileWhereConditionsAre(canSwim, canClimb, allowPlants, random);
     }
 
     /**
@@ -559,8 +642,8 @@ public class SimulationMap {
      * @param tile The {@link Tile}.
      * @return The center position of the {@link Tile}.
      */
-    private Vector2D getCenterPositionOfTile(Tile tile) {
-        return getWorldPosition(tile.getGridX(), tile.getGridY()).add(new Vector2D(Tile.TILE_SIZE / 2f, Tile.TILE_SIZE / 2f));
+    public Vector2D getCenterPositionOfTile(Tile tile) {
+        return getWorldPosition(tile.getGridX(), tile.getGridY()).addLocal(Tile.TILE_SIZE / 2f, Tile.TILE_SIZE / 2f);
     }
 
     /**
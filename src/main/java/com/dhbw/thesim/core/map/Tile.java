@@ -1,7 +1,6 @@
 package com.dhbw.thesim.core.map;
 
-import com.dhbw.thesim.gui.Display;
-import javafx.scene.image.Image;
+import com.dhbw.thesim.core.util.ScreenScale;
 
 /**
  * Represents a background-object in the {@link SimulationMap}-grid.
@@ -13,9 +12,9 @@ public class Tile {
 
     //region variables
     /**
-     * The image, which is rendered for this {@link Tile}.
+     * The name of the image, which is rendered for this {@link Tile}. Is resolved to an image by a renderer.
      */
-    private final Image background;
+    private final String background;
 
     /**
      * Defines if this tile can only be crossed, if a {@link com.dhbw.thesim.core.entity.Dinosaur} can swim.
@@ -46,7 +45,7 @@ public class Tile {
     /**
      * The square size for one tile (as specified in the requirement's specification)
      */
-    public static final double TILE_SIZE = Display.adjustScale(45, Display.SCALE_X == 0 ? 1 : Display.SCALE_X);
+    public static final double TILE_SIZE = ScreenScale.adjustX(45);
     //endregion
 
     //endregion
@@ -54,14 +53,14 @@ public class Tile {
     /**
      * Constructor for a {@link Tile}
      *
-     * @param image            The background for this image.
+     * @param image            The name of the background image for this tile.
      * @param gridX            The grid x coordinate.
      * @param gridY            The grid x coordinate.
      * @param swimmable        Is this tile a water tile?
      * @param climbable        Is this tile a mountain tile?
      * @param canContainPlants Can this tile contain plants?
      */
-    public Tile(Image image, int gridX, int gridY, boolean swimmable, boolean climbable, boolean canContainPlants) {
+    public Tile(String image, int gridX, int gridY, boolean swimmable, boolean climbable, boolean canContainPlants) {
         this.background = image;
         this.gridX = gridX;
         this.gridY = gridY;
@@ -73,11 +72,11 @@ public class Tile {
     //region getter & setter
 
     /**
-     * Gets the {@link #background} image for this {@link Tile}.
+     * Gets the name of the {@link #background} image for this {@link Tile}.
      *
-     * @return The {@link #background} image.
+     * @return The name of the {@link #background} image.
      */
-    public Image getBackground() {
+    public String getBackground() {
         return background;
     }
 
@@ -0,0 +1,139 @@
+package com.dhbw.thesim.core.map;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Precomputed lists of all {@link Tile}s of a {@link SimulationMap} grouped by their conditions. <br>
+ * For each mobility class (the four combinations of canSwim and canClimb) the list holds all tiles, which can be entered by it.
+ * For each combination of swimmable, climbable and allowPlants the list holds all tiles, which have exactly these conditions. <br>
+ * So a random tile with conditions can be drawn with one random number, instead of drawing random tiles until one matches.
+ * A condition without any tile has an empty list, which is detected at once.
+ *
+ * @author Daniel Czeschner
+ * @see SimulationMap#getTileIndex()
+ */
+public class TileIndex {
+
+    //region variables
+
+    /**
+     * The amount of mobility classes. (canSwim x canClimb)
+     */
+    private static final int MOBILITY_CLASSES = 4;
+
+    /**
+     * The amount of tile conditions. (swimmable x climbable x allowPlants)
+     */
+    private static final int CONDITIONS = 8;
+
+    /**
+     * All tiles, which can be entered by a mobility class. Index = mobility class
+     *
+     * @see #mobilityClass(boolean, boolean)
+     */
+    private final List<List<Tile>> matchingTiles;
+
+    /**
+     * All tiles, which have exactly the conditions. Index = condition
+     *
+     * @see #condition(boolean, boolean, boolean)
+     */
+    private final List<List<Tile>> tilesWithConditions;
+
+    //endregion
+
+    /**
+     * Constructor <br>
+     * Sorts all tiles of the grid into the lists.
+     *
+     * @param tiles The tiles of the {@link SimulationMap}. Needs to be fully set.
+     */
+    public TileIndex(Tile[][] tiles) {
+        this.matchingTiles = new ArrayList<>(MOBILITY_CLASSES);
+        this.tilesWithConditions = new ArrayList<>(CONDITIONS);
+        for (int i = 0; i < MOBILITY_CLASSES; i++)
+            matchingTiles.add(new ArrayList<>());
+        for (int i = 0; i < CONDITIONS; i++)
+            tilesWithConditions.add(new ArrayList<>());
+
+        for (Tile[] column : tiles) {
+            for (Tile tile : column) {
+                if (tile == null)
+                    continue;
+
+                for (int mobilityClass = 0; mobilityClass < MOBILITY_CLASSES; mobilityClass++) {
+                    boolean canSwim = (mobilityClass & 1) != 0;
+                    boolean canClimb = (mobilityClass & 2) != 0;
+                    if (!tile.isSwimmable() && !tile.isClimbable() || tile.isSwimmable() && canSwim || tile.isClimbable() && canClimb)
+                        matchingTiles.get(mobilityClass).add(tile);
+                }
+                tilesWithConditions.get(condition(tile.isSwimmable(), tile.isClimbable(), tile.arePlantsAllowed())).add(tile);
+            }
+        }
+    }
+
+    /**
+     * Gets all tiles, which can be entered by a {@link com.dhbw.thesim.core.entity.Dinosaur}.
+     *
+     * @param canSwim  Can the dinosaur swim?
+     * @param canClimb Can the dinosaur climb?
+     * @return An unmodifiable list with all matching {@link Tile}s.
+     */
+    public List<Tile> getMatchingTiles(boolean canSwim, boolean canClimb) {
+        return Collections.unmodifiableList(matchingTiles.get(mobilityClass(canSwim, canClimb)));
+    }
+
+    /**
+     * Gets all tiles, which have exactly the conditions.
+     *
+     * @param swimmable   Does the tile need to be swimmable?
+     * @param climbable   Does the tile need to be climbable?
+     * @param allowPlants Does the tile need to allow plants?
+     * @return An unmodifiable list with all {@link Tile}s with these conditions.
+     */
+    public List<Tile> getTilesWhereConditionsAre(boolean swimmable, boolean climbable, boolean allowPlants) {
+        return Collections.unmodifiableList(tilesWithConditions.get(condition(swimmable, climbable, allowPlants)));
+    }
+
+    /**
+     * Gets a random tile, which can be entered by a {@link com.dhbw.thesim.core.entity.Dinosaur}. O(1)
+     *
+     * @param canSwim  Can the dinosaur swim?
+     * @param canClimb Can the dinosaur climb?
+     * @param random   A {@link Random} object.
+     * @return A random matching {@link Tile} or null, if no tile matches.
+     */
+    public Tile getRandomMatchingTile(boolean canSwim, boolean canClimb, Random random) {
+        return getRandomTile(matchingTiles.get(mobilityClass(canSwim, canClimb)), random);
+    }
+
+    /**
+     * Gets a random tile, which has exactly the conditions. O(1)
+     *
+     * @param swimmable   Does the tile need to be swimmable?
+     * @param climbable   Does the tile need to be climbable?
+     * @param allowPlants Does the tile need to allow plants?
+     * @param random      A {@link Random} object.
+     * @return A random {@link Tile} with these conditions or null, if no tile has them.
+     */
+    public Tile getRandomTileWhereConditionsAre(boolean swimmable, boolean climbable, boolean allowPlants, Random random) {
+        return getRandomTile(tilesWithConditions.get(condition(swimmable, climbable, allowPlants)), random);
+    }
+
+    private Tile getRandomTile(List<Tile> tiles, Random random) {
+        if (tiles.isEmpty())
+            return null;
+        return tiles.get(random.nextInt(tiles.size()));
+    }
+
+    private static int mobilityClass(boolean canSwim, boolean canClimb) {
+        return (canSwim ? 1 : 0) | (canClimb ? 2 : 0);
+    }
+
+    private static int condition(boolean swimmable, boolean climbable, boolean allowPlants) {
+        return (swimmable ? 1 : 0) | (climbable ? 2 : 0) | (allowPlants ? 4 : 0);
+    }
+}
@@ -0,0 +1,328 @@
+package com.dhbw.thesim.core.map;
+
+import java.util.ArrayDeque;
+import java.util.PriorityQueue;
+
+/**
+ * Distance field to the nearest water {@link Tile} for each mobility class (the four combinations of canSwim and canClimb). <br>
+ * The field is created by a multi-source breadth-first search, which starts at all water tiles and moves over the 8 neighbors of a tile.
+ * A tile, which can't be crossed by a mobility class, gets a distance, but the search does not continue over it. <br>
+ * For each tile the distance (in tiles), the nearest water tile and the next tile on the way to it (the gradient) are stored,
+ * so all of them can be read with one array lookup. <br>
+ * If a tile changes, only the tiles whose way to the water led over the changed tile are searched again. (see {@link #update(int, int)})
+ *
+ * @author Daniel Czeschner
+ * @see SimulationMap#getWaterDistanceField()
+ */
+public class WaterDistanceField {
+
+    //region variables
+
+    /**
+     * The distance of a tile, from which no water tile can be reached.
+     */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    /**
+     * The amount of mobility classes. (canSwim x canClimb)
+     */
+    private static final int MOBILITY_CLASSES = 4;
+
+    /**
+     * The marker for a tile without a nearest water tile or a next tile.
+     */
+    private static final int NONE = -1;
+
+    /**
+     * The {@link SimulationMap}, which tiles are used.
+     */
+    private final SimulationMap simulationMap;
+
+    /**
+     * The width of the grid.
+     */
+    private final int width;
+
+    /**
+     * The height of the grid.
+     */
+    private final int height;
+
+    /**
+     * The distances in tiles for each mobility class. Index = [mobility class][tile index]
+     */
+    private final int[][] distances;
+
+    /**
+     * The index of the nearest water tile for each mobility class.
+     */
+    private final int[][] nearestWater;
+
+    /**
+     * The index of the next tile on the way to the nearest water tile for each mobility class.
+     */
+    private final int[][] nextTiles;
+
+    /**
+     * Helper array for {@link #update(int, int)}, which marks the affected tiles. Is reset after each update.
+     */
+    private final boolean[] affected;
+
+    /**
+     * Helper array for {@link #update(int, int)}, which holds the indices of the affected tiles.
+     */
+    private final int[] affectedTiles;
+
+    //endregion
+
+    /**
+     * Constructor <br>
+     * Builds the distance fields of all mobility classes.
+     *
+     * @param simulationMap The {@link SimulationMap} with all tiles already set.
+     * @param width         The width of the grid.
+     * @param height        The height of the grid.
+     */
+    public WaterDistanceField(SimulationMap simulationMap, int width, int height) {
+        this.simulationMap = simulationMap;
+        this.width = width;
+        this.height = height;
+        int tileCount = width * height;
+        this.distances = new int[MOBILITY_CLASSES][tileCount];
+        this.nearestWater = new int[MOBILITY_CLASSES][tileCount];
+        this.nextTiles = new int[MOBILITY_CLASSES][tileCount];
+        this.affected = new boolean[tileCount];
+        this.affectedTiles = new int[tileCount];
+
+        for (int mobilityClass = 0; mobilityClass < MOBILITY_CLASSES; mobilityClass++) {
+            build(mobilityClass);
+        }
+    }
+
+    /**
+     * Gets the distance to the nearest water tile. <br>
+     * The distance is the amount of steps to a neighbor tile (including diagonal neighbors) and is never larger than the
+     * number of tiles on a straight line to a water tile, which can be crossed.
+     *
+     * @param gridX    The x grid coordinate.
+     * @param gridY    The y grid coordinate.
+     * @param canSwim  Can the {@link com.dhbw.thesim.core.entity.Dinosaur} swim?
+     * @param canClimb Can the {@link com.dhbw.thesim.core.entity.Dinosaur} climb?
+     * @return The distance in tiles or {@link #UNREACHABLE}.
+     */
+    public int getDistance(int gridX, int gridY, boolean canSwim, boolean canClimb) {
+        if (!simulationMap.isInsideOfGrid(gridX, gridY))
+            return UNREACHABLE;
+        return distances[mobilityClass(canSwim, canClimb)][gridY * width + gridX];
+    }
+
+    /**
+     * Gets the nearest water tile.
+     *
+     * @param gridX    The x grid coordinate.
+     * @param gridY    The y grid coordinate.
+     * @param canSwim  Can the {@link com.dhbw.thesim.core.entity.Dinosaur} swim?
+     * @param canClimb Can the {@link com.dhbw.thesim.core.entity.Dinosaur} climb?
+     * @return The nearest water {@link Tile} or null, if no water tile can be reached.
+     */
+    public Tile getNearestWaterTile(int gridX, int gridY, boolean canSwim, boolean canClimb) {
+        if (!simulationMap.isInsideOfGrid(gridX, gridY))
+            return null;
+        return getTile(nearestWater[mobilityClass(canSwim, canClimb)][gridY * width + gridX]);
+    }
+
+    /**
+     * Gets the next tile on the way to the nearest water tile. (The gradient of the field)
+     *
+     * @param gridX    The x grid coordinate.
+     * @param gridY    The y grid coordinate.
+     * @param canSwim  Can the {@link com.dhbw.thesim.core.entity.Dinosaur} swim?
+     * @param canClimb Can the {@link com.dhbw.thesim.core.entity.Dinosaur} climb?
+     * @return The neighbor {@link Tile} or null, if the tile is a water tile itself or no water tile can be reached.
+     */
+    public Tile getNextTile(int gridX, int gridY, boolean canSwim, boolean canClimb) {
+        if (!simulationMap.isInsideOfGrid(gridX, gridY))
+            return null;
+        return getTile(nextTiles[mobilityClass(canSwim, canClimb)][gridY * width + gridX]);
+    }
+
+    /**
+     * Updates the fields after a tile changed. <br>
+     * All tiles, whose way to the water led over the changed tile, are found by following the next tile links backwards
+     * from the changed tile. Only these tiles are reset and searched again, starting at their unchanged neighbors.
+     * All other tiles keep their values. So the costs only depend on the amount of affected tiles.
+     *
+     * @param gridX The x grid coordinate of the changed tile.
+     * @param gridY The y grid coordinate of the changed tile.
+     */
+    public void update(int gridX, int gridY) {
+        if (!simulationMap.isInsideOfGrid(gridX, gridY))
+            return;
+
+        int changed = gridY * width + gridX;
+        for (int mobilityClass = 0; mobilityClass < MOBILITY_CLASSES; mobilityClass++) {
+            int[] distance = distances[mobilityClass];
+            int[] next = nextTiles[mobilityClass];
+
+            //Find all tiles, whose way to the water leads over the changed tile. (A breadth-first search over the tiles, whose next tile is affected)
+            int count = 0;
+            affectedTiles[count++] = changed;
+            affected[changed] = true;
+            for (int i = 0; i < count; i++) {
+                int tile = affectedTiles[i];
+                for (int neighbor : neighbors(tile)) {
+                    if (neighbor != NONE && !affected[neighbor] && next[neighbor] == tile) {
+                        affected[neighbor] = true;
+                        affectedTiles[count++] = neighbor;
+                    }
+                }
+            }
+
+            //Reset the affected tiles and continue the search from the changed tile, if it is a water tile now, and the unchanged tiles around them.
+            for (int i = 0; i < count; i++) {
+                reset(mobilityClass, affectedTiles[i]);
+            }
+            PriorityQueue<int[]> queue = new PriorityQueue<>((a, b) -> Integer.compare(a[1], b[1]));
+            if (isWater(changed)) {
+                setSource(mobilityClass, changed);
+                queue.add(new int[]{changed, 0});
+            }
+            for (int i = 0; i < count; i++) {
+                for (int neighbor : neighbors(affectedTiles[i])) {
+                    if (neighbor != NONE && !affected[neighbor] && distance[neighbor] != UNREACHABLE)
+                        queue.add(new int[]{neighbor, distance[neighbor]});
+                }
+            }
+            for (int i = 0; i < count; i++) {
+                affected[affectedTiles[i]] = false;
+            }
+            search(mobilityClass, queue);
+        }
+    }
+
+    /**
+     * Builds the distance field of one mobility class.
+     *
+     * @param mobilityClass The mobility class.
+     */
+    private void build(int mobilityClass) {
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int tile = 0; tile < distances[mobilityClass].length; tile++) {
+            reset(mobilityClass, tile);
+            if (isWater(tile)) {
+                setSource(mobilityClass, tile);
+                queue.add(tile);
+            }
+        }
+
+        int[] distance = distances[mobilityClass];
+        while (!queue.isEmpty()) {
+            int tile = queue.poll();
+            if (!canContinueOver(mobilityClass, tile))
+                continue;
+            for (int neighbor : neighbors(tile)) {
+                if (neighbor != NONE && distance[neighbor] == UNREACHABLE) {
+                    reach(mobilityClass, neighbor, tile);
+                    queue.add(neighbor);
+                }
+            }
+        }
+    }
+
+    /**
+     * Continues the search for the tiles in the queue. A tile is only improved, if a shorter way is found.
+     *
+     * @param mobilityClass The mobility class.
+     * @param queue         The queue with the start tiles and their distances.
+     */
+    private void search(int mobilityClass, PriorityQueue<int[]> queue) {
+        int[] distance = distances[mobilityClass];
+        while (!queue.isEmpty()) {
+            int[] entry = queue.poll();
+            int tile = entry[0];
+            if (entry[1] != distance[tile] || !canContinueOver(mobilityClass, tile))
+                continue;
+            for (int neighbor : neighbors(tile)) {
+                if (neighbor != NONE && distance[tile] + 1 < distance[neighbor]) {
+                    reach(mobilityClass, neighbor, tile);
+                    queue.add(new int[]{neighbor, distance[neighbor]});
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets the values of a tile, which is reached from another tile.
+     */
+    private void reach(int mobilityClass, int tile, int from) {
+        distances[mobilityClass][tile] = distances[mobilityClass][from] + 1;
+        nearestWater[mobilityClass][tile] = nearestWater[mobilityClass][from];
+        nextTiles[mobilityClass][tile] = from;
+    }
+
+    private void setSource(int mobilityClass, int tile) {
+        distances[mobilityClass][tile] = 0;
+        nearestWater[mobilityClass][tile] = tile;
+        nextTiles[mobilityClass][tile] = NONE;
+    }
+
+    private void reset(int mobilityClass, int tile) {
+        distances[mobilityClass][tile] = UNREACHABLE;
+        nearestWater[mobilityClass][tile] = NONE;
+        nextTiles[mobilityClass][tile] = NONE;
+    }
+
+    /**
+     * Checks, if the search may continue over a tile. This is the case for water tiles (the search starts there)
+     * and for all tiles, which can be crossed by the mobility class.
+     */
+    private boolean canContinueOver(int mobilityClass, int tile) {
+        return isWater(tile) || simulationMap.tileMatchedConditions(tile % width, tile / width, canSwim(mobilityClass), canClimb(mobilityClass));
+    }
+
+    /**
+     * Checks, if a tile is a water tile. (Swimmable and not climbable)
+     */
+    private boolean isWater(int tile) {
+        Tile t = getTile(tile);
+        return t != null && t.isSwimmable() && !t.isClimbable();
+    }
+
+    /**
+     * Gets the indices of the 8 neighbors of a tile.
+     *
+     * @return The neighbor indices. Neighbors outside the grid are {@link #NONE}.
+     */
+    private int[] neighbors(int tile) {
+        int x = tile % width;
+        int y = tile / width;
+        int[] neighbors = new int[8];
+        int i = 0;
+        for (int dy = -1; dy <= 1; dy++) {
+            for (int dx = -1; dx <= 1; dx++) {
+                if (dx == 0 && dy == 0)
+                    continue;
+                int nx = x + dx;
+                int ny = y + dy;
+                neighbors[i++] = nx >= 0 && nx < width && ny >= 0 && ny < height ? ny * width + nx : NONE;
+            }
+        }
+        return neighbors;
+    }
+
+    private Tile getTile(int tile) {
+        return tile == NONE ? null : simulationMap.getTileAtPosition(tile % width, tile / width);
+    }
+
+    private static int mobilityClass(boolean canSwim, boolean canClimb) {
+        return (canSwim ? 1 : 0) | (canClimb ? 2 : 0);
+    }
+
+    private static boolean canSwim(int mobilityClass) {
+        return (mobilityClass & 1) != 0;
+    }
+
+    private static boolean canClimb(int mobilityClass) {
+        return (mobilityClass & 2) != 0;
+    }
+}
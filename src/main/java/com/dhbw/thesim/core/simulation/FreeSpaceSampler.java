@@ -0,0 +1,234 @@
+package com.dhbw.thesim.core.simulation;
+
+import com.dhbw.thesim.core.map.PassageTable;
+import com.dhbw.thesim.core.map.PathFinder;
+import com.dhbw.thesim.core.map.SimulationMap;
+import com.dhbw.thesim.core.map.Tile;
+import com.dhbw.thesim.core.util.Vector2D;
+
+import java.util.Random;
+import java.util.function.Predicate;
+
+/**
+ * Draws random movement targets only from {@link Tile}s, which can be used as target. <br>
+ * All tiles, whose center is inside the searched area (a ring of the view range or a cone in a direction), are collected first.
+ * A tile is skipped, if the {@link com.dhbw.thesim.core.entity.Dinosaur} can't walk on it or can't reach it on a straight line
+ * (see {@link PassageTable}). The remaining tiles are visited in a random order, tiles without any {@link com.dhbw.thesim.core.entity.SimulationObject}
+ * in their {@link SpatialGrid} cell first. <br>
+ * For each visited tile one random point inside the tile is checked with the exact movement check. So a target is found after
+ * at most {@link #MAX_CHECKS} exact checks, instead of drawing random points until one passes.
+ *
+ * @author Daniel Czeschner
+ * @see Simulation#getRandomMovementTargetInRange(Vector2D, double, double, boolean, boolean, Vector2D)
+ * @see Simulation#getRandomMovementTargetInRangeInDirection(Vector2D, double, double, boolean, boolean, Vector2D, Vector2D)
+ */
+public class FreeSpaceSampler {
+
+    //region variables
+
+    /**
+     * The maximum amount of exact checks for one search.
+     */
+    public static final int MAX_CHECKS = 32;
+
+    /**
+     * The {@link SimulationMap}, which tiles are used.
+     */
+    private final SimulationMap simulationMap;
+
+    /**
+     * The {@link SpatialGrid}, which is used to prefer empty tiles.
+     */
+    private final SpatialGrid spatialGrid;
+
+    //endregion
+
+    /**
+     * Constructor
+     *
+     * @param simulationMap The {@link SimulationMap}, which tiles are used.
+     * @param spatialGrid   The {@link SpatialGrid} with all {@link com.dhbw.thesim.core.entity.SimulationObject}s.
+     */
+    public FreeSpaceSampler(SimulationMap simulationMap, SpatialGrid spatialGrid) {
+        this.simulationMap = simulationMap;
+        this.spatialGrid = spatialGrid;
+    }
+
+    /**
+     * Gets a random target inside a ring around a position. <br>
+     * The target is at least {@code Math.sqrt(lowerBounds) * radius} away from the position, like the random points of the view range.
+     *
+     * @param position      The position of the moving object.
+     * @param radius        The outer radius of the ring. (e.g. the view range)
+     * @param lowerBounds   The lower limit for the squared relative distance. Needs to be smaller than 1.
+     * @param canSwim       Can the moving object swim?
+     * @param canClimb      Can the moving object climb?
+     * @param random        The used {@link Random}.
+     * @param isValidTarget The exact check for a target.
+     * @return A {@link Vector2D} target, which passed the exact check, or null, if no target was found.
+     */
+    public Vector2D sampleInRange(Vector2D position, double radius, double lowerBounds, boolean canSwim, boolean canClimb, Random random, Predicate<Vector2D> isValidTarget) {
+        return sampleInRange(position, radius, lowerBounds, canSwim, canClimb, random, false, isValidTarget);
+    }
+
+    /**
+     * Gets a random target inside a ring around a position.
+     *
+     * @param position      The position of the moving object.
+     * @param radius        The outer radius of the ring. (e.g. the view range)
+     * @param lowerBounds   The lower limit for the squared relative distance. Needs to be smaller than 1.
+     * @param canSwim       Can the moving object swim?
+     * @param canClimb      Can the moving object climb?
+     * @param random        The used {@link Random}.
+     * @param overPath      true, if a tile only needs to be reachable over a path (see {@link PathFinder#isConnected(Tile, Tile, boolean, boolean)})
+     *                      instead of a straight line.
+     * @param isValidTarget The exact check for a target.
+     * @return A {@link Vector2D} target, which passed the exact check, or null, if no target was found.
+     */
+    public Vector2D sampleInRange(Vector2D position, double radius, double lowerBounds, boolean canSwim, boolean canClimb, Random random, boolean overPath, Predicate<Vector2D> isValidTarget) {
+        if (lowerBounds >= 1)
+            lowerBounds = 0.25;
+        return sample(position, Math.sqrt(lowerBounds) * Math.abs(radius), Math.abs(radius), 0, 2 * Math.PI, canSwim, canClimb, random, overPath, isValidTarget);
+    }
+
+    /**
+     * Gets a random target inside a cone in a direction with an offset of +-PI/4. <br>
+     * The target is at least half of the radius away from the position.
+     *
+     * @param position      The position of the moving object.
+     * @param radius        The radius of the cone. (e.g. the view range)
+     * @param direction     The direction {@link Vector2D} of the cone.
+     * @param canSwim       Can the moving object swim?
+     * @param canClimb      Can the moving object climb?
+     * @param random        The used {@link Random}.
+     * @param isValidTarget The exact check for a target.
+     * @return A {@link Vector2D} target, which passed the exact check, or null, if no target was found.
+     */
+    public Vector2D sampleInDirection(Vector2D position, double radius, Vector2D direction, boolean canSwim, boolean canClimb, Random random, Predicate<Vector2D> isValidTarget) {
+        double deg = Vector2D.angleToVector(direction);
+        if (deg < 0)
+            deg = 2 * Math.PI + deg;
+        //The cone is cut at 0 and 2 * PI like the random positions in a direction.
+        double low = Math.max(0, deg - Math.PI / 4);
+        double high = Math.min(2 * Math.PI, deg + Math.PI / 4);
+        return sample(position, 0.5 * Math.abs(radius), Math.abs(radius), low, high, canSwim, canClimb, random, false, isValidTarget);
+    }
+
+    /**
+     * Searches a target inside a ring sector.
+     *
+     * @param position      The center of the ring.
+     * @param minRadius     The inner radius.
+     * @param maxRadius     The outer radius.
+     * @param lowAngle      The lower angle of the sector. (0 = right, counterclockwise on the screen)
+     * @param highAngle     The upper angle of the sector.
+     * @param canSwim       Can the moving object swim?
+     * @param canClimb      Can the moving object climb?
+     * @param random        The used {@link Random}.
+     * @param overPath      true, if a tile only needs to be reachable over a path.
+     * @param isValidTarget The exact check for a target.
+     * @return A {@link Vector2D} target or null.
+     */
+    private Vector2D sample(Vector2D position, double minRadius, double maxRadius, double lowAngle, double highAngle, boolean canSwim, boolean canClimb,
+                            Random random, boolean overPath, Predicate<Vector2D> isValidTarget) {
+        Tile startTile = simulationMap.getTileAtPosition(position);
+        if (startTile == null)
+            return null;
+
+        int minX = Math.max(0, (int) Math.floor((position.getX() - maxRadius) / Tile.TILE_SIZE));
+        int maxX = Math.min(SimulationMap.WIDTH - 1, (int) Math.floor((position.getX() + maxRadius) / Tile.TILE_SIZE));
+        int minY = Math.max(0, (int) Math.floor((position.getY() - maxRadius) / Tile.TILE_SIZE));
+        int maxY = Math.min(SimulationMap.HEIGHT - 1, (int) Math.floor((position.getY() + maxRadius) / Tile.TILE_SIZE));
+        if (minX > maxX || minY > maxY)
+            return null;
+
+        //Empty tiles are collected from the front, occupied tiles from the back of the same array. (Stored as the tile centers)
+        Vector2D[] candidates = new Vector2D[(maxX - minX + 1) * (maxY - minY + 1)];
+        int emptyCount = 0;
+        int occupiedStart = candidates.length;
+
+        PassageTable passageTable = simulationMap.getPassageTable();
+        PathFinder pathFinder = overPath ? simulationMap.getPathFinder() : null;
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                Vector2D center = new Vector2D((x + 0.5) * Tile.TILE_SIZE, (y + 0.5) * Tile.TILE_SIZE);
+                if (!isInsideSector(position, center, minRadius, maxRadius, lowAngle, highAngle)
+                        || !simulationMap.tileMatchedConditions(center, canSwim, canClimb))
+                    continue;
+                if (pathFinder != null) {
+                    if (!pathFinder.isConnected(startTile, simulationMap.getTileAtPosition(x, y), canSwim, canClimb))
+                        continue;
+                } else if (passageTable != null && !passageTable.canBeReached(startTile.getGridX(), startTile.getGridY(), x, y, canSwim, canClimb, false)) {
+                    continue;
+                }
+
+                if (spatialGrid.isCellEmpty(center))
+                    candidates[emptyCount++] = center;
+                else
+                    candidates[--occupiedStart] = center;
+            }
+        }
+
+        int checks = 0;
+        //First visit the empty tiles, then the occupied ones. Each group in a random order (lazy Fisher-Yates shuffle).
+        for (int i = 0; i < candidates.length && checks < MAX_CHECKS; i++) {
+            if (i == emptyCount)
+                i = occupiedStart;
+            if (i >= candidates.length)
+                break;
+
+            int end = i < emptyCount ? emptyCount : candidates.length;
+            int j = random.nextInt(i, end);
+            Vector2D center = candidates[j];
+            candidates[j] = candidates[i];
+            candidates[i] = center;
+
+            Vector2D target = getRandomPointInTile(center, random);
+            if (!isInsideSector(position, target, minRadius, maxRadius, lowAngle, highAngle))
+                target = center;
+
+            checks++;
+            if (isValidTarget.test(target))
+                return target;
+        }
+        return null;
+    }
+
+    /**
+     * Gets a random point inside a {@link Tile}.
+     *
+     * @param center The center {@link Vector2D} of the tile.
+     * @param random The used {@link Random}.
+     * @return A random {@link Vector2D} inside the tile.
+     */
+    private Vector2D getRandomPointInTile(Vector2D center, Random random) {
+        return new Vector2D(center.getX() + (random.nextDouble() - 0.5) * Tile.TILE_SIZE, center.getY() + (random.nextDouble() - 0.5) * Tile.TILE_SIZE);
+    }
+
+    /**
+     * Checks, if a point is inside a ring sector.
+     *
+     * @param center    The center of the ring.
+     * @param point     The {@link Vector2D} point, which should be checked.
+     * @param minRadius The inner radius.
+     * @param maxRadius The outer radius.
+     * @param lowAngle  The lower angle of the sector.
+     * @param highAngle The upper angle of the sector.
+     * @return true, if the point is inside the sector.
+     */
+    private static boolean isInsideSector(Vector2D center, Vector2D point, double minRadius, double maxRadius, double lowAngle, double highAngle) {
+        double dx = point.getX() - center.getX();
+        double dy = point.getY() - center.getY();
+        double distanceSq = dx * dx + dy * dy;
+        if (distanceSq < minRadius * minRadius || distanceSq > maxRadius * maxRadius)
+            return false;
+        if (lowAngle <= 0 && highAngle >= 2 * Math.PI)
+            return true;
+
+        //The y axis of the screen points down, so the angle is measured with -dy.
+        double angle = Math.atan2(-dy, dx);
+        if (angle < 0)
+            angle += 2 * Math.PI;
+        return angle >= lowAngle && angle <= highAngle;
+    }
+}
@@ -0,0 +1,181 @@
+package com.dhbw.thesim.core.simulation;
+
+import com.dhbw.thesim.core.util.Vector2D;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Holds the results of the world queries of one {@link com.dhbw.thesim.core.entity.SimulationObject} for one update. <br>
+ * In the decision phase of an update the queries are recorded in parallel against the unchanged world. <br>
+ * In the apply phase the recorded results are used, if a query is issued again with the same arguments. <br>
+ * Each {@link Query} has its own typed slot, so a lookup neither boxes the arguments nor hashes a key.
+ *
+ * @author Daniel Czeschner
+ * @see Simulation#prepareQueries(java.util.concurrent.ForkJoinPool)
+ */
+final class PreparedQueries {
+
+    //region variables
+
+    /**
+     * All cached queries of a {@link Simulation}.
+     */
+    enum Query {
+        FOOD_SOURCE,
+        WATER_SOURCE,
+        PARTNER,
+        RANDOM_TARGET,
+        RANDOM_TARGET_IN_DIRECTION,
+        RANDOM_PATH_TARGET
+    }
+
+    /**
+     * Is a result recorded for a {@link Query}? (indexed by the ordinal of the {@link Query})
+     */
+    private final boolean[] recorded;
+
+    /**
+     * The recorded result of each {@link Query}.
+     */
+    private final Object[] results;
+
+    /**
+     * The x coordinate of the position, which was used by each recorded {@link Query}.
+     */
+    private final double[] positionX;
+
+    /**
+     * The y coordinate of the position, which was used by each recorded {@link Query}.
+     */
+    private final double[] positionY;
+
+    /**
+     * The x coordinate of the direction, which was used by each recorded {@link Query}. (0, if the query has no direction)
+     */
+    private final double[] directionX;
+
+    /**
+     * The y coordinate of the direction, which was used by each recorded {@link Query}. (0, if the query has no direction)
+     */
+    private final double[] directionY;
+
+    /**
+     * The {@link Random} used by random queries while recording, so the results do not depend on the thread scheduling.
+     */
+    private final Random random;
+
+    /**
+     * Are the queries recorded (decision phase) or only looked up (apply phase)?
+     */
+    private boolean recording;
+
+    //endregion
+
+    /**
+     * Constructor
+     *
+     * @param seed The seed for the {@link #random} used while recording.
+     */
+    PreparedQueries(long seed) {
+        int queries = Query.values().length;
+        this.recorded = new boolean[queries];
+        this.results = new Object[queries];
+        this.positionX = new double[queries];
+        this.positionY = new double[queries];
+        this.directionX = new double[queries];
+        this.directionY = new double[queries];
+        this.random = new Random(seed);
+        this.recording = true;
+    }
+
+    /**
+     * Gets the result of a query.
+     *
+     * @see #get(Query, Vector2D, Vector2D, Supplier, Predicate)
+     */
+    <T> T get(Query query, Vector2D position, Supplier<T> computation, Predicate<T> stillValid) {
+        return get(query, position, null, computation, stillValid);
+    }
+
+    /**
+     * Gets the result of a query. <br>
+     * While recording, the result gets computed and stored. Only the first call of each {@link Query} is stored. <br>
+     * Afterwards a stored result is returned, if it is still valid. Otherwise, it is computed again. <br>
+     * A result is only used for a call with the same position and direction. The other arguments of a query are values of the
+     * querying {@link com.dhbw.thesim.core.entity.SimulationObject} (e.g. the view range), which don't change during one update.
+     *
+     * @param query       The type of the query.
+     * @param position    The {@link Vector2D} position, where the query starts.
+     * @param direction   The {@link Vector2D} direction of the query or null.
+     * @param computation Computes the result.
+     * @param stillValid  Checks, if a stored result can still be used.
+     * @param <T>         The type of the result.
+     * @return The result of the query.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T get(Query query, Vector2D position, Vector2D direction, Supplier<T> computation, Predicate<T> stillValid) {
+        int index = query.ordinal();
+        double x = position.getX();
+        double y = position.getY();
+        double dx = direction != null ? direction.getX() : 0;
+        double dy = direction != null ? direction.getY() : 0;
+
+        if (recorded[index] && positionX[index] == x && positionY[index] == y && directionX[index] == dx && directionY[index] == dy) {
+            T result = (T) results[index];
+            if (recording || stillValid.test(result))
+                return result;
+            return computation.get();
+        }
+        T result = computation.get();
+        if (recording && !recorded[index]) {
+            recorded[index] = true;
+            results[index] = result;
+            positionX[index] = x;
+            positionY[index] = y;
+            directionX[index] = dx;
+            directionY[index] = dy;
+        }
+        return result;
+    }
+
+    /**
+     * Prepares this object for the next update. <br>
+     * All results are removed and the {@link #random} is seeded again, so the same object can be used by each update without allocations.
+     *
+     * @param seed The new seed for the {@link #random} used while recording.
+     */
+    void reset(long seed) {
+        Arrays.fill(recorded, false);
+        Arrays.fill(results, null);
+        random.setSeed(seed);
+        recording = true;
+    }
+
+    /**
+     * Ends the recording. Afterwards results are only looked up.
+     */
+    void stopRecording() {
+        this.recording = false;
+    }
+
+    /**
+     * Are the queries recorded?
+     *
+     * @return The {@link #recording} value.
+     */
+    boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * Gets the {@link Random} used by random queries while recording.
+     *
+     * @return The {@link #random}.
+     */
+    Random getRandom() {
+        return random;
+    }
+}
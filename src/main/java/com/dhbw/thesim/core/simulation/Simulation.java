@@ -1,25 +1,31 @@
 package com.dhbw.thesim.core.simulation;
 
 import com.dhbw.thesim.core.entity.Dinosaur;
+import com.dhbw.thesim.core.entity.DinosaurStore;
 import com.dhbw.thesim.core.entity.Plant;
 import com.dhbw.thesim.core.entity.SimulationObject;
+import com.dhbw.thesim.core.entity.SpeciesRegistry;
+import com.dhbw.thesim.core.map.PassageTable;
+import com.dhbw.thesim.core.map.PathFinder;
 import com.dhbw.thesim.core.map.SimulationMap;
 import com.dhbw.thesim.core.map.Tile;
+import com.dhbw.thesim.core.map.WaterDistanceField;
 import com.dhbw.thesim.core.util.SimulationTime;
-import com.dhbw.thesim.core.util.SpriteLibrary;
+import com.dhbw.thesim.core.util.SpriteMetrics;
 import com.dhbw.thesim.core.util.Vector2D;
-import com.dhbw.thesim.gui.SimulationOverlay;
 import com.dhbw.thesim.impexp.Json2Objects;
-import javafx.application.Platform;
-import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.input.MouseEvent;
-import javafx.scene.paint.Color;
 
 import java.io.IOException;
+import java.io.Serial;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Predicate;
 
 /**
- * Holds all information for one Simulation and provides functions each {@link SimulationObject} needs to know which are using simulation data.
+ * Holds all information for one Simulation and provides functions each {@link SimulationObject} needs to know which are using simulation data. <br>
+ * A {@link Simulation} has no dependency to a graphical user interface. Renderers can be attached as {@link SimulationObserver}.
  *
  * @author Daniel Czeschner, Lucas Schaffer
  * @see SimulationMap
@@ -37,106 +43,127 @@ public class Simulation {
     private final SimulationMap simulationMap;
 
     /**
-     * The {@link GraphicsContext} for the background canvas
+     * The List, with all handed {@link SimulationObject}s used in a Simulation.
      *
-     * @see SimulationOverlay
-     * @see javafx.scene.canvas.Canvas
-     * @see GraphicsContext
+     * @see SimulationObject
      */
+    private final SimulationObjectList simulationObjects;
 
-    private final GraphicsContext backgroundGraphics;
     /**
-     * The List, with all handed {@link SimulationObject}s used in a Simulation.
-     *
-     * @see SimulationObject
+     * The {@link SpatialGrid}, which holds all {@link #simulationObjects} bucketed by their position. <br>
+     * Used by all proximity queries instead of scanning the whole {@link #simulationObjects} list.
      */
-    private final List<SimulationObject> simulationObjects;
+    private final SpatialGrid spatialGrid;
 
     /**
-     * A List with all {@link SimulationObject}s, which will be removed at the end of a {@link SimulationLoop} update.
+     * Draws the random movement targets from the tiles, which can be used as target.
      */
-    private final List<SimulationObject> toBeRemoved;
+    private final FreeSpaceSampler freeSpaceSampler;
 
     /**
-     * A List with all {@link SimulationObject}s, which will be spawned at the end of a {@link SimulationLoop} update.
+     * The {@link DinosaurStore}, which holds the nutrition, hydration and reproduction values of all {@link Dinosaur}s of the {@link #simulationObjects}.
      */
-    private final List<SimulationObject> toBeSpawned;
+    private final DinosaurStore dinosaurStore;
 
     /**
-     * The SimulationOverlay, on which the elements get spawned.
+     * All attached {@link SimulationObserver}s. Is empty in headless mode.
      */
-    private SimulationOverlay simulationOverlay;
+    private final List<SimulationObserver> observers;
 
     /**
      * A {@link Random} used for e.g. get a random tile.
      */
     private final Random random;
 
+    /**
+     * The {@link PreparedQueries} of the {@link SimulationObject}, which is currently updated by a thread.
+     */
+    private final ThreadLocal<PreparedQueries> currentQueries;
+
+    /**
+     * The {@link PreparedQueries} for each {@link SimulationObject} of the current update. (Same index as {@link #simulationObjects}) <br>
+     * The objects are reused by the following updates, so only a larger amount of {@link SimulationObject}s allocates new ones.
+     */
+    private PreparedQueries[] preparedQueries;
+
+    /**
+     * The amount of {@link #preparedQueries}, which are used by the current update. Is 0, if the queries were not prepared.
+     */
+    private int preparedCount;
+
     /**
      * Keeps track of the current passed time of the simulation.
      */
     private final SimulationTime simulationTime;
 
     /**
-     * Defines how many {@link SimulationObject}s can be spawned to the {@link SimulationMap}. <br>
-     * The screen should not be filled with {@link SimulationObject}.
+     * The population limit, which disables the limit.
+     */
+    public static final int NO_POPULATION_LIMIT = 0;
+
+    /**
+     * Defines how many {@link SimulationObject}s can exist at the same time. (see {@link #NO_POPULATION_LIMIT}) <br>
+     * Is configured per scenario.
+     */
+    private int populationLimit;
+
+    /**
+     * The amount of births, which were dropped, because the {@link #populationLimit} was reached.
      */
-    public static final int MAX_SIMULATION_OBJECTS = 100;
+    private int droppedBirths;
 
     /**
-     * Helper variable to determinate of we are testing or not.
+     * Below this amount of {@link SimulationObject}s the queries are not prepared in parallel, because splitting the work costs more than it saves.
      */
-    private boolean simulationIsRunning;
+    private static final int MIN_OBJECTS_FOR_PREPARATION = 32;
+
+    /**
+     * The amount of {@link SimulationObject}s, which are prepared by one fork/join task.
+     */
+    private static final int PREPARATION_BATCH_SIZE = 8;
 
     //endregion
 
     /**
-     * Constructor used for test cases. <br>
-     * We need this test contractor because {@link Json2Objects} is static and can't be mocked.
+     * Constructor for an empty {@link Simulation} on an existing {@link SimulationMap}. <br>
+     * Also used for test cases, because {@link Json2Objects} is static and can't be mocked.
      *
-     * @apiNote Do not use in production
+     * @param simulationMap The used {@link SimulationMap}.
+     * @param random        The {@link Random} used by this simulation.
      */
-    public Simulation(SimulationMap simulationMap, GraphicsContext backgroundGraphics, Random random) {
+    public Simulation(SimulationMap simulationMap, Random random) {
         this.simulationMap = simulationMap;
-        this.simulationObjects = new ArrayList<>();
-        this.backgroundGraphics = backgroundGraphics;
+        this.spatialGrid = new SpatialGrid();
+        this.freeSpaceSampler = new FreeSpaceSampler(simulationMap, spatialGrid);
+        this.dinosaurStore = new DinosaurStore();
+        this.simulationObjects = new SimulationObjectList(spatialGrid, dinosaurStore);
+        this.observers = new CopyOnWriteArrayList<>();
+        this.currentQueries = new ThreadLocal<>();
+        this.preparedQueries = new PreparedQueries[0];
         this.simulationTime = new SimulationTime();
         this.random = random;
-        this.toBeRemoved = new ArrayList<>();
-        this.toBeSpawned = new ArrayList<>();
+        this.populationLimit = NO_POPULATION_LIMIT;
     }
 
     /**
      * Constructor for a new {@link Simulation}.
      *
-     * @param landscapeName             The name of the used landscape.
-     * @param backgroundGraphicsContext The {@link GraphicsContext} for the background canvas.
-     * @param simulationOverlay         The {@link SimulationOverlay} object on which {@link SimulationObject}s are spawned.
-     * @param dinosaurs                 Map with all dinosaurs, which should be added to this simulation. Key = Dinosaur-Name Value = Amount.
-     * @param plants                    Map with all plants, which should be added to this simulation. Key = Plant-Name Value = Amount.
-     * @param plantGrowthRate           The growth rate for each plant.
-     * @param spriteLibrary             The instance of the {@link SpriteLibrary}
-     * @throws IOException see {@link Json2Objects#initSimObjects(Map, Map, double, SpriteLibrary)}
-     */
-    public Simulation(String landscapeName, GraphicsContext backgroundGraphicsContext, SimulationOverlay simulationOverlay, Map<String, Integer> dinosaurs, Map<String, Integer> plants, double plantGrowthRate, SpriteLibrary spriteLibrary) throws IOException {
-        this.random = new Random();
-        this.simulationMap = new SimulationMap(landscapeName, spriteLibrary);
-        this.backgroundGraphics = backgroundGraphicsContext;
-        this.simulationObjects = new ArrayList<>();
-        this.toBeRemoved = new ArrayList<>();
-        this.toBeSpawned = new ArrayList<>();
-
-        this.simulationTime = new SimulationTime();
+     * @param landscapeName   The name of the used landscape.
+     * @param dinosaurs       Map with all dinosaurs, which should be added to this simulation. Key = Dinosaur-Name Value = Amount.
+     * @param plants          Map with all plants, which should be added to this simulation. Key = Plant-Name Value = Amount.
+     * @param plantGrowthRate The growth rate for each plant.
+     * @param populationLimit The max amount of {@link SimulationObject}s at the same time or {@link #NO_POPULATION_LIMIT}.
+     * @param spriteMetrics   The {@link SpriteMetrics}, which gives the aspect ratios of the sprites. (e.g. {@link SpriteMetrics#SQUARE} without a graphical user interface)
+     * @throws IOException see {@link Json2Objects#initSimObjects(Map, Map, double, SpriteMetrics)}
+     */
+    public Simulation(String landscapeName, Map<String, Integer> dinosaurs, Map<String, Integer> plants, double plantGrowthRate, int populationLimit, SpriteMetrics spriteMetrics) throws IOException {
+        this(new SimulationMap(landscapeName), new Random());
+        setPopulationLimit(populationLimit);
 
-        this.simulationOverlay = simulationOverlay;
-        this.simulationObjects.addAll(Json2Objects.initSimObjects(dinosaurs, plants, plantGrowthRate, spriteLibrary));
+        this.simulationObjects.addAll(Json2Objects.initSimObjects(dinosaurs, plants, plantGrowthRate, spriteMetrics));
 
-        //Draw the map
-        drawMap();
         //Spawn the objects
         spawnObjects();
-
-        simulationIsRunning = true;
     }
 
     /**
@@ -158,31 +185,287 @@ public class Simulation {
         return simulationObjects;
     }
 
+    /**
+     * Gets the {@link DinosaurStore}, to which all {@link Dinosaur}s of this simulation are attached.
+     *
+     * @return The {@link #dinosaurStore}.
+     */
+    public DinosaurStore getDinosaurStore() {
+        return dinosaurStore;
+    }
+
+    /**
+     * Updates the stats of all {@link Dinosaur}s at once. Is called by the {@link SimulationLoop} after all objects got updated.
+     *
+     * @param deltaTime The time since the last update call in seconds.
+     * @see DinosaurStore#updateStats(double)
+     */
+    void updateDinosaurStats(double deltaTime) {
+        dinosaurStore.updateStats(deltaTime);
+    }
+
+    /**
+     * Gets the max amount of {@link SimulationObject}s, which can exist at the same time.
+     *
+     * @return The {@link #populationLimit} or {@link #NO_POPULATION_LIMIT}.
+     */
+    public int getPopulationLimit() {
+        return populationLimit;
+    }
+
+    /**
+     * Sets the max amount of {@link SimulationObject}s, which can exist at the same time.
+     *
+     * @param populationLimit The new limit or {@link #NO_POPULATION_LIMIT}. Negative values disable the limit, too.
+     */
+    public void setPopulationLimit(int populationLimit) {
+        this.populationLimit = Math.max(NO_POPULATION_LIMIT, populationLimit);
+    }
+
+    /**
+     * Gets the amount of births, which were dropped, because the population limit was reached.
+     *
+     * @return The {@link #droppedBirths}.
+     */
+    public int getDroppedBirths() {
+        return droppedBirths;
+    }
+
+    /**
+     * Gets the {@link SpatialGrid}, which holds all handled {@link SimulationObject}s.
+     *
+     * @return The {@link #spatialGrid}.
+     */
+    public SpatialGrid getSpatialGrid() {
+        return spatialGrid;
+    }
+
+    /**
+     * Attaches a {@link SimulationObserver}, e.g. a renderer. <br>
+     * The observer is not notified about already spawned {@link SimulationObject}s.
+     *
+     * @param observer The {@link SimulationObserver}.
+     */
+    public void addObserver(SimulationObserver observer) {
+        observers.add(observer);
+    }
+
+    /**
+     * Detaches a {@link SimulationObserver}.
+     *
+     * @param observer The {@link SimulationObserver}.
+     */
+    public void removeObserver(SimulationObserver observer) {
+        observers.remove(observer);
+    }
+
+    /**
+     * Notifies all {@link #observers} about a new frame.
+     *
+     * @see SimulationObserver#onFrame(Simulation)
+     */
+    void notifyFrame() {
+        for (SimulationObserver observer : observers) {
+            observer.onFrame(this);
+        }
+    }
+
+    /**
+     * Notifies all {@link #observers}, that the {@link SimulationLoop} had to drop updates.
+     *
+     * @param droppedUpdates The amount of dropped updates.
+     * @see SimulationObserver#onUpdatesDropped(Simulation, int)
+     */
+    void notifyUpdatesDropped(int droppedUpdates) {
+        for (SimulationObserver observer : observers) {
+            observer.onUpdatesDropped(this, droppedUpdates);
+        }
+    }
+
+    /**
+     * Notifies all {@link #observers}, that this simulation is finished.
+     *
+     * @param loopTime The time the {@link SimulationLoop} was running.
+     * @see SimulationObserver#onSimulationFinished(Simulation, SimulationTime)
+     */
+    void notifySimulationFinished(SimulationTime loopTime) {
+        for (SimulationObserver observer : observers) {
+            observer.onSimulationFinished(this, loopTime);
+        }
+    }
+
+    /**
+     * Decision phase of an update. <br>
+     * Each {@link SimulationObject} issues the world queries of its next update in parallel. (see {@link SimulationObject#prepare(Simulation)}) <br>
+     * No object is changed in this phase, so every object sees the same unchanged world. The random queries use a seed per object,
+     * which is drawn in list order, so the results don't depend on the thread scheduling.
+     *
+     * @param forkJoinPool The {@link ForkJoinPool}, which runs the preparation, or null to prepare all objects one after another on the calling thread.
+     *                     Both ways record the same results.
+     * @see #selectPreparedQueries(int)
+     */
+    void prepareQueries(ForkJoinPool forkJoinPool) {
+        int size = simulationObjects.size();
+        preparedCount = 0;
+        if (size < MIN_OBJECTS_FOR_PREPARATION)
+            return;
+
+        if (preparedQueries.length < size) {
+            int oldLength = preparedQueries.length;
+            preparedQueries = Arrays.copyOf(preparedQueries, Math.max(size, 2 * oldLength));
+            for (int i = oldLength; i < preparedQueries.length; i++) {
+                preparedQueries[i] = new PreparedQueries(0);
+            }
+        }
+        for (int i = 0; i < size; i++) {
+            preparedQueries[i].reset(random.nextLong());
+        }
+        preparedCount = size;
+
+        if (forkJoinPool != null)
+            forkJoinPool.invoke(new PrepareTask(0, size));
+        else
+            prepareRange(0, size);
+
+        for (int i = 0; i < size; i++) {
+            preparedQueries[i].stopRecording();
+        }
+    }
+
+    /**
+     * Uses the prepared queries of a {@link SimulationObject} for the following queries of the calling thread. <br>
+     * Used in the apply phase of an update, in which all objects are updated one after another in list order.
+     * So conflicts (e.g. two predators want to eat the same prey or two dinosaurs want to move to the same free spot) are resolved in list order:
+     * Each prepared result is checked again against the objects, which got updated before, and is computed again, if it is not valid anymore.
+     *
+     * @param index The index of the {@link SimulationObject}, which is updated next.
+     */
+    void selectPreparedQueries(int index) {
+        //The entry of the thread is kept, so selecting the queries of each object does not allocate.
+        currentQueries.set(index < preparedCount ? preparedQueries[index] : null);
+    }
+
+    /**
+     * Discards all prepared queries at the end of an update.
+     */
+    void clearPreparedQueries() {
+        currentQueries.remove();
+        preparedCount = 0;
+    }
+
+    /**
+     * Gets the {@link Random} for random queries. While recording prepared queries, the {@link Random} of the {@link PreparedQueries} is used.
+     *
+     * @return The {@link Random} for the current thread.
+     */
+    private Random queryRandom() {
+        PreparedQueries queries = currentQueries.get();
+        if (queries != null && queries.isRecording())
+            return queries.getRandom();
+        return random;
+    }
+
+    /**
+     * Prepares the queries for a range of {@link SimulationObject}s on the calling thread.
+     *
+     * @param from The first index. (inclusive)
+     * @param to   The last index. (exclusive)
+     */
+    private void prepareRange(int from, int to) {
+        for (int i = from; i < to; i++) {
+            currentQueries.set(preparedQueries[i]);
+            try {
+                simulationObjects.get(i).prepare(this);
+            } finally {
+                currentQueries.set(null);
+            }
+        }
+    }
+
+    /**
+     * Fork/Join task, which prepares the queries for a range of {@link SimulationObject}s.
+     */
+    private final class PrepareTask extends RecursiveAction {
+
+        @Serial
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+        private final int to;
+
+        /**
+         * Constructor
+         *
+         * @param from The first index. (inclusive)
+         * @param to   The last index. (exclusive)
+         */
+        private PrepareTask(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= PREPARATION_BATCH_SIZE) {
+                prepareRange(from, to);
+            } else {
+                int mid = (from + to) >>> 1;
+                invokeAll(new PrepareTask(from, mid), new PrepareTask(mid, to));
+            }
+        }
+    }
+
     /**
      * Checks if a simulation is finished.
      *
      * @return true when all {@link Dinosaur}s are extinct.
      */
     public boolean isOver() {
-        for (SimulationObject simulationObject : simulationObjects) {
-            if (simulationObject instanceof Dinosaur)
-                return false;
-        }
-        return true;
+        return simulationObjects.getDinosaurCount() == 0;
+    }
+
+    /**
+     * Gets the amount of living {@link Dinosaur}s.
+     *
+     * @return The amount of {@link Dinosaur}s in the {@link #simulationObjects}.
+     */
+    public int getLivingDinosaurs() {
+        return simulationObjects.getDinosaurCount();
     }
 
     /**
-     * Remove all tagged {@link SimulationObject} out of the handled {@link #simulationObjects}.
+     * Gets the amount of living {@link Dinosaur}s of a species.
      *
-     * @see #toBeRemoved
+     * @param speciesId The interned species id. (see {@link Dinosaur#getSpeciesId()})
+     * @return The amount of {@link Dinosaur}s of the species in the {@link #simulationObjects}.
+     */
+    public int getLivingDinosaurs(int speciesId) {
+        return simulationObjects.getSpeciesCount(speciesId);
+    }
+
+    /**
+     * Gets the amount of {@link Plant}s.
+     *
+     * @return The amount of {@link Plant}s in the {@link #simulationObjects}.
+     */
+    public int getPlantCount() {
+        return simulationObjects.getPlantCount();
+    }
+
+    /**
+     * Remove all tagged {@link SimulationObject} out of the handled {@link #simulationObjects}. <br>
+     * Each removal is O(1), because the last {@link SimulationObject} is moved into the freed slot.
+     *
+     * @see #deleteObject(SimulationObject)
      */
     public void removeDeletedObjects() {
-        simulationObjects.removeAll(toBeRemoved);
-        toBeRemoved.clear();
+        simulationObjects.applyPendingRemovals();
     }
 
     /**
      * Method that spawns the {@link SimulationObject}s of the list {@link Simulation#simulationObjects} to the map.
+     *
+     * @throws IllegalStateException If there is not enough free space on the map for all {@link SimulationObject}s.
      */
     private void spawnObjects() {
         //First spawn all plants
@@ -190,8 +473,6 @@ public class Simulation {
             Plant plant = (Plant) simulationObject;
             //Plants only can be spawned on tiles, which allow plant growing
             plant.setPosition(getFreePositionInMapWhereConditionsAre(false, false, true, plant.getInteractionRange() + 10, plant.getRenderOffset()));
-            this.simulationOverlay.centerPane.getChildren().add(plant.getSelectionRing());
-            this.simulationOverlay.centerPane.getChildren().add(plant.getJavaFXObj());
         });
 
         //Then spawn all dinosaurs
@@ -200,50 +481,114 @@ public class Simulation {
             //If we are a dinosaur get a free position, where the dinosaur can walk on.
             dinosaur.setPosition(getFreePositionInMap(dinosaur.canSwim(), dinosaur.canClimb(), dinosaur.getInteractionRange(), dinosaur.getRenderOffset()));
             dinosaur.setTimeOfBirth(simulationTime.getTime());
-
-            //Add the click listener
-            dinosaur.getJavaFXObj().addEventHandler(MouseEvent.MOUSE_CLICKED, event -> simulationOverlay.dinosaurClicked(dinosaur));
-
-            this.simulationOverlay.centerPane.getChildren().add(dinosaur.getSelectionRing());
-            this.simulationOverlay.centerPane.getChildren().add(dinosaur.getJavaFXObj());
         });
     }
 
     /**
-     * Add a {@link SimulationObject}, which should be removed from the handled {@link #simulationObjects}, to the {@link #toBeRemoved} list.
-     * The object is also been removed from the visuals.
+     * Tags a {@link SimulationObject}, which should be removed from the handled {@link #simulationObjects} at the end of a {@link SimulationLoop} update.
+     * All {@link #observers} are notified about the removal.
      *
      * @param simulationObject The {@link SimulationObject} which should be removed.
+     * @see SimulationObserver#onSimulationObjectRemoved(SimulationObject)
      */
     public void deleteObject(SimulationObject simulationObject) {
-        this.toBeRemoved.add(simulationObject);
-        Platform.runLater(() -> {
-            simulationOverlay.centerPane.getChildren().remove(simulationObject.getSelectionRing());
-            simulationOverlay.centerPane.getChildren().remove(simulationObject.getJavaFXObj());
-        });
+        simulationObjects.queueRemoval(simulationObject);
+        for (SimulationObserver observer : observers) {
+            observer.onSimulationObjectRemoved(simulationObject);
+        }
+    }
+
+    /**
+     * Gets the closest reachable Water source or null.
+     *
+     * @param position  The {@link Vector2D} position, where we check from.
+     * @param viewRange The radial range, we want to check (as radius)
+     * @param canSwim   Does the object, who wants to move to a water tile, can swim?
+     * @param canClimb  Does the object, who wants to move to a water tile, can climb?
+     * @return A {@link Vector2D} target of a water tile or null.
+     */
+    public Vector2D getClosestReachableWaterSource(Vector2D position, double viewRange, boolean canSwim, boolean canClimb) {
+        PreparedQueries queries = currentQueries.get();
+        if (queries == null)
+            return findClosestReachableWaterSource(position, viewRange, canSwim, canClimb);
+        //A prepared water source could got blocked by an object, which got updated before.
+        return queries.get(PreparedQueries.Query.WATER_SOURCE, position, () -> findClosestReachableWaterSource(position, viewRange, canSwim, canClimb),
+                result -> result == null || isMovementStillFree(position, result, 0, null, true));
     }
 
     /**
-     * Draws the simulation background
+     * Searches the closest reachable Water source. <br>
+     * The {@link WaterDistanceField} of the map answers first: A water tile, which can be reached on a straight line, is never
+     * less rings of tiles away than the distance of the field. So the tiles are searched ring by ring, starting at this distance,
+     * and the search ends, if no tile of the next ring can be closer than the closest reachable water tile. <br>
+     * If no water tile in range can be reached on a straight line, the nearest water tile of the field is used, if its path (see {@link PathFinder})
+     * is not longer than the view range.
+     *
+     * @param position  The {@link Vector2D} position, where we check from.
+     * @param viewRange The radial range, we want to check (as radius)
+     * @param canSwim   Does the object, who wants to move to a water tile, can swim?
+     * @param canClimb  Does the object, who wants to move to a water tile, can climb?
+     * @return A {@link Vector2D} target of a water tile or null.
+     * @see #getClosestReachableWaterSource(Vector2D, double, boolean, boolean)
      */
-    private void drawMap() {
-        backgroundGraphics.setFill(Color.BLACK);
-        backgroundGraphics.fillRect(0, 0, SimulationOverlay.BACKGROUND_WIDTH, SimulationOverlay.BACKGROUND_HEIGHT);
+    private Vector2D findClosestReachableWaterSource(Vector2D position, double viewRange, boolean canSwim, boolean canClimb) {
+        WaterDistanceField waterDistanceField = simulationMap.getWaterDistanceField();
+        if (waterDistanceField == null)
+            return findClosestReachableWaterSourceInRange(position, viewRange, canSwim, canClimb);
 
-        Tile[][] tiles = simulationMap.getTiles();
-        for (int x = 0; x < tiles.length; x++) {
-            for (int y = 0; y < tiles[0].length; y++) {
-                backgroundGraphics.drawImage(
-                        tiles[x][y].getBackground(),
-                        x * Tile.TILE_SIZE,
-                        y * Tile.TILE_SIZE
-                );
+        Tile startTile = simulationMap.getTileAtPosition(position);
+        if (startTile == null)
+            return null;
+
+        int startX = startTile.getGridX();
+        int startY = startTile.getGridY();
+        int fieldDistance = waterDistanceField.getDistance(startX, startY, canSwim, canClimb);
+        if (fieldDistance == WaterDistanceField.UNREACHABLE)
+            return null;
+
+        //A straight line to a water tile in range crosses at most this amount of rings.
+        int maxRing = (int) Math.ceil(viewRange / Tile.TILE_SIZE) + 1;
+        Vector2D closest = null;
+        double closestDistanceSq = Double.POSITIVE_INFINITY;
+        for (int ring = fieldDistance; ring <= maxRing; ring++) {
+            //The position is inside the start tile, so each tile center of this ring is at least (ring - 0.5) tiles away.
+            double ringDistance = Math.max(0, ring - 0.5) * Tile.TILE_SIZE;
+            if (ringDistance * ringDistance > closestDistanceSq)
+                break;
+
+            for (int dy = -ring; dy <= ring; dy++) {
+                //Only the border of the ring. (All x values in the first and last row, otherwise only the first and last column)
+                int step = dy == -ring || dy == ring ? 1 : Math.max(1, 2 * ring);
+                for (int dx = -ring; dx <= ring; dx += step) {
+                    Tile tile = simulationMap.getTileAtPosition(startX + dx, startY + dy);
+                    if (tile == null || !tile.isSwimmable() || tile.isClimbable())
+                        continue;
+
+                    Vector2D center = simulationMap.getCenterPositionOfTile(tile);
+                    double distanceSq = Vector2D.distanceSq(position, center);
+                    if (distanceSq < closestDistanceSq && isPointInsideCircle(position, viewRange, center)
+                            && isMovementPossible(position, center, 0, canSwim, canClimb, null, true, true, null)) {
+                        closest = center;
+                        closestDistanceSq = distanceSq;
+                    }
+                }
             }
         }
+        if (closest != null)
+            return closest;
+
+        //No water tile can be reached on a straight line. The distance field counts the steps of the shortest way around the obstacles.
+        Tile nearestWater = waterDistanceField.getNearestWaterTile(startX, startY, canSwim, canClimb);
+        if (nearestWater != null && simulationMap.getPathFinder() != null && (double) fieldDistance * Tile.TILE_SIZE <= viewRange) {
+            Vector2D vector = simulationMap.getCenterPositionOfTile(nearestWater);
+            if (getPath(position, vector, canSwim, canClimb, true) != null)
+                return vector;
+        }
+        return null;
     }
 
     /**
-     * Gets the closest reachable Water source or null.
+     * Searches the closest reachable Water source by checking all water tiles in range. Is used, if the map has no {@link WaterDistanceField}.
      *
      * @param position  The {@link Vector2D} position, where we check from.
      * @param viewRange The radial range, we want to check (as radius)
@@ -251,16 +596,14 @@ public class Simulation {
      * @param canClimb  Does the object, who wants to move to a water tile, can climb?
      * @return A {@link Vector2D} target of a water tile or null.
      */
-    public Vector2D getClosestReachableWaterSource(Vector2D position, double viewRange, boolean canSwim, boolean canClimb) {
+    private Vector2D findClosestReachableWaterSourceInRange(Vector2D position, double viewRange, boolean canSwim, boolean canClimb) {
         List<Vector2D> waterSourcesInRange = simulationMap.getMidCoordinatesTilesWhereConditionsAre(position, viewRange, true, false);
 
         sortByDistance(waterSourcesInRange, position);
 
-        if (!waterSourcesInRange.isEmpty()) {
-            for (Vector2D vector : waterSourcesInRange) {
-                if (isPointInsideCircle(position, viewRange, vector) && canMoveTo(position, vector, 0, canSwim, canClimb, null, true, true, null)) {
-                    return vector;
-                }
+        for (Vector2D vector : waterSourcesInRange) {
+            if (isPointInsideCircle(position, viewRange, vector) && isMovementPossible(position, vector, 0, canSwim, canClimb, null, true, true, null)) {
+                return vector;
             }
         }
         return null;
@@ -273,14 +616,37 @@ public class Simulation {
      * @param viewRange        The view range (as radius) of the seeker.
      * @param interactionRange The interaction range of the seeker.
      * @param dietType         The {@link Dinosaur.dietType} of the seeker.
-     * @param type             The type of the seeker. (e.g. Tyrannosaurus Rex)
+     * @param speciesId        The interned species id of the seeker. (see {@link SpeciesRegistry})
      * @param strength         The strength of the seeker.
      * @return The closest {@link SimulationObject}s in range.
      */
-    public SimulationObject getClosestReachableFoodSourceInRange(Vector2D position, double viewRange, double interactionRange, Dinosaur.dietType dietType, String type,
+    public SimulationObject getClosestReachableFoodSourceInRange(Vector2D position, double viewRange, double interactionRange, Dinosaur.dietType dietType, int speciesId,
                                                                  boolean canSwim, boolean canClimb, double strength) {
+        PreparedQueries queries = currentQueries.get();
+        if (queries == null)
+            return findClosestReachableFoodSourceInRange(position, viewRange, interactionRange, dietType, speciesId, canSwim, canClimb, strength);
+        //A prepared food source could got eaten or removed by an object, which got updated before.
+        return queries.get(PreparedQueries.Query.FOOD_SOURCE, position,
+                () -> findClosestReachableFoodSourceInRange(position, viewRange, interactionRange, dietType, speciesId, canSwim, canClimb, strength),
+                result -> result == null || spatialGrid.contains(result) && result.canBeEaten(strength));
+    }
+
+    /**
+     * Searches the closest {@link SimulationObject} which can be eaten by the searcher {@link Dinosaur}
+     *
+     * @param position         The {@link Vector2D} position of the seeker.
+     * @param viewRange        The view range (as radius) of the seeker.
+     * @param interactionRange The interaction range of the seeker.
+     * @param dietType         The {@link Dinosaur.dietType} of the seeker.
+     * @param speciesId        The interned species id of the seeker. (see {@link SpeciesRegistry})
+     * @param strength         The strength of the seeker.
+     * @return The closest {@link SimulationObject}s in range.
+     * @see #getClosestReachableFoodSourceInRange(Vector2D, double, double, Dinosaur.dietType, int, boolean, boolean, double)
+     */
+    private SimulationObject findClosestReachableFoodSourceInRange(Vector2D position, double viewRange, double interactionRange, Dinosaur.dietType dietType, int speciesId,
+                                                                   boolean canSwim, boolean canClimb, double strength) {
 
-        List<SimulationObject> inRange = findReachableFoodSourcesInRange(position, viewRange, interactionRange, dietType, type, canSwim, canClimb, strength);
+        List<SimulationObject> inRange = findReachableFoodSourcesInRange(position, viewRange, interactionRange, dietType, speciesId, canSwim, canClimb, strength);
 
         if (dietType != Dinosaur.dietType.OMNIVORE) {
             sortByDistance(position, inRange);
@@ -296,7 +662,7 @@ public class Simulation {
                 } else {
                     if (closest instanceof Plant && simulationObject instanceof Plant || closest instanceof Dinosaur && simulationObject instanceof Dinosaur) {
                         //If the distance of the last closest object ist lager than the distance of the current object, which is being checked, set it to the current object.
-                        if (Vector2D.distance(position, closest.getPosition()) > Vector2D.distance(position, simulationObject.getPosition())) {
+                        if (Vector2D.distanceSq(position, closest.getPosition()) > Vector2D.distanceSq(position, simulationObject.getPosition())) {
                             closest = simulationObject;
                         }
                     } else if (!(closest instanceof Plant) && simulationObject instanceof Plant) {
@@ -316,15 +682,16 @@ public class Simulation {
      * @param viewRange        The view range (as radius) of the seeker.
      * @param interactionRange The interaction range of the {@link Dinosaur}
      * @param dietType         The {@link Dinosaur.dietType} of the seeker.
-     * @param type             The type of the seeker. (e.g. Tyrannosaurus Rex)
+     * @param speciesId        The interned species id of the seeker. (see {@link SpeciesRegistry})
      * @return A list with all eatable {@link SimulationObject}s in range.
      */
-    private List<SimulationObject> findReachableFoodSourcesInRange(Vector2D position, double viewRange, double interactionRange, Dinosaur.dietType dietType, String type,
+    private List<SimulationObject> findReachableFoodSourcesInRange(Vector2D position, double viewRange, double interactionRange, Dinosaur.dietType dietType, int speciesId,
                                                                    boolean canSwim, boolean canClimb, double strength) {
 
         List<SimulationObject> inRange = new ArrayList<>();
 
-        for (SimulationObject simulationObject : simulationObjects) {
+        //Only objects, whose interaction range can reach into the view range, need to be checked.
+        for (SimulationObject simulationObject : spatialGrid.getObjectsInRange(position, Math.abs(viewRange) + spatialGrid.getMaxInteractionRange())) {
             if (simulationObject.getPosition() != position) {
                 if (doTheCirclesIntersect(position, viewRange, simulationObject.getPosition(), simulationObject.getInteractionRange())) {
                     if (dietType == Dinosaur.dietType.HERBIVORE && simulationObject instanceof Plant plant) {
@@ -332,19 +699,19 @@ public class Simulation {
                             inRange.add(plant);
                     } else if (dietType == Dinosaur.dietType.CARNIVORE && simulationObject instanceof Dinosaur dinosaur) {
                         //We don't want to hunt a dinosaur who is the same type as the searcher.
-                        if (!dinosaur.getType().equalsIgnoreCase(type) && dinosaur.canBeEaten(strength)) {
+                        if (dinosaur.getSpeciesId() != speciesId && dinosaur.canBeEaten(strength)) {
                             inRange.add(dinosaur);
                         }
                     } else if (dietType == Dinosaur.dietType.OMNIVORE) {
                         //It's an omnivore
                         if ((simulationObject instanceof Plant plant) && plant.canBeEaten(strength) ||
-                                (simulationObject instanceof Dinosaur dinosaur) && dinosaur.canBeEaten(strength) && !dinosaur.getType().equalsIgnoreCase(type))
+                                (simulationObject instanceof Dinosaur dinosaur) && dinosaur.canBeEaten(strength) && dinosaur.getSpeciesId() != speciesId)
                             inRange.add(simulationObject);
                     }
                 }
             }
         }
-        inRange.removeIf(simulationObject -> !canMoveTo(position, simulationObject.getPosition(), interactionRange, canSwim, canClimb, null, true, false, inRange));
+        inRange.removeIf(simulationObject -> !isMovementPossible(position, simulationObject.getPosition(), interactionRange, canSwim, canClimb, null, true, false, inRange));
         return inRange;
     }
 
@@ -355,16 +722,39 @@ public class Simulation {
      *
      * @param position  The position of the {@link Dinosaur} who is looking for a mate.
      * @param viewRange The view range of the {@link Dinosaur} who is looking for a mate.
-     * @param type      The type of the {@link Dinosaur} who is looking for a mate.
+     * @param speciesId The interned species id of the {@link Dinosaur} who is looking for a mate.
      * @param canSwim   Does the {@link Dinosaur}, who is looking for a mate, can swim?
      * @param canClimb  Does the {@link Dinosaur}, who is looking for a mate, can climb?
      * @param gender    The gender of the {@link Dinosaur} who is looking for a mate.
      * @return A possible partner or null.
-     * @see #findReachableSuitablePartnersInRange(Vector2D, double, String, boolean, boolean, char)
+     * @see #findReachableSuitablePartnersInRange(Vector2D, double, int, boolean, boolean, char)
      */
-    public SimulationObject getClosestReachableSuitablePartnerInRange(Vector2D position, double viewRange, String type,
+    public SimulationObject getClosestReachableSuitablePartnerInRange(Vector2D position, double viewRange, int speciesId,
                                                                       boolean canSwim, boolean canClimb, char gender) {
-        List<SimulationObject> inRange = findReachableSuitablePartnersInRange(position, viewRange, type, canSwim, canClimb, gender);
+        PreparedQueries queries = currentQueries.get();
+        if (queries == null)
+            return findClosestReachableSuitablePartnerInRange(position, viewRange, speciesId, canSwim, canClimb, gender);
+        //A prepared partner could got another partner by an object, which got updated before.
+        return queries.get(PreparedQueries.Query.PARTNER, position,
+                () -> findClosestReachableSuitablePartnerInRange(position, viewRange, speciesId, canSwim, canClimb, gender),
+                result -> result == null || spatialGrid.contains(result) && result instanceof Dinosaur partner && partner.getPartner() == null && partner.isWillingToMate());
+    }
+
+    /**
+     * Searches the closest suitable dinosaur partner for reproduction.
+     *
+     * @param position  The position of the {@link Dinosaur} who is looking for a mate.
+     * @param viewRange The view range of the {@link Dinosaur} who is looking for a mate.
+     * @param speciesId The interned species id of the {@link Dinosaur} who is looking for a mate.
+     * @param canSwim   Does the {@link Dinosaur}, who is looking for a mate, can swim?
+     * @param canClimb  Does the {@link Dinosaur}, who is looking for a mate, can climb?
+     * @param gender    The gender of the {@link Dinosaur} who is looking for a mate.
+     * @return A possible partner or null.
+     * @see #getClosestReachableSuitablePartnerInRange(Vector2D, double, int, boolean, boolean, char)
+     */
+    private SimulationObject findClosestReachableSuitablePartnerInRange(Vector2D position, double viewRange, int speciesId,
+                                                                        boolean canSwim, boolean canClimb, char gender) {
+        List<SimulationObject> inRange = findReachableSuitablePartnersInRange(position, viewRange, speciesId, canSwim, canClimb, gender);
 
         sortByDistance(position, inRange);
         if (!inRange.isEmpty())
@@ -376,7 +766,7 @@ public class Simulation {
     /**
      * @param position  The position of the {@link Dinosaur} who is looking for a mate.
      * @param viewRange The view range of the {@link Dinosaur} who is looking for a mate.
-     * @param type      The type of the {@link Dinosaur} who is looking for a mate.
+     * @param speciesId The interned species id of the {@link Dinosaur} who is looking for a mate.
      * @param canSwim   Does the {@link Dinosaur}, who is looking for a mate, can swim?
      * @param canClimb  Does the {@link Dinosaur}, who is looking for a mate, can climb?
      * @param gender    The gender of the {@link Dinosaur} who is looking for a mate.
@@ -384,22 +774,22 @@ public class Simulation {
      * @see #doTheCirclesIntersect(Vector2D, double, Vector2D, double)
      * @see #canMoveTo(Vector2D, Vector2D, double, boolean, boolean, Vector2D, boolean, boolean, List)
      */
-    private List<SimulationObject> findReachableSuitablePartnersInRange(Vector2D position, double viewRange, String type,
+    private List<SimulationObject> findReachableSuitablePartnersInRange(Vector2D position, double viewRange, int speciesId,
                                                                         boolean canSwim, boolean canClimb, char gender) {
         List<SimulationObject> inRange = new ArrayList<>();
 
-        for (SimulationObject simulationObject : simulationObjects) {
+        for (SimulationObject simulationObject : spatialGrid.getObjectsInRange(position, Math.abs(viewRange) + spatialGrid.getMaxInteractionRange())) {
 
             if (simulationObject.getPosition() != position) {
                 if (doTheCirclesIntersect(position, viewRange, simulationObject.getPosition(), simulationObject.getInteractionRange())) {
-                    if (simulationObject instanceof Dinosaur dinosaur && dinosaur.getPartner() == null && dinosaur.getType().equalsIgnoreCase(type) && dinosaur.getGender() != gender && dinosaur.isWillingToMate()) {
+                    if (simulationObject instanceof Dinosaur dinosaur && dinosaur.getPartner() == null && dinosaur.getSpeciesId() == speciesId && dinosaur.getGender() != gender && dinosaur.isWillingToMate()) {
                         inRange.add(dinosaur);
                     }
                 }
             }
         }
 
-        inRange.removeIf(simulationObject -> !canMoveTo(position, simulationObject.getPosition(), 0, canSwim, canClimb, null, true, true, inRange));
+        inRange.removeIf(simulationObject -> !isMovementPossible(position, simulationObject.getPosition(), 0, canSwim, canClimb, null, true, true, inRange));
 
         return inRange;
     }
@@ -416,8 +806,11 @@ public class Simulation {
      */
     public void makeBaby(Dinosaur mother, Dinosaur father) {
 
-        //Don't spawn to many objects.
-        if (simulationObjects.size() + toBeSpawned.size() >= MAX_SIMULATION_OBJECTS) return;
+        //Don't spawn more objects than the configured limit allows.
+        if (populationLimit > NO_POPULATION_LIMIT && simulationObjects.size() + simulationObjects.getPendingAdditionCount() >= populationLimit) {
+            droppedBirths++;
+            return;
+        }
 
         double strength = inheritValue(mother.getStrength(), father.getStrength());
         double speed = inheritValue(mother.getSpeed(), father.getSpeed());
@@ -434,9 +827,10 @@ public class Simulation {
         else
             gender = 'f';
 
+        //The baby shares the species of the mother, only the individual values are inherited.
         Dinosaur baby = new Dinosaur(
-                mother.getType(), mother.getJavaFXObj().getImage(), nutrition, hydration, strength, speed,
-                reproductionRate, weight, length, height, mother.canSwim(), mother.canClimb(), mother.getCharDiet(), mother.getRealViewRange(), mother.getRealInteractionRange(), gender);
+                mother.getSpecies(), nutrition, hydration, strength, speed,
+                reproductionRate, weight, length, height, mother.getRealViewRange(), mother.getRealInteractionRange(), gender);
 
         Vector2D spawnPoint = getNearestPositionInMapWhereConditionsAre(mother.getPosition(), mother.getInteractionRange(), baby.canSwim(), baby.canClimb(), baby.getInteractionRange());
 
@@ -469,7 +863,7 @@ public class Simulation {
         while (maximumAttempts > 0) {
 
             for (Vector2D pos : positions) {
-                if (!doesPointWithRangeIntersectAnyInteractionRange(pos, interactionRange, null)) {
+                if (!doesPointWithRangeIntersectAnyInteractionRange(pos, interactionRange, null, null)) {
                     return pos;
                 }
             }
@@ -505,33 +899,32 @@ public class Simulation {
     }
 
     /**
-     * Spawns a new {@link SimulationObject} to the {@link SimulationMap}.
+     * Spawns a new {@link SimulationObject} to the {@link SimulationMap}. <br>
+     * All {@link #observers} are notified about the new object.
      *
      * @param simulationObject The {@link SimulationObject}.
+     * @see SimulationObserver#onSimulationObjectSpawned(SimulationObject)
      */
     private void spawnObject(SimulationObject simulationObject) {
         if (simulationObject instanceof Dinosaur dinosaur) {
             dinosaur.setTimeOfBirth(simulationTime.getTime());
-            dinosaur.getJavaFXObj().addEventHandler(MouseEvent.MOUSE_CLICKED, event -> simulationOverlay.dinosaurClicked(dinosaur));
         }
 
-        this.toBeSpawned.add(simulationObject);
+        simulationObjects.queueAddition(simulationObject);
 
-        //Don't do JavaFX related stuff in test mode
-        if(simulationIsRunning){
-            Platform.runLater(() -> simulationOverlay.centerPane.getChildren().add(simulationObject.getSelectionRing()));
-            Platform.runLater(() -> simulationOverlay.centerPane.getChildren().add(simulationObject.getJavaFXObj()));
+        for (SimulationObserver observer : observers) {
+            observer.onSimulationObjectSpawned(simulationObject);
         }
     }
 
     /**
-     * Adds all tagged {@link SimulationObject} out of the handled {@link #simulationObjects}.
+     * Adds all tagged {@link SimulationObject} out of the handled {@link #simulationObjects}. <br>
+     * Removals, which are still pending, are applied first. (see {@link SimulationObjectList#applyPendingAdditions()})
      *
-     * @see #toBeSpawned
+     * @see #spawnObject(SimulationObject)
      */
     public void spawnNewObjects() {
-        simulationObjects.addAll(toBeSpawned);
-        toBeSpawned.clear();
+        simulationObjects.applyPendingAdditions();
     }
 
     /**
@@ -541,7 +934,7 @@ public class Simulation {
      * @param list     The list with the {@link SimulationObject}, which should be sorted.
      */
     public void sortByDistance(Vector2D position, List<SimulationObject> list) {
-        list.sort(Comparator.comparingDouble(o -> Vector2D.distance(position, o.getPosition())));
+        list.sort(Comparator.comparingDouble(o -> Vector2D.distanceSq(position, o.getPosition())));
     }
 
     /**
@@ -551,7 +944,7 @@ public class Simulation {
      * @param list     The list with the {@link Vector2D}, which should be sorted.
      */
     public void sortByDistance(List<Vector2D> list, Vector2D position) {
-        list.sort(Comparator.comparingDouble(o -> Vector2D.distance(position, o)));
+        list.sort(Comparator.comparingDouble(o -> Vector2D.distanceSq(position, o)));
     }
 
     /**
@@ -561,14 +954,15 @@ public class Simulation {
      * @param canClimb         Can the {@link Dinosaur} climb.
      * @param interactionRange The interaction range for the object, which wants to check this position, so that the target does not intersect with any other interaction range.
      * @return A random {@link Vector2D} position.
+     * @throws IllegalStateException If no tile the {@link Dinosaur} can walk on has enough free space left.
      */
     private Vector2D getFreePositionInMap(boolean canSwim, boolean canClimb, double interactionRange, Vector2D renderOffset) {
-        //Iterative because of stackoverflow errors
-        Vector2D target = simulationMap.getRandomTileCenterPosition(canSwim, canClimb, random);
-        while (target == null || doesPointWithRangeIntersectAnyInteractionRange(target, interactionRange, null) || SimulationObject.willBeRenderedOutside(target, renderOffset)
-                || !simulationMap.checkIfNeighborTilesMatchConditions(target, canSwim, canClimb, interactionRange)) {
-            target = simulationMap.getRandomTileCenterPosition(canSwim, canClimb, random);
-        }
+        Vector2D target = getRandomFreeTileCenter(simulationMap.getTileIndex().getMatchingTiles(canSwim, canClimb),
+                center -> !doesPointWithRangeIntersectAnyInteractionRange(center, interactionRange, null, null) && !SimulationObject.willBeRenderedOutside(center, renderOffset)
+                        && simulationMap.checkIfNeighborTilesMatchConditions(center, canSwim, canClimb, interactionRange));
+        if (target == null)
+            throw new IllegalStateException("There is no free position left on the map for a dinosaur (canSwim=" + canSwim + ", canClimb=" + canClimb
+                    + ", interactionRange=" + interactionRange + "). Reduce the amount of simulation objects.");
         return target;
     }
 
@@ -580,36 +974,56 @@ public class Simulation {
      * @param allowPlants      Does the tile need to allow plants?
      * @param interactionRange The interaction range for the object, which wants to check this position, so that the target does not intersect with any other interaction range.
      * @return A random {@link Vector2D} position.
+     * @throws IllegalStateException If no tile with the conditions has enough free space left.
      */
     private Vector2D getFreePositionInMapWhereConditionsAre(boolean swimmable, boolean climbable, boolean allowPlants, double interactionRange, Vector2D renderOffset) {
-        //Iterative because of stackoverflow errors
-        Vector2D target = simulationMap.getRandomTileCenterPositionWhereConditionsAre(swimmable, climbable, allowPlants, random);
-        while (target == null || doesPointWithRangeIntersectAnyInteractionRange(target, interactionRange, null) || SimulationObject.willBeRenderedOutside(target, renderOffset)
-                || !simulationMap.checkIfNeighborTilesHasConditions(target, swimmable, climbable, allowPlants, interactionRange)) {
-            target = simulationMap.getRandomTileCenterPositionWhereConditionsAre(swimmable, climbable, allowPlants, random);
-        }
+        Vector2D target = getRandomFreeTileCenter(simulationMap.getTileIndex().getTilesWhereConditionsAre(swimmable, climbable, allowPlants),
+                center -> !doesPointWithRangeIntersectAnyInteractionRange(center, interactionRange, null, null) && !SimulationObject.willBeRenderedOutside(center, renderOffset)
+                        && simulationMap.checkIfNeighborTilesHasConditions(center, swimmable, climbable, allowPlants, interactionRange));
+        if (target == null)
+            throw new IllegalStateException("There is no free position left on the map for a plant (swimmable=" + swimmable + ", climbable=" + climbable
+                    + ", allowPlants=" + allowPlants + ", interactionRange=" + interactionRange + "). Reduce the amount of simulation objects.");
         return target;
     }
 
+    /**
+     * Gets the center of a random {@link Tile}, which is free. <br>
+     * The candidate tiles are visited in a random order without repetition (a lazy Fisher-Yates shuffle),
+     * so each tile is checked at most once and the search ends after all candidates were checked.
+     *
+     * @param candidates All {@link Tile}s, which can be used.
+     * @param isFree     Checks, if the center of a {@link Tile} is free.
+     * @return The center {@link Vector2D} of a free {@link Tile} or null, if no candidate is free.
+     */
+    private Vector2D getRandomFreeTileCenter(List<Tile> candidates, Predicate<Vector2D> isFree) {
+        int[] order = new int[candidates.size()];
+        for (int i = 0; i < order.length; i++)
+            order[i] = i;
+
+        for (int i = 0; i < order.length; i++) {
+            int j = random.nextInt(i, order.length);
+            int candidate = order[j];
+            order[j] = order[i];
+            order[i] = candidate;
+
+            Vector2D center = simulationMap.getCenterPositionOfTile(candidates.get(candidate));
+            if (isFree.test(center))
+                return center;
+        }
+        return null;
+    }
+
     /**
      * Checks, if a point with a range (a circle) intersect any interaction range.
      *
      * @param target           The target {@link Vector2D} point
      * @param interactionRange The range of the point (circle), which should be checked.
-     * @param ignore           This {@link Vector2D} will be ignored by the checks. Set it to null, if no {@link SimulationObject} should be ignored.
+     * @param ignoredPosition  A {@link SimulationObject} at this position will be ignored by the checks. Set it to null, if no {@link SimulationObject} should be ignored.
+     * @param ignoredObjects   These {@link SimulationObject}s will be ignored by the checks, too. Can be null.
      * @return true, if the check circle intersect with any interaction range.
      */
-    private boolean doesPointWithRangeIntersectAnyInteractionRange(Vector2D target, double interactionRange, List<Vector2D> ignore) {
-        if (isPointInsideAnyInteractionRange(target, ignore)) {
-            return true;
-        }
-        for (SimulationObject simulationObject : simulationObjects) {
-            if (ignore == null || !ignore.contains(simulationObject.getPosition()))
-                if (doTheCirclesIntersect(target, interactionRange, simulationObject.getPosition(), simulationObject.getInteractionRange())) {
-                    return true;
-                }
-        }
-        return false;
+    private boolean doesPointWithRangeIntersectAnyInteractionRange(Vector2D target, double interactionRange, Vector2D ignoredPosition, List<SimulationObject> ignoredObjects) {
+        return spatialGrid.doesCircleIntersectAnyInteractionRange(target.getX(), target.getY(), interactionRange, ignoredPosition, ignoredObjects);
     }
 
     /**
@@ -627,10 +1041,20 @@ public class Simulation {
      * @see SimulationMap#tileMatchedConditions(Vector2D, boolean, boolean)
      * @see SimulationObject#willBeRenderedOutside(Vector2D, Vector2D)
      * @see #targetTileCanBeReached(Vector2D, Vector2D, boolean, boolean, boolean)
-     * @see #doesPointWithRangeIntersectAnyInteractionRange(Vector2D, double, List)
-     * @see #doesLineSegmentCollideWithCircleRange(Vector2D, double, Vector2D, Vector2D, boolean)
+     * @see #doesPointWithRangeIntersectAnyInteractionRange(Vector2D, double, Vector2D, List)
+     * @see SpatialGrid#doesLineSegmentCollideWithAnyInteractionRange(double, double, double, double, boolean, Vector2D, List)
      */
     public boolean canMoveTo(Vector2D start, Vector2D target, double interactionRange, boolean canSwim, boolean canClimb, Vector2D renderOffset, boolean ignoreRenderConditions, boolean ignoreTargetTileConditions, List<SimulationObject> ignoredObjects) {
+        //Not prepared: the tile checks are cheap and a prepared result would need the same object checks again in the apply phase.
+        return isMovementPossible(start, target, interactionRange, canSwim, canClimb, renderOffset, ignoreRenderConditions, ignoreTargetTileConditions, ignoredObjects);
+    }
+
+    /**
+     * Checks if a {@link SimulationObject} can move to a position.
+     *
+     * @see #canMoveTo(Vector2D, Vector2D, double, boolean, boolean, Vector2D, boolean, boolean, List)
+     */
+    private boolean isMovementPossible(Vector2D start, Vector2D target, double interactionRange, boolean canSwim, boolean canClimb, Vector2D renderOffset, boolean ignoreRenderConditions, boolean ignoreTargetTileConditions, List<SimulationObject> ignoredObjects) {
 
         //Is this point inside the grid?
         if (!simulationMap.isInsideOfGrid(target)) {
@@ -648,27 +1072,30 @@ public class Simulation {
             return false;
         }
 
-        //If we don't ignore the target tile and
-        //does the point with the interaction range of the moving object intersect with any other interaction range, then find another point.
-        List<Vector2D> ignoredPoints = new ArrayList<>();
-        ignoredPoints.add(start);
-
-        if (ignoredObjects != null)
-            for (SimulationObject simulationObject : ignoredObjects) {
-                ignoredPoints.add(simulationObject.getPosition());
-            }
+        return isMovementStillFree(start, target, interactionRange, ignoredObjects, ignoreTargetTileConditions);
+    }
 
-        if (doesPointWithRangeIntersectAnyInteractionRange(target, interactionRange, ignoredPoints)) {
+    /**
+     * Checks only the parts of {@link #isMovementPossible(Vector2D, Vector2D, double, boolean, boolean, Vector2D, boolean, boolean, List)},
+     * which depend on the positions of the other {@link SimulationObject}s. <br>
+     * Used in the apply phase of an update to check a prepared result again, because objects, which got updated before, could have moved into the way.
+     *
+     * @param start            The {@link Vector2D} position of the {@link SimulationObject}.
+     * @param target           The {@link Vector2D} target, where he wants to move.
+     * @param interactionRange The interaction range of the {@link SimulationObject}.
+     * @param ignoredObjects   The {@link SimulationObject}s, which are ignored by the checks, or null.
+     * @param ignoreTarget     true, if the target itself can be inside an interaction range. (e.g. a food source)
+     * @return true, if no other {@link SimulationObject} blocks the target or the way to it.
+     */
+    private boolean isMovementStillFree(Vector2D start, Vector2D target, double interactionRange, List<SimulationObject> ignoredObjects, boolean ignoreTarget) {
+        //Does the point with the interaction range of the moving object intersect with any other interaction range, then find another point.
+        //The moving object itself (at the start) and the ignored objects are compared by their positions inside the grid scan.
+        if (doesPointWithRangeIntersectAnyInteractionRange(target, interactionRange, start, ignoredObjects)) {
             return false;
         }
 
         //Check, if this target direction is in any interaction range. If so, find another target.
-        for (SimulationObject simulationObject : simulationObjects) {
-            if (!ignoredPoints.contains(simulationObject.getPosition()) && doesLineSegmentCollideWithCircleRange(simulationObject.getPosition(), simulationObject.getInteractionRange(), start, target, ignoreTargetTileConditions)) {
-                return false;
-            }
-        }
-        return true;
+        return !spatialGrid.doesLineSegmentCollideWithAnyInteractionRange(start.getX(), start.getY(), target.getX(), target.getY(), ignoreTarget, start, ignoredObjects);
     }
 
     /**
@@ -681,20 +1108,27 @@ public class Simulation {
      * @param canClimb         Can the object, which should be tested, climb?
      * @param renderOffset     The offset for the image of the object.
      * @return A {@link Vector2D} target position.
-     * @see #getRandomPointInCircle(Vector2D, double, double)
+     * @see FreeSpaceSampler#sampleInRange(Vector2D, double, double, boolean, boolean, Random, Predicate)
      */
     public Vector2D getRandomMovementTargetInRange(Vector2D position, double viewRange, double interactionRange, boolean canSwim, boolean canClimb, Vector2D renderOffset) {
-        Vector2D target = getRandomPointInCircle(position, viewRange, 0.5);
-        //try it max. 500 times to get a target
-        int maximumAttempts = 500;
-        while (maximumAttempts > 0) {
-            if (canMoveTo(position, target, interactionRange, canSwim, canClimb, renderOffset, false, false, null)) {
-                return target;
-            }
-            target = getRandomPointInCircle(position, viewRange, 0.5);
-            maximumAttempts--;
-        }
-        return null;
+        PreparedQueries queries = currentQueries.get();
+        if (queries == null)
+            return findRandomMovementTargetInRange(position, viewRange, interactionRange, canSwim, canClimb, renderOffset, random);
+        return queries.get(PreparedQueries.Query.RANDOM_TARGET, position,
+                () -> findRandomMovementTargetInRange(position, viewRange, interactionRange, canSwim, canClimb, renderOffset, queryRandom()),
+                result -> result == null || isMovementStillFree(position, result, interactionRange, null, false));
+    }
+
+    /**
+     * Searches a random target vector inside a view range of a dinosaur.
+     *
+     * @param random The {@link Random} used for the random points.
+     * @see #getRandomMovementTargetInRange(Vector2D, double, double, boolean, boolean, Vector2D)
+     */
+    private Vector2D findRandomMovementTargetInRange(Vector2D position, double viewRange, double interactionRange, boolean canSwim, boolean canClimb, Vector2D renderOffset, Random random) {
+        //Only tiles, which can be walked on and reached, are checked with the exact movement check.
+        return freeSpaceSampler.sampleInRange(position, viewRange, 0.5, canSwim, canClimb, random,
+                target -> isMovementPossible(position, target, interactionRange, canSwim, canClimb, renderOffset, false, false, null));
     }
 
     /**
@@ -708,82 +1142,112 @@ public class Simulation {
      * @param renderOffset     The offset for the image of the object.
      * @param direction        The normalized direction Vector we want move to.
      * @return A {@link Vector2D} target position.
-     * @see #getRandomPositionInsideCircleRangeInDirection(Vector2D, double, Vector2D)
+     * @see FreeSpaceSampler#sampleInDirection(Vector2D, double, Vector2D, boolean, boolean, Random, Predicate)
      */
     public Vector2D getRandomMovementTargetInRangeInDirection(Vector2D position, double viewRange, double interactionRange, boolean canSwim, boolean canClimb, Vector2D renderOffset, Vector2D direction) {
-        Vector2D target = getRandomPositionInsideCircleRangeInDirection(position, viewRange, direction);
-        //try it max. 500 times to get a target
-        int maximumAttempts = 500;
-        while (maximumAttempts > 0) {
-            if (canMoveTo(position, target, interactionRange, canSwim, canClimb, renderOffset, false, false, null)) {
-                return target;
-            }
-            target = getRandomPositionInsideCircleRangeInDirection(position, viewRange, direction);
-            maximumAttempts--;
-        }
-        return null;
+        PreparedQueries queries = currentQueries.get();
+        if (queries == null)
+            return findRandomMovementTargetInRangeInDirection(position, viewRange, interactionRange, canSwim, canClimb, renderOffset, direction, random);
+        return queries.get(PreparedQueries.Query.RANDOM_TARGET_IN_DIRECTION, position, direction,
+                () -> findRandomMovementTargetInRangeInDirection(position, viewRange, interactionRange, canSwim, canClimb, renderOffset, direction, queryRandom()),
+                result -> result == null || isMovementStillFree(position, result, interactionRange, null, false));
     }
 
     /**
-     * Get a random point inside a circle.
+     * Searches a random target facing in a direction with an offset of +-PI/3.
      *
-     * @param center      The center {@link Vector2D} of the circle.
-     * @param radius      The radius of this circle.
-     * @param lowerBounds The lower limit the point needs to be away from the center. Needs to be smaller than 1.
-     * @return A {@link Vector2D} point.
+     * @param random The {@link Random} used for the random points.
+     * @see #getRandomMovementTargetInRangeInDirection(Vector2D, double, double, boolean, boolean, Vector2D, Vector2D)
      */
-    private Vector2D getRandomPointInCircle(Vector2D center, double radius, double lowerBounds) {
-        //We use polar notation to calculate a random point.
-        //The polar angle will be in the range [0, 2 * pi] and the hypotenuse will be in the range [0, radius].
+    private Vector2D findRandomMovementTargetInRangeInDirection(Vector2D position, double viewRange, double interactionRange, boolean canSwim, boolean canClimb, Vector2D renderOffset, Vector2D direction, Random random) {
+        return freeSpaceSampler.sampleInDirection(position, viewRange, direction, canSwim, canClimb, random,
+                target -> isMovementPossible(position, target, interactionRange, canSwim, canClimb, renderOffset, false, false, null));
+    }
 
-        if (lowerBounds >= 1)
-            lowerBounds = 0.25;
+    /**
+     * Gets a random target inside a view range of a dinosaur, which can be reached over a path. <br>
+     * Unlike {@link #getRandomMovementTargetInRange(Vector2D, double, double, boolean, boolean, Vector2D)} the target does not need to be
+     * reachable on a straight line, so a dinosaur at a river or a mountain can find a target behind it. The target is reached by following {@link #getPath(Vector2D, Vector2D, boolean, boolean, boolean)}.
+     *
+     * @param position         The position of the {@link SimulationObject} which wants to move.
+     * @param viewRange        The view range as a radius.
+     * @param interactionRange The interaction as a radius.
+     * @param canSwim          Can the object, which should be tested, swim?
+     * @param canClimb         Can the object, which should be tested, climb?
+     * @param renderOffset     The offset for the image of the object.
+     * @return A {@link Vector2D} target position or null.
+     * @see FreeSpaceSampler#sampleInRange(Vector2D, double, double, boolean, boolean, Random, Predicate)
+     */
+    public Vector2D getRandomPathTargetInRange(Vector2D position, double viewRange, double interactionRange, boolean canSwim, boolean canClimb, Vector2D renderOffset) {
+        PreparedQueries queries = currentQueries.get();
+        if (queries == null)
+            return findRandomPathTargetInRange(position, viewRange, interactionRange, canSwim, canClimb, renderOffset, random);
+        return queries.get(PreparedQueries.Query.RANDOM_PATH_TARGET, position,
+                () -> findRandomPathTargetInRange(position, viewRange, interactionRange, canSwim, canClimb, renderOffset, queryRandom()),
+                //The way to the first waypoint is checked again by the moving state.
+                result -> result == null || !doesPointWithRangeIntersectAnyInteractionRange(result, interactionRange, position, null));
+    }
+
+    /**
+     * Searches a random target inside a view range of a dinosaur, which can be reached over a path.
+     *
+     * @param random The {@link Random} used for the random points.
+     * @see #getRandomPathTargetInRange(Vector2D, double, double, boolean, boolean, Vector2D)
+     */
+    private Vector2D findRandomPathTargetInRange(Vector2D position, double viewRange, double interactionRange, boolean canSwim, boolean canClimb, Vector2D renderOffset, Random random) {
+        return freeSpaceSampler.sampleInRange(position, viewRange, 0.5, canSwim, canClimb, random, true,
+                target -> isPathMovementPossible(position, target, interactionRange, canSwim, canClimb, renderOffset));
+    }
 
-        //Calculate a random angle.
-        double angle = random.nextDouble(0, 1) * 2 * Math.PI;
-        //Calculate the hypotenuse, which should at least have a length in the upper 75% of the view range.
-        double hypotenuse = Math.sqrt(random.nextDouble(lowerBounds, 1)) * radius;
+    /**
+     * Checks, if a {@link SimulationObject} can move to a target over a path. <br>
+     * If the target can't be reached on a straight line, the target needs to be free and the first waypoint of the path needs to be reachable.
+     *
+     * @see #getRandomPathTargetInRange(Vector2D, double, double, boolean, boolean, Vector2D)
+     */
+    private boolean isPathMovementPossible(Vector2D position, Vector2D target, double interactionRange, boolean canSwim, boolean canClimb, Vector2D renderOffset) {
+        if (isMovementPossible(position, target, interactionRange, canSwim, canClimb, renderOffset, false, false, null))
+            return true;
 
-        //Calculate the sites
-        double adjacent = Math.cos(angle) * hypotenuse;
-        double opposite = Math.sin(angle) * hypotenuse;
+        if (!simulationMap.isInsideOfGrid(target) || SimulationObject.willBeRenderedOutside(target, renderOffset) || !simulationMap.tileMatchedConditions(target, canSwim, canClimb)
+                || doesPointWithRangeIntersectAnyInteractionRange(target, interactionRange, position, null))
+            return false;
 
-        return new Vector2D(center.getX() + adjacent, center.getY() + opposite);
+        List<Vector2D> path = getPath(position, target, canSwim, canClimb, false);
+        return path != null && path.size() > 1
+                && isMovementPossible(position, path.get(0), interactionRange, canSwim, canClimb, renderOffset, false, false, null);
     }
 
     /**
-     * Get a random position facing in a direction with an offset of +-PI/3. <br>
+     * Gets the waypoints from a start position to a target over the tiles of the map. <br>
+     * The tile path is taken from the {@link PathFinder} of the map (and its cache). The waypoints are the centers of the tiles,
+     * where the direction changes, and the target itself as last waypoint.
      *
-     * @param center The circle {@link Vector2D} position from which we check.
-     * @param radius The radial range of the circle.
-     * @param dir    A direction {@link Vector2D}
-     * @return A random {@link Vector2D}.
+     * @param start            The start {@link Vector2D} position.
+     * @param target           The target {@link Vector2D} position.
+     * @param canSwim          Can the moving object swim?
+     * @param canClimb         Can the moving object climb?
+     * @param ignoreTargetTile true, if the target tile itself does not need to be crossable. (e.g. a water tile)
+     * @return A list with all waypoints, which ends with the target, or null, if the target can't be reached.
+     * If the map has no {@link PathFinder}, the list only contains the target.
      */
-    private Vector2D getRandomPositionInsideCircleRangeInDirection(Vector2D center, double radius, Vector2D dir) {
-        double deg = Vector2D.angleToVector(dir);
-        if (deg < 0) {
-            deg = 2 * Math.PI + deg;
-        }
-        double low = deg - Math.PI / 4;
-        double high = deg + Math.PI / 4;
-        if (low < 0) {
-            low = 0;
-        }
-        if (high > 2 * Math.PI) {
-            high = 2 * Math.PI;
-        }
-        if (low > high) {
-            double tmp = low;
-            low = high;
-            high = tmp;
-        }
-        double angle = random.nextDouble(low, high);
-        double hypotenuse = Math.sqrt(random.nextDouble(0.25, 1)) * radius;
-        //Calculate the sites
-        double adjacent = Math.cos(angle) * hypotenuse;
-        double opposite = -Math.sin(angle) * hypotenuse;
+    public List<Vector2D> getPath(Vector2D start, Vector2D target, boolean canSwim, boolean canClimb, boolean ignoreTargetTile) {
+        PathFinder pathFinder = simulationMap.getPathFinder();
+        Tile startTile = simulationMap.getTileAtPosition(start);
+        Tile targetTile = simulationMap.getTileAtPosition(target);
+        if (pathFinder == null || startTile == null || targetTile == null)
+            return List.of(target);
+
+        List<Tile> tiles = pathFinder.findPath(startTile, targetTile, canSwim, canClimb, ignoreTargetTile);
+        if (tiles == null)
+            return null;
 
-        return new Vector2D(center.getX() + adjacent, center.getY() + opposite);
+        List<Vector2D> waypoints = new ArrayList<>(tiles.size());
+        for (int i = 0; i < tiles.size() - 1; i++) {
+            waypoints.add(simulationMap.getCenterPositionOfTile(tiles.get(i)));
+        }
+        waypoints.add(target);
+        return waypoints;
     }
 
     /**
@@ -801,25 +1265,10 @@ public class Simulation {
                 (point.getY() - circleCenter.getY()) * (point.getY() - circleCenter.getY()) <= radius * radius;
     }
 
-    /**
-     * Check, if a point is inside any interaction range (collision circle) of any simulationobject.
-     *
-     * @param point  The point, which should be checked.
-     * @param ignore This {@link Vector2D} will be ignored by the checks. Set it to null, if no {@link SimulationObject} should be ignored.
-     * @return true, if the point is inside any collision circle.
-     * @see #simulationObjects
-     */
-    private boolean isPointInsideAnyInteractionRange(Vector2D point, List<Vector2D> ignore) {
-        return simulationObjects.stream().anyMatch(simulationObject -> {
-            if (ignore == null || !ignore.contains(simulationObject.getPosition()))
-                return isPointInsideCircle(simulationObject.getPosition(), simulationObject.getInteractionRange(), point);
-            return false;
-        });
-    }
-
     /**
      * Calculates, if all tiles between the start tile and the target tile can be reached. <br>
-     * Uses the bresenham-algorithm. See <a href="https://de.wikipedia.org/wiki/Bresenham-Algorithmus">Wikipedia</a>
+     * Uses the precomputed {@link PassageTable} of the map. If the map has none, the tiles are walked
+     * using the bresenham-algorithm. See <a href="https://de.wikipedia.org/wiki/Bresenham-Algorithmus">Wikipedia</a>
      *
      * @param start            The start {@link Vector2D} position in the simulation world.
      * @param target           The target {@link Vector2D} position in the simulation world.
@@ -835,6 +1284,10 @@ public class Simulation {
         if (startTile == null || targetTile == null)
             return false;
 
+        PassageTable passageTable = simulationMap.getPassageTable();
+        if (passageTable != null)
+            return passageTable.canBeReached(startTile.getGridX(), startTile.getGridY(), targetTile.getGridX(), targetTile.getGridY(), canSwim, canClimb, ignoreTargetTile);
+
         //Distance between the tiles. (In x and y direction)
         int dx = targetTile.getGridX() - startTile.getGridX();
         int dy = targetTile.getGridY() - startTile.getGridY();
@@ -895,41 +1348,6 @@ public class Simulation {
         return !simulationMap.isInsideOfGrid(x, y + 1) || simulationMap.tileMatchedConditions(x, y + 1, canSwim, canClimb);
     }
 
-    /**
-     * Checks, if a line segment collide with a view range circle.
-     *
-     * @param circleOrigin The origin {@link Vector2D} of the range circle.
-     * @param radius       The radius of the range circle.
-     * @param start        The start {@link Vector2D} of the line segment.
-     * @param end          The end {@link Vector2D} of the line segment.
-     * @return true, if the line collide with the circle.
-     */
-    private boolean doesLineSegmentCollideWithCircleRange(Vector2D circleOrigin, double radius, Vector2D start, Vector2D end, boolean ignoreTarget) {
-
-        if (isPointInsideCircle(circleOrigin, radius, start) || !ignoreTarget && isPointInsideCircle(circleOrigin, radius, end)) {
-            return true;
-        }
-
-        double minDist;
-        double maxDist = Math.max(Vector2D.distance(circleOrigin, start), Vector2D.distance(circleOrigin, end));
-
-        Vector2D SO = start.subtract(circleOrigin);
-        Vector2D EO = end.subtract(circleOrigin);
-        double triangleAre = Math.abs(Vector2D.crossProduct(SO, EO)) / 2;
-
-        if (Vector2D.dotProduct(circleOrigin.subtract(start), end.subtract(start)) > 0 && Vector2D.dotProduct(circleOrigin.subtract(end), start.subtract(end)) > 0) {
-            minDist = (2 * triangleAre) / Vector2D.distance(start, end);
-        } else {
-            minDist = Math.min(Vector2D.distance(circleOrigin, start), Vector2D.distance(circleOrigin, end));
-        }
-
-        //If we ignore the end position and the origin and the end position are the same, we return false. (Happens for example, if we move to a food source (food source is target))
-        if (ignoreTarget && Vector2D.distance(circleOrigin, end) == 0)
-            return false;
-
-        return minDist <= radius && maxDist >= radius;
-    }
-
     /**
      * Checks, if two circles intersect.
      *
@@ -940,9 +1358,9 @@ public class Simulation {
      * @return true, if the circles intersect.
      */
     public boolean doTheCirclesIntersect(Vector2D circleOrigin1, double radius1, Vector2D circleOrigin2, double radius2) {
-        double distSq = Math.pow(Vector2D.distance(circleOrigin1, circleOrigin2), 2);
-        double radSumSq = Math.pow(radius1 + radius2, 2);
-        return distSq < radSumSq;
+        double distSq = Vector2D.distanceSq(circleOrigin1, circleOrigin2);
+        double radiusSum = radius1 + radius2;
+        return distSq < radiusSum * radiusSum;
     }
 
     /**
@@ -1,15 +1,19 @@
 package com.dhbw.thesim.core.simulation;
 
 import com.dhbw.thesim.core.entity.SimulationObject;
+import com.dhbw.thesim.core.statemachine.state.StateFactory;
 import com.dhbw.thesim.core.util.SimulationTime;
-import com.dhbw.thesim.gui.SimulationOverlay;
-import javafx.application.Platform;
+import com.dhbw.thesim.stats.Statistics;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.locks.LockSupport;
 
 /**
- * Updates the simulation (Engine)
+ * Updates the simulation (Engine) <br>
+ * The loop runs without any graphical user interface. Frames and the end of the simulation are reported to the {@link SimulationObserver}s of the {@link Simulation}.
  *
  * @author Daniel Czeschner
  * @see Simulation
@@ -43,6 +47,11 @@ public class SimulationLoop {
      */
     private static final double FRAME_RATE = 1.0d / FRAMES_PER_SECOND;
 
+    /**
+     * The default max amount of updates, which are made in one loop iteration to catch up with the real time.
+     */
+    public static final int DEFAULT_MAX_CATCH_UP_UPDATES = 10;
+
     /**
      * Is multiplied on the update rate. value < 1 means more updates per second
      */
@@ -57,18 +66,53 @@ public class SimulationLoop {
     /**
      * Is the simulation thread running?
      */
-    private boolean running;
+    private volatile boolean running;
 
     /**
      * Is the simulation thread paused?
      */
-    private boolean paused;
+    private volatile boolean paused;
 
-    //region Status variables (Debug)
-    private long nextDebugStatsTime;
-    private int fps;
-    private int ups;
-    //endregion
+    /**
+     * Should the {@link #simulationLoopThread} publish a frame, although the simulation is paused? <br>
+     * Is set by {@link #togglePause()}, so frames are only published by the thread, which updates the simulation.
+     */
+    private volatile boolean frameRequested;
+
+    /**
+     * The lock, on which the {@link #simulationLoopThread} waits while the simulation is paused.
+     */
+    private final Object pauseLock = new Object();
+
+    /**
+     * The simulation time, which still has to be simulated by fixed updates. (in seconds)
+     */
+    private double updateAccumulator;
+
+    /**
+     * The max amount of updates, which are made in one loop iteration to catch up with the real time.
+     */
+    private int maxCatchUpUpdates = DEFAULT_MAX_CATCH_UP_UPDATES;
+
+    /**
+     * The amount of updates, which were dropped, because the loop could not catch up with the real time.
+     */
+    private long droppedUpdates;
+
+    /**
+     * Is the max speed mode active? The updates are made as fast as possible and the frames stay at the {@link #FRAME_RATE}.
+     */
+    private volatile boolean maxSpeed;
+
+    /**
+     * The measured durations of the update phases and the updates, frames and dropped updates per second.
+     */
+    private final TickMetrics tickMetrics = new TickMetrics();
+
+    /**
+     * The {@link ForkJoinPool}, which runs the decision phase of each update. If null, the decision phase runs on the loop thread.
+     */
+    private ForkJoinPool decisionPool = ForkJoinPool.commonPool();
 
     //endregion
 
@@ -103,9 +147,9 @@ public class SimulationLoop {
     private static final double STAT_UPDATES_IN_PERCENTAGE_OF_MAX_RUNTIME = 0.05;
 
     /**
-     * Current SimulationOverlay instance for callbacks.
+     * The collected statistics of the {@link #currentSimulation}.
      */
-    private SimulationOverlay simulationOverlay;
+    private final Statistics statistics;
 
     //endregion
 
@@ -117,21 +161,17 @@ public class SimulationLoop {
      * @param simulation                The simulation data which should be used/updated.
      * @param maxStepAmount             The max amount of steps, that can be triggered.
      * @param maxRunTimeInMinutes       The max amount of time a simulation is running (In Minutes)
-     * @param simulationOverlay         The simulation overlay which is used to display the GUI for the simulation
      */
-    public SimulationLoop(int simulationSpeedMultiplier, int stepRangeMultiplier, Simulation simulation, int maxStepAmount, int maxRunTimeInMinutes, SimulationOverlay simulationOverlay) {
+    public SimulationLoop(int simulationSpeedMultiplier, int stepRangeMultiplier, Simulation simulation, int maxStepAmount, int maxRunTimeInMinutes) {
         this.currentSimulation = simulation;
         this.simulationSpeedMultiplier = simulationSpeedMultiplier;
         this.stepRangeMultiplier = stepRangeMultiplier;
         this.maxStepAmount = maxStepAmount;
         this.maxRunTimeInMinutes = maxRunTimeInMinutes;
 
-        //Set the time, for the first debug message.
-        nextDebugStatsTime = System.currentTimeMillis() + 1000;
-
         this.loopTime = new SimulationTime();
 
-        this.simulationOverlay = simulationOverlay;
+        this.statistics = new Statistics();
 
         updateGraphics();
     }
@@ -142,10 +182,9 @@ public class SimulationLoop {
      */
     private final Runnable simLoopRunnable = () -> {
         running = true;
-        double deltaTime = 0;
         double frameAccumulator = 0;
 
-        long lastUpdate = System.currentTimeMillis();
+        long lastUpdate = System.nanoTime();
         long currentTime;
 
         //The time, when the sim is finished
@@ -156,96 +195,233 @@ public class SimulationLoop {
         int intervalUntilStatisticsUpdateInSeconds = (int) (runtime.getTime() * STAT_UPDATES_IN_PERCENTAGE_OF_MAX_RUNTIME);
 
         while (running) {
-            //update the loop variables.
-            currentTime = System.currentTimeMillis();
-            double lastUpdateTimeInSeconds = (currentTime - lastUpdate) / 1000d;
-            deltaTime += lastUpdateTimeInSeconds * simulationSpeedMultiplier;
-            frameAccumulator += lastUpdateTimeInSeconds;
-            lastUpdate = currentTime;
-            //Limit the update rate
-            if (deltaTime >= UPDATE_RATE) {
-                while (deltaTime >= UPDATE_RATE) {
-                    //If we are not paused, trigger an update.
-                    if (!paused) {
-                        update(deltaTime);
-                        loopTime.addDeltaTime(deltaTime / simulationSpeedMultiplier);
-                    }
-                    deltaTime -= UPDATE_RATE;
-                }
+            //Publish the frame, which was requested by a pause toggle.
+            if (frameRequested) {
+                frameRequested = false;
+                updateGraphics();
             }
-            //Limit the frames per second
-            if (frameAccumulator >= FRAME_RATE) {
-                while (frameAccumulator >= FRAME_RATE) {
-                    //If we are not paused, trigger a re-render.
-                    if (!paused)
-                        updateGraphics();
-                    frameAccumulator -= FRAME_RATE;
-                }
+
+            //Block, until the simulation is unpaused. The paused time is not simulated.
+            if (paused) {
+                waitWhilePaused();
+                lastUpdate = System.nanoTime();
+                continue;
             }
-            //Print debug stats
-            printStats();
 
-            //adding statistics update at intervals
-            if (Math.abs(loopTime.timeSince(lastStatisticsUpdateTime)) > intervalUntilStatisticsUpdateInSeconds) {
-                updateStatistics();
-                lastStatisticsUpdateTime = new SimulationTime(loopTime.getTime());
+            if (maxSpeed) {
+                //Update as fast as possible until the next frame is due.
+                long frameDeadline = System.nanoTime() + (long) (FRAME_RATE * 1_000_000_000d);
+                while (maxSpeed && !paused && runtime.getTime() > loopTime.getTime() && !currentSimulation.isOver() && System.nanoTime() < frameDeadline) {
+                    update(UPDATE_RATE);
+                    loopTime.addDeltaTime(UPDATE_RATE / simulationSpeedMultiplier);
+                    lastStatisticsUpdateTime = updateStatisticsIfDue(lastStatisticsUpdateTime, intervalUntilStatisticsUpdateInSeconds);
+                }
+                updateGraphics();
+                //The real time of this frame is not simulated again, if the max speed mode ends.
+                frameAccumulator = 0;
+                updateAccumulator = 0;
+                lastUpdate = System.nanoTime();
+            } else {
+                //update the loop variables.
+                currentTime = System.nanoTime();
+                double lastUpdateTimeInSeconds = (currentTime - lastUpdate) / 1_000_000_000d;
+                frameAccumulator += lastUpdateTimeInSeconds;
+                lastUpdate = currentTime;
+                //Trigger the fixed updates
+                advance(lastUpdateTimeInSeconds);
+                //Limit the frames per second
+                if (frameAccumulator >= FRAME_RATE) {
+                    while (frameAccumulator >= FRAME_RATE) {
+                        //If we are not paused, trigger a re-render.
+                        if (!paused)
+                            updateGraphics();
+                        frameAccumulator -= FRAME_RATE;
+                    }
+                }
+                //adding statistics update at intervals
+                lastStatisticsUpdateTime = updateStatisticsIfDue(lastStatisticsUpdateTime, intervalUntilStatisticsUpdateInSeconds);
             }
+            //Publish the updates and frames per second
+            tickMetrics.finishSecondIfDue();
 
             //Check if over
             if (runtime.getTime() <= loopTime.getTime() || this.currentSimulation.isOver()) {
                 this.stopSimulationRunner();
-                Platform.runLater(() -> simulationOverlay.showStatisticsEndcard());
+                currentSimulation.notifySimulationFinished(loopTime);
             }
+
+            //Sleep until the next update or frame is due.
+            if (running && !maxSpeed)
+                LockSupport.parkNanos(getNanosUntilNextDeadline(frameAccumulator));
         }
     };
 
+    /**
+     * Adds a new statistics value, if the statistics interval passed since the last one.
+     *
+     * @param lastStatisticsUpdateTime               The {@link #loopTime} of the last statistics value.
+     * @param intervalUntilStatisticsUpdateInSeconds The interval between two statistics values.
+     * @return The {@link #loopTime} of the last statistics value after this call.
+     */
+    private SimulationTime updateStatisticsIfDue(SimulationTime lastStatisticsUpdateTime, int intervalUntilStatisticsUpdateInSeconds) {
+        if (Math.abs(loopTime.timeSince(lastStatisticsUpdateTime)) > intervalUntilStatisticsUpdateInSeconds) {
+            updateStatistics();
+            return new SimulationTime(loopTime.getTime());
+        }
+        return lastStatisticsUpdateTime;
+    }
+
+    /**
+     * Calculates the real time until the next update or the next frame is due.
+     *
+     * @param frameAccumulator The real time since the last frame. (in seconds)
+     * @return The time until the next deadline in nanoseconds. (0, if something is already due)
+     */
+    private long getNanosUntilNextDeadline(double frameAccumulator) {
+        double untilNextUpdate = (UPDATE_RATE - updateAccumulator) / simulationSpeedMultiplier;
+        double untilNextFrame = FRAME_RATE - frameAccumulator;
+        return Math.max(0, (long) (Math.min(untilNextUpdate, untilNextFrame) * 1_000_000_000d));
+    }
+
+    /**
+     * Blocks the calling thread, while the simulation is paused and still running and no frame is requested.
+     *
+     * @see #togglePause()
+     */
+    private void waitWhilePaused() {
+        synchronized (pauseLock) {
+            while (paused && running && !frameRequested) {
+                try {
+                    pauseLock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    running = false;
+                }
+            }
+        }
+    }
+
+    /**
+     * Wakes up the {@link #simulationLoopThread}, if it is waiting while the simulation is paused or sleeping until the next deadline.
+     */
+    private void wakeUp() {
+        synchronized (pauseLock) {
+            pauseLock.notifyAll();
+        }
+        if (simulationLoopThread != null)
+            LockSupport.unpark(simulationLoopThread);
+    }
+
+    /**
+     * Advances the simulation by fixed updates. Each update simulates exactly {@link #UPDATE_RATE} seconds, so the result
+     * does not depend on the speed of the machine. <br>
+     * The passed real time (multiplied by the {@link #simulationSpeedMultiplier}) is collected until a full update can be made.
+     * At most {@link #maxCatchUpUpdates} updates are made per call. If even more time is left, these updates are dropped and
+     * reported to the {@link SimulationObserver}s, so an overloaded simulation runs slower instead of piling up work. <br>
+     * Is package-private, so it can be tested without the {@link #simulationLoopThread}.
+     *
+     * @param realTimeInSeconds The real time since the last call. (in seconds)
+     * @return The amount of made updates.
+     */
+    int advance(double realTimeInSeconds) {
+        if (paused) {
+            updateAccumulator = 0;
+            return 0;
+        }
+
+        updateAccumulator += realTimeInSeconds * simulationSpeedMultiplier;
+        int updates = 0;
+        while (updateAccumulator >= UPDATE_RATE && updates < maxCatchUpUpdates) {
+            update(UPDATE_RATE);
+            loopTime.addDeltaTime(UPDATE_RATE / simulationSpeedMultiplier);
+            updateAccumulator -= UPDATE_RATE;
+            updates++;
+        }
+
+        if (updateAccumulator >= UPDATE_RATE) {
+            int droppedNow = (int) (updateAccumulator / UPDATE_RATE);
+            updateAccumulator -= droppedNow * UPDATE_RATE;
+            droppedUpdates += droppedNow;
+            tickMetrics.countDroppedUpdates(droppedNow);
+            currentSimulation.notifyUpdatesDropped(droppedNow);
+        }
+        return updates;
+    }
+
     /**
      * Adds a new statistics value to the end statistics.
      */
     private void updateStatistics() {
-        simulationOverlay.getStatistics().addSimulationObjectList(getCurrentSimulation().getSimulationObjects(), loopTime);
+        long start = System.nanoTime();
+        statistics.addSimulationObjectList(getCurrentSimulation().getSimulationObjects(), loopTime);
+        recordPhase(TickMetrics.Phase.STATISTICS, start);
     }
 
     /**
      * Is called each update call. <br>
-     * This method calls the {@link SimulationObject#update(double, Simulation)} method.
+     * An update is split in two phases: <br>
+     * 1. Decision phase: All {@link SimulationObject}s prepare their world queries in parallel on the {@link #decisionPool}, without changing anything. (see {@link Simulation#prepareQueries(ForkJoinPool)}) <br>
+     * 2. Apply phase: The {@link SimulationObject#update(double, Simulation)} method is called for each object in list order, using the prepared queries. <br>
+     * The duration of each phase and of the entity updates per state is recorded in the {@link #tickMetrics}. <br>
+     * Is package-private, so a single update can be measured by the benchmarks.
      *
      * @param deltaTime The time since the last update call. (in seconds)
      */
-    private void update(double deltaTime) {
-        ups++;
-        for (SimulationObject obj : currentSimulation.getSimulationObjects()) {
-            obj.update(deltaTime, currentSimulation);
+    void update(double deltaTime) {
+        tickMetrics.countUpdate();
+        long updateStart = System.nanoTime();
+        List<SimulationObject> simulationObjects = currentSimulation.getSimulationObjects();
+        currentSimulation.prepareQueries(decisionPool);
+        long phaseStart = recordPhase(TickMetrics.Phase.PREPARE_QUERIES, updateStart);
+        try {
+            long entityStart = phaseStart;
+            for (int i = 0; i < simulationObjects.size(); i++) {
+                SimulationObject simulationObject = simulationObjects.get(i);
+                StateFactory.States state = simulationObject.getCurrentStateType();
+                currentSimulation.selectPreparedQueries(i);
+                simulationObject.update(deltaTime, currentSimulation);
+                long entityEnd = System.nanoTime();
+                tickMetrics.addEntityUpdate(state, entityEnd - entityStart);
+                entityStart = entityEnd;
+            }
+        } finally {
+            currentSimulation.clearPreparedQueries();
         }
+        tickMetrics.finishEntityUpdates();
+        phaseStart = recordPhase(TickMetrics.Phase.ENTITY_UPDATES, phaseStart);
+        currentSimulation.updateDinosaurStats(deltaTime);
         currentSimulation.getCurrentSimulationTime().addDeltaTime(deltaTime);
+        phaseStart = recordPhase(TickMetrics.Phase.DINOSAUR_STATS, phaseStart);
         currentSimulation.removeDeletedObjects();
+        phaseStart = recordPhase(TickMetrics.Phase.REMOVE_DELETED_OBJECTS, phaseStart);
         currentSimulation.spawnNewObjects();
+        recordPhase(TickMetrics.Phase.SPAWN_NEW_OBJECTS, phaseStart);
+        recordPhase(TickMetrics.Phase.UPDATE, updateStart);
     }
 
     /**
-     * Updates the visuals for each {@link SimulationObject}. <br>
-     * It calls the {@link SimulationObject#updateGraphics()} method.
+     * Records the duration of a phase, which ends now.
+     *
+     * @param phase The finished {@link TickMetrics.Phase}.
+     * @param start The {@link System#nanoTime()} at the start of the phase.
+     * @return The end of the phase, which can be used as start of the next phase.
      */
-    private void updateGraphics() {
-        fps++;
-        for (SimulationObject obj : currentSimulation.getSimulationObjects()) {
-            obj.updateGraphics();
-        }
+    private long recordPhase(TickMetrics.Phase phase, long start) {
+        long end = System.nanoTime();
+        tickMetrics.record(phase, end - start);
+        return end;
     }
 
     /**
-     * Debug method, which prints out the current updates per second and frames per second. <br>
-     * Is only used in the automatic updates.
+     * Notifies all observers of the {@link #currentSimulation} about a new frame.
      *
-     * @see #simLoopRunnable
+     * @see SimulationObserver#onFrame(Simulation)
      */
-    private void printStats() {
-        if (System.currentTimeMillis() > nextDebugStatsTime) {
-            System.out.printf("FPS: %d, UPS: %d%n", fps, ups);
-            fps = 0;
-            ups = 0;
-            nextDebugStatsTime = System.currentTimeMillis() + 1000;
-        }
+    private void updateGraphics() {
+        tickMetrics.countFrame();
+        long start = System.nanoTime();
+        currentSimulation.notifyFrame();
+        recordPhase(TickMetrics.Phase.GRAPHICS, start);
     }
 
     /**
@@ -260,8 +436,34 @@ public class SimulationLoop {
         //check if over
         if (maxStepAmount <= 0 || currentSimulation.isOver()) {
             updateStatistics();
-            simulationOverlay.showStatisticsEndcard();
+            currentSimulation.notifySimulationFinished(loopTime);
+        }
+    }
+
+    /**
+     * Runs the simulation in the calling thread as fast as possible. (headless mode) <br>
+     * Each update simulates the same time as in the automatic mode, but without waiting for the real time and without any frames. <br>
+     * Like the automatic mode, the simulation ends after the max run time or if the simulation is over. <br>
+     * The decision phase of each update runs on the {@link #decisionPool}. (see {@link #setDecisionPool(ForkJoinPool)})
+     *
+     * @see #startSimulationRunner()
+     */
+    public void runHeadless() {
+        SimulationTime runtime = new SimulationTime();
+        runtime.addMinutesToTime(maxRunTimeInMinutes);
+
+        SimulationTime lastStatisticsUpdateTime = new SimulationTime();
+        int intervalUntilStatisticsUpdateInSeconds = (int) (runtime.getTime() * STAT_UPDATES_IN_PERCENTAGE_OF_MAX_RUNTIME);
+
+        while (runtime.getTime() > loopTime.getTime() && !currentSimulation.isOver()) {
+            update(UPDATE_RATE);
+            loopTime.addDeltaTime(UPDATE_RATE / simulationSpeedMultiplier);
+
+            //adding statistics update at intervals
+            lastStatisticsUpdateTime = updateStatisticsIfDue(lastStatisticsUpdateTime, intervalUntilStatisticsUpdateInSeconds);
         }
+        updateStatistics();
+        currentSimulation.notifySimulationFinished(loopTime);
     }
 
     /**
@@ -279,17 +481,64 @@ public class SimulationLoop {
      */
     public void stopSimulationRunner() {
         running = false;
+        wakeUp();
     }
 
     /**
-     * Pause/Unpause the automatic simulation runner.
+     * Pause/Unpause the automatic simulation runner. <br>
+     * The frame for the new state is published by the {@link #simulationLoopThread}, because it may still be inside an update.
+     * Without a running {@link #simulationLoopThread} (step proceeding mode), the simulation is only updated by the calling thread, so the frame is published directly.
      *
      * @see #simLoopRunnable
      * @see #simulationLoopThread
      */
     public void togglePause() {
         paused = !paused;
-        updateGraphics();
+        if (simulationLoopThread == null) {
+            updateGraphics();
+            return;
+        }
+        frameRequested = true;
+        wakeUp();
+    }
+
+    /**
+     * Turns the max speed mode of the automatic simulation runner on or off. <br>
+     * In the max speed mode, the updates are made as fast as the CPU allows, instead of following the real time.
+     * Each update still simulates the same fixed time, and the frames are only triggered {@link #FRAMES_PER_SECOND} times per second.
+     *
+     * @param maxSpeed true, if the simulation should run as fast as possible.
+     * @see #getUpdatesPerSecond()
+     */
+    public void setMaxSpeed(boolean maxSpeed) {
+        this.maxSpeed = maxSpeed;
+    }
+
+    /**
+     * Is the max speed mode active?
+     *
+     * @return true, if the simulation runs as fast as possible.
+     */
+    public boolean isMaxSpeed() {
+        return maxSpeed;
+    }
+
+    /**
+     * Gets the amount of updates (ticks), which were made in the last second by the automatic simulation runner.
+     *
+     * @return The achieved updates per second.
+     */
+    public int getUpdatesPerSecond() {
+        return tickMetrics.getUpdatesPerSecond();
+    }
+
+    /**
+     * Gets the measured durations of the update phases and of the entity updates per state.
+     *
+     * @return The {@link #tickMetrics} object.
+     */
+    public TickMetrics getTickMetrics() {
+        return tickMetrics;
     }
 
     /**
@@ -310,6 +559,46 @@ public class SimulationLoop {
         return this.paused;
     }
 
+    /**
+     * Gets the collected statistics of the simulation.
+     *
+     * @return The {@link #statistics} object.
+     */
+    public Statistics getStatistics() {
+        return statistics;
+    }
+
+    /**
+     * Sets the max amount of updates, which are made in one loop iteration to catch up with the real time.
+     *
+     * @param maxCatchUpUpdates The max amount of updates per loop iteration. (at least 1)
+     * @see #advance(double)
+     */
+    public void setMaxCatchUpUpdates(int maxCatchUpUpdates) {
+        this.maxCatchUpUpdates = Math.max(1, maxCatchUpUpdates);
+    }
+
+    /**
+     * Sets the {@link ForkJoinPool}, which runs the decision phase of each update. (default: {@link ForkJoinPool#commonPool()}) <br>
+     * Use null, if several simulations already run in parallel (e.g. in a batch run), so each one prepares its queries
+     * on its own thread and the threads don't compete for the same cores. The results are the same in both cases.
+     *
+     * @param decisionPool The {@link ForkJoinPool} or null for a sequential decision phase.
+     * @see Simulation#prepareQueries(ForkJoinPool)
+     */
+    public void setDecisionPool(ForkJoinPool decisionPool) {
+        this.decisionPool = decisionPool;
+    }
+
+    /**
+     * Gets the amount of updates, which were dropped, because the loop could not catch up with the real time.
+     *
+     * @return The amount of dropped updates since the start.
+     */
+    public long getDroppedUpdates() {
+        return droppedUpdates;
+    }
+
     /**
      * Gets the current loop time of the simulation
      *
@@ -0,0 +1,367 @@
+package com.dhbw.thesim.core.simulation;
+
+import com.dhbw.thesim.core.entity.Dinosaur;
+import com.dhbw.thesim.core.entity.DinosaurStore;
+import com.dhbw.thesim.core.entity.Plant;
+import com.dhbw.thesim.core.entity.SimulationObject;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+
+/**
+ * The list, which holds all {@link SimulationObject}s of a {@link Simulation}. <br>
+ * Each add or remove is mirrored into the {@link SpatialGrid} of the simulation, so the grid always contains exactly the objects of this list. <br>
+ * Each added {@link Dinosaur} is attached to the {@link DinosaurStore} of the simulation and detached again, if it gets removed. <br>
+ * Each {@link SimulationObject} knows its slot (index) in this list, so {@link #contains(Object)} and {@link #indexOf(Object)} are O(1).
+ * The changes of an update are queued with {@link #queueAddition(SimulationObject)} and {@link #queueRemoval(SimulationObject)} and applied
+ * in one batch. A queued removal moves the last {@link SimulationObject} into the freed slot (swap-remove), so it is O(1) and
+ * the slots of all other {@link SimulationObject}s stay the same. <br>
+ * The amount of living {@link Dinosaur}s, {@link Plant}s and {@link Dinosaur}s per species is counted on each change.
+ *
+ * @author Daniel Czeschner
+ * @see SpatialGrid
+ */
+class SimulationObjectList extends AbstractList<SimulationObject> implements RandomAccess {
+
+    //region variables
+
+    /**
+     * The backing list.
+     */
+    private final List<SimulationObject> simulationObjects;
+
+    /**
+     * The slot (index) of each {@link SimulationObject} in {@link #simulationObjects}. <br>
+     * Compared by identity, so it does not depend on {@link Object#equals(Object)}.
+     */
+    private final Map<SimulationObject, Integer> slots;
+
+    /**
+     * The {@link SimulationObject}s, which will be added by {@link #applyPendingAdditions()}, in the order they were queued.
+     */
+    private final List<SimulationObject> pendingAdditions;
+
+    /**
+     * The {@link SimulationObject}s of {@link #pendingAdditions}, which are still added. <br>
+     * Compared by identity, so a queued addition can be cancelled in O(1).
+     */
+    private final Set<SimulationObject> pendingAdditionSet;
+
+    /**
+     * The {@link SimulationObject}s, which will be removed by {@link #applyPendingRemovals()}.
+     */
+    private final List<SimulationObject> pendingRemovals;
+
+    /**
+     * The amount of {@link Dinosaur}s per species. Index = {@link Dinosaur#getSpeciesId()}
+     */
+    private int[] speciesCounts;
+
+    private int dinosaurCount;
+    private int plantCount;
+
+    /**
+     * The {@link SpatialGrid}, which is kept in sync with this list.
+     */
+    private final SpatialGrid spatialGrid;
+
+    /**
+     * The {@link DinosaurStore}, which holds the state of all {@link Dinosaur}s of this list.
+     */
+    private final DinosaurStore dinosaurStore;
+
+    //endregion
+
+    /**
+     * Constructor
+     *
+     * @param spatialGrid   The {@link SpatialGrid}, which should be kept in sync with this list.
+     * @param dinosaurStore The {@link DinosaurStore}, to which all {@link Dinosaur}s of this list are attached.
+     */
+    SimulationObjectList(SpatialGrid spatialGrid, DinosaurStore dinosaurStore) {
+        this.simulationObjects = new ArrayList<>();
+        this.slots = new IdentityHashMap<>();
+        this.pendingAdditions = new ArrayList<>();
+        this.pendingAdditionSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.pendingRemovals = new ArrayList<>();
+        this.speciesCounts = new int[0];
+        this.spatialGrid = spatialGrid;
+        this.dinosaurStore = dinosaurStore;
+    }
+
+    @Override
+    public SimulationObject get(int index) {
+        return simulationObjects.get(index);
+    }
+
+    @Override
+    public int size() {
+        return simulationObjects.size();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return slots.containsKey(o);
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        //noinspection SuspiciousMethodCalls
+        return slots.getOrDefault(o, -1);
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return indexOf(o);
+    }
+
+    @Override
+    public SimulationObject set(int index, SimulationObject element) {
+        SimulationObject old = simulationObjects.set(index, element);
+        slots.remove(old);
+        slots.put(element, index);
+        untrack(old);
+        track(element);
+        return old;
+    }
+
+    @Override
+    public void add(int index, SimulationObject element) {
+        simulationObjects.add(index, element);
+        updateSlots(index);
+        track(element);
+        modCount++;
+    }
+
+    @Override
+    public SimulationObject remove(int index) {
+        SimulationObject old = simulationObjects.remove(index);
+        slots.remove(old);
+        updateSlots(index);
+        untrack(old);
+        modCount++;
+        return old;
+    }
+
+    @Override
+    public void clear() {
+        simulationObjects.clear();
+        slots.clear();
+        pendingAdditions.clear();
+        pendingAdditionSet.clear();
+        pendingRemovals.clear();
+        Arrays.fill(speciesCounts, 0);
+        dinosaurCount = 0;
+        plantCount = 0;
+        spatialGrid.clear();
+        dinosaurStore.clear();
+        modCount++;
+    }
+
+    /**
+     * Adds all {@link SimulationObject}s at the end of this list with one copy of the backing list.
+     *
+     * @param objects The {@link SimulationObject}s, which should be added.
+     * @return true, if this list was changed.
+     */
+    @Override
+    public boolean addAll(Collection<? extends SimulationObject> objects) {
+        if (objects.isEmpty())
+            return false;
+
+        int firstSlot = simulationObjects.size();
+        simulationObjects.addAll(objects);
+        updateSlots(firstSlot);
+        for (SimulationObject simulationObject : objects) {
+            track(simulationObject);
+        }
+        modCount++;
+        return true;
+    }
+
+    /**
+     * Removes all passed {@link SimulationObject}s with one pass over the backing list. The order of the other {@link SimulationObject}s is kept. <br>
+     * The default implementation removes each object by its index, which shifts the rest of the list each time.
+     *
+     * @param objects The {@link SimulationObject}s, which should be removed.
+     * @return true, if this list was changed.
+     * @see #queueRemoval(SimulationObject)
+     */
+    @Override
+    public boolean removeAll(Collection<?> objects) {
+        if (objects.isEmpty())
+            return false;
+
+        Set<?> toBeRemoved = objects instanceof Set<?> set ? set : new HashSet<>(objects);
+        boolean changed = simulationObjects.removeIf(simulationObject -> {
+            if (!toBeRemoved.contains(simulationObject))
+                return false;
+            slots.remove(simulationObject);
+            untrack(simulationObject);
+            return true;
+        });
+        if (changed) {
+            updateSlots(0);
+            modCount++;
+        }
+        return changed;
+    }
+
+    /**
+     * Queues a {@link SimulationObject}, which will be added by {@link #applyPendingAdditions()}.
+     *
+     * @param simulationObject The new {@link SimulationObject}.
+     */
+    void queueAddition(SimulationObject simulationObject) {
+        if (pendingAdditionSet.add(simulationObject))
+            pendingAdditions.add(simulationObject);
+    }
+
+    /**
+     * Queues a {@link SimulationObject}, which will be removed by {@link #applyPendingRemovals()}.
+     *
+     * @param simulationObject The {@link SimulationObject}, which should be removed.
+     */
+    void queueRemoval(SimulationObject simulationObject) {
+        pendingRemovals.add(simulationObject);
+    }
+
+    /**
+     * Gets the amount of queued additions.
+     *
+     * @return The amount of {@link SimulationObject}s, which will be added by {@link #applyPendingAdditions()}.
+     */
+    int getPendingAdditionCount() {
+        return pendingAdditionSet.size();
+    }
+
+    /**
+     * Removes all queued {@link SimulationObject}s. Each removal moves the last {@link SimulationObject} into the freed slot. <br>
+     * A {@link SimulationObject}, which was queued for addition and removal in the same update, is not added.
+     */
+    void applyPendingRemovals() {
+        if (pendingRemovals.isEmpty())
+            return;
+
+        for (SimulationObject simulationObject : pendingRemovals) {
+            Integer slot = slots.remove(simulationObject);
+            if (slot == null) {
+                //Removed twice or not added yet. A cancelled addition is skipped by applyPendingAdditions.
+                pendingAdditionSet.remove(simulationObject);
+                continue;
+            }
+
+            int last = simulationObjects.size() - 1;
+            if (slot != last) {
+                SimulationObject moved = simulationObjects.get(last);
+                simulationObjects.set(slot, moved);
+                slots.put(moved, slot);
+            }
+            simulationObjects.remove(last);
+            untrack(simulationObject);
+        }
+        pendingRemovals.clear();
+        modCount++;
+    }
+
+    /**
+     * Adds all queued {@link SimulationObject}s at the end of this list. <br>
+     * The queued removals are applied first, so the freed slots are filled by already existing {@link SimulationObject}s and
+     * the new {@link SimulationObject}s keep the order, in which they were queued.
+     */
+    void applyPendingAdditions() {
+        applyPendingRemovals();
+        if (pendingAdditionSet.size() != pendingAdditions.size())
+            pendingAdditions.removeIf(simulationObject -> !pendingAdditionSet.contains(simulationObject));
+        addAll(pendingAdditions);
+        pendingAdditions.clear();
+        pendingAdditionSet.clear();
+    }
+
+    /**
+     * Gets the amount of {@link Dinosaur}s in this list.
+     *
+     * @return The amount of {@link Dinosaur}s.
+     */
+    int getDinosaurCount() {
+        return dinosaurCount;
+    }
+
+    /**
+     * Gets the amount of {@link Plant}s in this list.
+     *
+     * @return The amount of {@link Plant}s.
+     */
+    int getPlantCount() {
+        return plantCount;
+    }
+
+    /**
+     * Gets the amount of {@link Dinosaur}s of a species in this list.
+     *
+     * @param speciesId The interned species id. (see {@link Dinosaur#getSpeciesId()})
+     * @return The amount of {@link Dinosaur}s of the species.
+     */
+    int getSpeciesCount(int speciesId) {
+        return speciesId >= 0 && speciesId < speciesCounts.length ? speciesCounts[speciesId] : 0;
+    }
+
+    /**
+     * Updates the {@link #slots} of all {@link SimulationObject}s starting at an index.
+     *
+     * @param from The first index, which changed.
+     */
+    private void updateSlots(int from) {
+        for (int i = from; i < simulationObjects.size(); i++) {
+            slots.put(simulationObjects.get(i), i);
+        }
+    }
+
+    /**
+     * Adds a {@link SimulationObject} to the {@link #spatialGrid} and the counters and attaches it to the {@link #dinosaurStore}, if it is a {@link Dinosaur}.
+     *
+     * @param simulationObject The added {@link SimulationObject}.
+     */
+    private void track(SimulationObject simulationObject) {
+        spatialGrid.insert(simulationObject);
+        if (simulationObject instanceof Dinosaur dinosaur) {
+            dinosaurStore.attach(dinosaur);
+            dinosaurCount++;
+            int speciesId = dinosaur.getSpeciesId();
+            if (speciesId >= 0) {
+                if (speciesId >= speciesCounts.length)
+                    speciesCounts = Arrays.copyOf(speciesCounts, Math.max(speciesId + 1, speciesCounts.length * 2));
+                speciesCounts[speciesId]++;
+            }
+        } else if (simulationObject instanceof Plant) {
+            plantCount++;
+        }
+    }
+
+    /**
+     * Removes a {@link SimulationObject} from the {@link #spatialGrid} and the counters and detaches it from the {@link #dinosaurStore}, if it is a {@link Dinosaur}.
+     *
+     * @param simulationObject The removed {@link SimulationObject}.
+     */
+    private void untrack(SimulationObject simulationObject) {
+        spatialGrid.remove(simulationObject);
+        if (simulationObject instanceof Dinosaur dinosaur) {
+            dinosaurStore.detach(dinosaur);
+            dinosaurCount--;
+            int speciesId = dinosaur.getSpeciesId();
+            if (speciesId >= 0 && speciesId < speciesCounts.length)
+                speciesCounts[speciesId]--;
+        } else if (simulationObject instanceof Plant) {
+            plantCount--;
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.dhbw.thesim.core.simulation;
+
+import com.dhbw.thesim.core.entity.SimulationObject;
+import com.dhbw.thesim.core.util.SimulationTime;
+
+/**
+ * Gets notified about changes of a running {@link Simulation}. <br>
+ * A {@link Simulation} runs without any observer (headless mode). A graphical renderer is attached as an optional observer. <br>
+ * All methods are called from the thread, which updates the simulation.
+ *
+ * @author Daniel Czeschner
+ * @see Simulation#addObserver(SimulationObserver)
+ * @see SimulationLoop
+ */
+public interface SimulationObserver {
+
+    /**
+     * Is called, when a new {@link SimulationObject} got spawned to the simulation.
+     *
+     * @param simulationObject The spawned {@link SimulationObject}.
+     */
+    default void onSimulationObjectSpawned(SimulationObject simulationObject) {
+    }
+
+    /**
+     * Is called, when a {@link SimulationObject} got removed from the simulation.
+     *
+     * @param simulationObject The removed {@link SimulationObject}.
+     */
+    default void onSimulationObjectRemoved(SimulationObject simulationObject) {
+    }
+
+    /**
+     * Is called each frame of the {@link SimulationLoop}. (FPS) <br>
+     * Is called on the thread, which updates the simulation. Graphical observers should only capture the state here
+     * and hand it to their own thread.
+     *
+     * @param simulation The current {@link Simulation}.
+     */
+    default void onFrame(Simulation simulation) {
+    }
+
+    /**
+     * Is called, when the {@link SimulationLoop} could not catch up with the real time and had to drop updates. <br>
+     * The simulation then runs slower than the real time, but each update still advances the same fixed time.
+     *
+     * @param simulation     The current {@link Simulation}.
+     * @param droppedUpdates The amount of dropped updates.
+     */
+    default void onUpdatesDropped(Simulation simulation, int droppedUpdates) {
+    }
+
+    /**
+     * Is called, when the simulation is finished.
+     *
+     * @param simulation The finished {@link Simulation}.
+     * @param loopTime   The time the {@link SimulationLoop} was running.
+     */
+    default void onSimulationFinished(Simulation simulation, SimulationTime loopTime) {
+    }
+}
@@ -0,0 +1,621 @@
+package com.dhbw.thesim.core.simulation;
+
+import com.dhbw.thesim.core.entity.SimulationObject;
+import com.dhbw.thesim.core.map.SimulationMap;
+import com.dhbw.thesim.core.map.Tile;
+import com.dhbw.thesim.core.util.Vector2D;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A uniform grid, which buckets all {@link SimulationObject}s of a {@link Simulation} by their position. <br>
+ * Used to speed up proximity queries, because only the buckets around a query area need to be checked. <br>
+ * Positions outside the grid are clamped into the border cells, so every query returns a superset of the objects inside the query area. <br>
+ * Each handled object gets a slot, which it remembers by itself, so no lookup map is needed. The buckets only hold these slots. <br>
+ * The position and the interaction range of each slot are stored in primitive arrays, so the collision checks don't need to touch the objects.
+ *
+ * @author Daniel Czeschner
+ * @see Simulation
+ */
+public class SpatialGrid {
+
+    //region variables
+
+    /**
+     * The size (width and height) of one cell in pixels.
+     */
+    private final double cellSize;
+
+    /**
+     * The amount of cells in x direction.
+     */
+    private final int columns;
+
+    /**
+     * The amount of cells in y direction.
+     */
+    private final int rows;
+
+    /**
+     * The slots of all buckets. The index of a cell is x + y * {@link #columns}. <br>
+     * Each bucket is ordered by the insertion order of its {@link SimulationObject}s.
+     */
+    private final int[][] cellSlots;
+
+    /**
+     * The amount of used slots of each bucket in {@link #cellSlots}.
+     */
+    private final int[] cellSizes;
+
+    /**
+     * The handled {@link SimulationObject} of each slot or null, if the slot is free.
+     */
+    private SimulationObject[] objects;
+
+    /**
+     * The x position of the {@link SimulationObject} of each slot.
+     */
+    private double[] xs;
+
+    /**
+     * The y position of the {@link SimulationObject} of each slot.
+     */
+    private double[] ys;
+
+    /**
+     * The interaction range of the {@link SimulationObject} of each slot.
+     */
+    private double[] ranges;
+
+    /**
+     * The insertion order of the {@link SimulationObject} of each slot.
+     */
+    private long[] insertionOrders;
+
+    /**
+     * The current cell of the {@link SimulationObject} of each slot.
+     */
+    private int[] cellOfSlot;
+
+    /**
+     * The amount of slots, which were used at least once.
+     */
+    private int slotCount;
+
+    /**
+     * The slots, which got freed by a removal and can be reused.
+     */
+    private int[] freeSlots;
+
+    /**
+     * The amount of slots in {@link #freeSlots}.
+     */
+    private int freeSlotCount;
+
+    /**
+     * The insertion order for the next inserted {@link SimulationObject}.
+     */
+    private long nextInsertionOrder;
+
+    /**
+     * The largest (absolute) interaction range of all inserted {@link SimulationObject}s. <br>
+     * Used to widen queries, which need to find objects whose interaction range reaches into the query area.
+     */
+    private double maxInteractionRange;
+
+    /**
+     * Additional padding in pixels for each query to avoid rounding issues at the cell borders.
+     */
+    private static final double QUERY_PADDING = 1;
+
+    /**
+     * The initial amount of slots of a bucket and of this grid.
+     */
+    private static final int INITIAL_CAPACITY = 4;
+
+    //endregion
+
+    /**
+     * Constructor for a grid, which uses the {@link Tile} grid of the {@link SimulationMap}.
+     */
+    public SpatialGrid() {
+        this(Tile.TILE_SIZE, SimulationMap.WIDTH, SimulationMap.HEIGHT);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param cellSize The size of one cell in pixels.
+     * @param columns  The amount of cells in x direction.
+     * @param rows     The amount of cells in y direction.
+     */
+    public SpatialGrid(double cellSize, int columns, int rows) {
+        if (cellSize <= 0 || columns <= 0 || rows <= 0)
+            throw new IllegalArgumentException("The cell size and the cell amount need to be greater than 0.");
+
+        this.cellSize = cellSize;
+        this.columns = columns;
+        this.rows = rows;
+        this.cellSlots = new int[columns * rows][];
+        this.cellSizes = new int[columns * rows];
+        this.objects = new SimulationObject[INITIAL_CAPACITY];
+        this.xs = new double[INITIAL_CAPACITY];
+        this.ys = new double[INITIAL_CAPACITY];
+        this.ranges = new double[INITIAL_CAPACITY];
+        this.insertionOrders = new long[INITIAL_CAPACITY];
+        this.cellOfSlot = new int[INITIAL_CAPACITY];
+        this.freeSlots = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Adds a {@link SimulationObject} to this grid. <br>
+     * The object notifies this grid by itself, if its position changes.
+     *
+     * @param simulationObject The {@link SimulationObject}, which should be added.
+     * @see SimulationObject#setPosition(Vector2D)
+     */
+    public void insert(SimulationObject simulationObject) {
+        if (contains(simulationObject))
+            return;
+
+        int slot;
+        if (freeSlotCount > 0) {
+            slot = freeSlots[--freeSlotCount];
+        } else {
+            if (slotCount == objects.length)
+                growSlots();
+            slot = slotCount++;
+        }
+
+        int cell = getCellIndex(simulationObject.getPosition());
+        objects[slot] = simulationObject;
+        storePosition(slot, simulationObject.getPosition());
+        ranges[slot] = simulationObject.getInteractionRange();
+        insertionOrders[slot] = nextInsertionOrder++;
+        cellOfSlot[slot] = cell;
+        //The new object has the highest insertion order, so it belongs to the end of the bucket.
+        addToCell(cell, slot, cellSizes[cell]);
+        maxInteractionRange = Math.max(maxInteractionRange, Math.abs(simulationObject.getInteractionRange()));
+
+        simulationObject.setSpatialGrid(this, slot);
+    }
+
+    /**
+     * Removes a {@link SimulationObject} from this grid.
+     *
+     * @param simulationObject The {@link SimulationObject}, which should be removed.
+     */
+    public void remove(SimulationObject simulationObject) {
+        if (!contains(simulationObject))
+            return;
+
+        int slot = simulationObject.getSpatialGridSlot();
+        removeFromCell(cellOfSlot[slot], slot);
+        objects[slot] = null;
+        if (freeSlotCount == freeSlots.length)
+            freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+        freeSlots[freeSlotCount++] = slot;
+
+        simulationObject.setSpatialGrid(null, -1);
+    }
+
+    /**
+     * Stores the current position of a {@link SimulationObject} and moves it into the cell of this position.
+     *
+     * @param simulationObject The {@link SimulationObject}, which position got updated.
+     */
+    public void update(SimulationObject simulationObject) {
+        if (!contains(simulationObject))
+            return;
+
+        int slot = simulationObject.getSpatialGridSlot();
+        storePosition(slot, simulationObject.getPosition());
+        int cell = getCellIndex(simulationObject.getPosition());
+        if (cell != cellOfSlot[slot]) {
+            removeFromCell(cellOfSlot[slot], slot);
+            addToCell(cell, slot, findInsertionIndex(cell, insertionOrders[slot]));
+            cellOfSlot[slot] = cell;
+        }
+    }
+
+    /**
+     * Removes all {@link SimulationObject}s from this grid.
+     */
+    public void clear() {
+        for (int slot = 0; slot < slotCount; slot++) {
+            if (objects[slot] != null)
+                objects[slot].setSpatialGrid(null, -1);
+        }
+        Arrays.fill(objects, 0, slotCount, null);
+        Arrays.fill(cellSizes, 0);
+        slotCount = 0;
+        freeSlotCount = 0;
+    }
+
+    /**
+     * Gets all {@link SimulationObject}s, whose position is inside the square around a center. <br>
+     * The result is ordered like {@link #getObjectsInArea(double, double, double, double)}.
+     *
+     * @param center The center {@link Vector2D} of the query.
+     * @param range  The range (half of the square width) around the center.
+     * @return A list with all found {@link SimulationObject}s. Can contain objects outside the range.
+     */
+    public List<SimulationObject> getObjectsInRange(Vector2D center, double range) {
+        double absRange = Math.abs(range);
+        return getObjectsInArea(center.getX() - absRange, center.getY() - absRange, center.getX() + absRange, center.getY() + absRange);
+    }
+
+    /**
+     * Gets all {@link SimulationObject}s, whose position is inside an area. <br>
+     * The result is ordered by the cells (row by row) and inside each cell by the insertion order.
+     * So the order only depends on the positions and the insertion order of the objects, but not on earlier removals.
+     *
+     * @param minX The min x coordinate of the area.
+     * @param minY The min y coordinate of the area.
+     * @param maxX The max x coordinate of the area.
+     * @param maxY The max y coordinate of the area.
+     * @return A list with all found {@link SimulationObject}s. Can contain objects outside the area.
+     */
+    public List<SimulationObject> getObjectsInArea(double minX, double minY, double maxX, double maxY) {
+        List<SimulationObject> result = new ArrayList<>();
+
+        int minCellX = getCellX(minX - QUERY_PADDING);
+        int maxCellX = getCellX(maxX + QUERY_PADDING);
+        int minCellY = getCellY(minY - QUERY_PADDING);
+        int maxCellY = getCellY(maxY + QUERY_PADDING);
+
+        for (int y = minCellY; y <= maxCellY; y++) {
+            for (int x = minCellX; x <= maxCellX; x++) {
+                int cell = x + y * columns;
+                for (int i = 0; i < cellSizes[cell]; i++) {
+                    result.add(objects[cellSlots[cell][i]]);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Checks, if any {@link SimulationObject} inside an area matches a condition. <br>
+     * The objects are not checked in a specific order.
+     *
+     * @param minX      The min x coordinate of the area.
+     * @param minY      The min y coordinate of the area.
+     * @param maxX      The max x coordinate of the area.
+     * @param maxY      The max y coordinate of the area.
+     * @param condition The condition, which is checked for each object. The object can be outside the area.
+     * @return true, if any object matched the condition.
+     */
+    public boolean anyMatchInArea(double minX, double minY, double maxX, double maxY, Predicate<SimulationObject> condition) {
+        int minCellX = getCellX(minX - QUERY_PADDING);
+        int maxCellX = getCellX(maxX + QUERY_PADDING);
+        int minCellY = getCellY(minY - QUERY_PADDING);
+        int maxCellY = getCellY(maxY + QUERY_PADDING);
+
+        for (int y = minCellY; y <= maxCellY; y++) {
+            for (int x = minCellX; x <= maxCellX; x++) {
+                int cell = x + y * columns;
+                for (int i = 0; i < cellSizes[cell]; i++) {
+                    if (condition.test(objects[cellSlots[cell][i]]))
+                        return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks, if a circle intersects the interaction range of any {@link SimulationObject}
+     * or if the center of the circle is inside any interaction range.
+     *
+     * @param x               The x coordinate of the center of the circle.
+     * @param y               The y coordinate of the center of the circle.
+     * @param radius          The radius of the circle.
+     * @param ignoredPosition A {@link SimulationObject} at this position is ignored. Can be null.
+     * @param ignoredObjects  {@link SimulationObject}s at the positions of these objects are ignored. Can be null.
+     * @return true, if the circle intersects any interaction range.
+     */
+    public boolean doesCircleIntersectAnyInteractionRange(double x, double y, double radius, Vector2D ignoredPosition, List<SimulationObject> ignoredObjects) {
+        double range = Math.abs(radius) + maxInteractionRange + QUERY_PADDING;
+        int minCellX = getCellX(x - range);
+        int maxCellX = getCellX(x + range);
+        int minCellY = getCellY(y - range);
+        int maxCellY = getCellY(y + range);
+
+        for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+            for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+                int cell = cellX + cellY * columns;
+                int[] bucket = cellSlots[cell];
+                for (int i = 0; i < cellSizes[cell]; i++) {
+                    int slot = bucket[i];
+                    double distanceSq = (xs[slot] - x) * (xs[slot] - x) + (ys[slot] - y) * (ys[slot] - y);
+                    double radiusSum = radius + ranges[slot];
+                    if ((distanceSq <= ranges[slot] * ranges[slot] || distanceSq < radiusSum * radiusSum) && !isIgnored(slot, ignoredPosition, ignoredObjects))
+                        return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks, if a line segment collides with the interaction range of any {@link SimulationObject}.
+     *
+     * @param startX          The x coordinate of the start of the line segment.
+     * @param startY          The y coordinate of the start of the line segment.
+     * @param endX            The x coordinate of the end of the line segment.
+     * @param endY            The y coordinate of the end of the line segment.
+     * @param ignoreEnd       true, if the end of the line segment can be inside an interaction range. (e.g. a food source)
+     * @param ignoredPosition A {@link SimulationObject} at this position is ignored. Can be null.
+     * @param ignoredObjects  {@link SimulationObject}s at the positions of these objects are ignored. Can be null.
+     * @return true, if the line segment collides with any interaction range.
+     */
+    public boolean doesLineSegmentCollideWithAnyInteractionRange(double startX, double startY, double endX, double endY, boolean ignoreEnd, Vector2D ignoredPosition, List<SimulationObject> ignoredObjects) {
+        //Only objects inside the bounding box of the line segment (widened by the largest interaction range) can collide.
+        double range = maxInteractionRange + QUERY_PADDING;
+        int minCellX = getCellX(Math.min(startX, endX) - range);
+        int maxCellX = getCellX(Math.max(startX, endX) + range);
+        int minCellY = getCellY(Math.min(startY, endY) - range);
+        int maxCellY = getCellY(Math.max(startY, endY) + range);
+
+        for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+            for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+                int cell = cellX + cellY * columns;
+                int[] bucket = cellSlots[cell];
+                for (int i = 0; i < cellSizes[cell]; i++) {
+                    int slot = bucket[i];
+                    if (doesLineSegmentCollideWithCircle(xs[slot], ys[slot], ranges[slot], startX, startY, endX, endY, ignoreEnd) && !isIgnored(slot, ignoredPosition, ignoredObjects))
+                        return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks, if the cell of a position contains no {@link SimulationObject}. <br>
+     * Objects of the neighbor cells can still reach into the cell with their interaction range.
+     *
+     * @param position The {@link Vector2D} position. Positions outside the grid are clamped into the border cells.
+     * @return true, if no object is positioned inside the cell.
+     */
+    public boolean isCellEmpty(Vector2D position) {
+        return cellSizes[getCellIndex(position)] == 0;
+    }
+
+    /**
+     * Adds a slot into a bucket at an index. The following slots are shifted to keep the insertion order.
+     *
+     * @param cell  The index of the cell.
+     * @param slot  The slot, which should be added.
+     * @param index The index inside the bucket.
+     */
+    private void addToCell(int cell, int slot, int index) {
+        int[] bucket = cellSlots[cell];
+        int size = cellSizes[cell];
+        if (bucket == null) {
+            bucket = cellSlots[cell] = new int[INITIAL_CAPACITY];
+        } else if (size == bucket.length) {
+            bucket = cellSlots[cell] = Arrays.copyOf(bucket, size * 2);
+        }
+        System.arraycopy(bucket, index, bucket, index + 1, size - index);
+        bucket[index] = slot;
+        cellSizes[cell] = size + 1;
+    }
+
+    /**
+     * Removes a slot from a bucket. The following slots are shifted to keep the insertion order.
+     *
+     * @param cell The index of the cell.
+     * @param slot The slot, which should be removed.
+     */
+    private void removeFromCell(int cell, int slot) {
+        int[] bucket = cellSlots[cell];
+        int size = cellSizes[cell];
+        for (int i = 0; i < size; i++) {
+            if (bucket[i] == slot) {
+                System.arraycopy(bucket, i + 1, bucket, i, size - i - 1);
+                cellSizes[cell] = size - 1;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Finds the index inside a bucket, where a slot with an insertion order belongs to. (binary search)
+     *
+     * @param cell           The index of the cell.
+     * @param insertionOrder The insertion order of the slot.
+     * @return The index of the first slot with a higher insertion order or the size of the bucket.
+     */
+    private int findInsertionIndex(int cell, long insertionOrder) {
+        int[] bucket = cellSlots[cell];
+        int low = 0;
+        int high = cellSizes[cell];
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (insertionOrders[bucket[middle]] < insertionOrder)
+                low = middle + 1;
+            else
+                high = middle;
+        }
+        return low;
+    }
+
+    /**
+     * Doubles the capacity of all slot arrays.
+     */
+    private void growSlots() {
+        int capacity = objects.length * 2;
+        objects = Arrays.copyOf(objects, capacity);
+        xs = Arrays.copyOf(xs, capacity);
+        ys = Arrays.copyOf(ys, capacity);
+        ranges = Arrays.copyOf(ranges, capacity);
+        insertionOrders = Arrays.copyOf(insertionOrders, capacity);
+        cellOfSlot = Arrays.copyOf(cellOfSlot, capacity);
+    }
+
+    /**
+     * Stores the position of a slot. A missing position never collides with anything.
+     *
+     * @param slot     The slot.
+     * @param position The {@link Vector2D} position or null.
+     */
+    private void storePosition(int slot, Vector2D position) {
+        xs[slot] = position != null ? position.getX() : Double.NaN;
+        ys[slot] = position != null ? position.getY() : Double.NaN;
+    }
+
+    /**
+     * Checks, if the {@link SimulationObject} of a slot is positioned at an ignored position. <br>
+     * The positions are compared directly, because this check runs for each colliding object.
+     *
+     * @param slot            The slot.
+     * @param ignoredPosition The ignored position or null.
+     * @param ignoredObjects  The ignored {@link SimulationObject}s or null.
+     * @return true, if the object should be ignored.
+     */
+    private boolean isIgnored(int slot, Vector2D ignoredPosition, List<SimulationObject> ignoredObjects) {
+        if (ignoredPosition != null && ignoredPosition.getX() == xs[slot] && ignoredPosition.getY() == ys[slot])
+            return true;
+        if (ignoredObjects == null)
+            return false;
+        for (int i = 0; i < ignoredObjects.size(); i++) {
+            Vector2D position = ignoredObjects.get(i).getPosition();
+            if (position.getX() == xs[slot] && position.getY() == ys[slot])
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks, if a line segment collides with a circle.
+     *
+     * @param originX   The x coordinate of the center of the circle.
+     * @param originY   The y coordinate of the center of the circle.
+     * @param radius    The radius of the circle.
+     * @param startX    The x coordinate of the start of the line segment.
+     * @param startY    The y coordinate of the start of the line segment.
+     * @param endX      The x coordinate of the end of the line segment.
+     * @param endY      The y coordinate of the end of the line segment.
+     * @param ignoreEnd true, if the end of the line segment can be inside the circle.
+     * @return true, if the line segment collides with the circle.
+     */
+    private static boolean doesLineSegmentCollideWithCircle(double originX, double originY, double radius, double startX, double startY, double endX, double endY, boolean ignoreEnd) {
+        double distanceToStartSq = (startX - originX) * (startX - originX) + (startY - originY) * (startY - originY);
+        double distanceToEndSq = (endX - originX) * (endX - originX) + (endY - originY) * (endY - originY);
+
+        if (distanceToStartSq <= radius * radius || !ignoreEnd && distanceToEndSq <= radius * radius) {
+            return true;
+        }
+
+        double distanceToStart = Math.sqrt(distanceToStartSq);
+        double distanceToEnd = Math.sqrt(distanceToEndSq);
+
+        double minDist;
+        double maxDist = Math.max(distanceToStart, distanceToEnd);
+
+        double triangleAre = Math.abs(Vector2D.crossProduct(startX - originX, startY - originY, endX - originX, endY - originY)) / 2;
+
+        if (Vector2D.dotProduct(originX - startX, originY - startY, endX - startX, endY - startY) > 0
+                && Vector2D.dotProduct(originX - endX, originY - endY, startX - endX, startY - endY) > 0) {
+            minDist = (2 * triangleAre) / Vector2D.distance(startX, startY, endX, endY);
+        } else {
+            minDist = Math.min(distanceToStart, distanceToEnd);
+        }
+
+        //If we ignore the end position and the origin and the end position are the same, we return false. (Happens for example, if we move to a food source (food source is target))
+        if (ignoreEnd && distanceToEnd == 0)
+            return false;
+
+        return minDist <= radius && maxDist >= radius;
+    }
+
+    /**
+     * Gets the cell index for a position. Positions outside the grid are clamped into the border cells.
+     *
+     * @param position The {@link Vector2D} position.
+     * @return The index of the cell.
+     */
+    private int getCellIndex(Vector2D position) {
+        if (position == null)
+            return 0;
+        return getCellX(position.getX()) + getCellY(position.getY()) * columns;
+    }
+
+    /**
+     * Gets the clamped cell column for a x coordinate.
+     *
+     * @param x The x coordinate.
+     * @return The cell column.
+     */
+    private int getCellX(double x) {
+        return clamp((int) Math.floor(x / cellSize), columns);
+    }
+
+    /**
+     * Gets the clamped cell row for a y coordinate.
+     *
+     * @param y The y coordinate.
+     * @return The cell row.
+     */
+    private int getCellY(double y) {
+        return clamp((int) Math.floor(y / cellSize), rows);
+    }
+
+    /**
+     * Clamps a cell coordinate into the range [0, size - 1].
+     *
+     * @param value The cell coordinate.
+     * @param size  The amount of cells.
+     * @return The clamped value.
+     */
+    private static int clamp(int value, int size) {
+        return Math.max(0, Math.min(size - 1, value));
+    }
+
+    //region getter & setter
+
+    /**
+     * Gets the largest (absolute) interaction range of all inserted {@link SimulationObject}s.
+     *
+     * @return The {@link #maxInteractionRange}.
+     */
+    public double getMaxInteractionRange() {
+        return maxInteractionRange;
+    }
+
+    /**
+     * Gets the amount of handled {@link SimulationObject}s.
+     *
+     * @return The amount of objects inside this grid.
+     */
+    public int size() {
+        return slotCount - freeSlotCount;
+    }
+
+    /**
+     * Checks, if a {@link SimulationObject} is handled by this grid.
+     *
+     * @param simulationObject The {@link SimulationObject}.
+     * @return true, if the object is inside this grid.
+     */
+    public boolean contains(SimulationObject simulationObject) {
+        int slot = simulationObject.getSpatialGridSlot();
+        return slot >= 0 && slot < slotCount && objects[slot] == simulationObject;
+    }
+
+    /**
+     * Gets the size of one cell.
+     *
+     * @return The {@link #cellSize} in pixels.
+     */
+    public double getCellSize() {
+        return cellSize;
+    }
+
+    //endregion
+}
@@ -0,0 +1,300 @@
+package com.dhbw.thesim.core.simulation;
+
+import com.dhbw.thesim.core.statemachine.state.StateFactory;
+import com.dhbw.thesim.core.util.LatencyHistogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Measures the duration of each phase of the updates (ticks) of a {@link SimulationLoop}. <br>
+ * For each {@link Phase} a {@link LatencyHistogram} is kept. The entity updates are additionally split by the
+ * {@link StateFactory.States} the entities were in: the time of all entities in a state is summed up per tick and recorded
+ * once per tick, so the histogram of a state shows how much of the tick budget this state used. <br>
+ * Also holds the updates, frames and dropped updates of the last second, which were printed to the console before.
+ *
+ * @author Daniel Czeschner
+ * @see SimulationLoop#getTickMetrics()
+ */
+public class TickMetrics {
+
+    /**
+     * The measured phases of the simulation loop.
+     */
+    public enum Phase {
+        /**
+         * A whole update, from the decision phase to the spawning of new objects.
+         */
+        UPDATE,
+        /**
+         * The decision phase. (see {@link Simulation#prepareQueries(java.util.concurrent.ForkJoinPool)})
+         */
+        PREPARE_QUERIES,
+        /**
+         * The update calls of all {@link com.dhbw.thesim.core.entity.SimulationObject}s.
+         */
+        ENTITY_UPDATES,
+        /**
+         * The stats update of all dinosaurs. (see {@link Simulation#updateDinosaurStats(double)})
+         */
+        DINOSAUR_STATS,
+        /**
+         * See {@link Simulation#removeDeletedObjects()}.
+         */
+        REMOVE_DELETED_OBJECTS,
+        /**
+         * See {@link Simulation#spawnNewObjects()}.
+         */
+        SPAWN_NEW_OBJECTS,
+        /**
+         * Adding a statistics sample.
+         */
+        STATISTICS,
+        /**
+         * Notifying the observers about a new frame.
+         */
+        GRAPHICS
+    }
+
+    //region variables
+
+    /**
+     * The histograms of all phases.
+     */
+    private final Map<Phase, LatencyHistogram> phaseHistograms = new EnumMap<>(Phase.class);
+
+    /**
+     * The histograms of the time per tick of all entity updates in a state.
+     */
+    private final Map<StateFactory.States, LatencyHistogram> stateHistograms = new EnumMap<>(StateFactory.States.class);
+
+    /**
+     * The time of the entity updates per state in the current tick. Index = {@link StateFactory.States#ordinal()}
+     */
+    private final long[] currentStateNanos = new long[StateFactory.States.values().length];
+
+    /**
+     * The amount of entity updates per state in the current tick.
+     */
+    private final int[] currentStateUpdates = new int[StateFactory.States.values().length];
+
+    /**
+     * The amount of entity updates per state since the last reset.
+     */
+    private final AtomicLongArray stateUpdates = new AtomicLongArray(StateFactory.States.values().length);
+
+    //region per second variables
+    private long nextSecondInMillis;
+    private int updates;
+    private int frames;
+    private int dropped;
+    private volatile int updatesPerSecond;
+    private volatile int framesPerSecond;
+    private volatile int droppedUpdatesPerSecond;
+    //endregion
+
+    //endregion
+
+    /**
+     * Constructor
+     */
+    public TickMetrics() {
+        for (Phase phase : Phase.values()) {
+            phaseHistograms.put(phase, new LatencyHistogram());
+        }
+        for (StateFactory.States state : StateFactory.States.values()) {
+            stateHistograms.put(state, new LatencyHistogram());
+        }
+        nextSecondInMillis = System.currentTimeMillis() + 1000;
+    }
+
+    /**
+     * Records the duration of a phase.
+     *
+     * @param phase The measured {@link Phase}.
+     * @param nanos The duration in nanoseconds.
+     */
+    public void record(Phase phase, long nanos) {
+        phaseHistograms.get(phase).record(nanos);
+    }
+
+    /**
+     * Adds the duration of one entity update to the state of the entity in the current tick. <br>
+     * Is only called by the simulation thread.
+     *
+     * @param state The state of the entity at the start of its update or null, if the state is unknown.
+     * @param nanos The duration in nanoseconds.
+     */
+    void addEntityUpdate(StateFactory.States state, long nanos) {
+        if (state == null)
+            return;
+        currentStateNanos[state.ordinal()] += nanos;
+        currentStateUpdates[state.ordinal()]++;
+    }
+
+    /**
+     * Records the summed up entity updates of the current tick for each state with at least one entity. <br>
+     * Is only called by the simulation thread.
+     */
+    void finishEntityUpdates() {
+        for (StateFactory.States state : StateFactory.States.values()) {
+            int i = state.ordinal();
+            if (currentStateUpdates[i] == 0)
+                continue;
+            stateHistograms.get(state).record(currentStateNanos[i]);
+            stateUpdates.addAndGet(i, currentStateUpdates[i]);
+            currentStateNanos[i] = 0;
+            currentStateUpdates[i] = 0;
+        }
+    }
+
+    /**
+     * Counts an update for the updates per second.
+     */
+    void countUpdate() {
+        updates++;
+    }
+
+    /**
+     * Counts a frame for the frames per second.
+     */
+    void countFrame() {
+        frames++;
+    }
+
+    /**
+     * Counts dropped updates for the dropped updates per second.
+     *
+     * @param droppedUpdates The amount of dropped updates.
+     */
+    void countDroppedUpdates(int droppedUpdates) {
+        dropped += droppedUpdates;
+    }
+
+    /**
+     * Publishes the counted updates, frames and dropped updates, if a second passed since the last call.
+     */
+    void finishSecondIfDue() {
+        long now = System.currentTimeMillis();
+        if (now > nextSecondInMillis) {
+            updatesPerSecond = updates;
+            framesPerSecond = frames;
+            droppedUpdatesPerSecond = dropped;
+            updates = 0;
+            frames = 0;
+            dropped = 0;
+            nextSecondInMillis = now + 1000;
+        }
+    }
+
+    /**
+     * Gets the histogram of a phase.
+     *
+     * @param phase The {@link Phase}.
+     * @return The live {@link LatencyHistogram} of the phase. Use {@link LatencyHistogram#copy()} for a stable snapshot.
+     */
+    public LatencyHistogram getHistogram(Phase phase) {
+        return phaseHistograms.get(phase);
+    }
+
+    /**
+     * Gets the histogram of the time per tick of all entity updates in a state.
+     *
+     * @param state The {@link StateFactory.States} entry.
+     * @return The live {@link LatencyHistogram} of the state.
+     */
+    public LatencyHistogram getHistogram(StateFactory.States state) {
+        return stateHistograms.get(state);
+    }
+
+    /**
+     * Gets the amount of entity updates in a state since the last reset.
+     *
+     * @param state The {@link StateFactory.States} entry.
+     * @return The amount of entity updates.
+     */
+    public long getEntityUpdates(StateFactory.States state) {
+        return stateUpdates.get(state.ordinal());
+    }
+
+    /**
+     * Gets the state with the largest summed up update time since the last reset.
+     *
+     * @return The most expensive {@link StateFactory.States} entry or null, if no entity update was recorded.
+     */
+    public StateFactory.States getMostExpensiveState() {
+        StateFactory.States mostExpensive = null;
+        long mostExpensiveTotal = 0;
+        for (Map.Entry<StateFactory.States, LatencyHistogram> entry : stateHistograms.entrySet()) {
+            long total = entry.getValue().getTotal();
+            if (total > mostExpensiveTotal) {
+                mostExpensive = entry.getKey();
+                mostExpensiveTotal = total;
+            }
+        }
+        return mostExpensive;
+    }
+
+    /**
+     * Gets the amount of updates in the last second.
+     *
+     * @return The updates per second.
+     */
+    public int getUpdatesPerSecond() {
+        return updatesPerSecond;
+    }
+
+    /**
+     * Gets the amount of frames in the last second.
+     *
+     * @return The frames per second.
+     */
+    public int getFramesPerSecond() {
+        return framesPerSecond;
+    }
+
+    /**
+     * Gets the amount of dropped updates in the last second.
+     *
+     * @return The dropped updates per second.
+     */
+    public int getDroppedUpdatesPerSecond() {
+        return droppedUpdatesPerSecond;
+    }
+
+    /**
+     * Removes all recorded durations. The per second values are kept.
+     */
+    public void reset() {
+        phaseHistograms.values().forEach(LatencyHistogram::reset);
+        stateHistograms.values().forEach(LatencyHistogram::reset);
+        for (int i = 0; i < stateUpdates.length(); i++) {
+            stateUpdates.set(i, 0);
+        }
+    }
+
+    /**
+     * Creates a readable summary of all phases and states, which were recorded at least once. <br>
+     * Each line contains the count, the mean, the 50th and 99th percentile and the max in microseconds.
+     *
+     * @return The summary.
+     */
+    public String getSummary() {
+        StringBuilder summary = new StringBuilder(String.format("UPS: %d, FPS: %d, Dropped: %d%n", updatesPerSecond, framesPerSecond, droppedUpdatesPerSecond));
+        for (Phase phase : Phase.values()) {
+            appendLine(summary, phase.name(), phaseHistograms.get(phase).copy());
+        }
+        for (StateFactory.States state : StateFactory.States.values()) {
+            appendLine(summary, "state " + state.name(), stateHistograms.get(state).copy());
+        }
+        return summary.toString();
+    }
+
+    private static void appendLine(StringBuilder summary, String name, LatencyHistogram histogram) {
+        if (histogram.getCount() == 0)
+            return;
+        summary.append(String.format("%-24s count: %d, mean: %.1fµs, p50: %.1fµs, p99: %.1fµs, max: %.1fµs%n", name, histogram.getCount(),
+                histogram.getMean() / 1000, histogram.getValueAtPercentile(50) / 1000d, histogram.getValueAtPercentile(99) / 1000d, histogram.getMax() / 1000d));
+    }
+}
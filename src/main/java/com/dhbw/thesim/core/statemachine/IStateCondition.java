@@ -0,0 +1,25 @@
+package com.dhbw.thesim.core.statemachine;
+
+import com.dhbw.thesim.core.simulation.Simulation;
+import com.dhbw.thesim.core.statemachine.state.State;
+
+/**
+ * This interface is used to create a transition of a {@link TransitionTable}. <br>
+ * Unlike an {@link ITransition}, the condition does not capture a {@link State}, but gets the checked {@link State} as argument.
+ * Therefore, one condition can be shared by all {@link State}s of the same type.
+ *
+ * @param <T> The type of the checked {@link State}.
+ * @author Daniel Czeschner
+ * @see TransitionTable
+ */
+@FunctionalInterface
+public interface IStateCondition<T extends State> {
+    /**
+     * Checks, if a transition is true
+     *
+     * @param state      The checked {@link State}.
+     * @param simulation The current {@link Simulation} data
+     * @return true, if the transition conditions are met.
+     */
+    boolean isMet(T state, Simulation simulation);
+}
@@ -2,6 +2,10 @@ package com.dhbw.thesim.core.statemachine;
 
 import com.dhbw.thesim.core.simulation.Simulation;
 import com.dhbw.thesim.core.statemachine.state.State;
+import com.dhbw.thesim.core.statemachine.state.StateFactory;
+
+import java.util.EnumMap;
+import java.util.Map;
 
 /**
  * This class holds the current State for a dinosaur. <br>
@@ -21,6 +25,12 @@ public abstract class StateMachine {
      */
     protected State currentState;
 
+    /**
+     * The {@link State}s, which were already created for this {@link StateMachine}. <br>
+     * They are reused on every transition, so a state change does not allocate a new {@link State}.
+     */
+    private final Map<StateFactory.States, State> statePool = new EnumMap<>(StateFactory.States.class);
+
     //endregion
 
     /**
@@ -32,6 +42,45 @@ public abstract class StateMachine {
         this.currentState = state;
     }
 
+    /**
+     * Gets the {@link StateFactory.States} entry of the {@link #currentState}.
+     *
+     * @return The type of the current state or null, if there is no current state or its type is unknown.
+     */
+    public StateFactory.States getCurrentStateType() {
+        return currentState == null ? null : currentState.getType();
+    }
+
+    /**
+     * Enters a {@link State}. The per-visit data of the {@link State} is reset (see {@link State#onEnter()}) and it becomes the {@link #currentState}.
+     *
+     * @param state The {@link State}, which should be entered.
+     */
+    public void enterState(State state) {
+        state.onEnter();
+        setState(state);
+    }
+
+    /**
+     * Gets an already created {@link State} of this {@link StateMachine}.
+     *
+     * @param state The {@link StateFactory.States} enum entry of the {@link State}.
+     * @return The pooled {@link State} or null, if no {@link State} of this type was created yet.
+     */
+    public State getPooledState(StateFactory.States state) {
+        return statePool.get(state);
+    }
+
+    /**
+     * Adds a {@link State} to the pool of this {@link StateMachine}, so it is reused for further transitions.
+     *
+     * @param stateType The {@link StateFactory.States} enum entry of the {@link State}.
+     * @param state     The {@link State}, which should be reused.
+     */
+    public void poolState(StateFactory.States stateType, State state) {
+        statePool.put(stateType, state);
+    }
+
     /**
      * Needs to be called each update call. <br>
      * This method handles state transitions.
@@ -42,7 +91,18 @@ public abstract class StateMachine {
         State nextState = currentState.checkTransitions(simulation);
         if (nextState != null) {
             currentState.onExit();
-            setState(nextState);
+            enterState(nextState);
         }
     }
+
+    /**
+     * Is called in the decision phase of an update, before the {@link #stateMachineTick(Simulation)}. <br>
+     * Lets the {@link #currentState} issue its world queries in advance. (see {@link State#prepare(Simulation)})
+     *
+     * @param simulation The current {@link Simulation} data.
+     */
+    public void prepare(Simulation simulation) {
+        if (currentState != null)
+            currentState.prepare(simulation);
+    }
 }
\ No newline at end of file
@@ -47,12 +47,22 @@ public class StateTransition {
     }
 
     /**
-     * Gets the next {@link State} using the {@link StateFactory}.
+     * Gets the next {@link State} using the {@link StateFactory}. <br>
+     * A pooled {@link State} of the {@link SimulationObject} is reused. (see {@link StateFactory#getState(StateFactory.States, SimulationObject)})
      *
      * @param simulationObject The {@link SimulationObject} which is transition to the next state.
      * @return The next {@link State}.
      */
     public State getNextState(SimulationObject simulationObject) {
-        return StateFactory.createState(nextState, simulationObject);
+        return StateFactory.getState(nextState, simulationObject);
+    }
+
+    /**
+     * Gets the {@link StateFactory.States} entry of the next {@link State}.
+     *
+     * @return The {@link #nextState}.
+     */
+    public StateFactory.States getNextStateType() {
+        return nextState;
     }
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.dhbw.thesim.core.statemachine;
+
+import com.dhbw.thesim.core.simulation.Simulation;
+import com.dhbw.thesim.core.statemachine.state.State;
+import com.dhbw.thesim.core.statemachine.state.StateFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Holds the transitions of one {@link State} type. <br>
+ * A {@link TransitionTable} is built once per {@link State} type (e.g. as a static constant) and is shared by all instances of this type.
+ * The conditions get the checked {@link State} as argument (see {@link IStateCondition}), so no transition objects
+ * or lambdas have to be created, if a new {@link State} is created.
+ *
+ * @param <T> The type of the {@link State}s, which use this table.
+ * @author Daniel Czeschner
+ * @see IStateCondition
+ */
+public class TransitionTable<T extends State> {
+
+    //region variables
+
+    /**
+     * The next {@link State}s. The entry at index i belongs to the condition at index i of {@link #conditions}.
+     */
+    private final List<StateFactory.States> nextStates;
+
+    /**
+     * The conditions of the transitions. They are checked in the order they were added.
+     */
+    private final List<IStateCondition<T>> conditions;
+
+    //endregion
+
+    /**
+     * Constructor for an empty {@link TransitionTable}.
+     */
+    public TransitionTable() {
+        this.nextStates = new ArrayList<>();
+        this.conditions = new ArrayList<>();
+    }
+
+    /**
+     * Adds a transition to this table.
+     *
+     * @param nextState The next {@link State}, if the condition is met.
+     * @param condition The {@link IStateCondition} which is used for the check.
+     * @return This {@link TransitionTable}, so multiple calls can be chained.
+     */
+    public TransitionTable<T> addTransition(StateFactory.States nextState, IStateCondition<T> condition) {
+        nextStates.add(nextState);
+        conditions.add(condition);
+        return this;
+    }
+
+    /**
+     * Checks the transitions in the order they were added.
+     *
+     * @param state      The checked {@link State}.
+     * @param simulation The current {@link Simulation} data.
+     * @return The {@link StateFactory.States} entry of the first met transition or null, if no transition is met.
+     */
+    public StateFactory.States getNextState(T state, Simulation simulation) {
+        for (int i = 0; i < conditions.size(); i++) {
+            if (conditions.get(i).isMet(state, simulation))
+                return nextStates.get(i);
+        }
+        return null;
+    }
+}
@@ -9,7 +9,9 @@ import java.util.List;
 
 /**
  * Represents a single State for a {@link com.dhbw.thesim.core.entity.SimulationObject}. <br>
- * Each state handles one behaviour for a {@link com.dhbw.thesim.core.entity.SimulationObject}.
+ * Each state handles one behaviour for a {@link com.dhbw.thesim.core.entity.SimulationObject}. <br>
+ * States are pooled per {@link SimulationObject} (see {@link StateFactory#getState(StateFactory.States, SimulationObject)}),
+ * so a {@link State} has to reset its per-visit data in {@link #onEnter()}.
  *
  * @author Daniel Czeschner
  */
@@ -18,15 +20,26 @@ public abstract class State {
     //region variables
 
     /**
-     * List with all {@link StateTransition}s for this {@link State}. They are checked in the order they were added.
+     * List with all instance bound {@link StateTransition}s for this {@link State}. They are checked in the order they were added. <br>
+     * Is created with the first added transition, so states, which use a shared {@link com.dhbw.thesim.core.statemachine.TransitionTable}, never create it.
      */
-    private final List<StateTransition> stateTransitionList;
+    private List<StateTransition> stateTransitionList;
+
+    /**
+     * Was {@link #initTransitions()} already called? It is called with the first check of the instance bound transitions.
+     */
+    private boolean transitionsInitialized;
 
     /**
      * The {@link SimulationObject} to which this state belongs. (Handled SimulationObject)
      */
     protected SimulationObject simulationObject;
 
+    /**
+     * The {@link StateFactory.States} entry, with which this state was created by the {@link StateFactory}.
+     */
+    private StateFactory.States type;
+
     //endregion
 
     /**
@@ -35,10 +48,33 @@ public abstract class State {
      * @param simulationObject The handled {@link SimulationObject}
      */
     public State(SimulationObject simulationObject) {
-        this.stateTransitionList = new ArrayList<>();
         this.simulationObject = simulationObject;
-        //Init all transitions
-        initTransitions();
+    }
+
+    /**
+     * Gets the {@link StateFactory.States} entry of this state.
+     *
+     * @return The {@link #type} or null, if the state was not created by the {@link StateFactory}.
+     */
+    public StateFactory.States getType() {
+        return type;
+    }
+
+    /**
+     * Sets the {@link #type}. Is only called by the {@link StateFactory}.
+     *
+     * @param type The {@link StateFactory.States} entry.
+     */
+    void setType(StateFactory.States type) {
+        this.type = type;
+    }
+
+    /**
+     * Is called on state entry, before the {@link State} becomes the current state. <br>
+     * Because states are reused, all data of a previous visit has to be reset here. By default, nothing is reset.
+     */
+    public void onEnter() {
+        //Nothing to reset
     }
 
     /**
@@ -55,9 +91,24 @@ public abstract class State {
     public abstract void update(double deltaTime, Simulation simulation);
 
     /**
-     * Use to initialize all transitions using {@link #addTransition(StateTransition)}.
+     * Use to initialize all instance bound transitions using {@link #addTransition(StateTransition)}. <br>
+     * Is called once before the first check of the instance bound transitions.
+     * States with a shared {@link com.dhbw.thesim.core.statemachine.TransitionTable} override {@link #getNextStateType(Simulation)} instead, so it is never called for them.
+     */
+    public void initTransitions() {
+        //No instance bound transitions
+    }
+
+    /**
+     * Is called in the decision phase of an update, which runs in parallel for all {@link SimulationObject}s. <br>
+     * A {@link State} can issue the world queries of its next update here, so they are prepared against the unchanged world. <br>
+     * No {@link SimulationObject} may be changed in this method. By default, nothing is prepared.
+     *
+     * @param simulation The {@link Simulation} data of the currently running simulation.
      */
-    public abstract void initTransitions();
+    public void prepare(Simulation simulation) {
+        //Nothing to prepare
+    }
 
     /**
      * Adds a {@link StateTransition} to the {@link #stateTransitionList} of this {@link State}. <br>
@@ -66,21 +117,51 @@ public abstract class State {
      * @param stateTransition The {@link StateTransition} which should be added.
      */
     public void addTransition(StateTransition stateTransition) {
+        if (stateTransitionList == null)
+            stateTransitionList = new ArrayList<>();
         this.stateTransitionList.add(stateTransition);
     }
 
     /**
-     * Checks, if any transition is met. If yes, return the next state for this transition otherwise return null.
+     * Checks the transitions and gets the {@link StateFactory.States} entry of the first met transition. <br>
+     * By default, the instance bound transitions of the {@link #stateTransitionList} are checked.
      *
      * @param simulation The current {@link Simulation} data.
-     * @return The next {@link State} or null.
+     * @return The {@link StateFactory.States} entry of the next {@link State} or null, if no transition is met.
      */
-    public State checkTransitions(Simulation simulation) {
+    protected StateFactory.States getNextStateType(Simulation simulation) {
+        if (!transitionsInitialized) {
+            transitionsInitialized = true;
+            initTransitions();
+        }
+        if (stateTransitionList == null)
+            return null;
         for (StateTransition stateTransition : stateTransitionList) {
-            if (stateTransition.shouldTransition(simulation)) {
-                return stateTransition.getNextState(simulationObject);
-            }
+            if (stateTransition.shouldTransition(simulation))
+                return stateTransition.getNextStateType();
         }
         return null;
     }
+
+    /**
+     * Checks the transitions like {@link #checkTransitions(Simulation)}, but without getting the next {@link State}. <br>
+     * Can be used in {@link #prepare(Simulation)}, if no transition condition of the {@link State} changes a {@link SimulationObject}.
+     *
+     * @param simulation The current {@link Simulation} data.
+     */
+    protected void prepareTransitions(Simulation simulation) {
+        getNextStateType(simulation);
+    }
+
+    /**
+     * Checks, if any transition is met. If yes, return the next state for this transition otherwise return null. <br>
+     * The next {@link State} is taken from the pool of the {@link #simulationObject}.
+     *
+     * @param simulation The current {@link Simulation} data.
+     * @return The next {@link State} or null.
+     */
+    public State checkTransitions(Simulation simulation) {
+        StateFactory.States nextState = getNextStateType(simulation);
+        return nextState != null ? StateFactory.getState(nextState, simulationObject) : null;
+    }
 }
\ No newline at end of file
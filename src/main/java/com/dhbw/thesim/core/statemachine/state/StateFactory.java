@@ -36,6 +36,25 @@ public class StateFactory {
         grown
     }
 
+    /**
+     * Gets the {@link State}-object of a {@link SimulationObject} based on the {@link States} enum. <br>
+     * Each {@link SimulationObject} creates a {@link State} only once per {@link States} entry and reuses it for all further transitions.
+     *
+     * @param state            The {@link States} enum entry for the next state.
+     * @param simulationObject The {@link SimulationObject} which is transitioning to the state.
+     * @return The pooled or newly created {@link State}.
+     */
+    public static State getState(States state, SimulationObject simulationObject) {
+        State pooled = simulationObject.getPooledState(state);
+        if (pooled != null)
+            return pooled;
+
+        State created = createState(state, simulationObject);
+        if (created != null)
+            simulationObject.poolState(state, created);
+        return created;
+    }
+
     /**
      * Creates a {@link State}-object based on the {@link States} enum.
      *
@@ -44,11 +63,14 @@ public class StateFactory {
      * @return The next {@link State}.
      */
     public static State createState(States state, SimulationObject simulationObject) {
+        State created = null;
         if (simulationObject instanceof Dinosaur dinosaur)
-            return createDinosaurState(state, dinosaur);
+            created = createDinosaurState(state, dinosaur);
         else if (simulationObject instanceof Plant plant)
-            return createPlantState(state, plant);
-        return null;
+            created = createPlantState(state, plant);
+        if (created != null)
+            created.setType(state);
+        return created;
     }
 
     /**
@@ -2,7 +2,6 @@ package com.dhbw.thesim.core.statemachine.state.dinosaur;
 
 import com.dhbw.thesim.core.entity.Dinosaur;
 import com.dhbw.thesim.core.simulation.Simulation;
-import com.dhbw.thesim.core.statemachine.StateTransition;
 import com.dhbw.thesim.core.statemachine.state.State;
 
 /**
@@ -55,18 +54,18 @@ public class Dead extends State {
     }
 
     /**
-     * Is called on state exit
+     * Is called on state entry. Resets the data of a previous visit.
      */
     @Override
-    public void onExit() {
-        //Nothing to do here.
+    public void onEnter() {
+        triggered = false;
     }
 
     /**
-     * Use to initialize all transitions using {@link #addTransition(StateTransition)}.
+     * Is called on state exit
      */
     @Override
-    public void initTransitions() {
-        //Dead = end
+    public void onExit() {
+        //Nothing to do here.
     }
 }
\ No newline at end of file
@@ -2,7 +2,7 @@ package com.dhbw.thesim.core.statemachine.state.dinosaur;
 
 import com.dhbw.thesim.core.entity.Dinosaur;
 import com.dhbw.thesim.core.simulation.Simulation;
-import com.dhbw.thesim.core.statemachine.StateTransition;
+import com.dhbw.thesim.core.statemachine.TransitionTable;
 import com.dhbw.thesim.core.statemachine.state.State;
 import com.dhbw.thesim.core.statemachine.state.StateFactory;
 import com.dhbw.thesim.core.util.Vector2D;
@@ -17,6 +17,22 @@ public class Escape extends State {
 
     //region variables.
 
+    /**
+     * The transitions of all {@link Escape} states. They are checked in the order they were added.
+     */
+    private static final TransitionTable<Escape> TRANSITIONS = new TransitionTable<Escape>()
+            //The dinosaur died.
+            .addTransition(StateFactory.States.dead, (state, simulation) -> state.dinosaur.diedOfHunger() || state.dinosaur.diedOfThirst())
+            //Dinosaur got caught
+            .addTransition(StateFactory.States.noop, (state, simulation) -> state.dinosaur.isForcedToNoOp())
+            //We have no target -> transition to stand.
+            //We can do this here, because the update is called before the next check transitions
+            .addTransition(StateFactory.States.stand, (state, simulation) -> state.target == null)
+            //If the dinosaur can no longer move to the target. (Maybe because another dinosaur blocked the direction.)
+            .addTransition(StateFactory.States.escape, (state, simulation) -> !simulation.canMoveTo(state.dinosaur.getPosition(), state.target, state.dinosaur.getInteractionRange(), state.dinosaur.canSwim(), state.dinosaur.canClimb(), state.dinosaur.getRenderOffset(), false, false, null))
+            //If the dinosaur is no longer been chased.
+            .addTransition(StateFactory.States.wander, (state, simulation) -> !state.dinosaur.isChased());
+
     /**
      * Helper {@link Dinosaur} variable, to get dinosaur specific variables
      */
@@ -60,49 +76,74 @@ public class Escape extends State {
         if (target == null || reachedTarget()) {
             if (dinosaur.getTarget() != null && dinosaur.isChased() && dinosaur.getTarget() instanceof Dinosaur hunter) {
                 directionOfHunter = hunter.getPosition().directionToTarget(dinosaur.getPosition());
-                target = simulation.getRandomMovementTargetInRangeInDirection(dinosaur.getPosition(), dinosaur.getViewRange(), dinosaur.getInteractionRange(),
-                        dinosaur.canSwim(), dinosaur.canClimb(), dinosaur.getRenderOffset(), directionOfHunter);
-                if (target == null) {
-                    //If we can't get a direction away from the hunter get a random direction.
-                    target = simulation.getRandomMovementTargetInRange(dinosaur.getPosition(), dinosaur.getViewRange(), dinosaur.getInteractionRange(),
-                            dinosaur.canSwim(), dinosaur.canClimb(), dinosaur.getRenderOffset());
-                }
+                target = getEscapeTarget(simulation, directionOfHunter);
             }
         }
         if (target != null) {
-            direction = dinosaur.getPosition().directionToTarget(target);
-            dinosaur.flipImage(direction);
-            simulationObject.setPosition(simulationObject.getPosition().add(direction.multiply(dinosaur.getSpeed() * deltaTime)));
+            direction = dinosaur.getPosition().directionToTarget(target, direction);
+            dinosaur.faceDirection(direction);
+            simulationObject.setPosition(simulationObject.getPosition().addScaled(direction, dinosaur.getSpeed() * deltaTime));
         }
     }
 
     /**
-     * Is called on state exit
+     * Is called in the decision phase of an update. <br>
+     * Prepares the queries of the transitions and the next escape target, if the current target is reached.
+     *
+     * @param simulation The {@link Simulation} data of the currently running simulation.
      */
     @Override
-    public void onExit() {
+    public void prepare(Simulation simulation) {
+        prepareTransitions(simulation);
+        if (reachedTarget() && dinosaur.isChased() && dinosaur.getTarget() instanceof Dinosaur hunter) {
+            getEscapeTarget(simulation, hunter.getPosition().directionToTarget(dinosaur.getPosition()));
+        }
     }
 
     /**
-     * Use to initialize all transitions using {@link #addTransition(StateTransition)}.
+     * Is called on state entry. Resets the data of a previous visit.
      */
     @Override
-    public void initTransitions() {
-        //The dinosaur died.
-        addTransition(new StateTransition(StateFactory.States.dead, simulation -> dinosaur.diedOfHunger() || dinosaur.diedOfThirst()));
-
-        //Dinosaur got caught
-        addTransition(new StateTransition(StateFactory.States.noop, simulation -> dinosaur.isForcedToNoOp()));
+    public void onEnter() {
+        target = null;
+        direction = null;
+        directionOfHunter = null;
+    }
 
-        //We have no target -> transition to stand.
-        //We can do this here, because the update is called before the next check transitions
-        addTransition(new StateTransition(StateFactory.States.stand, simulation -> target == null));
+    /**
+     * Is called on state exit
+     */
+    @Override
+    public void onExit() {
+    }
 
-        //If the dinosaur can no longer move to the target. (Maybe because another dinosaur blocked the direction.)
-        addTransition(new StateTransition(StateFactory.States.escape, simulation -> !simulation.canMoveTo(dinosaur.getPosition(), target, dinosaur.getInteractionRange(), dinosaur.canSwim(), dinosaur.canClimb(), dinosaur.getRenderOffset(), false, false, null)));
+    /**
+     * Checks the transitions of the shared {@link #TRANSITIONS} table.
+     *
+     * @param simulation The current {@link Simulation} data.
+     * @return The {@link StateFactory.States} entry of the next {@link State} or null, if no transition is met.
+     */
+    @Override
+    protected StateFactory.States getNextStateType(Simulation simulation) {
+        return TRANSITIONS.getNextState(this, simulation);
+    }
 
-        //If the dinosaur is no longer been chased.
-        addTransition(new StateTransition(StateFactory.States.wander, simulation -> !dinosaur.isChased()));
+    /**
+     * Searches a target away from the hunter. If there is none, a random target is used.
+     *
+     * @param simulation        The current {@link Simulation} data.
+     * @param directionOfHunter The direction {@link Vector2D} of the hunter to this {@link #dinosaur}.
+     * @return The target or null.
+     */
+    private Vector2D getEscapeTarget(Simulation simulation, Vector2D directionOfHunter) {
+        Vector2D escapeTarget = simulation.getRandomMovementTargetInRangeInDirection(dinosaur.getPosition(), dinosaur.getViewRange(), dinosaur.getInteractionRange(),
+                dinosaur.canSwim(), dinosaur.canClimb(), dinosaur.getRenderOffset(), directionOfHunter);
+        if (escapeTarget == null) {
+            //If we can't get a direction away from the hunter get a random direction.
+            escapeTarget = simulation.getRandomMovementTargetInRange(dinosaur.getPosition(), dinosaur.getViewRange(), dinosaur.getInteractionRange(),
+                    dinosaur.canSwim(), dinosaur.canClimb(), dinosaur.getRenderOffset());
+        }
+        return escapeTarget;
     }
 
     /**
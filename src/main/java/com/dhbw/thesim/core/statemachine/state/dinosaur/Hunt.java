@@ -2,7 +2,7 @@ package com.dhbw.thesim.core.statemachine.state.dinosaur;
 
 import com.dhbw.thesim.core.entity.Dinosaur;
 import com.dhbw.thesim.core.simulation.Simulation;
-import com.dhbw.thesim.core.statemachine.StateTransition;
+import com.dhbw.thesim.core.statemachine.TransitionTable;
 import com.dhbw.thesim.core.statemachine.state.State;
 import com.dhbw.thesim.core.statemachine.state.StateFactory;
 import com.dhbw.thesim.core.util.Vector2D;
@@ -19,6 +19,26 @@ public class Hunt extends State {
 
     //region variables
 
+    /**
+     * The transitions of all {@link Hunt} states. They are checked in the order they were added.
+     */
+    private static final TransitionTable<Hunt> TRANSITIONS = new TransitionTable<Hunt>()
+            //The dinosaur died.
+            .addTransition(StateFactory.States.dead, (state, simulation) -> state.dinosaur.diedOfHunger() || state.dinosaur.diedOfThirst())
+            //We have no target -> transition to wander.
+            //We can do this here, because the update is called before the next check transitions
+            .addTransition(StateFactory.States.wander, (state, simulation) -> state.target == null || state.dinosaur.getTarget() == null)
+            .addTransition(StateFactory.States.escape, (state, simulation) -> state.dinosaur.isChased())
+            //The other dinosaur escaped
+            .addTransition(StateFactory.States.moveToFoodSource, (state, simulation) -> state.dinosaur.getTarget() != null &&
+                    !simulation.doTheCirclesIntersect(state.dinosaur.getPosition(), state.dinosaur.getViewRange() + Dinosaur.PROXIMITY_RANGE, state.dinosaur.getTarget().getPosition(), state.dinosaur.getTarget().getInteractionRange()))
+            //If we reached the target
+            .addTransition(StateFactory.States.ingestion, (state, simulation) -> state.targetReached(simulation))
+            //If we have a simulationobject target (e.g. a dinosaur or plant, and it can no longer be eaten (because the object got eaten), transition to moveToFoodSource.
+            .addTransition(StateFactory.States.moveToFoodSource, (state, simulation) -> state.dinosaur.getTarget() != null && !state.dinosaur.getTarget().canBeEaten(state.dinosaur.getStrength()))
+            //If we can't reach the target anymore -> transition to moveToFoodSource (check for another food/water source in range). (Maybe because another dinosaur blocked the direction.)
+            .addTransition(StateFactory.States.moveToFoodSource, (state, simulation) -> !simulation.canMoveTo(state.dinosaur.getPosition(), state.dinosaur.getTarget().getPosition(), 0, state.dinosaur.canSwim(), state.dinosaur.canClimb(), state.dinosaur.getRenderOffset(), true, false, List.of(state.dinosaur.getTarget())));
+
     /**
      * Helper {@link Dinosaur} variable, to get dinosaur specific variables
      */
@@ -56,13 +76,13 @@ public class Hunt extends State {
     public void update(double deltaTime, Simulation simulation) {
         //Init
         if (target == null && dinosaur.isHungry()) {
-            dinosaur.setTarget(simulation.getClosestReachableFoodSourceInRange(dinosaur.getPosition(), dinosaur.getViewRange(), dinosaur.getInteractionRange(), dinosaur.getDiet(), dinosaur.getType(),
+            dinosaur.setTarget(simulation.getClosestReachableFoodSourceInRange(dinosaur.getPosition(), dinosaur.getViewRange(), dinosaur.getInteractionRange(), dinosaur.getDiet(), dinosaur.getSpeciesId(),
                     dinosaur.canSwim(), dinosaur.canClimb(), dinosaur.getStrength()));
             if (dinosaur.getTarget() != null && dinosaur.getTarget() instanceof Dinosaur targetDino) {
                 targetDino.setIsChased(true);
                 targetDino.setTarget(dinosaur);
                 target = targetDino.getPosition();
-                direction = dinosaur.getPosition().directionToTarget(target);
+                direction = dinosaur.getPosition().directionToTarget(target, direction);
             }
         }
         if (direction != null) {
@@ -71,9 +91,9 @@ public class Hunt extends State {
                 targetDino.setIsChased(true);
             }
             target = dinosaur.getTarget().getPosition();
-            direction = dinosaur.getPosition().directionToTarget(target);
-            dinosaur.flipImage(direction);
-            simulationObject.setPosition(simulationObject.getPosition().add(direction.multiply(dinosaur.getSpeed() * deltaTime)));
+            direction = dinosaur.getPosition().directionToTarget(target, direction);
+            dinosaur.faceDirection(direction);
+            simulationObject.setPosition(simulationObject.getPosition().addScaled(direction, dinosaur.getSpeed() * deltaTime));
         } else {
             //Invalid state
             target = null;
@@ -85,6 +105,15 @@ public class Hunt extends State {
     }
 
 
+    /**
+     * Is called on state entry. Resets the data of a previous visit.
+     */
+    @Override
+    public void onEnter() {
+        target = null;
+        direction = null;
+    }
+
     /**
      * Is called on state exit
      */
@@ -97,32 +126,14 @@ public class Hunt extends State {
     }
 
     /**
-     * Use to initialize all transitions using {@link #addTransition(StateTransition)}.
+     * Checks the transitions of the shared {@link #TRANSITIONS} table.
+     *
+     * @param simulation The current {@link Simulation} data.
+     * @return The {@link StateFactory.States} entry of the next {@link State} or null, if no transition is met.
      */
     @Override
-    public void initTransitions() {
-        //The dinosaur died.
-        addTransition(new StateTransition(StateFactory.States.dead, simulation -> dinosaur.diedOfHunger() || dinosaur.diedOfThirst()));
-
-        //We have no target -> transition to wander.
-        //We can do this here, because the update is called before the next check transitions
-        addTransition(new StateTransition(StateFactory.States.wander, simulation -> target == null || dinosaur.getTarget() == null));
-
-        addTransition(new StateTransition(StateFactory.States.escape, simulation -> dinosaur.isChased()));
-
-        //The other dinosaur escaped
-        addTransition(new StateTransition(
-                StateFactory.States.moveToFoodSource, simulation -> dinosaur.getTarget() != null &&
-                !simulation.doTheCirclesIntersect(dinosaur.getPosition(), dinosaur.getViewRange() + Dinosaur.PROXIMITY_RANGE, dinosaur.getTarget().getPosition(), dinosaur.getTarget().getInteractionRange())));
-
-        //If we reached the target
-        addTransition(new StateTransition(StateFactory.States.ingestion, this::targetReached));
-
-        //If we have a simulationobject target (e.g. a dinosaur or plant, and it can no longer be eaten (because the object got eaten), transition to moveToFoodSource.
-        addTransition(new StateTransition(StateFactory.States.moveToFoodSource, simulation -> dinosaur.getTarget() != null && !dinosaur.getTarget().canBeEaten(dinosaur.getStrength())));
-
-        //If we can't reach the target anymore -> transition to moveToFoodSource (check for another food/water source in range). (Maybe because another dinosaur blocked the direction.)
-        addTransition(new StateTransition(StateFactory.States.moveToFoodSource, simulation -> !simulation.canMoveTo(dinosaur.getPosition(), dinosaur.getTarget().getPosition(), 0, dinosaur.canSwim(), dinosaur.canClimb(), dinosaur.getRenderOffset(), true, false, List.of(dinosaur.getTarget()))));
+    protected StateFactory.States getNextStateType(Simulation simulation) {
+        return TRANSITIONS.getNextState(this, simulation);
     }
 
     /**
@@ -4,7 +4,7 @@ import com.dhbw.thesim.core.entity.Dinosaur;
 import com.dhbw.thesim.core.entity.Plant;
 import com.dhbw.thesim.core.entity.SimulationObject;
 import com.dhbw.thesim.core.simulation.Simulation;
-import com.dhbw.thesim.core.statemachine.StateTransition;
+import com.dhbw.thesim.core.statemachine.TransitionTable;
 import com.dhbw.thesim.core.statemachine.state.State;
 import com.dhbw.thesim.core.statemachine.state.StateFactory;
 
@@ -18,6 +18,22 @@ public class Ingestion extends State {
 
     //region variables
 
+    /**
+     * The transitions of all {@link Ingestion} states. They are checked in the order they were added.
+     */
+    private static final TransitionTable<Ingestion> TRANSITIONS = new TransitionTable<Ingestion>()
+            //The dinosaur died.
+            .addTransition(StateFactory.States.dead, (state, simulation) -> state.dinosaur.diedOfHunger() || state.dinosaur.diedOfThirst())
+            .addTransition(StateFactory.States.escape, (state, simulation) -> state.dinosaur.isChased())
+            //If the dinosaur have a simulationobject target (e.g. a dinosaur or plant, and it can no longer be eaten (because the object got eaten), transition to wander.
+            .addTransition(StateFactory.States.wander, (state, simulation) -> state.dinosaur.getTarget() != null && !state.dinosaur.getTarget().canBeEaten(state.dinosaur.getStrength()))
+            //If the dinosaur is thirsty and a water tile is in range, transition to moveToFoodSource.
+            .addTransition(StateFactory.States.moveToFoodSource, (state, simulation) -> state.done && state.dinosaur.isThirsty())
+            //If the dinosaur is hungry and a food source is in range, transition to moveToFoodSource.
+            .addTransition(StateFactory.States.moveToFoodSource, (state, simulation) -> state.done && state.dinosaur.isHungry())
+            //If we are done, go to the wander-state.
+            .addTransition(StateFactory.States.wander, (state, simulation) -> state.done);
+
     /**
      * The time the dinosaur needs to eat/drink the source.
      */
@@ -68,6 +84,15 @@ public class Ingestion extends State {
         }
     }
 
+    /**
+     * Is called on state entry. Resets the data of a previous visit.
+     */
+    @Override
+    public void onEnter() {
+        ingestionTime = 2;
+        done = false;
+    }
+
     /**
      * Is called on state exit
      */
@@ -77,25 +102,13 @@ public class Ingestion extends State {
     }
 
     /**
-     * Use to initialize all transitions using {@link #addTransition(StateTransition)}.
+     * Checks the transitions of the shared {@link #TRANSITIONS} table.
+     *
+     * @param simulation The current {@link Simulation} data.
+     * @return The {@link StateFactory.States} entry of the next {@link State} or null, if no transition is met.
      */
     @Override
-    public void initTransitions() {
-        //The dinosaur died.
-        addTransition(new StateTransition(StateFactory.States.dead, simulation -> dinosaur.diedOfHunger() || dinosaur.diedOfThirst()));
-
-        addTransition(new StateTransition(StateFactory.States.escape, simulation -> dinosaur.isChased()));
-
-        //If the dinosaur have a simulationobject target (e.g. a dinosaur or plant, and it can no longer be eaten (because the object got eaten), transition to wander.
-        addTransition(new StateTransition(StateFactory.States.wander, simulation -> dinosaur.getTarget() != null && !dinosaur.getTarget().canBeEaten(dinosaur.getStrength())));
-
-        //If the dinosaur is thirsty and a water tile is in range, transition to moveToFoodSource.
-        addTransition(new StateTransition(StateFactory.States.moveToFoodSource, simulation -> done && dinosaur.isThirsty()));
-
-        //If the dinosaur is hungry and a food source is in range, transition to moveToFoodSource.
-        addTransition(new StateTransition(StateFactory.States.moveToFoodSource, simulation -> done && dinosaur.isHungry()));
-
-        //If we are done, go to the wander-state.
-        addTransition(new StateTransition(StateFactory.States.wander, simulation -> done));
+    protected StateFactory.States getNextStateType(Simulation simulation) {
+        return TRANSITIONS.getNextState(this, simulation);
     }
 }
\ No newline at end of file
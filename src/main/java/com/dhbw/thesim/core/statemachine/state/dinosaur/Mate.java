@@ -3,7 +3,7 @@ package com.dhbw.thesim.core.statemachine.state.dinosaur;
 import com.dhbw.thesim.core.entity.Dinosaur;
 import com.dhbw.thesim.core.entity.SimulationObject;
 import com.dhbw.thesim.core.simulation.Simulation;
-import com.dhbw.thesim.core.statemachine.StateTransition;
+import com.dhbw.thesim.core.statemachine.TransitionTable;
 import com.dhbw.thesim.core.statemachine.state.State;
 import com.dhbw.thesim.core.statemachine.state.StateFactory;
 
@@ -17,6 +17,24 @@ public class Mate extends State {
 
     //region variables
 
+    /**
+     * The transitions of all {@link Mate} states. They are checked in the order they were added.
+     */
+    private static final TransitionTable<Mate> TRANSITIONS = new TransitionTable<Mate>()
+            //The dinosaur died.
+            .addTransition(StateFactory.States.dead, (state, simulation) -> state.dinosaur.diedOfHunger() || state.dinosaur.diedOfThirst())
+            .addTransition(StateFactory.States.escape, (state, simulation) -> state.dinosaur.isChased())
+            //If the partner isn't willing to mate anymore, transition to wander
+            .addTransition(StateFactory.States.wander, (state, simulation) -> state.dinosaur.getPartner() != null && !state.dinosaur.getPartner().isWillingToMate())
+            //If the dinosaur is thirsty and a water tile is in range, transition to moveToFoodSource.
+            .addTransition(StateFactory.States.moveToFoodSource, (state, simulation) -> state.done && state.dinosaur.isThirsty())
+            //If the dinosaur is hungry and a food source is in range, transition to moveToFoodSource.
+            .addTransition(StateFactory.States.moveToFoodSource, (state, simulation) -> state.done && state.dinosaur.isHungry())
+            //If we are done, go to the wander-state.
+            .addTransition(StateFactory.States.wander, (state, simulation) -> state.done)
+            //If the partner is null, got to the wander-state. (Exit for male dinosaurs)
+            .addTransition(StateFactory.States.wander, (state, simulation) -> state.dinosaur.getPartner() == null);
+
     /**
      * The time the {@link Dinosaur} needs to mate.
      */
@@ -69,6 +87,15 @@ public class Mate extends State {
 
     }
 
+    /**
+     * Is called on state entry. Resets the data of a previous visit.
+     */
+    @Override
+    public void onEnter() {
+        mateTime = 2;
+        done = false;
+    }
+
     /**
      * Is called on state exit
      */
@@ -81,30 +108,13 @@ public class Mate extends State {
     }
 
     /**
-     * Use to initialize all transitions using {@link #addTransition(StateTransition)}.
+     * Checks the transitions of the shared {@link #TRANSITIONS} table.
+     *
+     * @param simulation The current {@link Simulation} data.
+     * @return The {@link StateFactory.States} entry of the next {@link State} or null, if no transition is met.
      */
     @Override
-    public void initTransitions() {
-        //The dinosaur died.
-        addTransition(new StateTransition(StateFactory.States.dead, simulation -> dinosaur.diedOfHunger() || dinosaur.diedOfThirst()));
-
-        addTransition(new StateTransition(StateFactory.States.escape, simulation -> dinosaur.isChased()));
-
-        //If the partner isn't willing to mate anymore, transition to wander
-        addTransition(new StateTransition(StateFactory.States.wander, simulation -> dinosaur.getPartner() != null && !dinosaur.getPartner().isWillingToMate()));
-
-        //If the dinosaur is thirsty and a water tile is in range, transition to moveToFoodSource.
-        addTransition(new StateTransition(StateFactory.States.moveToFoodSource, simulation -> done && dinosaur.isThirsty()));
-
-        //If the dinosaur is hungry and a food source is in range, transition to moveToFoodSource.
-        addTransition(new StateTransition(StateFactory.States.moveToFoodSource, simulation -> done && dinosaur.isHungry()));
-
-        //If we are done, go to the wander-state.
-        addTransition(new StateTransition(StateFactory.States.wander, simulation -> done));
-
-        //If the partner is null, got to the wander-state. (Exit for male dinosaurs)
-        addTransition(new StateTransition(StateFactory.States.wander, simulation -> dinosaur.getPartner() == null));
-
-
+    protected StateFactory.States getNextStateType(Simulation simulation) {
+        return TRANSITIONS.getNextState(this, simulation);
     }
 }
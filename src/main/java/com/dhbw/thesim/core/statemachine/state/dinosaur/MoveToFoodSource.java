@@ -4,7 +4,7 @@ import com.dhbw.thesim.core.entity.Dinosaur;
 import com.dhbw.thesim.core.entity.SimulationObject;
 import com.dhbw.thesim.core.map.Tile;
 import com.dhbw.thesim.core.simulation.Simulation;
-import com.dhbw.thesim.core.statemachine.StateTransition;
+import com.dhbw.thesim.core.statemachine.TransitionTable;
 import com.dhbw.thesim.core.statemachine.state.State;
 import com.dhbw.thesim.core.statemachine.state.StateFactory;
 import com.dhbw.thesim.core.util.Vector2D;
@@ -13,7 +13,8 @@ import java.util.List;
 
 /**
  * Represents a {@link State} a {@link Dinosaur} can be in. <br>
- * In this {@link State} the handled {@link Dinosaur} tries to move to a food or water source.
+ * In this {@link State} the handled {@link Dinosaur} tries to move to a food or water source. <br>
+ * The {@link Dinosaur} follows the {@link Waypoints} of the path to the source, so it can move around water and mountain tiles.
  *
  * @author Daniel Czeschner
  */
@@ -21,6 +22,25 @@ public class MoveToFoodSource extends State {
 
     //region variables
 
+    /**
+     * The transitions of all {@link MoveToFoodSource} states. They are checked in the order they were added.
+     */
+    private static final TransitionTable<MoveToFoodSource> TRANSITIONS = new TransitionTable<MoveToFoodSource>()
+            //The dinosaur died.
+            .addTransition(StateFactory.States.dead, (state, simulation) -> state.dinosaur.diedOfHunger() || state.dinosaur.diedOfThirst())
+            .addTransition(StateFactory.States.stand, (state, simulation) -> state.dinosaur.isForcedToNoOp())
+            .addTransition(StateFactory.States.escape, (state, simulation) -> state.dinosaur.isChased())
+            //We can do this, because the update is called before the next check transitions
+            .addTransition(StateFactory.States.wander, (state, simulation) -> state.target == null)
+            //If we hava simulationobject target (e.g. a dinosaur or plant, and it can no longer be eaten (because the object got eaten), transition to wander.
+            .addTransition(StateFactory.States.wander, (state, simulation) -> state.dinosaur.getTarget() != null && !state.dinosaur.getTarget().canBeEaten(state.dinosaur.getStrength()))
+            //If the target is a dinosaur go to the hunt state.
+            .addTransition(StateFactory.States.hunt, (state, simulation) -> state.dinosaur.getTarget() instanceof Dinosaur)
+            //If we reached the target
+            .addTransition(StateFactory.States.ingestion, (state, simulation) -> state.targetReached(simulation))
+            //If we can't reach the target anymore -> transition to moveToFoodSource (check for another food/water source in range). (Maybe because another dinosaur blocked the direction.)
+            .addTransition(StateFactory.States.moveToFoodSource, (state, simulation) -> !simulation.canMoveTo(state.dinosaur.getPosition(), state.waypoints.getCurrent(), 0, state.dinosaur.canSwim(), state.dinosaur.canClimb(), null, true, true, state.dinosaur.getTarget() != null ? List.of(state.dinosaur.getTarget()) : null));
+
     /**
      * Helper {@link Dinosaur} variable, to get dinosaur specific variables
      */
@@ -32,7 +52,12 @@ public class MoveToFoodSource extends State {
     private Vector2D target;
 
     /**
-     * The direction {@link Vector2D} the {@link #target} from the current position to this {@link #dinosaur}.
+     * The waypoints to the {@link #target}.
+     */
+    private final Waypoints waypoints;
+
+    /**
+     * The direction {@link Vector2D} from the current position of this {@link #dinosaur} to the current waypoint.
      */
     private Vector2D direction;
 
@@ -51,6 +76,7 @@ public class MoveToFoodSource extends State {
     public MoveToFoodSource(Dinosaur simulationObject) {
         super(simulationObject);
         this.dinosaur = (Dinosaur) this.simulationObject;
+        this.waypoints = new Waypoints();
     }
 
     /**
@@ -67,20 +93,18 @@ public class MoveToFoodSource extends State {
             dinosaur.setTarget(null);
 
             if (dinosaur.isHungry() && dinosaur.isThirsty()) {
-                SimulationObject target1 = simulation.getClosestReachableFoodSourceInRange(dinosaur.getPosition(), dinosaur.getViewRange(), dinosaur.getInteractionRange(), dinosaur.getDiet(), dinosaur.getType(),
+                SimulationObject target1 = simulation.getClosestReachableFoodSourceInRange(dinosaur.getPosition(), dinosaur.getViewRange(), dinosaur.getInteractionRange(), dinosaur.getDiet(), dinosaur.getSpeciesId(),
                         dinosaur.canSwim(), dinosaur.canClimb(), dinosaur.getStrength());
                 Vector2D target2 = simulation.getClosestReachableWaterSource(dinosaur.getPosition(), dinosaur.getViewRange(), dinosaur.canSwim(), dinosaur.canClimb());
                 if (target1 == null && target2 != null) {
                     //Found water source. (No food source in range)
                     target = target2;
                     targetInteractionRange = Tile.TILE_SIZE / 2 + Dinosaur.PROXIMITY_RANGE;
-                    direction = dinosaur.getPosition().directionToTarget(target);
                 } else if (target1 != null && target2 == null) {
                     //Found food source. (No water source in range)
                     dinosaur.setTarget(target1);
                     target = dinosaur.getTarget().getPosition();
                     targetInteractionRange = dinosaur.getTarget().getInteractionRange();
-                    direction = dinosaur.getPosition().directionToTarget(target);
                 } else if (target1 != null) {
                     if (Vector2D.distance(dinosaur.getPosition(), target2) < Vector2D.distance(dinosaur.getPosition(), target1.getPosition())) {
                         //water is closer go to water
@@ -92,67 +116,78 @@ public class MoveToFoodSource extends State {
                         target = dinosaur.getTarget().getPosition();
                         targetInteractionRange = dinosaur.getTarget().getInteractionRange();
                     }
-                    direction = dinosaur.getPosition().directionToTarget(target);
                 }
             } else if (dinosaur.isHungry()) {
-                dinosaur.setTarget(simulation.getClosestReachableFoodSourceInRange(dinosaur.getPosition(), dinosaur.getViewRange(), dinosaur.getInteractionRange(), dinosaur.getDiet(), dinosaur.getType(),
+                dinosaur.setTarget(simulation.getClosestReachableFoodSourceInRange(dinosaur.getPosition(), dinosaur.getViewRange(), dinosaur.getInteractionRange(), dinosaur.getDiet(), dinosaur.getSpeciesId(),
                         dinosaur.canSwim(), dinosaur.canClimb(), dinosaur.getStrength()));
                 if (dinosaur.getTarget() != null) {
                     //Found food source
                     target = dinosaur.getTarget().getPosition();
                     targetInteractionRange = dinosaur.getTarget().getInteractionRange();
-                    direction = dinosaur.getPosition().directionToTarget(target);
                 }
             } else if (dinosaur.isThirsty()) {
                 target = simulation.getClosestReachableWaterSource(dinosaur.getPosition(), dinosaur.getViewRange(), dinosaur.canSwim(), dinosaur.canClimb());
                 if (target != null) {
                     //Found water source
                     targetInteractionRange = Tile.TILE_SIZE / 2 + Dinosaur.PROXIMITY_RANGE;
-                    direction = dinosaur.getPosition().directionToTarget(target);
                 }
             }
-            if (direction != null) {
-                dinosaur.flipImage(direction);
+            if (target != null) {
+                waypoints.set(simulation.getPath(dinosaur.getPosition(), target, dinosaur.canSwim(), dinosaur.canClimb(), true));
+                if (waypoints.getCurrent() == null)
+                    waypoints.set(List.of(target));
+                direction = dinosaur.getPosition().directionToTarget(waypoints.getCurrent(), direction);
+                dinosaur.faceDirection(direction);
             }
         }
         if (direction != null) {
-            simulationObject.setPosition(simulationObject.getPosition().add(direction.multiply(dinosaur.getSpeed() * deltaTime)));
+            simulationObject.setPosition(simulationObject.getPosition().addScaled(direction, dinosaur.getSpeed() * deltaTime));
+            //Turn to the next waypoint, if the current one is reached.
+            if (waypoints.advance(simulationObject.getPosition(), direction)) {
+                direction = simulationObject.getPosition().directionToTarget(waypoints.getCurrent(), direction);
+                dinosaur.faceDirection(direction);
+            }
         }
     }
 
     /**
-     * Is called on state exit
+     * Is called in the decision phase of an update. <br>
+     * Prepares the queries of the transitions, because none of them changes a {@link com.dhbw.thesim.core.entity.SimulationObject}.
+     *
+     * @param simulation The {@link Simulation} data of the currently running simulation.
      */
     @Override
-    public void onExit() {
+    public void prepare(Simulation simulation) {
+        prepareTransitions(simulation);
     }
 
     /**
-     * Use to initialize all transitions using {@link #addTransition(StateTransition)}.
+     * Is called on state entry. Resets the data of a previous visit.
      */
     @Override
-    public void initTransitions() {
-        //The dinosaur died.
-        addTransition(new StateTransition(StateFactory.States.dead, simulation -> dinosaur.diedOfHunger() || dinosaur.diedOfThirst()));
-
-        addTransition(new StateTransition(StateFactory.States.stand, simulation -> dinosaur.isForcedToNoOp()));
-
-        addTransition(new StateTransition(StateFactory.States.escape, simulation -> dinosaur.isChased()));
-
-        //We can do this, because the update is called before the next check transitions
-        addTransition(new StateTransition(StateFactory.States.wander, simulation -> target == null));
-
-        //If we hava simulationobject target (e.g. a dinosaur or plant, and it can no longer be eaten (because the object got eaten), transition to wander.
-        addTransition(new StateTransition(StateFactory.States.wander, simulation -> dinosaur.getTarget() != null && !dinosaur.getTarget().canBeEaten(dinosaur.getStrength())));
-
-        //If the target is a dinosaur go to the hunt state.
-        addTransition(new StateTransition(StateFactory.States.hunt, simulation -> dinosaur.getTarget() instanceof Dinosaur));
+    public void onEnter() {
+        target = null;
+        direction = null;
+        targetInteractionRange = 0;
+        waypoints.clear();
+    }
 
-        //If we reached the target
-        addTransition(new StateTransition(StateFactory.States.ingestion, this::targetReached));
+    /**
+     * Is called on state exit
+     */
+    @Override
+    public void onExit() {
+    }
 
-        //If we can't reach the target anymore -> transition to moveToFoodSource (check for another food/water source in range). (Maybe because another dinosaur blocked the direction.)
-        addTransition(new StateTransition(StateFactory.States.moveToFoodSource, simulation -> !simulation.canMoveTo(dinosaur.getPosition(), target, 0, dinosaur.canSwim(), dinosaur.canClimb(), null, true, true, dinosaur.getTarget() != null ? List.of(dinosaur.getTarget()) : null)));
+    /**
+     * Checks the transitions of the shared {@link #TRANSITIONS} table.
+     *
+     * @param simulation The current {@link Simulation} data.
+     * @return The {@link StateFactory.States} entry of the next {@link State} or null, if no transition is met.
+     */
+    @Override
+    protected StateFactory.States getNextStateType(Simulation simulation) {
+        return TRANSITIONS.getNextState(this, simulation);
     }
 
     /**
@@ -2,7 +2,7 @@ package com.dhbw.thesim.core.statemachine.state.dinosaur;
 
 import com.dhbw.thesim.core.entity.Dinosaur;
 import com.dhbw.thesim.core.simulation.Simulation;
-import com.dhbw.thesim.core.statemachine.StateTransition;
+import com.dhbw.thesim.core.statemachine.TransitionTable;
 import com.dhbw.thesim.core.statemachine.state.State;
 import com.dhbw.thesim.core.statemachine.state.StateFactory;
 import com.dhbw.thesim.core.util.Vector2D;
@@ -11,7 +11,8 @@ import java.util.List;
 
 /**
  * Represents a {@link State} a {@link Dinosaur} can be in. <br>
- * In this {@link State} the handled {@link Dinosaur} tries to move to partner.
+ * In this {@link State} the handled {@link Dinosaur} tries to move to partner. <br>
+ * The male {@link Dinosaur} follows the {@link Waypoints} of the path to the partner and targets the partner itself on the last part.
  *
  * @author Daniel Czeschner, Lucas Schaffer
  */
@@ -19,6 +20,23 @@ public class MoveToPartner extends State {
 
     //region variable
 
+    /**
+     * The transitions of all {@link MoveToPartner} states. They are checked in the order they were added.
+     */
+    private static final TransitionTable<MoveToPartner> TRANSITIONS = new TransitionTable<MoveToPartner>()
+            //The dinosaur died.
+            .addTransition(StateFactory.States.dead, (state, simulation) -> state.dinosaur.diedOfHunger() || state.dinosaur.diedOfThirst())
+            //The dinosaur got chased
+            .addTransition(StateFactory.States.escape, (state, simulation) -> state.dinosaur.isChased())
+            //The dinosaur lost the partner
+            .addTransition(StateFactory.States.stand, (state, simulation) -> state.dinosaur.getPartner() == null)
+            //If the other dinosaur found another partner
+            .addTransition(StateFactory.States.wander, (state, simulation) -> state.dinosaur.getPartner().getPartner() != state.dinosaur)
+            //If we reached the target
+            .addTransition(StateFactory.States.mate, (state, simulation) -> state.partnerReached(simulation))
+            //If we can't reach the target anymore -> transition to wander. (Maybe because another dinosaur blocked the direction.)
+            .addTransition(StateFactory.States.wander, (state, simulation) -> state.dinosaur.getGender() == 'm' && !simulation.canMoveTo(state.dinosaur.getPosition(), state.getMovementTarget(), 0, state.dinosaur.canSwim(), state.dinosaur.canClimb(), null, true, true, List.of(state.dinosaur.getPartner())));
+
     /**
      * Helper {@link Dinosaur} variable, to get dinosaur specific variables
      */
@@ -30,7 +48,12 @@ public class MoveToPartner extends State {
     private double targetInteractionRange;
 
     /**
-     * The direction {@link Vector2D} the partner from the current position to this {@link #dinosaur}.
+     * The waypoints to the partner. Only used by the male {@link Dinosaur}.
+     */
+    private final Waypoints waypoints;
+
+    /**
+     * The direction {@link Vector2D} from the current position of this {@link #dinosaur} to the current waypoint or the partner.
      */
     private Vector2D direction;
 
@@ -49,6 +72,7 @@ public class MoveToPartner extends State {
     public MoveToPartner(Dinosaur simulationObject) {
         super(simulationObject);
         this.dinosaur = (Dinosaur) this.simulationObject;
+        this.waypoints = new Waypoints();
     }
 
     /**
@@ -60,7 +84,7 @@ public class MoveToPartner extends State {
     @Override
     public void update(double deltaTime, Simulation simulation) {
         if (dinosaur.getPartner() == null) {
-            dinosaur.setPartner((Dinosaur) simulation.getClosestReachableSuitablePartnerInRange(dinosaur.getPosition(), dinosaur.getViewRange(), dinosaur.getType(), dinosaur.canSwim(), dinosaur.canClimb(), dinosaur.getGender()));
+            dinosaur.setPartner((Dinosaur) simulation.getClosestReachableSuitablePartnerInRange(dinosaur.getPosition(), dinosaur.getViewRange(), dinosaur.getSpeciesId(), dinosaur.canSwim(), dinosaur.canClimb(), dinosaur.getGender()));
 
             if (dinosaur.getPartner() != null)
                 dinosaur.getPartner().setPartner(dinosaur);
@@ -68,19 +92,38 @@ public class MoveToPartner extends State {
 
         if (dinosaur.getPartner() != null) {
             targetInteractionRange = dinosaur.getPartner().getInteractionRange();
-            direction = dinosaur.getPosition().directionToTarget(dinosaur.getPartner().getPosition());
-            dinosaur.flipImage(direction);
+            if (dinosaur.getGender() == 'm' && waypoints.getCurrent() == null) {
+                Vector2D partnerPosition = dinosaur.getPartner().getPosition();
+                waypoints.set(simulation.getPath(dinosaur.getPosition(), partnerPosition, dinosaur.canSwim(), dinosaur.canClimb(), true));
+                if (waypoints.getCurrent() == null)
+                    waypoints.set(List.of(partnerPosition));
+            }
+            direction = dinosaur.getPosition().directionToTarget(getMovementTarget(), direction);
+            dinosaur.faceDirection(direction);
         }
 
         if (direction != null) {
             //Only move if it is the male dinosaur.
-            if (dinosaur.getGender() == 'm')
-                simulationObject.setPosition(simulationObject.getPosition().add(direction.multiply(dinosaur.getSpeed() * deltaTime)));
+            if (dinosaur.getGender() == 'm') {
+                simulationObject.setPosition(simulationObject.getPosition().addScaled(direction, dinosaur.getSpeed() * deltaTime));
+                waypoints.advance(simulationObject.getPosition(), direction);
+            }
         }
 
 
     }
 
+    /**
+     * Is called on state entry. Resets the data of a previous visit.
+     */
+    @Override
+    public void onEnter() {
+        targetInteractionRange = 0;
+        direction = null;
+        reached = false;
+        waypoints.clear();
+    }
+
     /**
      * Is called on state exit
      */
@@ -92,28 +135,23 @@ public class MoveToPartner extends State {
     }
 
     /**
-     * Use to initialize all transitions using {@link #addTransition(StateTransition)}.
+     * Checks the transitions of the shared {@link #TRANSITIONS} table.
+     *
+     * @param simulation The current {@link Simulation} data.
+     * @return The {@link StateFactory.States} entry of the next {@link State} or null, if no transition is met.
      */
     @Override
-    public void initTransitions() {
-        //The dinosaur died.
-        addTransition(new StateTransition(StateFactory.States.dead, simulation -> dinosaur.diedOfHunger() || dinosaur.diedOfThirst()));
-
-        //The dinosaur got chased
-        addTransition(new StateTransition(StateFactory.States.escape, simulation -> dinosaur.isChased()));
-
-        //The dinosaur lost the partner
-        addTransition(new StateTransition(StateFactory.States.stand, simulation -> dinosaur.getPartner() == null));
-
-        //If the other dinosaur found another partner
-        addTransition(new StateTransition(StateFactory.States.wander, simulation -> dinosaur.getPartner().getPartner() != dinosaur));
-
-        //If we reached the target
-        addTransition(new StateTransition(StateFactory.States.mate, this::partnerReached));
-
-        //If we can't reach the target anymore -> transition to wander. (Maybe because another dinosaur blocked the direction.)
-        addTransition(new StateTransition(StateFactory.States.wander, simulation -> dinosaur.getGender() == 'm' && !simulation.canMoveTo(dinosaur.getPosition(), dinosaur.getPartner().getPosition(), 0, dinosaur.canSwim(), dinosaur.canClimb(), null, true, true, List.of(dinosaur.getPartner()))));
+    protected StateFactory.States getNextStateType(Simulation simulation) {
+        return TRANSITIONS.getNextState(this, simulation);
+    }
 
+    /**
+     * Gets the position, this {@link #dinosaur} currently moves to.
+     *
+     * @return The current waypoint or the position of the partner, if no further waypoint is left.
+     */
+    private Vector2D getMovementTarget() {
+        return waypoints.isLast() ? dinosaur.getPartner().getPosition() : waypoints.getCurrent();
     }
 
     /**
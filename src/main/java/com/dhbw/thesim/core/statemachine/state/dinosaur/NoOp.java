@@ -3,7 +3,7 @@ package com.dhbw.thesim.core.statemachine.state.dinosaur;
 
 import com.dhbw.thesim.core.entity.Dinosaur;
 import com.dhbw.thesim.core.simulation.Simulation;
-import com.dhbw.thesim.core.statemachine.StateTransition;
+import com.dhbw.thesim.core.statemachine.TransitionTable;
 import com.dhbw.thesim.core.statemachine.state.State;
 import com.dhbw.thesim.core.statemachine.state.StateFactory;
 
@@ -18,6 +18,15 @@ public class NoOp extends State {
 
     //region variables
 
+    /**
+     * The transitions of all {@link NoOp} states. They are checked in the order they were added.
+     */
+    private static final TransitionTable<NoOp> TRANSITIONS = new TransitionTable<NoOp>()
+            //The dinosaur got eaten.
+            .addTransition(StateFactory.States.dead, (state, simulation) -> state.dinosaur.diedOfHunger() || state.dinosaur.diedOfThirst())
+            //The dinosaur died before this one got eaten.
+            .addTransition(StateFactory.States.wander, (state, simulation) -> !state.dinosaur.isForcedToNoOp());
+
     /**
      * Helper {@link Dinosaur} variable, to get dinosaur specific variables
      */
@@ -56,13 +65,13 @@ public class NoOp extends State {
     }
 
     /**
-     * Use to initialize all transitions using {@link #addTransition(StateTransition)}.
+     * Checks the transitions of the shared {@link #TRANSITIONS} table.
+     *
+     * @param simulation The current {@link Simulation} data.
+     * @return The {@link StateFactory.States} entry of the next {@link State} or null, if no transition is met.
      */
     @Override
-    public void initTransitions() {
-        //The dinosaur got eaten.
-        addTransition(new StateTransition(StateFactory.States.dead, simulation -> dinosaur.diedOfHunger() || dinosaur.diedOfThirst()));
-        //The dinosaur died before this one got eaten.
-        addTransition(new StateTransition(StateFactory.States.wander, simulation -> !dinosaur.isForcedToNoOp()));
+    protected StateFactory.States getNextStateType(Simulation simulation) {
+        return TRANSITIONS.getNextState(this, simulation);
     }
 }
\ No newline at end of file
@@ -2,7 +2,7 @@ package com.dhbw.thesim.core.statemachine.state.dinosaur;
 
 import com.dhbw.thesim.core.entity.Dinosaur;
 import com.dhbw.thesim.core.simulation.Simulation;
-import com.dhbw.thesim.core.statemachine.StateTransition;
+import com.dhbw.thesim.core.statemachine.TransitionTable;
 import com.dhbw.thesim.core.statemachine.state.State;
 import com.dhbw.thesim.core.statemachine.state.StateFactory;
 
@@ -18,6 +18,30 @@ public class Stand extends State {
 
     //region variables
 
+    /**
+     * The transitions of all {@link Stand} states. They are checked in the order they were added.
+     */
+    private static final TransitionTable<Stand> TRANSITIONS = new TransitionTable<Stand>()
+            //The dinosaur died.
+            .addTransition(StateFactory.States.dead, (state, simulation) -> state.dinosaur.diedOfHunger() || state.dinosaur.diedOfThirst())
+            //The dinosaur is hunted.
+            .addTransition(StateFactory.States.escape, (state, simulation) -> state.dinosaur.isChased())
+            //If the dinosaur is hungry and thirsty and a water tile or a food source is in range, transition to moveToFoodSource.
+            .addTransition(StateFactory.States.moveToFoodSource, (state, simulation) -> state.dinosaur.isThirsty() && state.dinosaur.isHungry()
+                    && (simulation.getClosestReachableFoodSourceInRange(state.dinosaur.getPosition(), state.dinosaur.getViewRange(), state.dinosaur.getInteractionRange(), state.dinosaur.getDiet(), state.dinosaur.getSpeciesId(), state.dinosaur.canSwim(), state.dinosaur.canClimb(), state.dinosaur.getStrength()) != null || simulation.getClosestReachableWaterSource(state.dinosaur.getPosition(), state.dinosaur.getViewRange(), state.dinosaur.canSwim(), state.dinosaur.canClimb()) != null))
+            //If the dinosaur is thirsty and a water tile is in range, transition to moveToFoodSource.
+            .addTransition(StateFactory.States.moveToFoodSource, (state, simulation) -> state.dinosaur.isThirsty()
+                    && simulation.getClosestReachableWaterSource(state.dinosaur.getPosition(), state.dinosaur.getViewRange(), state.dinosaur.canSwim(), state.dinosaur.canClimb()) != null)
+            //If the dinosaur is hungry and a food source is in range, transition to moveToFoodSource.
+            .addTransition(StateFactory.States.moveToFoodSource, (state, simulation) -> state.dinosaur.isHungry()
+                    && simulation.getClosestReachableFoodSourceInRange(state.dinosaur.getPosition(), state.dinosaur.getViewRange(), state.dinosaur.getInteractionRange(), state.dinosaur.getDiet(), state.dinosaur.getSpeciesId(), state.dinosaur.canSwim(), state.dinosaur.canClimb(), state.dinosaur.getStrength()) != null)
+            //Move to a partner, if a suitable partner is in range.
+            .addTransition(StateFactory.States.moveToPartner, (state, simulation) -> (state.dinosaur.isWillingToMate()
+                    && simulation.getClosestReachableSuitablePartnerInRange(state.dinosaur.getPosition(), state.dinosaur.getViewRange(), state.dinosaur.getSpeciesId(), state.dinosaur.canSwim(), state.dinosaur.canClimb(), state.dinosaur.getGender()) != null)
+                    || state.dinosaur.getPartner() != null)
+            //Go to wander, if the time is up.
+            .addTransition(StateFactory.States.wander, (state, simulation) -> state.timeSinceStart >= state.waitTimeInSeconds);
+
     /**
      * Helper {@link Dinosaur} variable, to get dinosaur specific variables
      */
@@ -36,7 +60,7 @@ public class Stand extends State {
     /**
      * Max time, we stay in this state.
      */
-    private final double waitTimeInSeconds = RANDOM.nextDouble(1, 5);
+    private double waitTimeInSeconds = RANDOM.nextDouble(1, 5);
 
     //endregion
 
@@ -62,6 +86,26 @@ public class Stand extends State {
             timeSinceStart += deltaTime;
     }
 
+    /**
+     * Is called in the decision phase of an update. <br>
+     * Prepares the queries of the transitions, because none of them changes a {@link com.dhbw.thesim.core.entity.SimulationObject}.
+     *
+     * @param simulation The {@link Simulation} data of the currently running simulation.
+     */
+    @Override
+    public void prepare(Simulation simulation) {
+        prepareTransitions(simulation);
+    }
+
+    /**
+     * Is called on state entry. Resets the data of a previous visit.
+     */
+    @Override
+    public void onEnter() {
+        timeSinceStart = 0;
+        waitTimeInSeconds = RANDOM.nextDouble(1, 5);
+    }
+
     /**
      * Is called on state exit
      */
@@ -71,34 +115,13 @@ public class Stand extends State {
     }
 
     /**
-     * Use to initialize all transitions using {@link #addTransition(StateTransition)}.
+     * Checks the transitions of the shared {@link #TRANSITIONS} table.
+     *
+     * @param simulation The current {@link Simulation} data.
+     * @return The {@link StateFactory.States} entry of the next {@link State} or null, if no transition is met.
      */
     @Override
-    public void initTransitions() {
-        //The dinosaur died.
-        addTransition(new StateTransition(StateFactory.States.dead, simulation -> dinosaur.diedOfHunger() || dinosaur.diedOfThirst()));
-
-        //The dinosaur is hunted.
-        addTransition(new StateTransition(StateFactory.States.escape, simulation -> dinosaur.isChased()));
-
-        //If the dinosaur is hungry and thirsty and a water tile or a food source is in range, transition to moveToFoodSource.
-        addTransition(new StateTransition(StateFactory.States.moveToFoodSource, simulation -> dinosaur.isThirsty() && dinosaur.isHungry()
-                && (simulation.getClosestReachableFoodSourceInRange(dinosaur.getPosition(), dinosaur.getViewRange(), dinosaur.getInteractionRange(), dinosaur.getDiet(), dinosaur.getType(), dinosaur.canSwim(), dinosaur.canClimb(), dinosaur.getStrength()) != null || simulation.getClosestReachableWaterSource(dinosaur.getPosition(), dinosaur.getViewRange(), dinosaur.canSwim(), dinosaur.canClimb()) != null)));
-
-        //If the dinosaur is thirsty and a water tile is in range, transition to moveToFoodSource.
-        addTransition(new StateTransition(StateFactory.States.moveToFoodSource, simulation -> dinosaur.isThirsty()
-                && simulation.getClosestReachableWaterSource(dinosaur.getPosition(), dinosaur.getViewRange(), dinosaur.canSwim(), dinosaur.canClimb()) != null));
-
-        //If the dinosaur is hungry and a food source is in range, transition to moveToFoodSource.
-        addTransition(new StateTransition(StateFactory.States.moveToFoodSource, simulation -> dinosaur.isHungry()
-                && simulation.getClosestReachableFoodSourceInRange(dinosaur.getPosition(), dinosaur.getViewRange(), dinosaur.getInteractionRange(), dinosaur.getDiet(), dinosaur.getType(), dinosaur.canSwim(), dinosaur.canClimb(), dinosaur.getStrength()) != null));
-
-        //Move to a partner, if a suitable partner is in range.
-        addTransition(new StateTransition(StateFactory.States.moveToPartner, simulation -> (dinosaur.isWillingToMate()
-                && simulation.getClosestReachableSuitablePartnerInRange(dinosaur.getPosition(), dinosaur.getViewRange(), dinosaur.getType(), dinosaur.canSwim(), dinosaur.canClimb(), dinosaur.getGender()) != null)
-                || dinosaur.getPartner() != null));
-
-        //Go to wander, if the time is up.
-        addTransition(new StateTransition(StateFactory.States.wander, (simulation) -> timeSinceStart >= waitTimeInSeconds));
+    protected StateFactory.States getNextStateType(Simulation simulation) {
+        return TRANSITIONS.getNextState(this, simulation);
     }
 }
\ No newline at end of file
@@ -2,14 +2,17 @@ package com.dhbw.thesim.core.statemachine.state.dinosaur;
 
 import com.dhbw.thesim.core.entity.Dinosaur;
 import com.dhbw.thesim.core.simulation.Simulation;
-import com.dhbw.thesim.core.statemachine.StateTransition;
+import com.dhbw.thesim.core.statemachine.TransitionTable;
 import com.dhbw.thesim.core.statemachine.state.State;
 import com.dhbw.thesim.core.statemachine.state.StateFactory;
 import com.dhbw.thesim.core.util.Vector2D;
 
+import java.util.List;
+
 /**
  * Represents a {@link State} a {@link Dinosaur} can be in. <br>
- * In this {@link State} the handled {@link Dinosaur} is moving to a random position in range.
+ * In this {@link State} the handled {@link Dinosaur} is moving to a random position in range. <br>
+ * The position can lie behind water or mountain tiles, then the {@link Dinosaur} follows the {@link Waypoints} of the path around them.
  *
  * @author Daniel Czeschner
  */
@@ -17,13 +20,45 @@ public class Wander extends State {
 
     //region variables.
 
+    /**
+     * The transitions of all {@link Wander} states. They are checked in the order they were added.
+     */
+    private static final TransitionTable<Wander> TRANSITIONS = new TransitionTable<Wander>()
+            //The dinosaur died.
+            .addTransition(StateFactory.States.dead, (state, simulation) -> state.dinosaur.diedOfHunger() || state.dinosaur.diedOfThirst())
+            .addTransition(StateFactory.States.escape, (state, simulation) -> state.dinosaur.isChased())
+            //If we have no target, go to stand.
+            .addTransition(StateFactory.States.stand, (state, simulation) -> state.target == null)
+            //When target is reached -> transition to Stand-state.
+            .addTransition(StateFactory.States.stand, (state, simulation) -> state.targetReached())
+            //If the dinosaur can no longer move to the target. (Maybe because another dinosaur blocked the direction.)
+            .addTransition(StateFactory.States.wander, (state, simulation) -> !simulation.canMoveTo(state.dinosaur.getPosition(), state.waypoints.getCurrent(), state.dinosaur.getInteractionRange(), state.dinosaur.canSwim(), state.dinosaur.canClimb(), state.dinosaur.getRenderOffset(), false, false, null))
+            //If the dinosaur is hungry and thirsty and a water tile or a food source is in range, transition to moveToFoodSource.
+            .addTransition(StateFactory.States.moveToFoodSource, (state, simulation) -> state.dinosaur.isThirsty() && state.dinosaur.isHungry()
+                    && (simulation.getClosestReachableFoodSourceInRange(state.dinosaur.getPosition(), state.dinosaur.getViewRange(), state.dinosaur.getInteractionRange(), state.dinosaur.getDiet(), state.dinosaur.getSpeciesId(), state.dinosaur.canSwim(), state.dinosaur.canClimb(), state.dinosaur.getStrength()) != null || simulation.getClosestReachableWaterSource(state.dinosaur.getPosition(), state.dinosaur.getViewRange(), state.dinosaur.canSwim(), state.dinosaur.canClimb()) != null))
+            //If the dinosaur is thirsty and a water tile is in range, transition to moveToFoodSource.
+            .addTransition(StateFactory.States.moveToFoodSource, (state, simulation) -> state.dinosaur.isThirsty()
+                    && simulation.getClosestReachableWaterSource(state.dinosaur.getPosition(), state.dinosaur.getViewRange(), state.dinosaur.canSwim(), state.dinosaur.canClimb()) != null)
+            //If the dinosaur is hungry and a food source is in range, transition to moveToFoodSource.
+            .addTransition(StateFactory.States.moveToFoodSource, (state, simulation) -> state.dinosaur.isHungry()
+                    && simulation.getClosestReachableFoodSourceInRange(state.dinosaur.getPosition(), state.dinosaur.getViewRange(), state.dinosaur.getInteractionRange(), state.dinosaur.getDiet(), state.dinosaur.getSpeciesId(), state.dinosaur.canSwim(), state.dinosaur.canClimb(), state.dinosaur.getStrength()) != null)
+            //If there is a partner in range, transition to moveToPartner
+            .addTransition(StateFactory.States.moveToPartner, (state, simulation) -> (state.dinosaur.isWillingToMate()
+                    && simulation.getClosestReachableSuitablePartnerInRange(state.dinosaur.getPosition(), state.dinosaur.getViewRange(), state.dinosaur.getSpeciesId(), state.dinosaur.canSwim(), state.dinosaur.canClimb(), state.dinosaur.getGender()) != null)
+                    || state.dinosaur.getPartner() != null);
+
     /**
      * The targeted position {@link Vector2D} the {@link Dinosaur} is moving to.
      */
     private Vector2D target;
 
     /**
-     * The direction the {@link #target} from the current position to this {@link #dinosaur}.
+     * The waypoints to the {@link #target}.
+     */
+    private final Waypoints waypoints;
+
+    /**
+     * The direction from the current position of this {@link #dinosaur} to the current waypoint.
      */
     private Vector2D direction;
 
@@ -42,6 +77,7 @@ public class Wander extends State {
     public Wander(Dinosaur simulationObject) {
         super(simulationObject);
         this.dinosaur = (Dinosaur) this.simulationObject;
+        this.waypoints = new Waypoints();
     }
 
     /**
@@ -53,14 +89,44 @@ public class Wander extends State {
     @Override
     public void update(double deltaTime, Simulation simulation) {
         if (target == null) {
-            target = simulation.getRandomMovementTargetInRange(dinosaur.getPosition(), dinosaur.getViewRange(), dinosaur.getInteractionRange(), dinosaur.canSwim(), dinosaur.canClimb(), dinosaur.getRenderOffset());
+            target = simulation.getRandomPathTargetInRange(dinosaur.getPosition(), dinosaur.getViewRange(), dinosaur.getInteractionRange(), dinosaur.canSwim(), dinosaur.canClimb(), dinosaur.getRenderOffset());
             if (target != null) {
-                direction = simulationObject.getPosition().directionToTarget(target);
-                dinosaur.flipImage(direction);
+                waypoints.set(simulation.getPath(dinosaur.getPosition(), target, dinosaur.canSwim(), dinosaur.canClimb(), false));
+                if (waypoints.getCurrent() == null)
+                    waypoints.set(List.of(target));
+                direction = simulationObject.getPosition().directionToTarget(waypoints.getCurrent(), direction);
+                dinosaur.faceDirection(direction);
+            }
+        }
+        if (direction != null) {
+            simulationObject.setPosition(simulationObject.getPosition().addScaled(direction, dinosaur.getSpeed() * deltaTime));
+            //Turn to the next waypoint, if the current one is reached.
+            if (waypoints.advance(simulationObject.getPosition(), direction)) {
+                direction = simulationObject.getPosition().directionToTarget(waypoints.getCurrent(), direction);
+                dinosaur.faceDirection(direction);
             }
         }
-        if (direction != null)
-            simulationObject.setPosition(simulationObject.getPosition().add(direction.multiply(dinosaur.getSpeed() * deltaTime)));
+    }
+
+    /**
+     * Is called in the decision phase of an update. <br>
+     * Prepares the queries of the transitions, because none of them changes a {@link com.dhbw.thesim.core.entity.SimulationObject}.
+     *
+     * @param simulation The {@link Simulation} data of the currently running simulation.
+     */
+    @Override
+    public void prepare(Simulation simulation) {
+        prepareTransitions(simulation);
+    }
+
+    /**
+     * Is called on state entry. Resets the data of a previous visit.
+     */
+    @Override
+    public void onEnter() {
+        target = null;
+        direction = null;
+        waypoints.clear();
     }
 
     /**
@@ -72,44 +138,14 @@ public class Wander extends State {
     }
 
     /**
-     * Use to initialize all transitions using {@link #addTransition(StateTransition)}.
+     * Checks the transitions of the shared {@link #TRANSITIONS} table.
+     *
+     * @param simulation The current {@link Simulation} data.
+     * @return The {@link StateFactory.States} entry of the next {@link State} or null, if no transition is met.
      */
     @Override
-    public void initTransitions() {
-
-        //The dinosaur died.
-        addTransition(new StateTransition(StateFactory.States.dead, simulation -> dinosaur.diedOfHunger() || dinosaur.diedOfThirst()));
-
-        addTransition(new StateTransition(StateFactory.States.escape, simulation -> dinosaur.isChased()));
-
-        //If we have no target, go to stand.
-        addTransition(new StateTransition(StateFactory.States.stand, simulation -> target == null));
-
-        //When target is reached -> transition to Stand-state.
-        addTransition(new StateTransition(StateFactory.States.stand, simulation -> targetReached()));
-
-        //If the dinosaur can no longer move to the target. (Maybe because another dinosaur blocked the direction.)
-        addTransition(new StateTransition(StateFactory.States.wander,
-                simulation -> !simulation.canMoveTo(dinosaur.getPosition(), target, dinosaur.getInteractionRange(), dinosaur.canSwim(), dinosaur.canClimb(), dinosaur.getRenderOffset(), false, false, null)
-        ));
-
-        //If the dinosaur is hungry and thirsty and a water tile or a food source is in range, transition to moveToFoodSource.
-        addTransition(new StateTransition(StateFactory.States.moveToFoodSource, simulation -> dinosaur.isThirsty() && dinosaur.isHungry()
-                && (simulation.getClosestReachableFoodSourceInRange(dinosaur.getPosition(), dinosaur.getViewRange(), dinosaur.getInteractionRange(), dinosaur.getDiet(), dinosaur.getType(), dinosaur.canSwim(), dinosaur.canClimb(), dinosaur.getStrength()) != null || simulation.getClosestReachableWaterSource(dinosaur.getPosition(), dinosaur.getViewRange(), dinosaur.canSwim(), dinosaur.canClimb()) != null)));
-
-        //If the dinosaur is thirsty and a water tile is in range, transition to moveToFoodSource.
-        addTransition(new StateTransition(StateFactory.States.moveToFoodSource, simulation -> dinosaur.isThirsty()
-                && simulation.getClosestReachableWaterSource(dinosaur.getPosition(), dinosaur.getViewRange(), dinosaur.canSwim(), dinosaur.canClimb()) != null));
-
-        //If the dinosaur is hungry and a food source is in range, transition to moveToFoodSource.
-        addTransition(new StateTransition(StateFactory.States.moveToFoodSource, simulation -> dinosaur.isHungry()
-                && simulation.getClosestReachableFoodSourceInRange(dinosaur.getPosition(), dinosaur.getViewRange(), dinosaur.getInteractionRange(), dinosaur.getDiet(), dinosaur.getType(), dinosaur.canSwim(), dinosaur.canClimb(), dinosaur.getStrength()) != null));
-
-        //If there is a partner in range, transition to moveToPartner
-        addTransition(new StateTransition(StateFactory.States.moveToPartner, simulation -> (dinosaur.isWillingToMate()
-                && simulation.getClosestReachableSuitablePartnerInRange(dinosaur.getPosition(), dinosaur.getViewRange(), dinosaur.getType(), dinosaur.canSwim(), dinosaur.canClimb(), dinosaur.getGender()) != null)
-                || dinosaur.getPartner() != null));
-
+    protected StateFactory.States getNextStateType(Simulation simulation) {
+        return TRANSITIONS.getNextState(this, simulation);
     }
 
     /**
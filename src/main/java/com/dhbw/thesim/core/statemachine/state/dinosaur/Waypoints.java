@@ -0,0 +1,86 @@
+package com.dhbw.thesim.core.statemachine.state.dinosaur;
+
+import com.dhbw.thesim.core.entity.Dinosaur;
+import com.dhbw.thesim.core.util.Vector2D;
+
+import java.util.List;
+
+/**
+ * The waypoints of a path, which a moving {@link Dinosaur} follows one after another. <br>
+ * Used by the movement states, so a {@link Dinosaur} can move around water and mountain tiles.
+ *
+ * @author Daniel Czeschner
+ * @see com.dhbw.thesim.core.simulation.Simulation#getPath(Vector2D, Vector2D, boolean, boolean, boolean)
+ */
+class Waypoints {
+
+    //region variables
+
+    /**
+     * All waypoints. The last one is the target.
+     */
+    private List<Vector2D> waypoints;
+
+    /**
+     * The index of the waypoint, which is currently targeted.
+     */
+    private int current;
+
+    //endregion
+
+    /**
+     * Sets new waypoints and targets the first one.
+     *
+     * @param waypoints All waypoints, which end with the target. If null or empty, no waypoint is set.
+     */
+    void set(List<Vector2D> waypoints) {
+        this.waypoints = waypoints == null || waypoints.isEmpty() ? null : waypoints;
+        this.current = 0;
+    }
+
+    /**
+     * Removes all waypoints.
+     */
+    void clear() {
+        set(null);
+    }
+
+    /**
+     * Gets the currently targeted waypoint.
+     *
+     * @return The current {@link Vector2D} waypoint or null, if no waypoints are set.
+     */
+    Vector2D getCurrent() {
+        return waypoints == null ? null : waypoints.get(current);
+    }
+
+    /**
+     * Checks, if the currently targeted waypoint is the target.
+     *
+     * @return true, if no further waypoint follows.
+     */
+    boolean isLast() {
+        return waypoints == null || current == waypoints.size() - 1;
+    }
+
+    /**
+     * Targets the next waypoint, if the current one (but not the target) was reached or passed.
+     *
+     * @param position  The current position of the {@link Dinosaur}.
+     * @param direction The direction the {@link Dinosaur} moves in.
+     * @return true, if the next waypoint is targeted now.
+     */
+    boolean advance(Vector2D position, Vector2D direction) {
+        if (isLast() || direction == null)
+            return false;
+
+        Vector2D waypoint = getCurrent();
+        //The waypoint is behind the dinosaur, if it moved past it in one step.
+        boolean passed = (waypoint.getX() - position.getX()) * direction.getX() + (waypoint.getY() - position.getY()) * direction.getY() <= 0;
+        if (passed || position.isInRangeOf(waypoint, Dinosaur.PROXIMITY_RANGE)) {
+            current++;
+            return true;
+        }
+        return false;
+    }
+}
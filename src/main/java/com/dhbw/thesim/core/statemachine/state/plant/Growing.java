@@ -4,10 +4,9 @@ import com.dhbw.thesim.core.entity.Dinosaur;
 import com.dhbw.thesim.core.entity.Plant;
 import com.dhbw.thesim.core.entity.SimulationObject;
 import com.dhbw.thesim.core.simulation.Simulation;
-import com.dhbw.thesim.core.statemachine.StateTransition;
+import com.dhbw.thesim.core.statemachine.TransitionTable;
 import com.dhbw.thesim.core.statemachine.state.State;
 import com.dhbw.thesim.core.statemachine.state.StateFactory;
-import javafx.application.Platform;
 
 /**
  * Represents a {@link State} an {@link Plant} can be in. <br>
@@ -19,6 +18,13 @@ public class Growing extends State {
 
     //region variables
 
+    /**
+     * The transitions of all {@link Growing} states. They are checked in the order they were added.
+     */
+    private static final TransitionTable<Growing> TRANSITIONS = new TransitionTable<Growing>()
+            //If the plant is grown, transition to the grown state.
+            .addTransition(StateFactory.States.grown, (state, simulation) -> state.plant.isGrown());
+
     /**
      * Helper {@link Plant} variable, to get plant specific variables
      */
@@ -53,17 +59,19 @@ public class Growing extends State {
     @Override
     public void onExit() {
         //Make the plant visible again.
-        Platform.runLater(() -> plant.getJavaFXObj().setVisible(true));
+        plant.setVisible(true);
 
     }
 
     /**
-     * Use to initialize all transitions using {@link #addTransition(StateTransition)}.
+     * Checks the transitions of the shared {@link #TRANSITIONS} table.
+     *
+     * @param simulation The current {@link Simulation} data.
+     * @return The {@link StateFactory.States} entry of the next {@link State} or null, if no transition is met.
      */
     @Override
-    public void initTransitions() {
-        //If the plant is grown, transition to the grown state.
-        addTransition(new StateTransition(StateFactory.States.grown, simulation -> plant.isGrown()));
+    protected StateFactory.States getNextStateType(Simulation simulation) {
+        return TRANSITIONS.getNextState(this, simulation);
     }
 
     /**
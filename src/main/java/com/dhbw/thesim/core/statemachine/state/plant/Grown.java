@@ -3,10 +3,9 @@ package com.dhbw.thesim.core.statemachine.state.plant;
 import com.dhbw.thesim.core.entity.Plant;
 import com.dhbw.thesim.core.entity.SimulationObject;
 import com.dhbw.thesim.core.simulation.Simulation;
-import com.dhbw.thesim.core.statemachine.StateTransition;
+import com.dhbw.thesim.core.statemachine.TransitionTable;
 import com.dhbw.thesim.core.statemachine.state.State;
 import com.dhbw.thesim.core.statemachine.state.StateFactory;
-import javafx.application.Platform;
 
 /**
  * Represents a {@link State} an {@link Plant} can be in. <br>
@@ -19,6 +18,13 @@ public class Grown extends State {
 
     //region variables
 
+    /**
+     * The transitions of all {@link Grown} states. They are checked in the order they were added.
+     */
+    private static final TransitionTable<Grown> TRANSITIONS = new TransitionTable<Grown>()
+            //If the plant got eaten, transition to the growing state.
+            .addTransition(StateFactory.States.growing, (state, simulation) -> !state.plant.isGrown());
+
     /**
      * Helper {@link Plant} variable, to get plant specific variables
      */
@@ -53,16 +59,18 @@ public class Grown extends State {
     @Override
     public void onExit() {
         //Hide the plant
-        Platform.runLater(() -> plant.getJavaFXObj().setVisible(false));
+        plant.setVisible(false);
     }
 
 
     /**
-     * Use to initialize all transitions using {@link #addTransition(StateTransition)}.
+     * Checks the transitions of the shared {@link #TRANSITIONS} table.
+     *
+     * @param simulation The current {@link Simulation} data.
+     * @return The {@link StateFactory.States} entry of the next {@link State} or null, if no transition is met.
      */
     @Override
-    public void initTransitions() {
-        //If the plant got eaten, transition to the growing state.
-        addTransition(new StateTransition(StateFactory.States.growing, simulation -> !plant.isGrown()));
+    protected StateFactory.States getNextStateType(Simulation simulation) {
+        return TRANSITIONS.getNextState(this, simulation);
     }
 }
\ No newline at end of file
@@ -0,0 +1,186 @@
+package com.dhbw.thesim.core.util;
+
+import java.util.Arrays;
+
+/**
+ * A histogram for durations in nanoseconds with a fixed relative precision. (Like an HDR histogram) <br>
+ * Values below {@link #LINEAR_BUCKETS} get their own bucket. Above, each power of two is split into {@link #SUB_BUCKETS}
+ * buckets, so a value is at most about 3% larger than the lower bound of its bucket. All durations up to {@link Long#MAX_VALUE}
+ * fit into a fixed amount of buckets, so recording never allocates. <br>
+ * The values are recorded by the simulation thread and can be read from any other thread.
+ *
+ * @author Daniel Czeschner
+ */
+public class LatencyHistogram {
+
+    //region variables
+
+    /**
+     * The amount of bits of a value, which are kept inside a bucket.
+     */
+    private static final int SUB_BUCKET_BITS = 5;
+
+    /**
+     * The amount of buckets per power of two.
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /**
+     * Values below this bound are counted exactly.
+     */
+    private static final int LINEAR_BUCKETS = SUB_BUCKETS * 2;
+
+    /**
+     * The amount of buckets for all positive long values.
+     */
+    private static final int BUCKETS = bucketIndex(Long.MAX_VALUE) + 1;
+
+    /**
+     * The count of recorded values per bucket.
+     */
+    private final long[] counts;
+
+    private long totalCount;
+    private long sum;
+    private long min;
+    private long max;
+
+    //endregion
+
+    /**
+     * Constructor for an empty histogram.
+     */
+    public LatencyHistogram() {
+        counts = new long[BUCKETS];
+        reset();
+    }
+
+    /**
+     * Records a duration.
+     *
+     * @param nanos The duration in nanoseconds. Negative values are recorded as 0.
+     */
+    public synchronized void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[bucketIndex(value)]++;
+        totalCount++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    /**
+     * Removes all recorded values.
+     */
+    public synchronized void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        sum = 0;
+        min = Long.MAX_VALUE;
+        max = 0;
+    }
+
+    /**
+     * Gets the amount of recorded values.
+     *
+     * @return The amount of values.
+     */
+    public synchronized long getCount() {
+        return totalCount;
+    }
+
+    /**
+     * Gets the sum of all recorded values.
+     *
+     * @return The total duration in nanoseconds.
+     */
+    public synchronized long getTotal() {
+        return sum;
+    }
+
+    /**
+     * Gets the smallest recorded value.
+     *
+     * @return The smallest duration in nanoseconds or 0, if nothing was recorded.
+     */
+    public synchronized long getMin() {
+        return totalCount == 0 ? 0 : min;
+    }
+
+    /**
+     * Gets the largest recorded value.
+     *
+     * @return The largest duration in nanoseconds or 0, if nothing was recorded.
+     */
+    public synchronized long getMax() {
+        return max;
+    }
+
+    /**
+     * Gets the exact mean of all recorded values.
+     *
+     * @return The mean duration in nanoseconds or 0, if nothing was recorded.
+     */
+    public synchronized double getMean() {
+        return totalCount == 0 ? 0 : (double) sum / totalCount;
+    }
+
+    /**
+     * Gets the value, below or at which the given percentage of all recorded values are. <br>
+     * The result is the upper bound of the bucket of that value, but never larger than {@link #getMax()}.
+     *
+     * @param percentile The percentile between 0 and 100. (e.g. 99 for the 99th percentile)
+     * @return The duration in nanoseconds or 0, if nothing was recorded.
+     */
+    public synchronized long getValueAtPercentile(double percentile) {
+        if (totalCount == 0)
+            return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100 * totalCount));
+        long seen = 0;
+        for (int bucket = 0; bucket < counts.length; bucket++) {
+            seen += counts[bucket];
+            if (seen >= rank)
+                return Math.min(max, Math.max(min, upperBound(bucket)));
+        }
+        return max;
+    }
+
+    /**
+     * Creates a copy of this histogram, which is not changed by further recordings.
+     *
+     * @return The copied {@link LatencyHistogram}.
+     */
+    public synchronized LatencyHistogram copy() {
+        LatencyHistogram copy = new LatencyHistogram();
+        System.arraycopy(counts, 0, copy.counts, 0, counts.length);
+        copy.totalCount = totalCount;
+        copy.sum = sum;
+        copy.min = min;
+        copy.max = max;
+        return copy;
+    }
+
+    /**
+     * Gets the bucket of a value. (see class description)
+     */
+    private static int bucketIndex(long value) {
+        if (value < LINEAR_BUCKETS)
+            return (int) value;
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+    }
+
+    /**
+     * Gets the largest value of a bucket.
+     */
+    private static long upperBound(int bucket) {
+        if (bucket < LINEAR_BUCKETS)
+            return bucket;
+        int shift = bucket / SUB_BUCKETS - 1;
+        long subBucket = bucket % SUB_BUCKETS + SUB_BUCKETS;
+        long next = (subBucket + 1) << shift;
+        //The last bucket ends at Long.MAX_VALUE.
+        return next <= 0 ? Long.MAX_VALUE : next - 1;
+    }
+}
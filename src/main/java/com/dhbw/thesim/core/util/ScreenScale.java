@@ -0,0 +1,60 @@
+package com.dhbw.thesim.core.util;
+
+/**
+ * Holds the output scale of the screen, the simulation is shown on. <br>
+ * All pixel values of the simulation are divided by this scale, so they have the same size on each screen. <br>
+ * Without a screen (headless mode) the scale is 1.
+ *
+ * @author Daniel Czeschner
+ */
+public final class ScreenScale {
+
+    //region variables
+
+    /**
+     * The horizontal output scale.
+     */
+    private static double scaleX = 1;
+
+    /**
+     * The vertical output scale.
+     */
+    private static double scaleY = 1;
+
+    //endregion
+
+    private ScreenScale() {
+    }
+
+    /**
+     * Sets the output scale of the screen. <br>
+     * Needs to be called before any simulation class is loaded, because some constants depend on it.
+     *
+     * @param scaleX The horizontal output scale. Values less or equal 0 are handled as 1.
+     * @param scaleY The vertical output scale. Values less or equal 0 are handled as 1.
+     */
+    public static void setScale(double scaleX, double scaleY) {
+        ScreenScale.scaleX = scaleX <= 0 ? 1 : scaleX;
+        ScreenScale.scaleY = scaleY <= 0 ? 1 : scaleY;
+    }
+
+    /**
+     * Adjusts a horizontal pixel value to the output scale.
+     *
+     * @param value The value in pixels.
+     * @return The scaled value.
+     */
+    public static double adjustX(double value) {
+        return value / scaleX;
+    }
+
+    /**
+     * Adjusts a vertical pixel value to the output scale.
+     *
+     * @param value The value in pixels.
+     * @return The scaled value.
+     */
+    public static double adjustY(double value) {
+        return value / scaleY;
+    }
+}
@@ -0,0 +1,27 @@
+package com.dhbw.thesim.core.util;
+
+/**
+ * Gives the simulation the sizes of the sprites, without loading any image in the simulation core. <br>
+ * A sprite is only known by its name (e.g. "brachiosaurus.png"). The renderer resolves this name to an image. <br>
+ * The aspect ratio is needed by the core, because the render offset of a {@link com.dhbw.thesim.core.entity.SimulationObject}
+ * decides, if it can move to a position without leaving the screen.
+ *
+ * @author Daniel Czeschner
+ * @see com.dhbw.thesim.core.entity.Species
+ */
+@FunctionalInterface
+public interface SpriteMetrics {
+
+    /**
+     * The metrics for simulations without a graphical user interface. Each sprite is a square.
+     */
+    SpriteMetrics SQUARE = spriteName -> 1;
+
+    /**
+     * Gets the aspect ratio of a sprite.
+     *
+     * @param spriteName The name of the sprite.
+     * @return The width divided by the height of the sprite.
+     */
+    double getAspectRatio(String spriteName);
+}
@@ -66,7 +66,7 @@ public class Vector2D {
     }
 
     /**
-     * Normalizes the Vector
+     * Normalizes the Vector. Works in place, like the other methods ending with "Local".
      *
      * @return This vector but normalized
      */
@@ -107,6 +107,17 @@ public class Vector2D {
         return new Vector2D(x + value, y + value);
     }
 
+    /**
+     * Adds a scaled direction to this vector. Does the same as {@code add(direction.multiply(factor))}, but only creates one {@link Vector2D}.
+     *
+     * @param direction The direction, which should be added.
+     * @param factor    The factor for the direction. E.g. the moved distance.
+     * @return A new {@link Vector2D} with the updated values.
+     */
+    public Vector2D addScaled(Vector2D direction, double factor) {
+        return new Vector2D(x + direction.getX() * factor, y + direction.getY() * factor);
+    }
+
     /**
      * Subtracts another Vector from this vector
      *
@@ -117,6 +128,62 @@ public class Vector2D {
         return new Vector2D(x - other.getX(), y - other.getY());
     }
 
+    /**
+     * Adds another vector onto this vector. In place variant of {@link #add(Vector2D)} for temporary vectors.
+     *
+     * @param other The other Vector, which should be added
+     * @return This vector with the updated values.
+     */
+    public Vector2D addLocal(Vector2D other) {
+        return addLocal(other.getX(), other.getY());
+    }
+
+    /**
+     * Adds two values onto the coordinates of this vector. In place variant of {@link #add(Vector2D)} for temporary vectors.
+     *
+     * @param xValue The amount, which should be added to the x coordinate.
+     * @param yValue The amount, which should be added to the y coordinate.
+     * @return This vector with the updated values.
+     */
+    public Vector2D addLocal(double xValue, double yValue) {
+        x += xValue;
+        y += yValue;
+        return this;
+    }
+
+    /**
+     * Adds a scaled direction onto this vector. In place variant of {@link #addScaled(Vector2D, double)} for temporary vectors.
+     *
+     * @param direction The direction, which should be added.
+     * @param factor    The factor for the direction. E.g. the moved distance.
+     * @return This vector with the updated values.
+     */
+    public Vector2D addScaledLocal(Vector2D direction, double factor) {
+        return addLocal(direction.getX() * factor, direction.getY() * factor);
+    }
+
+    /**
+     * Subtracts another vector from this vector. In place variant of {@link #subtract(Vector2D)} for temporary vectors.
+     *
+     * @param other The other Vector, which is used to subtract
+     * @return This vector with the updated values.
+     */
+    public Vector2D subtractLocal(Vector2D other) {
+        return addLocal(-other.getX(), -other.getY());
+    }
+
+    /**
+     * Multiplies a value onto this vector. In place variant of {@link #multiply(double)} for temporary vectors.
+     *
+     * @param value The amount, which should be multiplied
+     * @return This vector with the updated values.
+     */
+    public Vector2D multiplyLocal(double value) {
+        x *= value;
+        y *= value;
+        return this;
+    }
+
     /**
      * Is this vector the zero-vector?
      *
@@ -148,6 +215,34 @@ public class Vector2D {
         return new Vector2D(target.getX() - x, target.getY() - y).normalize();
     }
 
+    /**
+     * Gets the direction vector to a target and writes it into an existing vector. <br>
+     * Used for directions, which are recalculated each update.
+     *
+     * @param target The {@link Vector2D} target
+     * @param result The {@link Vector2D}, which gets overridden with the direction. A new one is created, if it is null.
+     * @return The {@code result} vector.
+     * @see #directionToTarget(Vector2D)
+     */
+    public Vector2D directionToTarget(Vector2D target, Vector2D result) {
+        if (result == null)
+            return directionToTarget(target);
+        return result.set(target.getX() - x, target.getY() - y).normalize();
+    }
+
+    /**
+     * Overrides both coordinates of this vector.
+     *
+     * @param xValue The new x coordinate.
+     * @param yValue The new y coordinate.
+     * @return This vector.
+     */
+    public Vector2D set(double xValue, double yValue) {
+        x = xValue;
+        y = yValue;
+        return this;
+    }
+
     /**
      * Gets the distance between two vectors.
      *
@@ -156,8 +251,46 @@ public class Vector2D {
      * @return The distance between the first and the second vector.
      */
     public static double distance(Vector2D v1, Vector2D v2) {
-        Vector2D helper = new Vector2D(v1.getX() - v2.getX(), v1.getY() - v2.getY());
-        return helper.length();
+        return distance(v1.getX(), v1.getY(), v2.getX(), v2.getY());
+    }
+
+    /**
+     * Gets the distance between two points.
+     *
+     * @param x1 The x coordinate of the first point.
+     * @param y1 The y coordinate of the first point.
+     * @param x2 The x coordinate of the second point.
+     * @param y2 The y coordinate of the second point.
+     * @return The distance between the first and the second point.
+     */
+    public static double distance(double x1, double y1, double x2, double y2) {
+        return Math.sqrt(distanceSq(x1, y1, x2, y2));
+    }
+
+    /**
+     * Gets the squared distance between two vectors. Use it for comparisons to avoid the square root.
+     *
+     * @param v1 The first vector
+     * @param v2 The second vector
+     * @return The squared distance between the first and the second vector.
+     */
+    public static double distanceSq(Vector2D v1, Vector2D v2) {
+        return distanceSq(v1.getX(), v1.getY(), v2.getX(), v2.getY());
+    }
+
+    /**
+     * Gets the squared distance between two points.
+     *
+     * @param x1 The x coordinate of the first point.
+     * @param y1 The y coordinate of the first point.
+     * @param x2 The x coordinate of the second point.
+     * @param y2 The y coordinate of the second point.
+     * @return The squared distance between the first and the second point.
+     */
+    public static double distanceSq(double x1, double y1, double x2, double y2) {
+        double dx = x1 - x2;
+        double dy = y1 - y2;
+        return (dx * dx) + (dy * dy);
     }
 
     /**
@@ -168,7 +301,20 @@ public class Vector2D {
      * @return The dot product
      */
     public static double dotProduct(Vector2D v1, Vector2D v2) {
-        return v1.getX() * v2.getX() + v1.getY() * v2.getY();
+        return dotProduct(v1.getX(), v1.getY(), v2.getX(), v2.getY());
+    }
+
+    /**
+     * Calculates the dot product for two 2d-vectors given by their coordinates.
+     *
+     * @param x1 The x coordinate of the first 2d-vector.
+     * @param y1 The y coordinate of the first 2d-vector.
+     * @param x2 The x coordinate of the second 2d-vector.
+     * @param y2 The y coordinate of the second 2d-vector.
+     * @return The dot product
+     */
+    public static double dotProduct(double x1, double y1, double x2, double y2) {
+        return x1 * x2 + y1 * y2;
     }
 
     /**
@@ -179,7 +325,20 @@ public class Vector2D {
      * @return The cross product.
      */
     public static double crossProduct(Vector2D v1, Vector2D v2) {
-        return v1.getX() * v2.getY() - v1.getY() * v2.getX();
+        return crossProduct(v1.getX(), v1.getY(), v2.getX(), v2.getY());
+    }
+
+    /**
+     * Calculates the cross product for two 2d-vectors given by their coordinates.
+     *
+     * @param x1 The x coordinate of the first 2d-vector.
+     * @param y1 The y coordinate of the first 2d-vector.
+     * @param x2 The x coordinate of the second 2d-vector.
+     * @param y2 The y coordinate of the second 2d-vector.
+     * @return The cross product.
+     */
+    public static double crossProduct(double x1, double y1, double x2, double y2) {
+        return x1 * y2 - y1 * x2;
     }
 
     /**
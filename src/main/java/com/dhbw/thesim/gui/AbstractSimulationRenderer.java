@@ -0,0 +1,161 @@
+package com.dhbw.thesim.gui;
+
+import com.dhbw.thesim.core.map.SimulationMap;
+import com.dhbw.thesim.core.map.Tile;
+import com.dhbw.thesim.core.simulation.Simulation;
+import javafx.animation.AnimationTimer;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * The base for all renderers, which hands the frames of a {@link Simulation} from the simulation thread to the JavaFX application thread. <br>
+ * Each frame, the simulation thread captures an immutable {@link RenderFrame} and publishes it as back buffer.
+ * An {@link AnimationTimer} on the JavaFX application thread takes the newest published frame as front buffer and draws it.
+ * If the simulation is faster than the screen, older frames are replaced and never drawn. <br>
+ * So the JavaFX scene-graph is only changed on the JavaFX application thread and no task is queued per frame or per removed object.
+ *
+ * @author Daniel Czeschner
+ * @see RenderFrame
+ */
+public abstract class AbstractSimulationRenderer implements ISimulationRenderer {
+
+    //region variables
+
+    /**
+     * The {@link GraphicsContext} for the background canvas.
+     */
+    private final GraphicsContext backgroundGraphics;
+
+    /**
+     * The {@link SpriteLibrary}, which resolves the sprite names of the simulation to images.
+     */
+    private final SpriteLibrary spriteLibrary;
+
+    /**
+     * The newest published frame, which was not drawn yet. (back buffer) <br>
+     * Is null, if the last published frame was already taken.
+     */
+    private final AtomicReference<RenderFrame> publishedFrame;
+
+    /**
+     * Draws the newest published frame on each pulse of the JavaFX application thread.
+     */
+    private final AnimationTimer frameTimer;
+
+    /**
+     * The last drawn frame. (front buffer) Is only used on the JavaFX application thread.
+     */
+    private RenderFrame lastFrame;
+
+    /**
+     * The rendered {@link Simulation}.
+     */
+    private Simulation simulation;
+
+    //endregion
+
+    /**
+     * Constructor
+     *
+     * @param backgroundGraphics The {@link GraphicsContext} for the background canvas.
+     * @param spriteLibrary      The {@link SpriteLibrary}, which resolves the sprite names of the simulation to images.
+     */
+    protected AbstractSimulationRenderer(GraphicsContext backgroundGraphics, SpriteLibrary spriteLibrary) {
+        this.backgroundGraphics = backgroundGraphics;
+        this.spriteLibrary = spriteLibrary;
+        this.publishedFrame = new AtomicReference<>();
+        this.frameTimer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                drawPublishedFrame();
+            }
+        };
+    }
+
+    /**
+     * Draws the map, publishes the first frame and attaches this renderer to the {@link Simulation}.
+     *
+     * @param simulation The {@link Simulation}, which should be rendered.
+     */
+    @Override
+    public void attach(Simulation simulation) {
+        this.simulation = simulation;
+        drawMap(simulation.getSimulationMap());
+        simulation.addObserver(this);
+
+        onFrame(simulation);
+        frameTimer.start();
+    }
+
+    /**
+     * Stops drawing frames and detaches this renderer from the {@link Simulation}.
+     */
+    @Override
+    public void detach() {
+        frameTimer.stop();
+        if (simulation != null)
+            simulation.removeObserver(this);
+        publishedFrame.set(null);
+    }
+
+    /**
+     * Captures the current frame and publishes it for the JavaFX application thread.
+     *
+     * @param simulation The current {@link Simulation}.
+     */
+    @Override
+    public void onFrame(Simulation simulation) {
+        publishedFrame.set(RenderFrame.capture(simulation, spriteLibrary));
+    }
+
+    /**
+     * Gets the last drawn frame. Needs to be called on the JavaFX application thread.
+     *
+     * @return The last drawn {@link RenderFrame} or null, if no frame was drawn yet.
+     */
+    @Override
+    public RenderFrame getLastFrame() {
+        return lastFrame;
+    }
+
+    /**
+     * Takes the newest published frame and draws it, if a new frame was published since the last call.
+     */
+    private void drawPublishedFrame() {
+        RenderFrame frame = publishedFrame.getAndSet(null);
+        if (frame != null) {
+            lastFrame = frame;
+            draw(frame);
+        }
+    }
+
+    /**
+     * Draws the simulation background
+     *
+     * @param simulationMap The {@link SimulationMap}, which should be drawn.
+     */
+    private void drawMap(SimulationMap simulationMap) {
+        backgroundGraphics.setFill(Color.BLACK);
+        backgroundGraphics.fillRect(0, 0, SimulationMap.WORLD_WIDTH, SimulationMap.WORLD_HEIGHT);
+
+        Tile[][] tiles = simulationMap.getTiles();
+        for (int x = 0; x < tiles.length; x++) {
+            for (int y = 0; y < tiles[0].length; y++) {
+                backgroundGraphics.drawImage(
+                        spriteLibrary.getImage(tiles[x][y].getBackground()),
+                        x * Tile.TILE_SIZE,
+                        y * Tile.TILE_SIZE
+                );
+            }
+        }
+    }
+
+    /**
+     * Draws a frame. Is called on the JavaFX application thread.
+     *
+     * @param frame The {@link RenderFrame}, which should be drawn.
+     */
+    protected abstract void draw(RenderFrame frame);
+}
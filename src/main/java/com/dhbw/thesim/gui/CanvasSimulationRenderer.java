@@ -0,0 +1,139 @@
+package com.dhbw.thesim.gui;
+
+import com.dhbw.thesim.core.entity.Dinosaur;
+import com.dhbw.thesim.core.entity.SimulationObject;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.paint.Color;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Renders a {@link com.dhbw.thesim.core.simulation.Simulation} with JavaFX by drawing all {@link SimulationObject}s in one pass onto a {@link Canvas}. <br>
+ * Unlike the {@link SimulationRenderer}, no scene-graph node is created per {@link SimulationObject}, so the frame time
+ * only grows with the drawn sprites and not with the size of the scene-graph. <br>
+ * Mouse clicks are picked by this renderer, using the sprite bounds of the last drawn {@link RenderFrame}.
+ *
+ * @author Daniel Czeschner
+ * @see SimulationOverlay
+ */
+public class CanvasSimulationRenderer extends AbstractSimulationRenderer {
+
+    //region variables
+
+    /**
+     * The canvas, on which all {@link SimulationObject}s are drawn.
+     */
+    private final Canvas entityCanvas;
+
+    /**
+     * Is called, when a {@link Dinosaur} gets clicked with the mouse.
+     */
+    private final Consumer<Dinosaur> dinosaurClickHandler;
+
+    /**
+     * The {@link SimulationObject}s, which selection ring is visible.
+     */
+    private final Set<SimulationObject> selectedObjects;
+
+    //endregion
+
+    /**
+     * Constructor
+     *
+     * @param backgroundGraphics   The {@link GraphicsContext} for the background canvas.
+     * @param spriteLibrary        The {@link SpriteLibrary}, which resolves the sprite names to images.
+     * @param entityCanvas         The canvas, on which all {@link SimulationObject}s are drawn. Needs to be placed above the background canvas.
+     * @param dinosaurClickHandler Is called, when a {@link Dinosaur} gets clicked with the mouse.
+     */
+    public CanvasSimulationRenderer(GraphicsContext backgroundGraphics, SpriteLibrary spriteLibrary, Canvas entityCanvas, Consumer<Dinosaur> dinosaurClickHandler) {
+        super(backgroundGraphics, spriteLibrary);
+        this.entityCanvas = entityCanvas;
+        this.dinosaurClickHandler = dinosaurClickHandler;
+        this.selectedObjects = ConcurrentHashMap.newKeySet();
+
+        entityCanvas.addEventHandler(MouseEvent.MOUSE_CLICKED, event -> pick(event.getX(), event.getY()));
+    }
+
+    /**
+     * Removes a {@link SimulationObject} from the selection.
+     *
+     * @param simulationObject The removed {@link SimulationObject}.
+     */
+    @Override
+    public void onSimulationObjectRemoved(SimulationObject simulationObject) {
+        selectedObjects.remove(simulationObject);
+    }
+
+    /**
+     * Sets the visibility for the selection ring of a {@link SimulationObject} and redraws the last frame.
+     *
+     * @param simulationObject The {@link SimulationObject}.
+     * @param visible          true, if the ring should be visible.
+     */
+    @Override
+    public void setSelectionRingVisibility(SimulationObject simulationObject, boolean visible) {
+        if (visible)
+            selectedObjects.add(simulationObject);
+        else
+            selectedObjects.remove(simulationObject);
+        if (getLastFrame() != null)
+            draw(getLastFrame());
+    }
+
+    /**
+     * Draws all visible {@link SimulationObject}s of a frame onto the {@link #entityCanvas}.
+     *
+     * @param frame The {@link RenderFrame}, which should be drawn.
+     */
+    @Override
+    protected void draw(RenderFrame frame) {
+        GraphicsContext graphics = entityCanvas.getGraphicsContext2D();
+        graphics.clearRect(0, 0, entityCanvas.getWidth(), entityCanvas.getHeight());
+        graphics.setStroke(Color.YELLOW);
+
+        for (int i = 0; i < frame.size(); i++) {
+            if (!frame.isVisible(i))
+                continue;
+
+            if (!selectedObjects.isEmpty() && selectedObjects.contains(frame.getSimulationObject(i))) {
+                double radius = frame.getInteractionRange(i);
+                graphics.strokeOval(frame.getX(i) - radius, frame.getY(i) - radius, radius * 2, radius * 2);
+            }
+
+            if (frame.isMirrored(i)) {
+                //Mirror the sprite around its center, like an ImageView with a scale of -1.
+                graphics.save();
+                graphics.translate(frame.getSpriteX(i) + frame.getSpriteWidth(i), frame.getSpriteY(i));
+                graphics.scale(-1, 1);
+                graphics.drawImage(frame.getSprite(i), 0, 0, frame.getSpriteWidth(i), frame.getSpriteHeight(i));
+                graphics.restore();
+            } else {
+                graphics.drawImage(frame.getSprite(i), frame.getSpriteX(i), frame.getSpriteY(i), frame.getSpriteWidth(i), frame.getSpriteHeight(i));
+            }
+        }
+    }
+
+    /**
+     * Finds the top most visible {@link Dinosaur} at a position of the last drawn frame and calls the {@link #dinosaurClickHandler}.
+     *
+     * @param x The x position on the {@link #entityCanvas}.
+     * @param y The y position on the {@link #entityCanvas}.
+     */
+    private void pick(double x, double y) {
+        RenderFrame frame = getLastFrame();
+        if (frame == null)
+            return;
+
+        //The last drawn object is on top.
+        for (int i = frame.size() - 1; i >= 0; i--) {
+            if (frame.isVisible(i) && frame.getSimulationObject(i) instanceof Dinosaur dinosaur && frame.contains(i, x, y)) {
+                dinosaurClickHandler.accept(dinosaur);
+                return;
+            }
+        }
+    }
+}
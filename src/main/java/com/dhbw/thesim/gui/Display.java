@@ -1,6 +1,7 @@
 package com.dhbw.thesim.gui;
 
-import com.dhbw.thesim.core.util.SpriteLibrary;
+import com.dhbw.thesim.core.simulation.Simulation;
+import com.dhbw.thesim.core.util.ScreenScale;
 import com.dhbw.thesim.gui.controllers.ConfigScreen;
 import com.dhbw.thesim.impexp.Json2Objects;
 import com.dhbw.thesim.impexp.JsonHandler;
@@ -46,6 +47,7 @@ public class Display extends Application {
         //Init variables here for testcase reasons
         SCALE_X = Screen.getPrimary().getOutputScaleX();
         SCALE_Y = Screen.getPrimary().getOutputScaleY();
+        ScreenScale.setScale(SCALE_X, SCALE_Y);
 
         //Init JsonData
         JsonHandler.setDirectory();
@@ -88,6 +90,8 @@ public class Display extends Application {
         double plantGrowthRate = ((double) getDefaultIfNull(defaultScenarioParams.get(JsonHandler.ScenarioConfigParams.PLANT_GROWTH), 1.0).get(0)[0]);
         //If landscapeName from the defaultScenarioParams is null, there should be "Landschaft1" returned
         String landscapeName = ((String) getDefaultIfNull(defaultScenarioParams.get(JsonHandler.ScenarioConfigParams.LANDSCAPE), "Landschaft1").get(0)[0]);
+        //If populationLimit from the defaultScenarioParams is null, the population is not limited
+        int populationLimit = ((int) getDefaultIfNull(defaultScenarioParams.get(JsonHandler.ScenarioConfigParams.POPULATION_LIMIT), Simulation.NO_POPULATION_LIMIT).get(0)[0]);
 
         //Init SpriteLibrary
         SpriteLibrary spriteLibrary = new SpriteLibrary();
@@ -95,6 +99,7 @@ public class Display extends Application {
         //Creates the Configuration Screen and sets its scene as the current one on the primary stage
         ConfigScreen configScreen = ConfigScreen.newInstance();
         configScreen.initialize(defaultScenarioParams.get(JsonHandler.ScenarioConfigParams.DINO), defaultScenarioParams.get(JsonHandler.ScenarioConfigParams.PLANT), plantGrowthRate, landscapeName, spriteLibrary);
+        configScreen.setPopulationLimit(populationLimit);
 
         configScene = new Scene(configScreen);
         primaryStage.setScene(configScene);
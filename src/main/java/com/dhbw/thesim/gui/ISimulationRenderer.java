@@ -0,0 +1,45 @@
+package com.dhbw.thesim.gui;
+
+import com.dhbw.thesim.core.entity.SimulationObject;
+import com.dhbw.thesim.core.simulation.Simulation;
+import com.dhbw.thesim.core.simulation.SimulationObserver;
+
+/**
+ * A renderer, which shows a {@link Simulation} with JavaFX. <br>
+ * Is attached to a {@link Simulation} as {@link SimulationObserver}. <br>
+ * The shown objects are only read from {@link RenderFrame}s, so the JavaFX application thread never reads the live simulation.
+ *
+ * @author Daniel Czeschner
+ * @see AbstractSimulationRenderer
+ * @see SimulationRenderer
+ * @see CanvasSimulationRenderer
+ */
+public interface ISimulationRenderer extends SimulationObserver {
+
+    /**
+     * Draws the map, shows all already spawned {@link SimulationObject}s and attaches this renderer to the {@link Simulation}.
+     *
+     * @param simulation The {@link Simulation}, which should be rendered.
+     */
+    void attach(Simulation simulation);
+
+    /**
+     * Stops rendering and detaches this renderer from the {@link Simulation}.
+     */
+    void detach();
+
+    /**
+     * Gets the last drawn frame. Needs to be called on the JavaFX application thread.
+     *
+     * @return The last drawn {@link RenderFrame} or null, if no frame was drawn yet.
+     */
+    RenderFrame getLastFrame();
+
+    /**
+     * Sets the visibility for the selection ring of a {@link SimulationObject}. Needs to be called on the JavaFX application thread.
+     *
+     * @param simulationObject The {@link SimulationObject}.
+     * @param visible          true, if the ring should be visible.
+     */
+    void setSelectionRingVisibility(SimulationObject simulationObject, boolean visible);
+}
@@ -0,0 +1,401 @@
+package com.dhbw.thesim.gui;
+
+import com.dhbw.thesim.core.entity.Dinosaur;
+import com.dhbw.thesim.core.entity.SimulationObject;
+import com.dhbw.thesim.core.simulation.Simulation;
+import com.dhbw.thesim.core.util.SimulationTime;
+import javafx.scene.image.Image;
+
+import java.util.List;
+
+/**
+ * An immutable snapshot of everything, which is needed to draw one frame of a {@link Simulation} and to show the stats of a selected {@link Dinosaur}. <br>
+ * Is captured on the simulation thread and handed to the JavaFX application thread, so the JavaFX thread never reads
+ * the changing values of the live {@link SimulationObject}s or the live list of the {@link Simulation}. <br>
+ * All values are indexed by the position of a {@link SimulationObject} in this frame. The arrays are private and never changed after {@link #capture(Simulation)}.
+ * The captured {@link SimulationObject}s are only used as identity (e.g. for the selection), and only their unchangeable values (e.g. the type) may be read.
+ *
+ * @author Daniel Czeschner
+ * @see AbstractSimulationRenderer
+ */
+public final class RenderFrame {
+
+    //region variables
+
+    /**
+     * All {@link SimulationObject}s with a sprite in drawing order.
+     */
+    private final List<SimulationObject> simulationObjects;
+
+    /**
+     * The simulation time of this frame. (in seconds)
+     */
+    private final double simulationTime;
+
+    /**
+     * The sprite of each {@link SimulationObject}.
+     */
+    private final Image[] sprites;
+
+    /**
+     * The sprite bounds of each {@link SimulationObject}. (x, y, width, height)
+     */
+    private final double[] bounds;
+
+    /**
+     * The position of each {@link SimulationObject}. (x, y)
+     */
+    private final double[] centers;
+
+    /**
+     * The interaction range of each {@link SimulationObject}, which is used for the selection ring.
+     */
+    private final double[] ranges;
+
+    /**
+     * Is the sprite of a {@link SimulationObject} mirrored?
+     */
+    private final boolean[] mirrored;
+
+    /**
+     * Is a {@link SimulationObject} visible?
+     */
+    private final boolean[] visible;
+
+    /**
+     * The nutrition of each {@link Dinosaur}. (0 for other {@link SimulationObject}s)
+     */
+    private final double[] nutrition;
+
+    /**
+     * The hydration of each {@link Dinosaur}. (0 for other {@link SimulationObject}s)
+     */
+    private final double[] hydration;
+
+    /**
+     * The reproduction value of each {@link Dinosaur}. (0 for other {@link SimulationObject}s)
+     */
+    private final double[] reproductionValue;
+
+    /**
+     * Is a {@link Dinosaur} chased? (false for other {@link SimulationObject}s)
+     */
+    private final boolean[] chased;
+
+    /**
+     * The type of each {@link SimulationObject}.
+     */
+    private final String[] types;
+
+    /**
+     * The species id of each {@link Dinosaur}. (-1 for other {@link SimulationObject}s)
+     */
+    private final int[] speciesIds;
+
+    /**
+     * The amount of {@link Dinosaur}s in this frame.
+     */
+    private final int dinosaurCount;
+
+    //endregion
+
+    /**
+     * Constructor
+     *
+     * @param simulationObjects All {@link SimulationObject}s with a sprite in drawing order.
+     * @param simulationTime    The simulation time of this frame. (in seconds)
+     * @param spriteLibrary     The {@link SpriteLibrary}, which resolves the sprite names to images.
+     */
+    private RenderFrame(List<SimulationObject> simulationObjects, double simulationTime, SpriteLibrary spriteLibrary) {
+        int count = simulationObjects.size();
+        this.simulationObjects = simulationObjects;
+        this.simulationTime = simulationTime;
+        this.sprites = new Image[count];
+        this.bounds = new double[count * 4];
+        this.centers = new double[count * 2];
+        this.ranges = new double[count];
+        this.mirrored = new boolean[count];
+        this.visible = new boolean[count];
+        this.nutrition = new double[count];
+        this.hydration = new double[count];
+        this.reproductionValue = new double[count];
+        this.chased = new boolean[count];
+        this.types = new String[count];
+        this.speciesIds = new int[count];
+
+        int dinosaurs = 0;
+        for (int i = 0; i < count; i++) {
+            SimulationObject simulationObject = simulationObjects.get(i);
+            double aspectRatio = simulationObject.getSpriteAspectRatio();
+            sprites[i] = spriteLibrary.getImage(simulationObject.getSpriteName());
+            bounds[i * 4] = simulationObject.getPosition().getX() - simulationObject.getRenderOffset().getX();
+            bounds[i * 4 + 1] = simulationObject.getPosition().getY() - simulationObject.getRenderOffset().getY();
+            bounds[i * 4 + 2] = Math.min(simulationObject.getSpriteWidth(), simulationObject.getSpriteHeight() * aspectRatio);
+            bounds[i * 4 + 3] = Math.min(simulationObject.getSpriteHeight(), simulationObject.getSpriteWidth() / aspectRatio);
+            centers[i * 2] = simulationObject.getPosition().getX();
+            centers[i * 2 + 1] = simulationObject.getPosition().getY();
+            ranges[i] = simulationObject.getInteractionRange();
+            mirrored[i] = simulationObject.isMirrored();
+            visible[i] = simulationObject.isVisible();
+            types[i] = simulationObject.getType();
+
+            if (simulationObject instanceof Dinosaur dinosaur) {
+                nutrition[i] = dinosaur.getNutrition();
+                hydration[i] = dinosaur.getHydration();
+                reproductionValue[i] = dinosaur.getReproductionValue();
+                chased[i] = dinosaur.isChased();
+                speciesIds[i] = dinosaur.getSpeciesId();
+                dinosaurs++;
+            } else {
+                speciesIds[i] = -1;
+            }
+        }
+        this.dinosaurCount = dinosaurs;
+    }
+
+    /**
+     * Captures the current state of all {@link SimulationObject}s of a {@link Simulation}. <br>
+     * Needs to be called on the thread, which updates the {@link Simulation}. The sprite bounds match the
+     * {@link javafx.scene.image.ImageView} with preserved ratio, which was used for each {@link SimulationObject} before.
+     *
+     * @param simulation    The {@link Simulation}.
+     * @param spriteLibrary The {@link SpriteLibrary}, which resolves the sprite names to images.
+     * @return The captured {@link RenderFrame}.
+     */
+    static RenderFrame capture(Simulation simulation, SpriteLibrary spriteLibrary) {
+        List<SimulationObject> simulationObjects = simulation.getSimulationObjects().stream()
+                .filter(simulationObject -> simulationObject.getSpriteName() != null)
+                .toList();
+        return new RenderFrame(simulationObjects, simulation.getCurrentSimulationTime().getTime(), spriteLibrary);
+    }
+
+    /**
+     * Gets the amount of captured {@link SimulationObject}s.
+     *
+     * @return The amount of {@link SimulationObject}s.
+     */
+    int size() {
+        return simulationObjects.size();
+    }
+
+    /**
+     * Gets the index of a {@link SimulationObject} in this frame.
+     *
+     * @param simulationObject The {@link SimulationObject}.
+     * @return The index or -1, if the {@link SimulationObject} is not part of this frame.
+     */
+    int indexOf(SimulationObject simulationObject) {
+        for (int i = 0; i < simulationObjects.size(); i++) {
+            if (simulationObjects.get(i) == simulationObject)
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Gets a captured {@link SimulationObject}. Only its identity and unchangeable values may be used.
+     *
+     * @param i The index of the {@link SimulationObject}.
+     * @return The {@link SimulationObject}.
+     */
+    SimulationObject getSimulationObject(int i) {
+        return simulationObjects.get(i);
+    }
+
+    /**
+     * Gets the simulation time of this frame.
+     *
+     * @return A new {@link SimulationTime} object with the time of this frame.
+     */
+    SimulationTime getSimulationTime() {
+        return new SimulationTime(simulationTime);
+    }
+
+    /**
+     * Gets the sprite of a {@link SimulationObject}.
+     *
+     * @param i The index of the {@link SimulationObject}.
+     * @return The sprite.
+     */
+    Image getSprite(int i) {
+        return sprites[i];
+    }
+
+    /**
+     * Gets the x position of the sprite bounds of a {@link SimulationObject}.
+     *
+     * @param i The index of the {@link SimulationObject}.
+     * @return The left edge of the sprite.
+     */
+    double getSpriteX(int i) {
+        return bounds[i * 4];
+    }
+
+    /**
+     * Gets the y position of the sprite bounds of a {@link SimulationObject}.
+     *
+     * @param i The index of the {@link SimulationObject}.
+     * @return The top edge of the sprite.
+     */
+    double getSpriteY(int i) {
+        return bounds[i * 4 + 1];
+    }
+
+    /**
+     * Gets the drawn width of the sprite of a {@link SimulationObject}.
+     *
+     * @param i The index of the {@link SimulationObject}.
+     * @return The width of the sprite.
+     */
+    double getSpriteWidth(int i) {
+        return bounds[i * 4 + 2];
+    }
+
+    /**
+     * Gets the drawn height of the sprite of a {@link SimulationObject}.
+     *
+     * @param i The index of the {@link SimulationObject}.
+     * @return The height of the sprite.
+     */
+    double getSpriteHeight(int i) {
+        return bounds[i * 4 + 3];
+    }
+
+    /**
+     * Gets the x position of a {@link SimulationObject}.
+     *
+     * @param i The index of the {@link SimulationObject}.
+     * @return The x position.
+     */
+    double getX(int i) {
+        return centers[i * 2];
+    }
+
+    /**
+     * Gets the y position of a {@link SimulationObject}.
+     *
+     * @param i The index of the {@link SimulationObject}.
+     * @return The y position.
+     */
+    double getY(int i) {
+        return centers[i * 2 + 1];
+    }
+
+    /**
+     * Gets the interaction range of a {@link SimulationObject}.
+     *
+     * @param i The index of the {@link SimulationObject}.
+     * @return The interaction range.
+     */
+    double getInteractionRange(int i) {
+        return ranges[i];
+    }
+
+    /**
+     * Is the sprite of a {@link SimulationObject} mirrored?
+     *
+     * @param i The index of the {@link SimulationObject}.
+     * @return true, if the sprite is mirrored.
+     */
+    boolean isMirrored(int i) {
+        return mirrored[i];
+    }
+
+    /**
+     * Is a {@link SimulationObject} visible?
+     *
+     * @param i The index of the {@link SimulationObject}.
+     * @return true, if the {@link SimulationObject} is visible.
+     */
+    boolean isVisible(int i) {
+        return visible[i];
+    }
+
+    /**
+     * Gets the type of a {@link SimulationObject}.
+     *
+     * @param i The index of the {@link SimulationObject}.
+     * @return The type.
+     */
+    String getType(int i) {
+        return types[i];
+    }
+
+    /**
+     * Gets the nutrition of a {@link Dinosaur}.
+     *
+     * @param i The index of the {@link Dinosaur}.
+     * @return The nutrition.
+     */
+    double getNutrition(int i) {
+        return nutrition[i];
+    }
+
+    /**
+     * Gets the hydration of a {@link Dinosaur}.
+     *
+     * @param i The index of the {@link Dinosaur}.
+     * @return The hydration.
+     */
+    double getHydration(int i) {
+        return hydration[i];
+    }
+
+    /**
+     * Gets the reproduction value of a {@link Dinosaur}.
+     *
+     * @param i The index of the {@link Dinosaur}.
+     * @return The reproduction value.
+     */
+    double getReproductionValue(int i) {
+        return reproductionValue[i];
+    }
+
+    /**
+     * Is a {@link Dinosaur} chased?
+     *
+     * @param i The index of the {@link Dinosaur}.
+     * @return true, if the {@link Dinosaur} is chased.
+     */
+    boolean isChased(int i) {
+        return chased[i];
+    }
+
+    /**
+     * Is a {@link Dinosaur} alive in this frame?
+     *
+     * @param i The index of the {@link Dinosaur}.
+     * @return true, if the {@link Dinosaur} did neither die of hunger nor of thirst.
+     */
+    boolean isAlive(int i) {
+        return nutrition[i] > 0 && hydration[i] > 0;
+    }
+
+    /**
+     * Calculates the share of a species compared to all {@link Dinosaur}s of this frame.
+     *
+     * @param i The index of a {@link Dinosaur} of the species.
+     * @return The share of the species.
+     */
+    double getSpeciesShare(int i) {
+        int typeCounter = 0;
+        for (int speciesId : speciesIds) {
+            if (speciesId == speciesIds[i])
+                typeCounter++;
+        }
+        return (double) typeCounter / dinosaurCount;
+    }
+
+    /**
+     * Checks, if a position is inside the sprite bounds of a {@link SimulationObject}.
+     *
+     * @param i The index of the {@link SimulationObject}.
+     * @param x The x position.
+     * @param y The y position.
+     * @return true, if the position is inside the sprite bounds.
+     */
+    boolean contains(int i, double x, double y) {
+        return x >= bounds[i * 4] && x <= bounds[i * 4] + bounds[i * 4 + 2]
+                && y >= bounds[i * 4 + 1] && y <= bounds[i * 4 + 1] + bounds[i * 4 + 3];
+    }
+}
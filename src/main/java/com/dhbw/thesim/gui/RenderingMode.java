@@ -0,0 +1,52 @@
+package com.dhbw.thesim.gui;
+
+import java.util.Locale;
+
+/**
+ * The ways, in which the {@link SimulationOverlay} can draw the simulation-objects. <br>
+ * The mode is selected with the system property {@link #PROPERTY} (e.g. {@code -Dthesim.renderer=nodes}).
+ *
+ * @author Daniel Czeschner
+ * @see ISimulationRenderer
+ */
+public enum RenderingMode {
+    /**
+     * All simulation-objects are drawn onto one canvas by the {@link CanvasSimulationRenderer}. (default)
+     */
+    CANVAS,
+    /**
+     * Each simulation-object gets its own nodes from the {@link SimulationRenderer}.
+     */
+    NODES;
+
+    /**
+     * The name of the system property, which selects the rendering mode.
+     */
+    public static final String PROPERTY = "thesim.renderer";
+
+    /**
+     * Gets the rendering mode, which is selected by the system property {@link #PROPERTY}.
+     *
+     * @return The selected {@link RenderingMode}.
+     */
+    public static RenderingMode fromSystemProperty() {
+        return fromName(System.getProperty(PROPERTY));
+    }
+
+    /**
+     * Gets the rendering mode with a name. The case is ignored.
+     *
+     * @param name The name of the mode. ("canvas" or "nodes")
+     * @return The matching {@link RenderingMode} or {@link #CANVAS}, if the name is null or blank.
+     * @throws IllegalArgumentException If no mode has this name.
+     */
+    public static RenderingMode fromName(String name) {
+        if (name == null || name.isBlank())
+            return CANVAS;
+        try {
+            return valueOf(name.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown rendering mode '" + name + "'. Use 'canvas' or 'nodes'.", e);
+        }
+    }
+}
@@ -2,10 +2,10 @@ package com.dhbw.thesim.gui;
 
 import com.dhbw.thesim.core.entity.Dinosaur;
 import com.dhbw.thesim.core.map.SimulationMap;
-import com.dhbw.thesim.core.map.Tile;
 import com.dhbw.thesim.core.simulation.Simulation;
 import com.dhbw.thesim.core.simulation.SimulationLoop;
-import com.dhbw.thesim.core.util.SpriteLibrary;
+import com.dhbw.thesim.core.simulation.SimulationObserver;
+import com.dhbw.thesim.core.util.SimulationTime;
 import com.dhbw.thesim.gui.controllers.*;
 import com.dhbw.thesim.impexp.JsonHandler;
 import com.dhbw.thesim.stats.Statistics;
@@ -40,20 +40,22 @@ import java.util.concurrent.atomic.AtomicBoolean;
  *
  * @author Daniel Czeschner, Tamina Mühlenberg, Robin Khatri Chetri
  */
-public class SimulationOverlay extends BorderPane {
+public class SimulationOverlay extends BorderPane implements SimulationObserver {
 
     //region variables
 
     private final Scene simulationScene;
     private Canvas backgroundCanvas;
+    private Canvas entityCanvas;
     private GraphicsContext canvasGraphics;
     private final SimulationLoop simulationLoop;
+    private final ISimulationRenderer simulationRenderer;
     public AnchorPane centerPane;
     private SideBar sideBar;
     private final boolean isSimulationModeAuto;
 
-    public static final double BACKGROUND_WIDTH = Display.adjustScale(SimulationMap.WIDTH * Tile.TILE_SIZE, Display.SCALE_X);
-    public static final double BACKGROUND_HEIGHT = Display.adjustScale(SimulationMap.HEIGHT * Tile.TILE_SIZE, Display.SCALE_Y);
+    public static final double BACKGROUND_WIDTH = SimulationMap.WORLD_WIDTH;
+    public static final double BACKGROUND_HEIGHT = SimulationMap.WORLD_HEIGHT;
 
     private final Statistics statistics;
 
@@ -116,7 +118,7 @@ public class SimulationOverlay extends BorderPane {
      * @param primaryStage  The instance of the main stage.
      * @param configScreen  The config screen instance.
      * @param spriteLibrary The current instance of the {@link SpriteLibrary}
-     * @throws IOException See {@link com.dhbw.thesim.impexp.Json2Objects#initSimObjects(Map, Map, double, SpriteLibrary)}
+     * @throws IOException See {@link com.dhbw.thesim.impexp.Json2Objects#initSimObjects(Map, Map, double, com.dhbw.thesim.core.util.SpriteMetrics)}
      */
     public SimulationOverlay(Stage primaryStage, ConfigScreen configScreen, SpriteLibrary spriteLibrary) throws IOException {
         //Create another pane which acts as a container for the simulation overlay which allows for centering in fullscreen mode
@@ -131,19 +133,32 @@ public class SimulationOverlay extends BorderPane {
         createCanvas();
         createSideBar();
 
+        //The renderer is selected by the system property, e.g. -Dthesim.renderer=nodes
+        boolean canvasRendering = RenderingMode.fromSystemProperty() == RenderingMode.CANVAS;
+
         //Add the Canvas and the Sidebar to the AnchorPane
         centerPane.getChildren().add(backgroundCanvas);
+        if (canvasRendering)
+            centerPane.getChildren().add(entityCanvas);
         centerPane.getChildren().add(sideBar);
 
         //Lay out the AnchorPane in the center position of the BorderPane
         setCenter(centerPane);
 
-        //create Statistics
-        statistics = new Statistics();
+        Simulation sim = new Simulation(configScreen.getMap().getId(), configScreen.getDinoParams(), configScreen.getPlantParams(), configScreen.getPlantGrowthRate(), configScreen.getPopulationLimit(), spriteLibrary);
 
-        Simulation sim = new Simulation(configScreen.getMap().getId(), canvasGraphics, this, configScreen.getDinoParams(), configScreen.getPlantParams(), configScreen.getPlantGrowthRate(), spriteLibrary);
+        //Attach the renderer and this overlay to the headless simulation
+        if (canvasRendering)
+            simulationRenderer = new CanvasSimulationRenderer(canvasGraphics, spriteLibrary, entityCanvas, this::dinosaurClicked);
+        else
+            simulationRenderer = new SimulationRenderer(canvasGraphics, spriteLibrary, centerPane, this::dinosaurClicked);
+        simulationRenderer.attach(sim);
+        sim.addObserver(this);
 
-        simulationLoop = new SimulationLoop((int) configScreen.getSimulationSteps(), (int) configScreen.getSimulationSteps(), sim, (int) configScreen.getMaxSteps(), (int) configScreen.getMaxRuntime(), this);
+        simulationLoop = new SimulationLoop((int) configScreen.getSimulationSteps(), (int) configScreen.getSimulationSteps(), sim, (int) configScreen.getMaxSteps(), (int) configScreen.getMaxRuntime());
+
+        //create Statistics
+        statistics = simulationLoop.getStatistics();
 
         statistics.addSimulationObjectList(sim.getSimulationObjects(), simulationLoop.getCurrentSimulation().getCurrentSimulationTime());
 
@@ -177,6 +192,7 @@ public class SimulationOverlay extends BorderPane {
 
         primaryStage.setOnCloseRequest(e -> {
             simulationLoop.stopSimulationRunner();
+            simulationRenderer.detach();
             if (timer != null)
                 timer.cancel();
         });
@@ -188,6 +204,7 @@ public class SimulationOverlay extends BorderPane {
     private void createCanvas() {
         backgroundCanvas = new Canvas(BACKGROUND_WIDTH, BACKGROUND_HEIGHT);
         canvasGraphics = backgroundCanvas.getGraphicsContext2D();
+        entityCanvas = new Canvas(BACKGROUND_WIDTH, BACKGROUND_HEIGHT);
     }
 
     private void createSideBar() {
@@ -202,6 +219,7 @@ public class SimulationOverlay extends BorderPane {
         if (isSimulationModeAuto) {
             //Add the control buttons for automatic simulation mode to the sidebar and add a click listener to each
             createToggleButton();
+            createMaxSpeedButton();
         } else {
             //Add the control buttons for manual simulation mode to the sidebar and add a click listener to each
             Button nextStepButton = addControlButtonToSideBar("/control/next.png");
@@ -228,6 +246,14 @@ public class SimulationOverlay extends BorderPane {
         });
     }
 
+    private void createMaxSpeedButton() {
+        Button maxSpeedButton = addControlButtonToSideBar("/control/next.png");
+        maxSpeedButton.setOnAction(e -> {
+            simulationLoop.setMaxSpeed(!simulationLoop.isMaxSpeed());
+            maxSpeedButton.setOpacity(simulationLoop.isMaxSpeed() ? 0.5 : 1.0);
+        });
+    }
+
     private void createStopButton() {
         Button stopButton = addControlButtonToSideBar("/control/stop.png");
         stopButton.setOnAction(e -> {
@@ -236,7 +262,22 @@ public class SimulationOverlay extends BorderPane {
         });
     }
 
+    /**
+     * Shows the statistics endcard, when the simulation is finished.
+     *
+     * @param simulation The finished {@link Simulation}.
+     * @param loopTime   The time the {@link SimulationLoop} was running.
+     */
+    @Override
+    public void onSimulationFinished(Simulation simulation, SimulationTime loopTime) {
+        if (Platform.isFxApplicationThread())
+            showStatisticsEndcard();
+        else
+            Platform.runLater(this::showStatisticsEndcard);
+    }
+
     public void showStatisticsEndcard() {
+        simulationRenderer.detach();
         statistics.addSimulationObjectList(simulationLoop.getCurrentSimulation().getSimulationObjects(), simulationLoop.getLoopTime());
 
         Stage window = (Stage) simulationScene.getWindow();
@@ -273,9 +314,9 @@ public class SimulationOverlay extends BorderPane {
             startStatsTimer(dinosaur);
         } else if (!isSimulationModeAuto) {
             if (lastSelectedDinosaur != null)
-                lastSelectedDinosaur.setSelectionRingVisibility(false);
+                simulationRenderer.setSelectionRingVisibility(lastSelectedDinosaur, false);
             lastSelectedDinosaur = dinosaur;
-            dinosaur.setSelectionRingVisibility(true);
+            simulationRenderer.setSelectionRingVisibility(dinosaur, true);
             triggerDinosaurSingleStatsUpdate();
         }
     }
@@ -295,16 +336,16 @@ public class SimulationOverlay extends BorderPane {
             @Override
             public void run() {
                 Platform.runLater(() -> {
-                    if (!dinosaur.diedOfThirst() && !dinosaur.diedOfHunger()) {
+                    if (isAliveInLastFrame(dinosaur)) {
                         if (lastSelectedDinosaur != null)
-                            lastSelectedDinosaur.setSelectionRingVisibility(false);
+                            simulationRenderer.setSelectionRingVisibility(lastSelectedDinosaur, false);
                         lastSelectedDinosaur = dinosaur;
-                        dinosaur.setSelectionRingVisibility(true);
+                        simulationRenderer.setSelectionRingVisibility(dinosaur, true);
                         triggerDinosaurSingleStatsUpdate();
                     } else {
                         //The dinosaur died
                         lastSelectedDinosaur = null;
-                        dinosaur.setSelectionRingVisibility(false);
+                        simulationRenderer.setSelectionRingVisibility(dinosaur, false);
                         resetStatsScreen();
                         cancel();
                     }
@@ -317,12 +358,30 @@ public class SimulationOverlay extends BorderPane {
      * Updates the stats in the sidebar.
      */
     private void triggerDinosaurSingleStatsUpdate() {
-        if (lastSelectedDinosaur != null && !lastSelectedDinosaur.diedOfHunger() && !lastSelectedDinosaur.diedOfThirst())
-            setSideBarStats(statistics.getSingleStats(lastSelectedDinosaur, List.copyOf(simulationLoop.getCurrentSimulation().getSimulationObjects()), simulationLoop.getCurrentSimulation().getCurrentSimulationTime()));
+        //Use the values of the last drawn frame instead of the live objects, which are changed by the simulation thread
+        RenderFrame frame = simulationRenderer.getLastFrame();
+        int i = frame != null && lastSelectedDinosaur != null ? frame.indexOf(lastSelectedDinosaur) : -1;
+        if (i >= 0 && frame.isAlive(i))
+            setSideBarStats(frame.getType(i), statistics.getSingleStats(lastSelectedDinosaur, frame.getNutrition(i), frame.getHydration(i),
+                    frame.getReproductionValue(i), frame.isChased(i), frame.getSpeciesShare(i), frame.getSimulationTime()));
         else
             resetStatsScreen();
     }
 
+    /**
+     * Checks, if a {@link Dinosaur} is still alive in the last drawn frame.
+     *
+     * @param dinosaur The {@link Dinosaur}.
+     * @return true, if the {@link Dinosaur} is part of the last drawn frame and neither died of hunger nor of thirst.
+     */
+    private boolean isAliveInLastFrame(Dinosaur dinosaur) {
+        RenderFrame frame = simulationRenderer.getLastFrame();
+        if (frame == null)
+            return false;
+        int i = frame.indexOf(dinosaur);
+        return i >= 0 && frame.isAlive(i);
+    }
+
     /**
      * Resets the stats display in the sidebar
      */
@@ -392,12 +451,13 @@ public class SimulationOverlay extends BorderPane {
     /**
      * Sets the display for the stats of a selected dinosaur.
      *
+     * @param type          The type of the selected dinosaur.
      * @param dinosaurStats The stats of the selected dinosaur.
      * @see Statistics#getSimulationStats()
      */
-    private void setSideBarStats(Map<String, Double> dinosaurStats) {
+    private void setSideBarStats(String type, Map<String, Double> dinosaurStats) {
 
-        dinoType.setText(lastSelectedDinosaur.getType());
+        dinoType.setText(type);
 
         diet.setText(lastSelectedDinosaur.getDiet().translatedText);
 
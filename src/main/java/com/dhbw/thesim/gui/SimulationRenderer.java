@@ -0,0 +1,168 @@
+package com.dhbw.thesim.gui;
+
+import com.dhbw.thesim.core.entity.Dinosaur;
+import com.dhbw.thesim.core.entity.SimulationObject;
+import javafx.scene.Node;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.ImageView;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Renders a {@link com.dhbw.thesim.core.simulation.Simulation} with JavaFX by showing scene-graph nodes for each {@link SimulationObject}. <br>
+ * The nodes are created, updated and removed on the JavaFX application thread by comparing each drawn {@link RenderFrame} with the shown nodes. <br>
+ * For many {@link SimulationObject}s the {@link CanvasSimulationRenderer} should be used, because each node adds overhead to the scene-graph.
+ *
+ * @author Daniel Czeschner
+ * @see SimulationOverlay
+ */
+public class SimulationRenderer extends AbstractSimulationRenderer {
+
+    //region variables
+
+    /**
+     * The pane, on which all {@link SimulationObject}s are shown.
+     */
+    private final Pane pane;
+
+    /**
+     * Is called, when a {@link Dinosaur} gets clicked with the mouse.
+     */
+    private final Consumer<Dinosaur> dinosaurClickHandler;
+
+    /**
+     * The graphical representation of each shown {@link SimulationObject}. Is only used on the JavaFX application thread.
+     */
+    private final Map<SimulationObject, View> views;
+
+    //endregion
+
+    /**
+     * The scene-graph nodes of one {@link SimulationObject}.
+     *
+     * @param sprite        The {@link ImageView}, which shows the sprite.
+     * @param selectionRing Used, when a dinosaur gets selected.
+     */
+    private record View(ImageView sprite, Circle selectionRing) {
+    }
+
+    /**
+     * Constructor
+     *
+     * @param backgroundGraphics   The {@link GraphicsContext} for the background canvas.
+     * @param spriteLibrary        The {@link SpriteLibrary}, which resolves the sprite names to images.
+     * @param pane                 The pane, on which all {@link SimulationObject}s are shown.
+     * @param dinosaurClickHandler Is called, when a {@link Dinosaur} gets clicked with the mouse.
+     */
+    public SimulationRenderer(GraphicsContext backgroundGraphics, SpriteLibrary spriteLibrary, Pane pane, Consumer<Dinosaur> dinosaurClickHandler) {
+        super(backgroundGraphics, spriteLibrary);
+        this.pane = pane;
+        this.dinosaurClickHandler = dinosaurClickHandler;
+        this.views = new HashMap<>();
+    }
+
+    /**
+     * Sets the visibility for the selection ring of a {@link SimulationObject}.
+     *
+     * @param simulationObject The {@link SimulationObject}.
+     * @param visible          true, if the ring should be visible.
+     */
+    @Override
+    public void setSelectionRingVisibility(SimulationObject simulationObject, boolean visible) {
+        View view = views.get(simulationObject);
+        if (view != null)
+            view.selectionRing().setVisible(visible);
+    }
+
+    /**
+     * Creates the nodes for new {@link SimulationObject}s, updates the nodes of all {@link SimulationObject}s of the frame
+     * and removes the nodes of {@link SimulationObject}s, which are not part of the frame anymore.
+     *
+     * @param frame The {@link RenderFrame}, which should be drawn.
+     */
+    @Override
+    protected void draw(RenderFrame frame) {
+        List<Node> newNodes = new ArrayList<>();
+        for (int i = 0; i < frame.size(); i++) {
+            SimulationObject simulationObject = frame.getSimulationObject(i);
+            View view = views.get(simulationObject);
+            if (view == null) {
+                view = createView(simulationObject, frame, i);
+                views.put(simulationObject, view);
+                newNodes.add(view.selectionRing());
+                newNodes.add(view.sprite());
+            }
+            updateView(view, frame, i);
+        }
+
+        //Only search removed objects, if the frame does not contain all shown objects.
+        if (views.size() > frame.size()) {
+            Set<SimulationObject> frameObjects = new HashSet<>();
+            for (int i = 0; i < frame.size(); i++)
+                frameObjects.add(frame.getSimulationObject(i));
+            List<Node> removedNodes = new ArrayList<>();
+            views.entrySet().removeIf(entry -> {
+                if (frameObjects.contains(entry.getKey()))
+                    return false;
+                removedNodes.add(entry.getValue().selectionRing());
+                removedNodes.add(entry.getValue().sprite());
+                return true;
+            });
+            pane.getChildren().removeAll(removedNodes);
+        }
+        pane.getChildren().addAll(newNodes);
+    }
+
+    /**
+     * Creates the nodes for a {@link SimulationObject}.
+     *
+     * @param simulationObject The {@link SimulationObject}.
+     * @param frame            The {@link RenderFrame}, which contains the {@link SimulationObject}.
+     * @param i                The index of the {@link SimulationObject} in the frame.
+     * @return The created {@link View}.
+     */
+    private View createView(SimulationObject simulationObject, RenderFrame frame, int i) {
+        ImageView sprite = new ImageView(frame.getSprite(i));
+        sprite.setPreserveRatio(true);
+        sprite.setFitWidth(frame.getSpriteWidth(i));
+        sprite.setFitHeight(frame.getSpriteHeight(i));
+
+        Circle selectionRing = new Circle(0, 0, frame.getInteractionRange(i));
+        selectionRing.setVisible(false);
+        selectionRing.setFill(Color.TRANSPARENT);
+        selectionRing.setStroke(Color.YELLOW);
+
+        if (simulationObject instanceof Dinosaur dinosaur)
+            sprite.addEventHandler(MouseEvent.MOUSE_CLICKED, event -> dinosaurClickHandler.accept(dinosaur));
+
+        return new View(sprite, selectionRing);
+    }
+
+    /**
+     * Applies the position, direction and visibility of a {@link SimulationObject} from a frame to its nodes.
+     *
+     * @param view  The nodes of the {@link SimulationObject}.
+     * @param frame The {@link RenderFrame}.
+     * @param i     The index of the {@link SimulationObject} in the frame.
+     */
+    private void updateView(View view, RenderFrame frame, int i) {
+        ImageView sprite = view.sprite();
+        sprite.setTranslateX(frame.getSpriteX(i));
+        sprite.setTranslateY(frame.getSpriteY(i));
+        sprite.setScaleX(frame.isMirrored(i) ? -1 : 1);
+        sprite.setVisible(frame.isVisible(i));
+
+        view.selectionRing().setTranslateX(frame.getX(i));
+        view.selectionRing().setTranslateY(frame.getY(i));
+    }
+}
@@ -1,5 +1,6 @@
-package com.dhbw.thesim.core.util;
+package com.dhbw.thesim.gui;
 
+import com.dhbw.thesim.core.util.SpriteMetrics;
 import com.dhbw.thesim.impexp.JsonHandler;
 import javafx.scene.image.Image;
 
@@ -20,11 +21,14 @@ import java.util.Objects;
 import java.util.stream.Stream;
 
 /**
- * The sprite library for the simulation.
+ * The sprite library for the simulation. <br>
+ * The simulation core only knows the names of the sprites. This library resolves them to images for the renderers
+ * and gives the core the aspect ratios of the sprites.
  *
  * @author Daniel Czeschnenr
+ * @see SpriteMetrics
  */
-public class SpriteLibrary {
+public class SpriteLibrary implements SpriteMetrics {
 
     //region variables
 
@@ -38,6 +42,11 @@ public class SpriteLibrary {
      */
     private static SpriteLibrary INSTANCE;
 
+    /**
+     * The "undefined" image from the resources, which is used for unknown names.
+     */
+    private final Image undefinedImage;
+
     //endregion
 
     /**
@@ -45,6 +54,7 @@ public class SpriteLibrary {
      */
     public SpriteLibrary() {
         imageMap = new HashMap<>();
+        undefinedImage = new Image(Objects.requireNonNull(getClass().getResource("/helper/undefined.png")).toString());
         //Export the default images
         exportImagesFromResourcesFolder("/dinosaur");
         exportImagesFromResourcesFolder("/plant");
@@ -153,16 +163,26 @@ public class SpriteLibrary {
     }
 
     /**
-     * Gets the passed image or the "undefined" image from the resoruces.
+     * Gets the passed image or the "undefined" image from the resoruces. <br>
+     * Only reads the loaded images, so it can also be called by the simulation thread.
      *
      * @param name The name of the image.
      * @return A {@link Image} object
      */
     public Image getImage(String name) {
-        Image img = imageMap.get(name);
-        if (img == null)
-            img = new Image(Objects.requireNonNull(getClass().getResource("/helper/undefined.png")).toString());
-        return img;
+        return imageMap.getOrDefault(name, undefinedImage);
+    }
+
+    /**
+     * Gets the aspect ratio of the image with the passed name.
+     *
+     * @param spriteName The name of the image.
+     * @return The width divided by the height of the image or 1, if the image has no height.
+     */
+    @Override
+    public double getAspectRatio(String spriteName) {
+        Image image = getImage(spriteName);
+        return image.getHeight() > 0 ? image.getWidth() / image.getHeight() : 1;
     }
 
 }
@@ -1,8 +1,9 @@
 package com.dhbw.thesim.gui.controllers;
 
-import com.dhbw.thesim.core.util.SpriteLibrary;
+import com.dhbw.thesim.core.simulation.Simulation;
 import com.dhbw.thesim.gui.Display;
 import com.dhbw.thesim.gui.SimulationOverlay;
+import com.dhbw.thesim.gui.SpriteLibrary;
 import com.dhbw.thesim.impexp.Json2Objects;
 import com.dhbw.thesim.impexp.JsonHandler;
 import javafx.fxml.FXML;
@@ -66,6 +67,11 @@ public class ConfigScreen extends AnchorPane {
      */
     private SpriteLibrary spriteLibrary;
 
+    /**
+     * The population limit of the loaded scenario or {@link Simulation#NO_POPULATION_LIMIT}
+     */
+    private int populationLimit = Simulation.NO_POPULATION_LIMIT;
+
     /**
      * The {@code Constructor} of this class which {@link Display#makeFXMLController(String, Class)}
      * is getting to create the specified controller
@@ -345,5 +351,13 @@ public class ConfigScreen extends AnchorPane {
     public String getLandscapeName() {
         return getMap().getText();
     }
+
+    public int getPopulationLimit() {
+        return populationLimit;
+    }
+
+    public void setPopulationLimit(int populationLimit) {
+        this.populationLimit = populationLimit;
+    }
     //endregion
 }
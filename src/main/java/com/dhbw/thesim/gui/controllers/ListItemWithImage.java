@@ -1,7 +1,7 @@
 package com.dhbw.thesim.gui.controllers;
 
-import com.dhbw.thesim.core.util.SpriteLibrary;
 import com.dhbw.thesim.gui.Display;
+import com.dhbw.thesim.gui.SpriteLibrary;
 import com.dhbw.thesim.impexp.Json2Objects;
 import com.dhbw.thesim.impexp.JsonHandler;
 import javafx.beans.property.DoubleProperty;
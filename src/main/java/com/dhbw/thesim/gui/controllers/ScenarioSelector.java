@@ -1,5 +1,6 @@
 package com.dhbw.thesim.gui.controllers;
 
+import com.dhbw.thesim.core.simulation.Simulation;
 import com.dhbw.thesim.gui.Display;
 import com.dhbw.thesim.impexp.Json2Objects;
 import com.dhbw.thesim.impexp.JsonHandler;
@@ -120,7 +121,7 @@ public class ScenarioSelector extends VBox {
             if (!file.equals("")) {
                 try {
                     JsonHandler.exportScenarioConfig(configScreen.getDinoParams(), configScreen.getPlantParams(),
-                            configScreen.getLandscapeName(), configScreen.getPlantGrowthRate(), file);
+                            configScreen.getLandscapeName(), configScreen.getPlantGrowthRate(), configScreen.getPopulationLimit(), file);
 
                     Alert alert = new Alert(Alert.AlertType.INFORMATION);
                     alert.setTitle("Szenarioerstellung");
@@ -153,6 +154,9 @@ public class ScenarioSelector extends VBox {
                         scenarioParams.get(JsonHandler.ScenarioConfigParams.PLANT),
                         (double) scenarioParams.get(JsonHandler.ScenarioConfigParams.PLANT_GROWTH).get(0)[0],
                         (String) scenarioParams.get(JsonHandler.ScenarioConfigParams.LANDSCAPE).get(0)[0]);
+                //Scenarios without a population limit are not limited
+                ArrayList<Object[]> populationLimit = scenarioParams.get(JsonHandler.ScenarioConfigParams.POPULATION_LIMIT);
+                configScreen.setPopulationLimit(populationLimit == null ? Simulation.NO_POPULATION_LIMIT : (int) populationLimit.get(0)[0]);
 
                 Node node = (Node) event.getSource();
                 Stage window = (Stage) node.getScene().getWindow();
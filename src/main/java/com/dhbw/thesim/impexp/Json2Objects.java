@@ -3,7 +3,9 @@ package com.dhbw.thesim.impexp;
 import com.dhbw.thesim.core.entity.Dinosaur;
 import com.dhbw.thesim.core.entity.Plant;
 import com.dhbw.thesim.core.entity.SimulationObject;
-import com.dhbw.thesim.core.util.SpriteLibrary;
+import com.dhbw.thesim.core.entity.Species;
+import com.dhbw.thesim.core.entity.SpeciesRegistry;
+import com.dhbw.thesim.core.util.SpriteMetrics;
 
 import java.io.IOException;
 import java.math.BigDecimal;
@@ -74,6 +76,14 @@ public class Json2Objects {
             oneKindOfFormattedSimulationObjects.add(new Object[]{plantGrowth});
             allFormattedSimulationObjects.put(JsonHandler.ScenarioConfigParams.PLANT_GROWTH, oneKindOfFormattedSimulationObjects);
 
+            //get the population limit, if the scenario configuration file defines one:
+            Object populationLimit = JsonHandler.importScenarioConfig(scenarioConfigFileName, JsonHandler.ScenarioConfigParams.POPULATION_LIMIT).get("PopulationLimit");
+            if (populationLimit != null) {
+                oneKindOfFormattedSimulationObjects = new ArrayList<>();
+                oneKindOfFormattedSimulationObjects.add(new Object[]{populationLimit});
+                allFormattedSimulationObjects.put(JsonHandler.ScenarioConfigParams.POPULATION_LIMIT, oneKindOfFormattedSimulationObjects);
+            }
+
             //get the dinosaurs and their amount:
             simulationObjects = JsonHandler.importSimulationObjectsConfig(JsonHandler.SimulationObjectType.DINO);
             importedScenarioConfigValues = JsonHandler.importScenarioConfig(scenarioConfigFileName, JsonHandler.ScenarioConfigParams.DINO);
@@ -139,15 +149,15 @@ public class Json2Objects {
      * @param dinosaursAmount HashMap<String, Integer> contains the amount of each dinosaur species
      * @param plantsAmount    HashMap<String, Integer> contains the amount of each plant species
      * @param plantGrowth     double value containing the plant growth
-     * @param spriteLibrary   The instance of the {@link SpriteLibrary}
+     * @param spriteMetrics   The {@link SpriteMetrics}, which gives the aspect ratios of the sprites.
      * @return an ArrayList containing all SimulationObjects
      * @throws IOException if the simulation objects configuration file can not be found
      */
-    public static List<SimulationObject> initSimObjects(Map<String, Integer> dinosaursAmount, Map<String, Integer> plantsAmount, double plantGrowth, SpriteLibrary spriteLibrary) throws IOException {
+    public static List<SimulationObject> initSimObjects(Map<String, Integer> dinosaursAmount, Map<String, Integer> plantsAmount, double plantGrowth, SpriteMetrics spriteMetrics) throws IOException {
         List<SimulationObject> allSimulationObjects = new ArrayList<>();
 
-        allSimulationObjects.addAll(initDinos(dinosaursAmount, spriteLibrary));
-        allSimulationObjects.addAll(initPlants(plantsAmount, plantGrowth, spriteLibrary));
+        allSimulationObjects.addAll(initDinos(dinosaursAmount, spriteMetrics));
+        allSimulationObjects.addAll(initPlants(plantsAmount, plantGrowth, spriteMetrics));
 
         return allSimulationObjects;
     }
@@ -192,18 +202,31 @@ public class Json2Objects {
      * @return all created dinosaurs (as SimulationObjects) in an ArrayList
      * @throws IOException if the simulation objects configuration file can not be found
      */
-    private static List<Dinosaur> initDinos(Map<String, Integer> dinosaursAmount, SpriteLibrary spriteLibrary) throws IOException {
+    private static List<Dinosaur> initDinos(Map<String, Integer> dinosaursAmount, SpriteMetrics spriteMetrics) throws IOException {
         List<Dinosaur> dinosaurs = new ArrayList<>();
 
         Map<String, HashMap<String, Object>> DinosaurSpecies = JsonHandler.importSimulationObjectsConfig(JsonHandler.SimulationObjectType.DINO);
 
+        //intern all configured species once, so each species has the same dense id in every simulation
+        if (DinosaurSpecies != null)
+            DinosaurSpecies.keySet().stream().sorted().forEach(SpeciesRegistry::intern);
+
         //create the dinosaur objects based on the "dinosaursAmount" HashMap
         for (String speciesName : dinosaursAmount.keySet()) { //for each species
+            assert DinosaurSpecies != null;
+            //the shared data of the species is created once and used by all dinosaurs of this species
+            String spriteName = (String) DinosaurSpecies.get(speciesName).get("Bild");
+            Species species = new Species(
+                    speciesName,
+                    spriteName,
+                    spriteMetrics.getAspectRatio(spriteName),
+                    ((String) (DinosaurSpecies.get(speciesName)).get("Nahrungsart")).charAt(0),
+                    (boolean) (DinosaurSpecies.get(speciesName)).get("KannSchwimmen"),
+                    (boolean) (DinosaurSpecies.get(speciesName)).get("KannKlettern")
+            );
             for (int i = 0; i < dinosaursAmount.get(speciesName); i++) { //for each dinosaur of one species
-                assert DinosaurSpecies != null;
                 Dinosaur dino = new Dinosaur(
-                        speciesName,
-                        spriteLibrary.getImage((String) DinosaurSpecies.get(speciesName).get("Bild")),
+                        species,
                         returnValueInBetween((DinosaurSpecies.get(speciesName)).get("Nahrung")),
                         returnValueInBetween((DinosaurSpecies.get(speciesName)).get("Hydration")),
                         returnValueInBetween((DinosaurSpecies.get(speciesName)).get("Staerke")),
@@ -212,9 +235,6 @@ public class Json2Objects {
                         ((BigDecimal) (DinosaurSpecies.get(speciesName)).get("Gewicht")).doubleValue(),
                         ((BigDecimal) (DinosaurSpecies.get(speciesName)).get("Laenge")).doubleValue(),
                         ((BigDecimal) (DinosaurSpecies.get(speciesName)).get("Hoehe")).doubleValue(),
-                        (boolean) (DinosaurSpecies.get(speciesName)).get("KannSchwimmen"),
-                        (boolean) (DinosaurSpecies.get(speciesName)).get("KannKlettern"),
-                        ((String) (DinosaurSpecies.get(speciesName)).get("Nahrungsart")).charAt(0),
                         returnValueInBetween((DinosaurSpecies.get(speciesName)).get("Sichtweite")),
                         returnValueInBetween((DinosaurSpecies.get(speciesName)).get("Interaktionsweite")),
                         returnRandomGender()
@@ -232,18 +252,19 @@ public class Json2Objects {
      * @return all created plants (as SimulationObjects) in an ArrayList
      * @throws IOException if the simulation objects configuration file can not be found
      */
-    private static List<Plant> initPlants(Map<String, Integer> plantsAmount, double plantGrowth, SpriteLibrary spriteLibrary) throws IOException {
+    private static List<Plant> initPlants(Map<String, Integer> plantsAmount, double plantGrowth, SpriteMetrics spriteMetrics) throws IOException {
         List<Plant> plants = new ArrayList<>();
 
         Map<String, HashMap<String, Object>> PlantSpecies = JsonHandler.importSimulationObjectsConfig(JsonHandler.SimulationObjectType.PLANT);
 
         //create the plant objects based on the "plantsAmount" HashMap
         for (String speciesName : plantsAmount.keySet()) { //for each species
+            assert PlantSpecies != null;
+            String spriteName = (String) PlantSpecies.get(speciesName).get("Bild");
+            Species species = new Species(speciesName, spriteName, spriteMetrics.getAspectRatio(spriteName));
             for (int i = 0; i < plantsAmount.get(speciesName); i++) { //for each plant of one species
-                assert PlantSpecies != null;
                 Plant plant = new Plant(
-                        speciesName,
-                        spriteLibrary.getImage((String) PlantSpecies.get(speciesName).get("Bild")),
+                        species,
                         returnValueInBetween((PlantSpecies.get(speciesName)).get("Interaktionsweite")),
                         plantGrowth
                 );
@@ -28,7 +28,8 @@ public class JsonHandler {
         DINO,
         PLANT,
         LANDSCAPE,
-        PLANT_GROWTH
+        PLANT_GROWTH,
+        POPULATION_LIMIT
     }
 
     /**
@@ -198,17 +199,31 @@ public class JsonHandler {
      * Get the desired scenarioConfigObjects in a HashMap, respectively import them.
      *
      * @param fileName of the file which scenarioConfigObjects should be imported
-     * @param type     specifies which scenarioConfigObjects are wanted (dinosaurs, plants, landscape name or plant growth)
+     * @param type     specifies which scenarioConfigObjects are wanted (dinosaurs, plants, landscape name, plant growth or population limit)
      * @return a HashMap which contains the names of the simulationObjects as key and the amount as value
      * Special cases are "landscape name" and "plant growth", where there is only one entry in the HashMap with static key
      * @throws IOException if the resource file with the name "fileName" could not be found
      */
     public static HashMap<String, Object> importScenarioConfig(String fileName, ScenarioConfigParams type) throws IOException {
+        return importScenarioConfig(new File(workingDirectory + "/" + fileName + ".json"), type);
+    }
+
+    /**
+     * Get the desired scenarioConfigObjects of a scenario configuration file at any location in a HashMap, respectively import them.
+     *
+     * @param configFile the scenario configuration file which scenarioConfigObjects should be imported
+     * @param type       specifies which scenarioConfigObjects are wanted (dinosaurs, plants, landscape name, plant growth or population limit)
+     * @return a HashMap which contains the names of the simulationObjects as key and the amount as value
+     * Special cases are "landscape name", "plant growth" and "population limit", where there is only one entry in the HashMap with static key
+     * The "population limit" entry is missing, if the file does not define a limit
+     * @throws IOException if the file "configFile" could not be found
+     * @see #importScenarioConfig(String, ScenarioConfigParams)
+     */
+    public static HashMap<String, Object> importScenarioConfig(File configFile, ScenarioConfigParams type) throws IOException {
         HashMap<String, Object> scenarioConfigObjects = new HashMap<>();
 
-        File configFile = new File(workingDirectory + "/" + fileName + ".json");
         if (!configFile.exists()) {
-            throw new FileNotFoundException("Cannot find resource file '" + fileName + ".json'");
+            throw new FileNotFoundException("Cannot find resource file '" + configFile.getName() + "'");
         }
         FileInputStream inputStreamConfigFile = new FileInputStream(configFile);
         JSONTokener jsonTokener = new JSONTokener(inputStreamConfigFile);
@@ -234,6 +249,12 @@ public class JsonHandler {
             scenarioConfigObjects.put("Landscape", name);
         } else if (type == ScenarioConfigParams.PLANT_GROWTH) {
             scenarioConfigObjects.put("PlantGrowth", (((JSONObject) (jsonArrayScenario.get(1))).get("Pflanzenwachstum")));
+        } else if (type == ScenarioConfigParams.POPULATION_LIMIT) {
+            //the population limit is optional, older scenario files don't contain it
+            JSONObject jsonObjectLandscape = (JSONObject) jsonArrayScenario.get(2);
+            if (jsonObjectLandscape.has("Populationsgrenze")) {
+                scenarioConfigObjects.put("PopulationLimit", jsonObjectLandscape.getInt("Populationsgrenze"));
+            }
         }
 
         return scenarioConfigObjects;
@@ -267,8 +288,24 @@ public class JsonHandler {
      * @param plantGrowth   is a Double value which contains the plant growth
      * @param fileName      is the name of the file which will be created
      * @throws IOException if the file "fileName" could not be created or could not be written to
+     * @see #exportScenarioConfig(HashMap, HashMap, String, Double, Integer, String)
      */
     public static void exportScenarioConfig(HashMap<String, Integer> dinosaurs, HashMap<String, Integer> plants, String landscapeName, Double plantGrowth, String fileName) throws IOException {
+        exportScenarioConfig(dinosaurs, plants, landscapeName, plantGrowth, null, fileName);
+    }
+
+    /**
+     * Create a Scenario Configuration json-file with a population limit in the "workingDirectory" based on the following parameters.
+     *
+     * @param dinosaurs       is a HashMap containing all dinosaurs
+     * @param plants          is a HashMap containing all plants
+     * @param landscapeName   is a String which contains the landscape name to be exported
+     * @param plantGrowth     is a Double value which contains the plant growth
+     * @param populationLimit is the max amount of simulation objects, it is only written if it is greater than 0
+     * @param fileName        is the name of the file which will be created
+     * @throws IOException if the file "fileName" could not be created or could not be written to
+     */
+    public static void exportScenarioConfig(HashMap<String, Integer> dinosaurs, HashMap<String, Integer> plants, String landscapeName, Double plantGrowth, Integer populationLimit, String fileName) throws IOException {
         //wrappingJsonArray of all objects, in which all objects are added to
         JSONArray wrappingJsonArray = new JSONArray();
 
@@ -283,6 +320,9 @@ public class JsonHandler {
 
         JSONObject JsonObjectLandscape = new JSONObject();
         JsonObjectLandscape.put("Landschaft", landscapeName);
+        if (populationLimit != null && populationLimit > 0) {
+            JsonObjectLandscape.put("Populationsgrenze", populationLimit.intValue());
+        }
         wrappingJsonArray.put(2, JsonObjectLandscape);
 
         //create the file and write to it
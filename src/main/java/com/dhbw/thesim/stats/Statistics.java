@@ -2,9 +2,14 @@ package com.dhbw.thesim.stats;
 
 import com.dhbw.thesim.core.entity.Dinosaur;
 import com.dhbw.thesim.core.entity.SimulationObject;
+import com.dhbw.thesim.core.entity.SpeciesRegistry;
 import com.dhbw.thesim.core.util.SimulationTime;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -25,15 +30,40 @@ public class Statistics {
 
     //region variables
     /**
-     * A list of lists of SimulationObjects -> Evaluating statistics out of multiple SimulationObject-lists to generate an informational graph out of the data
+     * The per-sample series, which are updated each time a sample is added with {@link #addSimulationObjectList(List, SimulationTime)}. <br>
+     * Only counters are stored per sample, so the memory depends on the number of samples and not on the population.
      *
-     * @see SimulationObject
+     * @see StatisticsStruct
      * startTime is set in Constructor to determine simulation runtime.
      */
-    private final List<List<SimulationObject>> statSimObjects;
+    private final List<Integer> livingDinosaursIterations;
+    private final List<List<Integer>> livingSpeciesIterations;
+    private final List<Integer> livingPredatorsIterations;
+    private final List<Integer> livingChasedIterations;
     private final List<SimulationTime> simulationTimeList;
     private final long startTime;
 
+    /**
+     * The species of the first sample and their index inside the per-sample species counters. <br>
+     * The indices are stored per {@link Dinosaur#getSpeciesId()}. -1 for a species, which was not part of the first sample.
+     */
+    private final List<String> allDinoSpecies;
+    private int[] speciesIndices;
+
+    /**
+     * The running totals across all samples. The diet sums are the sums of the per-sample averages. Index = {@link dinosaurType#ordinal()}
+     */
+    private final double[] sumOfNutritionAverages;
+    private final double[] sumOfHydrationAverages;
+    private long sumOfLivingDinosaurs;
+    private long sumOfLivingPredators;
+    private long sumOfLivingChased;
+
+    /**
+     * The optional {@link StatisticsSeriesWriter}, to which each sample is streamed.
+     */
+    private StatisticsSeriesWriter seriesWriter;
+
     private enum dinosaurType {
         CHASED,
         PREDATOR
@@ -50,167 +80,135 @@ public class Statistics {
      * Constructor for class Statistics ->  Called from GUI to generate a statistics-object
      */
     public Statistics() {
-        statSimObjects = new ArrayList<>();
+        livingDinosaursIterations = new ArrayList<>();
+        livingSpeciesIterations = new ArrayList<>();
+        livingPredatorsIterations = new ArrayList<>();
+        livingChasedIterations = new ArrayList<>();
         simulationTimeList = new ArrayList<>();
+        allDinoSpecies = new ArrayList<>();
+        speciesIndices = new int[0];
+        sumOfNutritionAverages = new double[dinosaurType.values().length];
+        sumOfHydrationAverages = new double[dinosaurType.values().length];
         startTime = System.currentTimeMillis();
     }
 
     /**
-     * Method appends list of SimulationObjects to {@link #statSimObjects}
+     * Method adds a sample of the current {@link SimulationObject}s to the statistics. <br>
+     * The sample is aggregated in one pass over the list. No copies of the {@link Dinosaur}s are kept.
      *
      * @param simulationObjectList The list of all current handled {@link SimulationObject}s inside a running {@link com.dhbw.thesim.core.simulation.Simulation}.
      * @param simulationTime       The current simulation time.
      */
     public void addSimulationObjectList(List<SimulationObject> simulationObjectList, SimulationTime simulationTime) {
+        if (simulationTimeList.isEmpty())
+            initAllDinoSpecies(simulationObjectList);
 
-        List<SimulationObject> iteration = new ArrayList<>();
-
-        for (SimulationObject simulationObject : simulationObjectList) {
-            if (simulationObject instanceof Dinosaur dinosaur) {
-                iteration.add(dinosaur.copyOf());
-            }
-        }
-
-        statSimObjects.add(iteration);
-        simulationTimeList.add(new SimulationTime(simulationTime.getTime()));
-    }
-
-    /**
-     * Method responsible for generation of overall statistics
-     */
-    public StatisticsStruct getSimulationStats() {
-        //preparing variables
-        long simulationTime = System.currentTimeMillis() - startTime;
-        List<Integer> livingDinosaursIterations = new ArrayList<>();
-        List<List<Integer>> livingSpeciesIterations = new ArrayList<>();
-        List<Integer> livingPredatorsIterations = new ArrayList<>();
-        List<Integer> livingChasedIterations = new ArrayList<>();
-
-        HashMap<dinosaurType, List<Double>> averageNutritionIterations = new HashMap<>();
-        initDinoTypeDoubleListHashMap(averageNutritionIterations);
+        int iterationLivingDinosaursCounter = 0;
+        List<Integer> iterationLivingSpeciesCounter = initiateListOfLivingSpeciesCounters(allDinoSpecies);
+        int[] iterationLivingCounter = new int[dinosaurType.values().length];
+        double[] iterationNutritionPercentages = new double[dinosaurType.values().length];
+        double[] iterationHydrationPercentages = new double[dinosaurType.values().length];
 
-        HashMap<dinosaurType, List<Double>> averageHydrationIterations = new HashMap<>();
-        initDinoTypeDoubleListHashMap(averageHydrationIterations);
-
-        List<String> allDinoSpecies = getAllDinoSpecies(statSimObjects.get(0));
-
-        double allTimeLivingDinosaursCounter = 0d;
-        List<Dinosaur> allDinosaursEverAliveList = new ArrayList<>();
-
-        //iterating over every statSimObjects update
-        for (List<SimulationObject> currentObjects : statSimObjects) {  //iterate over every list of objects per statSimObjects update
-
-            int iterationLivingDinosaursCounter = 0;
-
-            List<Integer> iterationLivingSpeciesCounter = initiateListOfLivingSpeciesCounters(allDinoSpecies);
-
-            int iterationLivingPredatorsCounter = 0;
-            int iterationLivingChasedCounter = 0;
-
-
-            HashMap<dinosaurType, List<Double>> iterationNutritionPercentages = new HashMap<>();
-            initDinoTypeDoubleListHashMap(iterationNutritionPercentages);
-
-            HashMap<dinosaurType, List<Double>> iterationHydrationPercentages = new HashMap<>();
-            initDinoTypeDoubleListHashMap(iterationHydrationPercentages);
-
-            for (SimulationObject obj : currentObjects) {   //iterate over every object in the list of current objects
-                if (obj instanceof Dinosaur dinosaur) {
-
-                    iterationLivingDinosaursCounter++;
-
-                    if (!allDinosaursEverAliveList.contains(dinosaur)) {    //Checking if the current dinosaur has already been counted toward the list of all time living dinosaurs and adding it if not
-                        allTimeLivingDinosaursCounter++;
-                        allDinosaursEverAliveList.add(dinosaur);
-                    }
-
-
-                    increaseLivingSpeciesCount(allDinoSpecies, iterationLivingSpeciesCounter, obj);
+        for (SimulationObject obj : simulationObjectList) {
+            if (obj instanceof Dinosaur dinosaur) {
+                iterationLivingDinosaursCounter++;
 
-                    if (dinosaur.getDiet().equals(Dinosaur.dietType.HERBIVORE)) {   //adding stats for chased vs predators to counters
-                        iterationLivingChasedCounter++;
-                        getDietPercentages(dinosaurType.CHASED, iterationNutritionPercentages, iterationHydrationPercentages, dinosaur);
-                    } else {
-                        iterationLivingPredatorsCounter++;
-                        getDietPercentages(dinosaurType.PREDATOR, iterationNutritionPercentages, iterationHydrationPercentages, dinosaur);
-                    }
+                int speciesId = dinosaur.getSpeciesId();
+                int speciesIndex = speciesId >= 0 && speciesId < speciesIndices.length ? speciesIndices[speciesId] : -1;
+                if (speciesIndex >= 0) {
+                    iterationLivingSpeciesCounter.set(speciesIndex, iterationLivingSpeciesCounter.get(speciesIndex) + 1);
                 }
-            }
-
-            calculateAverageNutritionAndHydrationForThisIteration(averageNutritionIterations, averageHydrationIterations, iterationNutritionPercentages, iterationHydrationPercentages);
-
-            livingDinosaursIterations.add(iterationLivingDinosaursCounter);
-
-            livingSpeciesIterations.add(iterationLivingSpeciesCounter);
-
-            livingPredatorsIterations.add(iterationLivingPredatorsCounter);
 
-            livingChasedIterations.add(iterationLivingChasedCounter);
+                //adding stats for chased vs predators to counters
+                int type = (dinosaur.getDiet().equals(Dinosaur.dietType.HERBIVORE) ? dinosaurType.CHASED : dinosaurType.PREDATOR).ordinal();
+                iterationLivingCounter[type]++;
+                iterationNutritionPercentages[type] += getDinosaurNutritionPercentage(dinosaur);
+                iterationHydrationPercentages[type] += getDinosaurHydrationPercentage(dinosaur);
+            }
         }
 
-        //calculating with totals
-
-        double sumOfLivingDinosaursAcrossAllIterations = 0.0;
-        double sumOfLivingPredatorsAcrossAllIterations = 0.0;
-        double sumOfLivingChasedAcrossAllIterations = 0.0;
-        int countOfIterations = livingDinosaursIterations.size();
-
-        for (int i = 0; i < countOfIterations; i++) {
-            sumOfLivingDinosaursAcrossAllIterations += livingDinosaursIterations.get(i);
-            sumOfLivingPredatorsAcrossAllIterations += livingPredatorsIterations.get(i);
-            sumOfLivingChasedAcrossAllIterations += livingChasedIterations.get(i);
+        for (int type = 0; type < iterationLivingCounter.length; type++) {
+            //the average of a type without living dinosaurs is counted as 0
+            if (iterationLivingCounter[type] != 0) {
+                iterationNutritionPercentages[type] /= iterationLivingCounter[type];
+                iterationHydrationPercentages[type] /= iterationLivingCounter[type];
+            }
+            sumOfNutritionAverages[type] += iterationNutritionPercentages[type];
+            sumOfHydrationAverages[type] += iterationHydrationPercentages[type];
         }
 
-        double averageNutritionPredatorsAcrossAllIterations = calculateTotalAverage(averageNutritionIterations.get(dinosaurType.PREDATOR));
-        double averageNutritionChasedAcrossAllIterations = calculateTotalAverage(averageNutritionIterations.get(dinosaurType.CHASED));
-
-        double averageHydrationPredatorsAcrossAllIterations = calculateTotalAverage(averageHydrationIterations.get(dinosaurType.PREDATOR));
-        double averageHydrationChasedAcrossAllIterations = calculateTotalAverage(averageHydrationIterations.get(dinosaurType.CHASED));
-
-        double percentagePredatorsAcrossAllIterations = sumOfLivingPredatorsAcrossAllIterations / sumOfLivingDinosaursAcrossAllIterations;
-        double percentageChasedAcrossAllIterations = sumOfLivingChasedAcrossAllIterations / sumOfLivingDinosaursAcrossAllIterations;
-
-
-        return new StatisticsStruct(simulationTime, averageNutritionPredatorsAcrossAllIterations,
-                averageNutritionChasedAcrossAllIterations,
-                averageHydrationPredatorsAcrossAllIterations,
-                averageHydrationChasedAcrossAllIterations,
-                percentagePredatorsAcrossAllIterations,
-                percentageChasedAcrossAllIterations,
-                livingDinosaursIterations, livingSpeciesIterations, allDinoSpecies, livingPredatorsIterations, livingChasedIterations,
-                this.simulationTimeList);
-    }
-
-    private void calculateAverageNutritionAndHydrationForThisIteration(HashMap<dinosaurType, List<Double>> averageNutritionIterations, HashMap<dinosaurType, List<Double>> averageHydrationIterations, HashMap<dinosaurType, List<Double>> iterationNutritionPercentages, HashMap<dinosaurType, List<Double>> iterationHydrationPercentages) {
-        //calculating Percentage of Nutrition and Hydration for this iteration
-        addPercentagesForCurrentIterationForBothTypes(averageNutritionIterations, iterationNutritionPercentages);
+        int iterationLivingPredatorsCounter = iterationLivingCounter[dinosaurType.PREDATOR.ordinal()];
+        int iterationLivingChasedCounter = iterationLivingCounter[dinosaurType.CHASED.ordinal()];
 
-        addPercentagesForCurrentIterationForBothTypes(averageHydrationIterations, iterationHydrationPercentages);
-    }
+        sumOfLivingDinosaurs += iterationLivingDinosaursCounter;
+        sumOfLivingPredators += iterationLivingPredatorsCounter;
+        sumOfLivingChased += iterationLivingChasedCounter;
 
-    private void addPercentagesForCurrentIterationForBothTypes(HashMap<dinosaurType, List<Double>> averageNutritionIterations, HashMap<dinosaurType, List<Double>> iterationNutritionPercentages) {
-        addPercentageForCurrentIteration(dinosaurType.PREDATOR, averageNutritionIterations, iterationNutritionPercentages);
+        livingDinosaursIterations.add(iterationLivingDinosaursCounter);
+        livingSpeciesIterations.add(Collections.unmodifiableList(iterationLivingSpeciesCounter));
+        livingPredatorsIterations.add(iterationLivingPredatorsCounter);
+        livingChasedIterations.add(iterationLivingChasedCounter);
+        simulationTimeList.add(new SimulationTime(simulationTime.getTime()));
 
-        addPercentageForCurrentIteration(dinosaurType.CHASED, averageNutritionIterations, iterationNutritionPercentages);
+        if (seriesWriter != null) {
+            writeSample(new StatisticsSample(simulationTime.getTime(), iterationLivingDinosaursCounter, iterationLivingSpeciesCounter,
+                    iterationLivingPredatorsCounter, iterationLivingChasedCounter,
+                    iterationNutritionPercentages[dinosaurType.PREDATOR.ordinal()], iterationNutritionPercentages[dinosaurType.CHASED.ordinal()],
+                    iterationHydrationPercentages[dinosaurType.PREDATOR.ordinal()], iterationHydrationPercentages[dinosaurType.CHASED.ordinal()]));
+        }
     }
 
-    private void addPercentageForCurrentIteration(dinosaurType type, HashMap<dinosaurType, List<Double>> averageAllIterations, HashMap<dinosaurType, List<Double>> averageCurrentIteration) {
-        double iterationNutritionPredatorsPercentage = calculateTotalAverage(averageCurrentIteration.get(type));
-        averageAllIterations.get(type).add(iterationNutritionPredatorsPercentage);
+    /**
+     * Sets the {@link StatisticsSeriesWriter}, to which all following samples are streamed. <br>
+     * The writer is not closed by this class.
+     *
+     * @param seriesWriter The {@link StatisticsSeriesWriter} or null, to stop streaming.
+     */
+    public void setSeriesWriter(StatisticsSeriesWriter seriesWriter) {
+        this.seriesWriter = seriesWriter;
     }
 
-    private double calculateTotalAverage(List<Double> averages) {
-        return averages.size() != 0 ? getTotalOfAllAverages(averages) / averages.size() : 0;
+    /**
+     * Streams a sample to the {@link #seriesWriter}. The header is written before the first sample.
+     *
+     * @param sample The {@link StatisticsSample}.
+     */
+    private void writeSample(StatisticsSample sample) {
+        try {
+            if (!seriesWriter.isStarted())
+                seriesWriter.start(allDinoSpecies);
+            seriesWriter.addSample(sample);
+        } catch (IOException e) {
+            throw new UncheckedIOException("The statistics sample could not be written.", e);
+        }
     }
 
-    private void getDietPercentages(dinosaurType type, HashMap<dinosaurType, List<Double>> iterationNutritionPercentages, HashMap<dinosaurType, List<Double>> iterationHydrationPercentages, Dinosaur dinosaur) {
-        iterationNutritionPercentages.get(type).add(getDinosaurNutritionPercentage(dinosaur));
-        iterationHydrationPercentages.get(type).add(getDinosaurHydrationPercentage(dinosaur));
+    /**
+     * Method responsible for generation of overall statistics <br>
+     * All values are already aggregated, so no samples have to be replayed.
+     * The lists of the returned {@link StatisticsStruct} are read-only views of the series.
+     */
+    public StatisticsStruct getSimulationStats() {
+        long simulationTime = System.currentTimeMillis() - startTime;
+        int countOfIterations = simulationTimeList.size();
+
+        return new StatisticsStruct(simulationTime,
+                calculateTotalAverage(sumOfNutritionAverages[dinosaurType.PREDATOR.ordinal()], countOfIterations),
+                calculateTotalAverage(sumOfNutritionAverages[dinosaurType.CHASED.ordinal()], countOfIterations),
+                calculateTotalAverage(sumOfHydrationAverages[dinosaurType.PREDATOR.ordinal()], countOfIterations),
+                calculateTotalAverage(sumOfHydrationAverages[dinosaurType.CHASED.ordinal()], countOfIterations),
+                (double) sumOfLivingPredators / sumOfLivingDinosaurs,
+                (double) sumOfLivingChased / sumOfLivingDinosaurs,
+                Collections.unmodifiableList(livingDinosaursIterations),
+                Collections.unmodifiableList(livingSpeciesIterations),
+                Collections.unmodifiableList(allDinoSpecies),
+                Collections.unmodifiableList(livingPredatorsIterations),
+                Collections.unmodifiableList(livingChasedIterations),
+                Collections.unmodifiableList(simulationTimeList));
     }
 
-    private void initDinoTypeDoubleListHashMap(HashMap<dinosaurType, List<Double>> iterationNutritionPercentages) {
-        iterationNutritionPercentages.put(dinosaurType.PREDATOR, new ArrayList<>());
-        iterationNutritionPercentages.put(dinosaurType.CHASED, new ArrayList<>());
+    private double calculateTotalAverage(double sumOfAverages, int countOfIterations) {
+        return countOfIterations != 0 ? sumOfAverages / countOfIterations : 0;
     }
 
     private double getDinosaurHydrationPercentage(Dinosaur dinosaur) {
@@ -223,17 +221,9 @@ public class Statistics {
         return dinosaur.getNutrition() / dinosaur.getMaxNutrition();
     }
 
-    private void increaseLivingSpeciesCount(List<String> allDinoSpecies, List<Integer> iterationLivingSpeciesCounter, SimulationObject obj) {   //TODO change living species to hashmap
-        for (int i = 0; i < allDinoSpecies.size(); i++) { //adding the current dinosaur to the corresponding species count
-            if (obj.getType().equals(allDinoSpecies.get(i))) {
-                iterationLivingSpeciesCounter.set(i, iterationLivingSpeciesCounter.get(i) + 1);
-            }
-        }
-    }
-
-    private List<Integer> initiateListOfLivingSpeciesCounters(List<String> allDinoSpecies) {    //TODO change living species to hashmap
+    private List<Integer> initiateListOfLivingSpeciesCounters(List<String> allDinoSpecies) {
         //initiate list of living species
-        List<Integer> iterationLivingSpeciesCounter = new ArrayList<>();
+        List<Integer> iterationLivingSpeciesCounter = new ArrayList<>(allDinoSpecies.size());
         for (int i = 0; i < allDinoSpecies.size(); i++) {
             iterationLivingSpeciesCounter.add(0);
         }
@@ -241,44 +231,50 @@ public class Statistics {
     }
 
     /**
+     * Method responsible for singleStats for a single Dinosaur
      *
-     * @param averageList
-     * @return sum of all averages in List
+     * @param dino                 The dinosaur objects to get its stat-values
+     * @param simulationObjectList The list of all current simulationObjects to calculate species percentage
+     * @return Returning Hashmap with information according to a single Dinosaur-object
+     * @see Dinosaur
      */
-    private double getTotalOfAllAverages(List<Double> averageList) {
-        double helper = 0;
-        for (double avg :
-                averageList) {
-            helper += avg;
-        }
-        return helper;
+    public Map<String, Double> getSingleStats(Dinosaur dino, List<SimulationObject> simulationObjectList, SimulationTime currentSimulationTime) {
+        return getSingleStats(dino, dino.getNutrition(), dino.getHydration(), dino.getReproductionValue(), dino.isChased(),
+                calculateSpeciesPercentage(simulationObjectList, dino.getSpeciesId()), currentSimulationTime);
     }
 
     /**
-     * Method responsible for singleStats for a single Dinosaur
+     * Method responsible for singleStats for a single Dinosaur, whose changing values were captured before <br>
+     * Only the unchangeable values (e.g. the strength) are read from the dinosaur, so this can be called from another thread than the simulation.
      *
-     * @param dino                 The dinosaur objects to get its stat-values
-     * @param simulationObjectList The list of all current simulationObjects to calculate species percentage
+     * @param dino                  The dinosaur objects to get its unchangeable stat-values
+     * @param nutrition             The captured nutrition of the dinosaur
+     * @param hydration             The captured hydration of the dinosaur
+     * @param reproductionValue     The captured reproduction value of the dinosaur
+     * @param chased                Was the dinosaur chased?
+     * @param speciesPercentage     The captured share of the species of the dinosaur
+     * @param currentSimulationTime The captured simulation time
      * @return Returning Hashmap with information according to a single Dinosaur-object
      * @see Dinosaur
      */
-    public Map<String, Double> getSingleStats(Dinosaur dino, List<SimulationObject> simulationObjectList, SimulationTime currentSimulationTime) {
+    public Map<String, Double> getSingleStats(Dinosaur dino, double nutrition, double hydration, double reproductionValue, boolean chased,
+                                              double speciesPercentage, SimulationTime currentSimulationTime) {
         Map<String, Double> singleStats = new HashMap<>();
-        singleStats.put("Hunger", dino.getNutrition());
+        singleStats.put("Hunger", nutrition);
         singleStats.put("MaxHunger", dino.getMaxNutrition());
-        singleStats.put("Durst", dino.getHydration());
+        singleStats.put("Durst", hydration);
         singleStats.put("MaxDurst", dino.getMaxHydration());
         singleStats.put("Staerke", dino.getStrength());
         singleStats.put("Geschwindigkeit", dino.getSpeed());
-        singleStats.put("Fortpflanzungswilligkeit", dino.getReproductionValue());
+        singleStats.put("Fortpflanzungswilligkeit", reproductionValue);
         singleStats.put("Gewicht", dino.getWeight());
         singleStats.put("Hoehe", dino.getHeight());
         singleStats.put("Laenge", dino.getLength());
         singleStats.put("KannSchwimmen", dino.canSwim() ? 1d : 0d);
         singleStats.put("KannKlettern", dino.canClimb() ? 1d : 0d);
-        singleStats.put("WirdGejagt", dino.isChased() ? 1d : 0d);
+        singleStats.put("WirdGejagt", chased ? 1d : 0d);
         singleStats.put("Ueberlebenszeit", (dino.getTimeOfBirth().timeSince(currentSimulationTime)));
-        singleStats.put("Artenanteil", calculateSpeciesPercentage(simulationObjectList, dino.getType()));
+        singleStats.put("Artenanteil", speciesPercentage);
         return singleStats;
     }
 
@@ -286,17 +282,17 @@ public class Statistics {
      * Private method called from getSingleStats() to calculate share of a specified species compared to overall population
      *
      * @param simulationObjectList The list of all current simulationObjects
-     * @param dinoType             The type of the given dino to split it from other types in calculation
+     * @param speciesId            The species id of the given dino to split it from other types in calculation
      * @return Share of species
      * @see Dinosaur
      */
-    private double calculateSpeciesPercentage(List<SimulationObject> simulationObjectList, String dinoType) {
+    private double calculateSpeciesPercentage(List<SimulationObject> simulationObjectList, int speciesId) {
         int dinoCounter = 0;
         int typeCounter = 0;
         for (SimulationObject obj : simulationObjectList) {
-            if (obj instanceof Dinosaur) {
+            if (obj instanceof Dinosaur dinosaur) {
                 dinoCounter++;
-                if (obj.getType().equals(dinoType)) {
+                if (dinosaur.getSpeciesId() == speciesId) {
                     typeCounter++;
                 }
             }
@@ -305,21 +301,27 @@ public class Statistics {
     }
 
     /**
-     * Private method called from getSimulationStats() to get all dinosaur species appearing in simulation
+     * Private method called for the first sample to get all dinosaur species appearing in simulation
      *
      * @param simulationObjectList The list of all current simulationObjects
-     * @return List of all appearing species of Dinosaurs
      * @see Dinosaur
      */
-    private List<String> getAllDinoSpecies(List<SimulationObject> simulationObjectList) {
-        List<String> allDinoSpecies = new ArrayList<>();
+    private void initAllDinoSpecies(List<SimulationObject> simulationObjectList) {
+        speciesIndices = new int[SpeciesRegistry.size()];
+        Arrays.fill(speciesIndices, -1);
         for (SimulationObject obj : simulationObjectList) {
-            if (obj instanceof Dinosaur) {
-                if (!allDinoSpecies.contains(obj.getType())) {
-                    allDinoSpecies.add(obj.getType());
+            if (obj instanceof Dinosaur dinosaur && dinosaur.getSpeciesId() >= 0) {
+                int speciesId = dinosaur.getSpeciesId();
+                if (speciesId >= speciesIndices.length) {
+                    int oldLength = speciesIndices.length;
+                    speciesIndices = Arrays.copyOf(speciesIndices, speciesId + 1);
+                    Arrays.fill(speciesIndices, oldLength, speciesIndices.length, -1);
+                }
+                if (speciesIndices[speciesId] < 0) {
+                    speciesIndices[speciesId] = allDinoSpecies.size();
+                    allDinoSpecies.add(dinosaur.getType());
                 }
             }
         }
-        return allDinoSpecies;
     }
 }
@@ -0,0 +1,24 @@
+package com.dhbw.thesim.stats;
+
+import java.util.List;
+
+/**
+ * The values of one statistics sample, which are streamed to a {@link StatisticsSeriesWriter}.
+ *
+ * @param simulationTime            The simulation time of the sample in seconds.
+ * @param livingDinosaurs           The count of living dinosaurs.
+ * @param livingSpecies             The count of living dinosaurs per species. (In the order of the species of the series)
+ * @param livingPredators           The count of living predators.
+ * @param livingChased              The count of living chased dinosaurs.
+ * @param averageNutritionPredators The average nutrition percentage of the predators in this sample.
+ * @param averageNutritionChased    The average nutrition percentage of the chased dinosaurs in this sample.
+ * @param averageHydrationPredators The average hydration percentage of the predators in this sample.
+ * @param averageHydrationChased    The average hydration percentage of the chased dinosaurs in this sample.
+ * @author Daniel Czeschner
+ * @see Statistics#setSeriesWriter(StatisticsSeriesWriter)
+ */
+public record StatisticsSample(double simulationTime, int livingDinosaurs, List<Integer> livingSpecies,
+                               int livingPredators, int livingChased,
+                               double averageNutritionPredators, double averageNutritionChased,
+                               double averageHydrationPredators, double averageHydrationChased) {
+}
@@ -0,0 +1,35 @@
+package com.dhbw.thesim.stats;
+
+import java.util.List;
+
+/**
+ * The columns of a statistics series, which was read by the {@link StatisticsSeriesReader}. <br>
+ * Each array has one value per sample. The simulation times and the averages have the resolution of the file format.
+ *
+ * @param species                   The species of the series.
+ * @param simulationTimes           The simulation time of each sample in seconds.
+ * @param livingDinosaurs           The count of living dinosaurs.
+ * @param livingSpecies             The count of living dinosaurs per species. Index = [species][sample]
+ * @param livingPredators           The count of living predators.
+ * @param livingChased              The count of living chased dinosaurs.
+ * @param averageNutritionPredators The average nutrition percentage of the predators.
+ * @param averageNutritionChased    The average nutrition percentage of the chased dinosaurs.
+ * @param averageHydrationPredators The average hydration percentage of the predators.
+ * @param averageHydrationChased    The average hydration percentage of the chased dinosaurs.
+ * @author Daniel Czeschner
+ * @see StatisticsSeriesWriter
+ */
+public record StatisticsSeries(List<String> species, double[] simulationTimes, int[] livingDinosaurs, int[][] livingSpecies,
+                               int[] livingPredators, int[] livingChased,
+                               double[] averageNutritionPredators, double[] averageNutritionChased,
+                               double[] averageHydrationPredators, double[] averageHydrationChased) {
+
+    /**
+     * Gets the amount of samples.
+     *
+     * @return The amount of samples.
+     */
+    public int getSampleCount() {
+        return simulationTimes.length;
+    }
+}
@@ -0,0 +1,141 @@
+package com.dhbw.thesim.stats;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static com.dhbw.thesim.stats.StatisticsSeriesWriter.*;
+
+/**
+ * Reads a statistics series file, which was written by a {@link StatisticsSeriesWriter}, back into its columns.
+ *
+ * @author Daniel Czeschner
+ * @see StatisticsSeries
+ */
+public class StatisticsSeriesReader {
+
+    /**
+     * Private constructor, because this class only has static methods.
+     */
+    private StatisticsSeriesReader() {
+    }
+
+    /**
+     * Reads all samples of a series file.
+     *
+     * @param file The series file.
+     * @return The {@link StatisticsSeries} with all columns.
+     * @throws IOException If the file can't be read or is no valid series file.
+     */
+    public static StatisticsSeries read(Path file) throws IOException {
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            buffer = ByteBuffer.allocate(Math.toIntExact(channel.size()));
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                //read until the buffer is full
+            }
+            buffer.flip();
+        }
+
+        try {
+            return read(buffer, file);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("The statistics series file " + file + " is incomplete.", e);
+        }
+    }
+
+    private static StatisticsSeries read(ByteBuffer buffer, Path file) throws IOException {
+        if (buffer.remaining() < Integer.BYTES + 1 || buffer.getInt() != MAGIC)
+            throw new IOException(file + " is no statistics series file.");
+        byte version = buffer.get();
+        if (version != VERSION)
+            throw new IOException("The version " + version + " of the statistics series file " + file + " is not supported.");
+
+        int speciesCount = Math.toIntExact(getVarLong(buffer));
+        List<String> species = new ArrayList<>(speciesCount);
+        for (int i = 0; i < speciesCount; i++) {
+            byte[] name = new byte[Math.toIntExact(getVarLong(buffer))];
+            buffer.get(name);
+            species.add(new String(name, StandardCharsets.UTF_8));
+        }
+
+        long[][] columns = new long[FIRST_SPECIES + speciesCount][BLOCK_SIZE];
+        int sampleCount = 0;
+        while (buffer.hasRemaining()) {
+            int blockEnd = buffer.getInt();
+            blockEnd += buffer.position();
+            int blockSamples = Math.toIntExact(getVarLong(buffer));
+            if (sampleCount + blockSamples > columns[0].length) {
+                for (int column = 0; column < columns.length; column++) {
+                    columns[column] = Arrays.copyOf(columns[column], Math.max(columns[column].length * 2, sampleCount + blockSamples));
+                }
+            }
+            for (long[] column : columns) {
+                long previous = 0;
+                for (int i = 0; i < blockSamples; i++) {
+                    previous += unzigzag(getVarLong(buffer));
+                    column[sampleCount + i] = previous;
+                }
+            }
+            if (buffer.position() != blockEnd)
+                throw new IOException("A block of the statistics series file " + file + " is damaged.");
+            sampleCount += blockSamples;
+        }
+
+        int[][] livingSpecies = new int[speciesCount][];
+        for (int i = 0; i < speciesCount; i++) {
+            livingSpecies[i] = toInts(columns[FIRST_SPECIES + i], sampleCount);
+        }
+        return new StatisticsSeries(species,
+                toDoubles(columns[TIME], sampleCount, TIME_RESOLUTION),
+                toInts(columns[LIVING_DINOSAURS], sampleCount),
+                livingSpecies,
+                toInts(columns[LIVING_PREDATORS], sampleCount),
+                toInts(columns[LIVING_CHASED], sampleCount),
+                toDoubles(columns[NUTRITION_PREDATORS], sampleCount, AVERAGE_RESOLUTION),
+                toDoubles(columns[NUTRITION_CHASED], sampleCount, AVERAGE_RESOLUTION),
+                toDoubles(columns[HYDRATION_PREDATORS], sampleCount, AVERAGE_RESOLUTION),
+                toDoubles(columns[HYDRATION_CHASED], sampleCount, AVERAGE_RESOLUTION));
+    }
+
+    private static int[] toInts(long[] column, int sampleCount) {
+        int[] values = new int[sampleCount];
+        for (int i = 0; i < sampleCount; i++) {
+            values[i] = Math.toIntExact(column[i]);
+        }
+        return values;
+    }
+
+    private static double[] toDoubles(long[] column, int sampleCount, double resolution) {
+        double[] values = new double[sampleCount];
+        for (int i = 0; i < sampleCount; i++) {
+            values[i] = column[i] / resolution;
+        }
+        return values;
+    }
+
+    /**
+     * Reads a long with 7 bits per byte. (see {@link StatisticsSeriesWriter})
+     */
+    private static long getVarLong(ByteBuffer buffer) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0)
+                return value;
+        }
+        throw new IOException("A varint of the statistics series file is too long.");
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
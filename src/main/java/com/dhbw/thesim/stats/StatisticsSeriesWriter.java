@@ -0,0 +1,231 @@
+package com.dhbw.thesim.stats;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Streams the samples of a {@link Statistics} object to a compact columnar binary file. <br>
+ * The file starts with a header (magic number, version and the species names). The samples follow in blocks of up to
+ * {@link #BLOCK_SIZE} samples. Inside a block each column is stored one after another and each value is stored as the
+ * zigzag varint encoded difference to the previous value of the column, so slowly changing series need about one byte per value. <br>
+ * The simulation times are stored in milliseconds and the averages with a resolution of {@link #AVERAGE_RESOLUTION}. <br>
+ * Block layout: body length (int), sample count (varint), columns (see {@link #TIME} ...). Each block starts the differences at 0,
+ * so a block can be decoded on its own.
+ *
+ * @author Daniel Czeschner
+ * @see StatisticsSeriesReader
+ * @see Statistics#setSeriesWriter(StatisticsSeriesWriter)
+ */
+public class StatisticsSeriesWriter implements Closeable {
+
+    //region variables
+
+    /**
+     * The magic number at the start of each file. ("DSTS")
+     */
+    static final int MAGIC = 0x44535453;
+
+    /**
+     * The version of the file format.
+     */
+    static final byte VERSION = 1;
+
+    /**
+     * The max amount of samples in one block.
+     */
+    static final int BLOCK_SIZE = 256;
+
+    /**
+     * The simulation times are stored as whole multiples of 1 / TIME_RESOLUTION seconds.
+     */
+    static final double TIME_RESOLUTION = 1000;
+
+    /**
+     * The averages are stored as whole multiples of 1 / AVERAGE_RESOLUTION.
+     */
+    static final double AVERAGE_RESOLUTION = 1_000_000;
+
+    /**
+     * The indices of the columns. The species columns follow after {@link #HYDRATION_CHASED}.
+     */
+    static final int TIME = 0;
+    static final int LIVING_DINOSAURS = 1;
+    static final int LIVING_PREDATORS = 2;
+    static final int LIVING_CHASED = 3;
+    static final int NUTRITION_PREDATORS = 4;
+    static final int NUTRITION_CHASED = 5;
+    static final int HYDRATION_PREDATORS = 6;
+    static final int HYDRATION_CHASED = 7;
+    static final int FIRST_SPECIES = 8;
+
+    /**
+     * The max size of a varint encoded long.
+     */
+    private static final int MAX_VARINT_SIZE = 10;
+
+    /**
+     * The channel of the file.
+     */
+    private final FileChannel channel;
+
+    /**
+     * The buffered values of the current block. Index = [column][sample]
+     */
+    private long[][] columns;
+
+    /**
+     * The amount of buffered samples in the current block.
+     */
+    private int bufferedSamples;
+
+    //endregion
+
+    /**
+     * Constructor <br>
+     * Creates the file or overwrites an existing file.
+     *
+     * @param file The file, to which the series is written.
+     * @throws IOException If the file can't be opened.
+     */
+    public StatisticsSeriesWriter(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Writes the header of the file. Needs to be called once before the first sample.
+     *
+     * @param species The species of the series. Each sample has one count per species in this order.
+     * @throws IOException If the header can't be written.
+     */
+    public void start(List<String> species) throws IOException {
+        if (isStarted())
+            throw new IllegalStateException("The series was already started.");
+
+        byte[][] names = new byte[species.size()][];
+        int size = Integer.BYTES + 1 + MAX_VARINT_SIZE;
+        for (int i = 0; i < names.length; i++) {
+            names[i] = species.get(i).getBytes(StandardCharsets.UTF_8);
+            size += MAX_VARINT_SIZE + names[i].length;
+        }
+
+        ByteBuffer header = ByteBuffer.allocate(size);
+        header.putInt(MAGIC);
+        header.put(VERSION);
+        putVarLong(header, names.length);
+        for (byte[] name : names) {
+            putVarLong(header, name.length);
+            header.put(name);
+        }
+        write(header);
+
+        columns = new long[FIRST_SPECIES + names.length][BLOCK_SIZE];
+    }
+
+    /**
+     * Checks, if the header was already written.
+     *
+     * @return true, if {@link #start(List)} was called.
+     */
+    public boolean isStarted() {
+        return columns != null;
+    }
+
+    /**
+     * Adds a sample to the current block. A full block is written to the file.
+     *
+     * @param sample The {@link StatisticsSample}.
+     * @throws IOException If a full block can't be written.
+     */
+    public void addSample(StatisticsSample sample) throws IOException {
+        if (!isStarted())
+            throw new IllegalStateException("The series needs to be started before the first sample.");
+        if (sample.livingSpecies().size() != columns.length - FIRST_SPECIES)
+            throw new IllegalArgumentException("The sample has " + sample.livingSpecies().size() + " species counts, but the series has " + (columns.length - FIRST_SPECIES) + " species.");
+
+        int i = bufferedSamples;
+        columns[TIME][i] = Math.round(sample.simulationTime() * TIME_RESOLUTION);
+        columns[LIVING_DINOSAURS][i] = sample.livingDinosaurs();
+        columns[LIVING_PREDATORS][i] = sample.livingPredators();
+        columns[LIVING_CHASED][i] = sample.livingChased();
+        columns[NUTRITION_PREDATORS][i] = Math.round(sample.averageNutritionPredators() * AVERAGE_RESOLUTION);
+        columns[NUTRITION_CHASED][i] = Math.round(sample.averageNutritionChased() * AVERAGE_RESOLUTION);
+        columns[HYDRATION_PREDATORS][i] = Math.round(sample.averageHydrationPredators() * AVERAGE_RESOLUTION);
+        columns[HYDRATION_CHASED][i] = Math.round(sample.averageHydrationChased() * AVERAGE_RESOLUTION);
+        for (int species = 0; species < sample.livingSpecies().size(); species++) {
+            columns[FIRST_SPECIES + species][i] = sample.livingSpecies().get(species);
+        }
+        bufferedSamples++;
+
+        if (bufferedSamples == BLOCK_SIZE)
+            writeBlock();
+    }
+
+    /**
+     * Writes the buffered samples and closes the file.
+     *
+     * @throws IOException If the last block can't be written.
+     */
+    @Override
+    public void close() throws IOException {
+        if (!channel.isOpen())
+            return;
+        try {
+            writeBlock();
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * Writes the buffered samples as one block.
+     */
+    private void writeBlock() throws IOException {
+        if (bufferedSamples == 0)
+            return;
+
+        ByteBuffer block = ByteBuffer.allocate(Integer.BYTES + MAX_VARINT_SIZE * (1 + columns.length * bufferedSamples));
+        block.position(Integer.BYTES);
+        putVarLong(block, bufferedSamples);
+        for (long[] column : columns) {
+            long previous = 0;
+            for (int i = 0; i < bufferedSamples; i++) {
+                putVarLong(block, zigzag(column[i] - previous));
+                previous = column[i];
+            }
+        }
+        block.putInt(0, block.position() - Integer.BYTES);
+        write(block);
+        bufferedSamples = 0;
+    }
+
+    private void write(ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    /**
+     * Writes a long with 7 bits per byte. The highest bit of a byte is set, if another byte follows.
+     */
+    private static void putVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Maps signed values to unsigned values, so small negative differences also need only a few bytes.
+     */
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+}
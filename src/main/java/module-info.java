@@ -17,6 +17,7 @@ module com.dhbw.thesim {
     exports com.dhbw.thesim.gui.controllers;
     exports com.dhbw.thesim.stats;
     exports com.dhbw.thesim.impexp;
+    exports com.dhbw.thesim.batch;
     opens com.dhbw.thesim to javafx.fxml;
     opens com.dhbw.thesim.gui to javafx.fxml;
     opens com.dhbw.thesim.gui.controllers to javafx.fxml;
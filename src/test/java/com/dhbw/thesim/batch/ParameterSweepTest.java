@@ -0,0 +1,86 @@
+package com.dhbw.thesim.batch;
+
+import com.dhbw.thesim.core.simulation.Simulation;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link ParameterSweep} class.
+ *
+ * @author Daniel Czeschner
+ */
+class ParameterSweepTest {
+
+    private static final String SCENARIO = """
+            [
+              {"Dinosaurier":[{"Brachiosaurus":6},{"Tyrannosaurus Rex":2}]},
+              {"Pflanzen":[{"Farn":7}],"Pflanzenwachstum": 3.0},
+              {"Landschaft":"Landschaft1"}
+            ]
+            """;
+
+    private static final String SWEEP = """
+            {
+              "Szenario": "testScenarioConfiguration.json",
+              "Dinosaurier": {"Tyrannosaurus Rex": [1, 4]},
+              "Pflanzen": {"Farn": {"Von": 5, "Bis": 15, "Schritt": 5}},
+              "Wiederholungen": 2,
+              "Laufzeit": 3,
+              "Geschwindigkeit": 20
+            }
+            """;
+
+    @Test
+    @DisplayName("A sweep configuration file should be loaded with all combinations of its parameters.")
+    void loadSweep(@TempDir Path directory) throws IOException {
+        //arrange
+        Files.writeString(directory.resolve("testScenarioConfiguration.json"), SCENARIO);
+        File sweepFile = directory.resolve("sweep.json").toFile();
+        Files.writeString(sweepFile.toPath(), SWEEP);
+        //act
+        ParameterSweep parameterSweep = ParameterSweep.load(sweepFile);
+        List<BatchScenario> scenarios = parameterSweep.getScenarios();
+        //assert
+        assertAll(
+                () -> assertEquals(3, parameterSweep.getMaxRunTimeInMinutes()),
+                () -> assertEquals(20, parameterSweep.getSimulationSpeedMultiplier()),
+                //2 dinosaur values * 3 plant values * 2 repetitions
+                () -> assertEquals(12, scenarios.size()),
+                () -> assertEquals(Map.of("Brachiosaurus", 6, "Tyrannosaurus Rex", 1), scenarios.get(0).dinosaurs()),
+                () -> assertEquals(Map.of("Farn", 5), scenarios.get(0).plants()),
+                () -> assertEquals(Map.of("Farn", 10), scenarios.get(2).plants()),
+                () -> assertEquals(1, scenarios.get(1).repetition()),
+                () -> assertEquals(Map.of("Brachiosaurus", 6, "Tyrannosaurus Rex", 4), scenarios.get(11).dinosaurs()),
+                () -> assertEquals(Map.of("Farn", 15), scenarios.get(11).plants()),
+                () -> assertEquals(11, scenarios.get(11).run()),
+                () -> assertEquals(3.0, scenarios.get(11).plantGrowth()),
+                () -> assertEquals("Landschaft1", scenarios.get(11).landscapeName())
+        );
+    }
+
+    @Test
+    @DisplayName("A sweep without parameters should only contain the base scenario.")
+    void sweepWithoutParameters() {
+        //arrange
+        BatchScenario baseScenario = new BatchScenario(0, 0, "Landschaft1", Map.of("Brachiosaurus", 6), Map.of(), 1.0, Simulation.NO_POPULATION_LIMIT);
+        ParameterSweep parameterSweep = new ParameterSweep(baseScenario, List.of(), 1, 10, 1);
+        //act
+        List<BatchScenario> scenarios = parameterSweep.getScenarios();
+        //assert
+        assertAll(
+                () -> assertEquals(1, scenarios.size()),
+                () -> assertEquals(baseScenario, scenarios.get(0))
+        );
+    }
+}
@@ -0,0 +1,95 @@
+package com.dhbw.thesim.core.entity;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link DinosaurStore} class.
+ *
+ * @author Daniel Czeschner
+ */
+class DinosaurStoreTest {
+
+    DinosaurStore dinosaurStore;
+
+    @BeforeEach
+    void setUp() {
+        dinosaurStore = new DinosaurStore();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dinosaurStore = null;
+    }
+
+    /**
+     * Creates a test dinosaur without an image.
+     *
+     * @param nutrition The nutrition of the dinosaur.
+     * @return The new {@link Dinosaur}.
+     */
+    private Dinosaur createDinosaur(double nutrition) {
+        return new Dinosaur("test", null, nutrition, 20,
+                3, 4, 5, 6, 7, 8,
+                true, false, 'a', 9,
+                10, 'f');
+    }
+
+    @DisplayName("An attached dinosaur reads and writes its values through the store.")
+    @Test
+    void attach() {
+        //arrange
+        Dinosaur dinosaur = createDinosaur(10);
+        //act
+        dinosaurStore.attach(dinosaur);
+        dinosaur.setNutrition(4);
+        //assert
+        assertAll("Check slot",
+                () -> assertEquals(dinosaurStore, dinosaur.getStore()),
+                () -> assertEquals(4, dinosaurStore.getNutrition(dinosaur.getSlot())),
+                () -> assertEquals(20, dinosaurStore.getHydration(dinosaur.getSlot())));
+    }
+
+    @DisplayName("The bulk stat update reduces nutrition and hydration and increases the reproduction value.")
+    @Test
+    void updateStats() {
+        //arrange
+        Dinosaur dinosaur = createDinosaur(10);
+        dinosaurStore.attach(dinosaur);
+        //act
+        dinosaurStore.updateStats(0.5);
+        //assert
+        assertAll("Check stats",
+                () -> assertEquals(10 - Dinosaur.NUTRITION_REDUCTION_RATE * 0.5, dinosaur.getNutrition()),
+                () -> assertEquals(20 - Dinosaur.HYDRATION_REDUCTION_RATE * 0.5, dinosaur.getHydration()),
+                () -> assertEquals(5 * 0.5, dinosaur.getReproductionValue()));
+    }
+
+    @DisplayName("Detaching moves the last slot into the free slot and keeps the values of the detached dinosaur.")
+    @Test
+    void detach() {
+        //arrange
+        Dinosaur first = createDinosaur(1);
+        Dinosaur second = createDinosaur(2);
+        Dinosaur third = createDinosaur(3);
+        dinosaurStore.attach(first);
+        dinosaurStore.attach(second);
+        dinosaurStore.attach(third);
+        first.setNutrition(0.5);
+        //act
+        dinosaurStore.detach(first);
+        //assert
+        assertAll("Check slots",
+                () -> assertEquals(2, dinosaurStore.size()),
+                () -> assertNull(first.getStore()),
+                () -> assertEquals(0.5, first.getNutrition()),
+                () -> assertEquals(0, third.getSlot()),
+                () -> assertEquals(3, dinosaurStore.getNutrition(0)),
+                () -> assertEquals(3, third.getNutrition()),
+                () -> assertEquals(2, second.getNutrition()));
+    }
+}
@@ -1,13 +1,10 @@
 package com.dhbw.thesim.core.entity;
 
-import javafx.scene.image.Image;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import java.util.Objects;
-
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -21,8 +18,7 @@ class DinosaurTest {
 
     @BeforeEach
     void setUp() {
-        Image img = new Image(Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream("testDinosaur.png")));
-        testDinosaur = new Dinosaur("test", img, 1, 2,
+        testDinosaur = new Dinosaur("test", "testDinosaur.png", 1, 2,
                 3, 4, 5, 6, 7, 8,
                 true, false, 'a', 9,
                 10, 'f');
@@ -43,7 +39,7 @@ class DinosaurTest {
         //assert
         assertAll("All stats need to be equal",
                 () -> assertEquals(testDinosaur.getType(), copy.getType(), "Type needs to be equal"),
-                () -> assertEquals(testDinosaur.getJavaFXObj().getImage(), copy.getJavaFXObj().getImage(), "Image needs to be equal"),
+                () -> assertEquals(testDinosaur.getSpriteName(), copy.getSpriteName(), "Image needs to be equal"),
                 () -> assertEquals(testDinosaur.getNutrition(), copy.getNutrition(), "Nutrition needs to be equal"),
                 () -> assertEquals(testDinosaur.getHydration(), copy.getHydration(), "Hydration needs to be equal"),
                 () -> assertEquals(testDinosaur.getStrength(), copy.getStrength(), "Strength needs to be equal"),
@@ -72,7 +68,7 @@ class DinosaurTest {
         //changes
         testDinosaur.setNutrition(77);
         testDinosaur.setHydration(77);
-        testDinosaur.setSprite(new Image(Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream("testDinosaur.png"))));
+        testDinosaur.setSprite("testPlant.png", 1);
         testDinosaur.setIsChased(true);
         testDinosaur.setTimeOfBirth(7);
         testDinosaur.forceNoOp();
@@ -80,7 +76,7 @@ class DinosaurTest {
         //assert changes
         assertAll("Changed stats should not be equal",
                 () -> assertEquals(testDinosaur.getType(), copy.getType(), "Type needs to be equal"),
-                () -> assertNotEquals(testDinosaur.getJavaFXObj().getImage(), copy.getJavaFXObj().getImage(), "Image should not be equal"),
+                () -> assertNotEquals(testDinosaur.getSpriteName(), copy.getSpriteName(), "Image should not be equal"),
                 () -> assertNotEquals(testDinosaur.getNutrition(), copy.getNutrition(), "Nutrition should not be equal"),
                 () -> assertNotEquals(testDinosaur.getHydration(), copy.getHydration(), "Hydration should not be equal"),
                 () -> assertEquals(testDinosaur.getStrength(), copy.getStrength(), "Strength needs to be equal"),
@@ -197,4 +193,56 @@ class DinosaurTest {
                 () -> assertTrue(diedOfHunger, "Nutrition is 0")
         );
     }
-}
\ No newline at end of file
+
+    @DisplayName("Diet, gender and mobility are kept and the species id ignores the case of the type.")
+    @Test
+    void packedFlags() {
+        //act
+        Dinosaur carnivore = new Dinosaur("Flag-Test", "testDinosaur.png", 1, 2,
+                3, 4, 5, 6, 7, 8,
+                false, true, 'f', 10,
+                11, 'f');
+        Dinosaur omnivore = new Dinosaur("flag-test", "testDinosaur.png", 1, 2,
+                3, 4, 5, 6, 7, 8,
+                true, false, 'a', 10,
+                11, 'm');
+        //assert
+        assertAll("Check flags",
+                () -> assertEquals(Dinosaur.dietType.CARNIVORE, carnivore.getDiet()),
+                () -> assertEquals('f', carnivore.getGender()),
+                () -> assertFalse(carnivore.canSwim()),
+                () -> assertTrue(carnivore.canClimb()),
+                () -> assertEquals(Dinosaur.dietType.OMNIVORE, omnivore.getDiet()),
+                () -> assertEquals('m', omnivore.getGender()),
+                () -> assertTrue(omnivore.canSwim()),
+                () -> assertFalse(omnivore.canClimb()),
+                () -> assertEquals(carnivore.getSpeciesId(), omnivore.getSpeciesId()),
+                () -> assertEquals(carnivore.getSpeciesId(), SpeciesRegistry.intern("FLAG-TEST")),
+                () -> assertEquals("Flag-Test", SpeciesRegistry.getName(carnivore.getSpeciesId())));
+    }
+
+    @DisplayName("Dinosaurs of one species and their copies share the same species data.")
+    @Test
+    void sharedSpecies() {
+        //arrange
+        Species species = new Species("Species-Test", "testDinosaur.png", 2, 'f', true, false);
+        //act
+        Dinosaur female = new Dinosaur(species, 1, 2, 3, 4, 5, 6, 7, 8, 10, 11, 'f');
+        Dinosaur male = new Dinosaur(species, 1, 2, 3, 4, 5, 6, 7, 8, 10, 11, 'm');
+        Dinosaur copy = female.copyOf();
+        //assert
+        assertAll("Check species",
+                () -> assertSame(species, female.getSpecies()),
+                () -> assertSame(species, male.getSpecies()),
+                () -> assertSame(species, copy.getSpecies()),
+                () -> assertEquals("testDinosaur.png", male.getSpriteName()),
+                () -> assertEquals(2, male.getSpriteAspectRatio()),
+                () -> assertEquals("Species-Test", male.getType()),
+                () -> assertEquals(Dinosaur.dietType.CARNIVORE, male.getDiet()),
+                () -> assertTrue(male.canSwim()),
+                () -> assertFalse(male.canClimb()),
+                () -> assertEquals('f', female.getGender()),
+                () -> assertEquals('m', male.getGender()),
+                () -> assertEquals(species.getId(), copy.getSpeciesId()));
+    }
+}
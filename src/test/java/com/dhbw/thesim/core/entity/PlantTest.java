@@ -1,13 +1,10 @@
 package com.dhbw.thesim.core.entity;
 
-import javafx.scene.image.Image;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
-import java.util.Objects;
-
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 
@@ -22,8 +19,7 @@ class PlantTest {
 
     @BeforeEach
     void setUp() {
-        Image img = new Image(Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream("testPlant.png")));
-        testPlant = new Plant("test", img, 1, 2);
+        testPlant = new Plant("test", "testPlant.png", 1, 2);
         testPlant.setGrowth(Plant.MAX_GROWTH);  //Plant should be grown by default
     }
 
@@ -71,4 +67,20 @@ class PlantTest {
                 () -> assertFalse(plantIsNotGrown, "Plant is not grown")
         );
     }
-}
\ No newline at end of file
+
+    @DisplayName("Plants share their species, which is not interned as a dinosaur species")
+    @Test
+    void sharedSpecies() {
+        //arrange
+        int registeredSpecies = SpeciesRegistry.size();
+        Species species = new Species("Plant-Species-Test", "testPlant.png", 1);
+        //act
+        Plant first = new Plant(species, 1, 2);
+        Plant second = new Plant(species, 1, 2);
+        //assert
+        assertAll("Check species",
+                () -> assertSame(first.getSpecies(), second.getSpecies()),
+                () -> assertEquals(Species.NO_ID, species.getId()),
+                () -> assertEquals(registeredSpecies, SpeciesRegistry.size(), "No dinosaur species should be added."));
+    }
+}
@@ -0,0 +1,103 @@
+package com.dhbw.thesim.core.map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link PassageTable} class.
+ *
+ * @author Daniel Czeschner
+ */
+class PassageTableTest {
+
+    @DisplayName("Check if a river can be crossed by the mobility classes.")
+    @ParameterizedTest
+    @CsvSource({"5, 9, 5, 11, false, false, false", "5, 9, 5, 11, true, false, true", "5, 9, 5, 11, false, true, false",
+            "5, 9, 5, 10, false, false, false", "5, 9, 5, 10, false, true, true", "5, 9, 5, 9, false, false, true", "5, 9, 8, 3, false, false, true"})
+    void canBeReached(int startX, int startY, int targetX, int targetY, boolean canSwim, boolean ignoreTargetTile, boolean expected) {
+        //arrange
+        SimulationMap simulationMap = new SimulationMap(SimulationMap.LANDSCAPE_ONE_NAME);
+        //act
+        boolean canBeReached = simulationMap.getPassageTable().canBeReached(startX, startY, targetX, targetY, canSwim, false, ignoreTargetTile);
+        //assert
+        assertEquals(expected, canBeReached);
+    }
+
+    @DisplayName("The table gives the same result as the tile walk for all pairs of tiles.")
+    @ParameterizedTest
+    @ValueSource(strings = {SimulationMap.LANDSCAPE_ONE_NAME, SimulationMap.LANDSCAPE_TWO_NAME})
+    void sameResultAsWalk(String landscapeName) {
+        //arrange
+        SimulationMap simulationMap = new SimulationMap(landscapeName);
+        PassageTable passageTable = simulationMap.getPassageTable();
+        int tileCount = SimulationMap.WIDTH * SimulationMap.HEIGHT;
+        int mismatches = 0;
+        //act
+        for (int start = 0; start < tileCount; start++) {
+            for (int target = 0; target < tileCount; target++) {
+                int startX = start % SimulationMap.WIDTH, startY = start / SimulationMap.WIDTH;
+                int targetX = target % SimulationMap.WIDTH, targetY = target / SimulationMap.WIDTH;
+                for (int mobilityClass = 0; mobilityClass < 4; mobilityClass++) {
+                    boolean canSwim = (mobilityClass & 1) != 0;
+                    boolean canClimb = (mobilityClass & 2) != 0;
+                    for (boolean ignoreTargetTile : new boolean[]{false, true}) {
+                        if (walk(simulationMap, startX, startY, targetX, targetY, canSwim, canClimb, ignoreTargetTile)
+                                != passageTable.canBeReached(startX, startY, targetX, targetY, canSwim, canClimb, ignoreTargetTile))
+                            mismatches++;
+                    }
+                }
+            }
+        }
+        //assert
+        assertEquals(0, mismatches, "The table should match the walk for all tiles.");
+    }
+
+    @DisplayName("No table is built for too large maps.")
+    @Test
+    void createTooLarge() {
+        //arrange
+        SimulationMap simulationMap = new SimulationMap(SimulationMap.LANDSCAPE_ONE_NAME);
+        //act
+        PassageTable passageTable = PassageTable.create(simulationMap, PassageTable.MAX_TILES + 1, 1);
+        //assert
+        assertNull(passageTable);
+    }
+
+    /**
+     * The bresenham walk, which was used for each check before the table existed.
+     */
+    private boolean walk(SimulationMap simulationMap, int startX, int startY, int targetX, int targetY, boolean canSwim, boolean canClimb, boolean ignoreTargetTile) {
+        int dx = targetX - startX;
+        int dy = targetY - startY;
+        int adx = Math.abs(dx);
+        int ady = Math.abs(dy);
+        int sdx = Integer.signum(dx);
+        int sdy = Integer.signum(dy);
+        int pdx = adx > ady ? sdx : 0;
+        int pdy = adx > ady ? 0 : sdy;
+        int deltaSlowDirection = Math.min(adx, ady);
+        int deltaFastDirection = adx > ady ? adx : ady;
+        int x = startX;
+        int y = startY;
+        int error = deltaFastDirection / 2;
+        for (int i = 0; i < deltaFastDirection; ++i) {
+            error -= deltaSlowDirection;
+            if (error < 0) {
+                error += deltaFastDirection;
+                x += sdx;
+                y += sdy;
+            } else {
+                x += pdx;
+                y += pdy;
+            }
+            if (!(ignoreTargetTile && targetX == x && targetY == y) && !simulationMap.tileMatchedConditions(x, y, canSwim, canClimb))
+                return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,137 @@
+package com.dhbw.thesim.core.map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link PathFinder} class.
+ *
+ * @author Daniel Czeschner
+ */
+class PathFinderTest {
+
+    SimulationMap simulationMap;
+
+    PathFinder pathFinder;
+
+    @BeforeEach
+    void setUp() {
+        simulationMap = new SimulationMap(SimulationMap.LANDSCAPE_ONE_NAME);
+        pathFinder = simulationMap.getPathFinder();
+    }
+
+    @AfterEach
+    void tearDown() {
+        pathFinder = null;
+        simulationMap = null;
+    }
+
+    @DisplayName("A dinosaur, which can't swim, gets a path around the river, where each part can be walked on a straight line.")
+    @Test
+    void pathAroundRiver() {
+        //arrange
+        Tile start = simulationMap.getTileAtPosition(5, 8);
+        Tile goal = simulationMap.getTileAtPosition(20, 8);
+        PassageTable passageTable = simulationMap.getPassageTable();
+        //act
+        List<Tile> path = pathFinder.findPath(start, goal, false, false, false);
+        //assert
+        assertNotNull(path);
+        assertAll("Check path",
+                () -> assertTrue(path.size() > 1, "The river needs to be passed with at least one waypoint."),
+                () -> assertSame(goal, path.get(path.size() - 1)),
+                () -> assertTrue(path.stream().noneMatch(Tile::isSwimmable)),
+                () -> {
+                    Tile previous = start;
+                    for (Tile tile : path) {
+                        assertTrue(passageTable.canBeReached(previous.getGridX(), previous.getGridY(), tile.getGridX(), tile.getGridY(), false, false, false),
+                                "Each part of the path must not cross or cut a water tile.");
+                        previous = tile;
+                    }
+                });
+    }
+
+    @DisplayName("A dinosaur, which can swim, moves straight through the river.")
+    @Test
+    void straightPathForSwimmer() {
+        //arrange
+        Tile start = simulationMap.getTileAtPosition(5, 8);
+        Tile goal = simulationMap.getTileAtPosition(20, 8);
+        //act
+        List<Tile> path = pathFinder.findPath(start, goal, true, false, false);
+        //assert
+        assertEquals(List.of(goal), path);
+    }
+
+    @DisplayName("The second search with the same tiles and mobility is answered by the cache.")
+    @Test
+    void cachedPath() {
+        //arrange
+        Tile start = simulationMap.getTileAtPosition(5, 8);
+        Tile goal = simulationMap.getTileAtPosition(20, 8);
+        List<Tile> first = pathFinder.findPath(start, goal, false, false, false);
+        //act
+        List<Tile> second = pathFinder.findPath(start, goal, false, false, false);
+        //assert
+        assertAll("Check cache",
+                () -> assertSame(first, second),
+                () -> assertEquals(1, pathFinder.getCacheHits()),
+                () -> assertEquals(1, pathFinder.getCachedPathCount()));
+    }
+
+    @DisplayName("A water tile can only be reached by a dinosaur, which can't swim, if the goal tile is ignored.")
+    @Test
+    void unreachableGoal() {
+        //arrange
+        Tile start = simulationMap.getTileAtPosition(5, 8);
+        Tile water = simulationMap.getTileAtPosition(13, 12);
+        //act
+        List<Tile> blocked = pathFinder.findPath(start, water, false, false, false);
+        List<Tile> ignored = pathFinder.findPath(start, water, false, false, true);
+        //assert
+        assertAll("Check goal",
+                () -> assertFalse(pathFinder.isConnected(start, water, false, false)),
+                () -> assertNull(blocked),
+                () -> assertNotNull(ignored),
+                () -> assertSame(water, ignored.get(ignored.size() - 1)),
+                () -> assertNull(pathFinder.findPath(start, water, false, false, false), "The unreachable goal is cached, too."),
+                () -> assertEquals(1, pathFinder.getCacheHits()));
+    }
+
+    @DisplayName("Uncached searches, which reuse the search arrays of the thread, find the same paths as a new path finder.")
+    @Test
+    void reusedSearchArrays() {
+        //arrange
+        Tile start = simulationMap.getTileAtPosition(5, 8);
+        Tile goal = simulationMap.getTileAtPosition(20, 8);
+        Tile otherStart = simulationMap.getTileAtPosition(20, 2);
+        Tile otherGoal = simulationMap.getTileAtPosition(3, 14);
+        pathFinder.findPath(otherStart, otherGoal, false, false, false);
+        pathFinder.findPath(otherGoal, otherStart, true, false, false);
+        //act
+        List<Tile> reused = pathFinder.findPath(start, goal, false, false, false);
+        List<Tile> fresh = new PathFinder(simulationMap, SimulationMap.WIDTH, SimulationMap.HEIGHT).findPath(start, goal, false, false, false);
+        //assert
+        assertAll("Check reused arrays",
+                () -> assertEquals(0, pathFinder.getCacheHits(), "Each search needs to be uncached."),
+                () -> assertNotNull(reused),
+                () -> assertEquals(fresh, reused));
+    }
+
+    @DisplayName("The path from a tile to itself is empty.")
+    @Test
+    void sameTile() {
+        //arrange
+        Tile tile = simulationMap.getTileAtPosition(20, 8);
+        //act
+        List<Tile> path = pathFinder.findPath(tile, tile, false, false, false);
+        //assert
+        assertTrue(path.isEmpty());
+    }
+}
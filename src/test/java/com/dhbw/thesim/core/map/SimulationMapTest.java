@@ -1,20 +1,14 @@
 package com.dhbw.thesim.core.map;
 
-import com.dhbw.thesim.core.util.SpriteLibrary;
 import com.dhbw.thesim.core.util.Vector2D;
-import javafx.scene.image.Image;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
 import java.util.List;
-import java.util.Objects;
 import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
 
 /**
  * Tests for the {@link SimulationMap} class.
@@ -24,21 +18,18 @@ import static org.mockito.Mockito.when;
 class SimulationMapTest {
 
     SimulationMap simulationMap;
-    SpriteLibrary spriteLibraryMock;
-    Image testImage;
+    String testSprite;
 
     @BeforeEach
     void setUp() {
-        testImage = new Image(Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream("testPlant.png")));
-        spriteLibraryMock = mock(SpriteLibrary.class);
-        when(spriteLibraryMock.getImage(anyString())).thenReturn(testImage);
-        simulationMap = new SimulationMap(SimulationMap.LANDSCAPE_ONE_NAME, spriteLibraryMock);
+        testSprite = "testPlant.png";
+        simulationMap = new SimulationMap(SimulationMap.LANDSCAPE_ONE_NAME);
     }
 
     @AfterEach
     void tearDown() {
         simulationMap = null;
-        spriteLibraryMock = null;
+        testSprite = null;
     }
 
     @DisplayName("Check if a grid coordinate is inside the grid.")
@@ -125,10 +116,10 @@ class SimulationMapTest {
     @CsvSource({"0, 0, false, false, false", "-1, 0, false, false, false", "0, 1, false, true, true", "0, 1, false, false, false", "0, 3, true, true, true", "0, 2, false, false, true"})
     void tileMatchedConditions(int gridX, int gridY, boolean canSwim, boolean canClimb, boolean expected) {
         //arrange
-        simulationMap.getTiles()[0][0] = new Tile(testImage, 0, 0, true, false, false);
-        simulationMap.getTiles()[0][1] = new Tile(testImage, 0, 1, false, true, false);
-        simulationMap.getTiles()[0][2] = new Tile(testImage, 0, 2, false, false, true);
-        simulationMap.getTiles()[0][3] = new Tile(testImage, 0, 3, false, false, false);
+        simulationMap.getTiles()[0][0] = new Tile(testSprite, 0, 0, true, false, false);
+        simulationMap.getTiles()[0][1] = new Tile(testSprite, 0, 1, false, true, false);
+        simulationMap.getTiles()[0][2] = new Tile(testSprite, 0, 2, false, false, true);
+        simulationMap.getTiles()[0][3] = new Tile(testSprite, 0, 3, false, false, false);
         //act
         boolean tileMatchedCondition = simulationMap.tileMatchedConditions(gridX, gridY, canSwim, canClimb);
         //assert
@@ -182,14 +173,14 @@ class SimulationMapTest {
     @CsvSource({"false, false, false", "true, false, false", "false, true, false", "true, true, true"})
     void checkIfNeighborTilesMatchConditions(boolean canSwim, boolean canClimb, boolean expected) {
         //arrange
-        simulationMap.getTiles()[0][0] = new Tile(testImage, 0, 0, true, false, false);
-        simulationMap.getTiles()[0][1] = new Tile(testImage, 0, 1, false, true, false);
-        simulationMap.getTiles()[0][2] = new Tile(testImage, 0, 2, false, false, true);
-        simulationMap.getTiles()[1][0] = new Tile(testImage, 1, 0, false, false, false);
-        simulationMap.getTiles()[2][0] = new Tile(testImage, 2, 0, false, false, false);
-        simulationMap.getTiles()[2][1] = new Tile(testImage, 2, 1, true, false, false);
-        simulationMap.getTiles()[2][2] = new Tile(testImage, 2, 2, false, false, true);
-        simulationMap.getTiles()[1][1] = new Tile(testImage, 1, 1, false, true, false);
+        simulationMap.getTiles()[0][0] = new Tile(testSprite, 0, 0, true, false, false);
+        simulationMap.getTiles()[0][1] = new Tile(testSprite, 0, 1, false, true, false);
+        simulationMap.getTiles()[0][2] = new Tile(testSprite, 0, 2, false, false, true);
+        simulationMap.getTiles()[1][0] = new Tile(testSprite, 1, 0, false, false, false);
+        simulationMap.getTiles()[2][0] = new Tile(testSprite, 2, 0, false, false, false);
+        simulationMap.getTiles()[2][1] = new Tile(testSprite, 2, 1, true, false, false);
+        simulationMap.getTiles()[2][2] = new Tile(testSprite, 2, 2, false, false, true);
+        simulationMap.getTiles()[1][1] = new Tile(testSprite, 1, 1, false, true, false);
         //act
         boolean check = simulationMap.checkIfNeighborTilesMatchConditions(simulationMap.getWorldPosition(1, 1), canSwim, canClimb, Tile.TILE_SIZE + 5);
         //assert
@@ -201,14 +192,14 @@ class SimulationMapTest {
     @CsvSource({"false, false, false", "true, false, false", "false, true, false", "true, true, true", "true, true, true"})
     void checkIfNeighborTilesHasConditions(boolean canSwim, boolean canClimb, boolean allowPlants) {
         //arrange
-        simulationMap.getTiles()[0][0] = new Tile(testImage, 0, 0, true, false, false);
-        simulationMap.getTiles()[0][1] = new Tile(testImage, 0, 1, false, true, false);
-        simulationMap.getTiles()[0][2] = new Tile(testImage, 0, 2, false, false, true);
-        simulationMap.getTiles()[1][0] = new Tile(testImage, 1, 0, false, false, false);
-        simulationMap.getTiles()[2][0] = new Tile(testImage, 2, 0, false, false, false);
-        simulationMap.getTiles()[2][1] = new Tile(testImage, 2, 1, true, false, false);
-        simulationMap.getTiles()[2][2] = new Tile(testImage, 2, 2, false, false, true);
-        simulationMap.getTiles()[1][1] = new Tile(testImage, 1, 1, false, true, false);
+        simulationMap.getTiles()[0][0] = new Tile(testSprite, 0, 0, true, false, false);
+        simulationMap.getTiles()[0][1] = new Tile(testSprite, 0, 1, false, true, false);
+        simulationMap.getTiles()[0][2] = new Tile(testSprite, 0, 2, false, false, true);
+        simulationMap.getTiles()[1][0] = new Tile(testSprite, 1, 0, false, false, false);
+        simulationMap.getTiles()[2][0] = new Tile(testSprite, 2, 0, false, false, false);
+        simulationMap.getTiles()[2][1] = new Tile(testSprite, 2, 1, true, false, false);
+        simulationMap.getTiles()[2][2] = new Tile(testSprite, 2, 2, false, false, true);
+        simulationMap.getTiles()[1][1] = new Tile(testSprite, 1, 1, false, true, false);
         //act
         boolean check = simulationMap.checkIfNeighborTilesHasConditions(simulationMap.getWorldPosition(1, 1), canSwim, canClimb, allowPlants, Tile.TILE_SIZE + 5);
         //assert
@@ -219,15 +210,15 @@ class SimulationMapTest {
     @Test
     void checkIfNeighborTilesHasConditionsSuccess() {
         //arrange
-        simulationMap.getTiles()[0][0] = new Tile(testImage, 0, 0, true, false, false);
-        simulationMap.getTiles()[0][1] = new Tile(testImage, 0, 1, true, false, false);
-        simulationMap.getTiles()[0][2] = new Tile(testImage, 0, 2, true, false, false);
-        simulationMap.getTiles()[1][0] = new Tile(testImage, 1, 0, true, false, false);
-        simulationMap.getTiles()[2][0] = new Tile(testImage, 2, 0, true, false, false);
-        simulationMap.getTiles()[2][1] = new Tile(testImage, 2, 1, true, false, false);
-        simulationMap.getTiles()[2][2] = new Tile(testImage, 2, 2, true, false, false);
-        simulationMap.getTiles()[1][1] = new Tile(testImage, 1, 1, true, false, false);
-        simulationMap.getTiles()[1][2] = new Tile(testImage, 1, 2, true, false, false);
+        simulationMap.getTiles()[0][0] = new Tile(testSprite, 0, 0, true, false, false);
+        simulationMap.getTiles()[0][1] = new Tile(testSprite, 0, 1, true, false, false);
+        simulationMap.getTiles()[0][2] = new Tile(testSprite, 0, 2, true, false, false);
+        simulationMap.getTiles()[1][0] = new Tile(testSprite, 1, 0, true, false, false);
+        simulationMap.getTiles()[2][0] = new Tile(testSprite, 2, 0, true, false, false);
+        simulationMap.getTiles()[2][1] = new Tile(testSprite, 2, 1, true, false, false);
+        simulationMap.getTiles()[2][2] = new Tile(testSprite, 2, 2, true, false, false);
+        simulationMap.getTiles()[1][1] = new Tile(testSprite, 1, 1, true, false, false);
+        simulationMap.getTiles()[1][2] = new Tile(testSprite, 1, 2, true, false, false);
         //act
         boolean check = simulationMap.checkIfNeighborTilesHasConditions(simulationMap.getWorldPosition(1, 1), true, false, false, Tile.TILE_SIZE + 5);
         //assert
@@ -259,15 +250,15 @@ class SimulationMapTest {
     @Test
     void getMidCoordinatesTilesWhereConditionsAre() {
         //arrange
-        simulationMap.getTiles()[0][0] = new Tile(testImage, 0, 0, true, false, false);
-        simulationMap.getTiles()[0][1] = new Tile(testImage, 0, 1, true, false, false);
-        simulationMap.getTiles()[0][2] = new Tile(testImage, 0, 2, true, false, false);
-        simulationMap.getTiles()[1][0] = new Tile(testImage, 1, 0, true, false, false);
-        simulationMap.getTiles()[2][0] = new Tile(testImage, 2, 0, true, false, false);
-        simulationMap.getTiles()[2][1] = new Tile(testImage, 2, 1, true, false, false);
-        simulationMap.getTiles()[2][2] = new Tile(testImage, 2, 2, true, false, false);
-        simulationMap.getTiles()[1][1] = new Tile(testImage, 1, 1, true, false, false);
-        simulationMap.getTiles()[1][2] = new Tile(testImage, 1, 2, true, false, false);
+        simulationMap.getTiles()[0][0] = new Tile(testSprite, 0, 0, true, false, false);
+        simulationMap.getTiles()[0][1] = new Tile(testSprite, 0, 1, true, false, false);
+        simulationMap.getTiles()[0][2] = new Tile(testSprite, 0, 2, true, false, false);
+        simulationMap.getTiles()[1][0] = new Tile(testSprite, 1, 0, true, false, false);
+        simulationMap.getTiles()[2][0] = new Tile(testSprite, 2, 0, true, false, false);
+        simulationMap.getTiles()[2][1] = new Tile(testSprite, 2, 1, true, false, false);
+        simulationMap.getTiles()[2][2] = new Tile(testSprite, 2, 2, true, false, false);
+        simulationMap.getTiles()[1][1] = new Tile(testSprite, 1, 1, true, false, false);
+        simulationMap.getTiles()[1][2] = new Tile(testSprite, 1, 2, true, false, false);
         //act
         List<Vector2D> tiles = simulationMap.getMidCoordinatesTilesWhereConditionsAre(simulationMap.getWorldPosition(1, 1), Tile.TILE_SIZE, true, false);
         //assert
@@ -278,15 +269,15 @@ class SimulationMapTest {
     @Test
     void getMidCoordinatesTilesWhereConditionsAreOnly3() {
         //arrange
-        simulationMap.getTiles()[0][0] = new Tile(testImage, 0, 0, false, false, false);
-        simulationMap.getTiles()[0][1] = new Tile(testImage, 0, 1, false, false, false);
-        simulationMap.getTiles()[0][2] = new Tile(testImage, 0, 2, true, false, false);
-        simulationMap.getTiles()[1][0] = new Tile(testImage, 1, 0, true, false, false);
-        simulationMap.getTiles()[2][0] = new Tile(testImage, 2, 0, true, false, false);
-        simulationMap.getTiles()[2][1] = new Tile(testImage, 2, 1, true, true, false);
-        simulationMap.getTiles()[2][2] = new Tile(testImage, 2, 2, false, false, false);
-        simulationMap.getTiles()[1][1] = new Tile(testImage, 1, 1, false, false, false);
-        simulationMap.getTiles()[1][2] = new Tile(testImage, 1, 2, false, false, false);
+        simulationMap.getTiles()[0][0] = new Tile(testSprite, 0, 0, false, false, false);
+        simulationMap.getTiles()[0][1] = new Tile(testSprite, 0, 1, false, false, false);
+        simulationMap.getTiles()[0][2] = new Tile(testSprite, 0, 2, true, false, false);
+        simulationMap.getTiles()[1][0] = new Tile(testSprite, 1, 0, true, false, false);
+        simulationMap.getTiles()[2][0] = new Tile(testSprite, 2, 0, true, false, false);
+        simulationMap.getTiles()[2][1] = new Tile(testSprite, 2, 1, true, true, false);
+        simulationMap.getTiles()[2][2] = new Tile(testSprite, 2, 2, false, false, false);
+        simulationMap.getTiles()[1][1] = new Tile(testSprite, 1, 1, false, false, false);
+        simulationMap.getTiles()[1][2] = new Tile(testSprite, 1, 2, false, false, false);
         //act
         List<Vector2D> tiles = simulationMap.getMidCoordinatesTilesWhereConditionsAre(simulationMap.getWorldPosition(1, 1), Tile.TILE_SIZE, true, false);
         //assert
@@ -298,15 +289,15 @@ class SimulationMapTest {
     @Test
     void getMidCoordinatesOfTilesWhereConditionsMatch() {
         //arrange
-        simulationMap.getTiles()[0][0] = new Tile(testImage, 0, 0, true, false, false);
-        simulationMap.getTiles()[0][1] = new Tile(testImage, 0, 1, false, false, false);
-        simulationMap.getTiles()[0][2] = new Tile(testImage, 0, 2, true, false, false);
-        simulationMap.getTiles()[1][0] = new Tile(testImage, 1, 0, true, false, false);
-        simulationMap.getTiles()[2][0] = new Tile(testImage, 2, 0, false, false, false);
-        simulationMap.getTiles()[2][1] = new Tile(testImage, 2, 1, true, false, false);
-        simulationMap.getTiles()[2][2] = new Tile(testImage, 2, 2, true, false, false);
-        simulationMap.getTiles()[1][1] = new Tile(testImage, 1, 1, true, false, false);
-        simulationMap.getTiles()[1][2] = new Tile(testImage, 1, 2, true, false, false);
+        simulationMap.getTiles()[0][0] = new Tile(testSprite, 0, 0, true, false, false);
+        simulationMap.getTiles()[0][1] = new Tile(testSprite, 0, 1, false, false, false);
+        simulationMap.getTiles()[0][2] = new Tile(testSprite, 0, 2, true, false, false);
+        simulationMap.getTiles()[1][0] = new Tile(testSprite, 1, 0, true, false, false);
+        simulationMap.getTiles()[2][0] = new Tile(testSprite, 2, 0, false, false, false);
+        simulationMap.getTiles()[2][1] = new Tile(testSprite, 2, 1, true, false, false);
+        simulationMap.getTiles()[2][2] = new Tile(testSprite, 2, 2, true, false, false);
+        simulationMap.getTiles()[1][1] = new Tile(testSprite, 1, 1, true, false, false);
+        simulationMap.getTiles()[1][2] = new Tile(testSprite, 1, 2, true, false, false);
         //act
         List<Vector2D> tiles = simulationMap.getMidCoordinatesOfTilesWhereConditionsMatch(simulationMap.getWorldPosition(1, 1), Tile.TILE_SIZE, true, false);
         //assert
@@ -317,15 +308,15 @@ class SimulationMapTest {
     @Test
     void getMidCoordinatesOfTilesWhereConditionsMatchOnly3() {
         //arrange
-        simulationMap.getTiles()[0][0] = new Tile(testImage, 0, 0, true, false, false);
-        simulationMap.getTiles()[0][1] = new Tile(testImage, 0, 1, false, false, false);
-        simulationMap.getTiles()[0][2] = new Tile(testImage, 0, 2, true, false, false);
-        simulationMap.getTiles()[1][0] = new Tile(testImage, 1, 0, true, false, false);
-        simulationMap.getTiles()[2][0] = new Tile(testImage, 2, 0, true, false, false);
-        simulationMap.getTiles()[2][1] = new Tile(testImage, 2, 1, true, true, false);
-        simulationMap.getTiles()[2][2] = new Tile(testImage, 2, 2, false, false, false);
-        simulationMap.getTiles()[1][1] = new Tile(testImage, 1, 1, false, false, false);
-        simulationMap.getTiles()[1][2] = new Tile(testImage, 1, 2, false, false, false);
+        simulationMap.getTiles()[0][0] = new Tile(testSprite, 0, 0, true, false, false);
+        simulationMap.getTiles()[0][1] = new Tile(testSprite, 0, 1, false, false, false);
+        simulationMap.getTiles()[0][2] = new Tile(testSprite, 0, 2, true, false, false);
+        simulationMap.getTiles()[1][0] = new Tile(testSprite, 1, 0, true, false, false);
+        simulationMap.getTiles()[2][0] = new Tile(testSprite, 2, 0, true, false, false);
+        simulationMap.getTiles()[2][1] = new Tile(testSprite, 2, 1, true, true, false);
+        simulationMap.getTiles()[2][2] = new Tile(testSprite, 2, 2, false, false, false);
+        simulationMap.getTiles()[1][1] = new Tile(testSprite, 1, 1, false, false, false);
+        simulationMap.getTiles()[1][2] = new Tile(testSprite, 1, 2, false, false, false);
         //act
         List<Vector2D> tiles = simulationMap.getMidCoordinatesOfTilesWhereConditionsMatch(simulationMap.getWorldPosition(1, 1), Tile.TILE_SIZE, false, false);
         //assert
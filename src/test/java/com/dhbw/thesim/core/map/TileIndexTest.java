@@ -0,0 +1,70 @@
+package com.dhbw.thesim.core.map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link TileIndex} class.
+ *
+ * @author Daniel Czeschner
+ */
+class TileIndexTest {
+
+    SimulationMap simulationMap;
+
+    @BeforeEach
+    void setUp() {
+        simulationMap = new SimulationMap(SimulationMap.LANDSCAPE_ONE_NAME);
+    }
+
+    @AfterEach
+    void tearDown() {
+        simulationMap = null;
+    }
+
+    @DisplayName("Each tile is in the lists of all mobility classes, which can enter it, and in exactly one condition list.")
+    @Test
+    void sortedIntoLists() {
+        //arrange
+        TileIndex tileIndex = simulationMap.getTileIndex();
+        int tileCount = SimulationMap.WIDTH * SimulationMap.HEIGHT;
+        int conditionCount = 0;
+        //act
+        for (int condition = 0; condition < 8; condition++)
+            conditionCount += tileIndex.getTilesWhereConditionsAre((condition & 1) != 0, (condition & 2) != 0, (condition & 4) != 0).size();
+        List<Tile> walkable = tileIndex.getMatchingTiles(false, false);
+        List<Tile> sand = tileIndex.getTilesWhereConditionsAre(false, false, false);
+        int sumOfConditions = conditionCount;
+        //assert
+        assertAll("Check lists",
+                () -> assertEquals(tileCount, sumOfConditions),
+                () -> assertEquals(tileCount, tileIndex.getMatchingTiles(true, true).size()),
+                () -> assertTrue(walkable.stream().noneMatch(tile -> tile.isSwimmable() || tile.isClimbable())),
+                () -> assertTrue(sand.stream().allMatch(tile -> !tile.isSwimmable() && !tile.isClimbable() && !tile.arePlantsAllowed())),
+                () -> assertTrue(sand.stream().allMatch(tile -> simulationMap.getTileAtPosition(tile.getGridX(), tile.getGridY()) == tile)),
+                () -> assertTrue(tileIndex.getTilesWhereConditionsAre(true, false, true).isEmpty()),
+                () -> assertNull(tileIndex.getRandomTileWhereConditionsAre(true, false, true, new Random(1))));
+    }
+
+    @DisplayName("A replaced tile is moved into the lists of its new conditions.")
+    @Test
+    void updatedBySetTile() {
+        //arrange
+        int waterTiles = simulationMap.getTileIndex().getTilesWhereConditionsAre(true, false, false).size();
+        //act
+        simulationMap.setTile(20, 20, SimulationMap.TILES.WATER);
+        TileIndex tileIndex = simulationMap.getTileIndex();
+        //assert
+        assertAll("Check update",
+                () -> assertEquals(waterTiles + 1, tileIndex.getTilesWhereConditionsAre(true, false, false).size()),
+                () -> assertTrue(tileIndex.getMatchingTiles(true, false).contains(simulationMap.getTileAtPosition(20, 20))),
+                () -> assertFalse(tileIndex.getMatchingTiles(false, false).contains(simulationMap.getTileAtPosition(20, 20))));
+    }
+}
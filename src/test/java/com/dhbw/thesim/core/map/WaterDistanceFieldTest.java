@@ -0,0 +1,101 @@
+package com.dhbw.thesim.core.map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link WaterDistanceField} class.
+ *
+ * @author Daniel Czeschner
+ */
+class WaterDistanceFieldTest {
+
+    SimulationMap simulationMap;
+
+    @BeforeEach
+    void setUp() {
+        simulationMap = new SimulationMap(SimulationMap.LANDSCAPE_ONE_NAME);
+    }
+
+    @AfterEach
+    void tearDown() {
+        simulationMap = null;
+    }
+
+    @DisplayName("A tile next to the river has the distance one and points to the river.")
+    @Test
+    void nextToWater() {
+        //arrange
+        WaterDistanceField waterDistanceField = simulationMap.getWaterDistanceField();
+        //act
+        int distance = waterDistanceField.getDistance(5, 9, false, false);
+        Tile nearestWater = waterDistanceField.getNearestWaterTile(5, 9, false, false);
+        Tile nextTile = waterDistanceField.getNextTile(5, 9, false, false);
+        //assert
+        assertAll("Check field",
+                () -> assertEquals(0, waterDistanceField.getDistance(5, 10, false, false)),
+                () -> assertEquals(1, distance),
+                () -> assertEquals(10, nearestWater.getGridY()),
+                () -> assertSame(nearestWater, nextTile),
+                () -> assertNull(waterDistanceField.getNextTile(5, 10, false, false)));
+    }
+
+    @DisplayName("The distance is never larger than the straight line to a reachable water tile.")
+    @Test
+    void distanceIsLowerBound() {
+        //arrange
+        WaterDistanceField waterDistanceField = simulationMap.getWaterDistanceField();
+        PassageTable passageTable = simulationMap.getPassageTable();
+        int violations = 0;
+        //act
+        for (int mobilityClass = 0; mobilityClass < 4; mobilityClass++) {
+            boolean canSwim = (mobilityClass & 1) != 0;
+            boolean canClimb = (mobilityClass & 2) != 0;
+            for (int x = 0; x < SimulationMap.WIDTH; x++) {
+                for (int y = 0; y < SimulationMap.HEIGHT; y++) {
+                    int distance = waterDistanceField.getDistance(x, y, canSwim, canClimb);
+                    for (int waterX = 0; waterX < SimulationMap.WIDTH; waterX++) {
+                        for (int waterY = 0; waterY < SimulationMap.HEIGHT; waterY++) {
+                            Tile tile = simulationMap.getTileAtPosition(waterX, waterY);
+                            if (tile.isSwimmable() && !tile.isClimbable() && passageTable.canBeReached(x, y, waterX, waterY, canSwim, canClimb, true)
+                                    && distance > Math.max(Math.abs(waterX - x), Math.abs(waterY - y)))
+                                violations++;
+                        }
+                    }
+                }
+            }
+        }
+        //assert
+        assertEquals(0, violations);
+    }
+
+    @DisplayName("An updated field equals a newly built field.")
+    @ParameterizedTest
+    @CsvSource({"30, 2, WATER", "5, 10, GRASS", "13, 10, MOUNTAIN", "4, 9, MOUNTAIN", "13, 12, GRASS", "22, 20, GRASS"})
+    void update(int gridX, int gridY, SimulationMap.TILES tileType) {
+        //arrange
+        WaterDistanceField waterDistanceField = simulationMap.getWaterDistanceField();
+        //act
+        simulationMap.setTile(gridX, gridY, tileType);
+        WaterDistanceField newField = new WaterDistanceField(simulationMap, SimulationMap.WIDTH, SimulationMap.HEIGHT);
+        int differences = 0;
+        for (int mobilityClass = 0; mobilityClass < 4; mobilityClass++) {
+            boolean canSwim = (mobilityClass & 1) != 0;
+            boolean canClimb = (mobilityClass & 2) != 0;
+            for (int x = 0; x < SimulationMap.WIDTH; x++) {
+                for (int y = 0; y < SimulationMap.HEIGHT; y++) {
+                    if (waterDistanceField.getDistance(x, y, canSwim, canClimb) != newField.getDistance(x, y, canSwim, canClimb))
+                        differences++;
+                }
+            }
+        }
+        //assert
+        assertEquals(0, differences, "The updated distances should be the same as the new ones.");
+    }
+}
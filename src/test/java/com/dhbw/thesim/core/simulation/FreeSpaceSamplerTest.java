@@ -0,0 +1,87 @@
+package com.dhbw.thesim.core.simulation;
+
+import com.dhbw.thesim.core.map.SimulationMap;
+import com.dhbw.thesim.core.map.Tile;
+import com.dhbw.thesim.core.util.Vector2D;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link FreeSpaceSampler} class.
+ *
+ * @author Daniel Czeschner
+ */
+class FreeSpaceSamplerTest {
+
+    SimulationMap simulationMap;
+
+    FreeSpaceSampler freeSpaceSampler;
+
+    @BeforeEach
+    void setUp() {
+        simulationMap = new SimulationMap(SimulationMap.LANDSCAPE_ONE_NAME);
+        freeSpaceSampler = new FreeSpaceSampler(simulationMap, new SpatialGrid());
+    }
+
+    @AfterEach
+    void tearDown() {
+        freeSpaceSampler = null;
+        simulationMap = null;
+    }
+
+    @DisplayName("A target next to the river is inside the ring of the view range and never on a water tile.")
+    @Test
+    void sampleInRange() {
+        //arrange
+        Vector2D position = simulationMap.getCenterPositionOfTile(simulationMap.getTileAtPosition(5, 9));
+        double viewRange = 3 * Tile.TILE_SIZE;
+        Random random = new Random(7);
+        //act
+        for (int i = 0; i < 50; i++) {
+            Vector2D target = freeSpaceSampler.sampleInRange(position, viewRange, 0.5, false, false, random, vector -> true);
+            double distance = Vector2D.distance(position, target);
+            //assert
+            assertAll("Check target",
+                    () -> assertTrue(distance >= Math.sqrt(0.5) * viewRange && distance <= viewRange, "Inside the ring"),
+                    () -> assertTrue(simulationMap.tileMatchedConditions(target, false, false), "Walkable tile"));
+        }
+    }
+
+    @DisplayName("A target in a direction is inside the cone.")
+    @Test
+    void sampleInDirection() {
+        //arrange
+        Vector2D position = simulationMap.getCenterPositionOfTile(simulationMap.getTileAtPosition(20, 5));
+        Vector2D direction = position.directionToTarget(position.add(new Vector2D(0, 100)));
+        //act
+        Vector2D target = freeSpaceSampler.sampleInDirection(position, 4 * Tile.TILE_SIZE, direction, false, false, new Random(3), vector -> true);
+        //assert
+        assertAll("Check target",
+                () -> assertNotNull(target),
+                () -> assertTrue(target.getY() > position.getY(), "The target needs to be in the direction."));
+    }
+
+    @DisplayName("A search without any valid target ends after the maximum amount of exact checks.")
+    @Test
+    void boundedChecks() {
+        //arrange
+        Vector2D position = simulationMap.getCenterPositionOfTile(simulationMap.getTileAtPosition(20, 5));
+        AtomicInteger checks = new AtomicInteger();
+        //act
+        Vector2D target = freeSpaceSampler.sampleInRange(position, 10 * Tile.TILE_SIZE, 0.5, false, false, new Random(1), vector -> {
+            checks.incrementAndGet();
+            return false;
+        });
+        //assert
+        assertAll("Check bound",
+                () -> assertNull(target),
+                () -> assertEquals(FreeSpaceSampler.MAX_CHECKS, checks.get()));
+    }
+}
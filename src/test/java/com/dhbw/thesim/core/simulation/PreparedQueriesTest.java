@@ -0,0 +1,113 @@
+package com.dhbw.thesim.core.simulation;
+
+import com.dhbw.thesim.core.util.Vector2D;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link PreparedQueries} class.
+ *
+ * @author Daniel Czeschner
+ */
+class PreparedQueriesTest {
+
+    @Test
+    @DisplayName("A recorded query result should be reused after the recording.")
+    void recordedResultIsReused() {
+        //arrange
+        PreparedQueries preparedQueries = new PreparedQueries(0);
+        AtomicInteger computations = new AtomicInteger();
+        Vector2D position = new Vector2D(1, 2);
+        //act
+        preparedQueries.get(PreparedQueries.Query.WATER_SOURCE, position, computations::incrementAndGet, result -> true);
+        preparedQueries.stopRecording();
+        //The position is changed after the recording, so the key needs to be a copy.
+        Vector2D samePosition = new Vector2D(1, 2);
+        position.setX(5);
+        int result = preparedQueries.get(PreparedQueries.Query.WATER_SOURCE, samePosition, computations::incrementAndGet, r -> true);
+        //assert
+        assertAll(
+                () -> assertEquals(1, result),
+                () -> assertEquals(1, computations.get())
+        );
+    }
+
+    @Test
+    @DisplayName("An invalid query result should be computed again.")
+    void invalidResultIsComputedAgain() {
+        //arrange
+        PreparedQueries preparedQueries = new PreparedQueries(0);
+        AtomicInteger computations = new AtomicInteger();
+        //act
+        preparedQueries.get(PreparedQueries.Query.FOOD_SOURCE, new Vector2D(1, 1), computations::incrementAndGet, r -> false);
+        preparedQueries.stopRecording();
+        int result = preparedQueries.get(PreparedQueries.Query.FOOD_SOURCE, new Vector2D(1, 1), computations::incrementAndGet, r -> false);
+        //assert
+        assertAll(
+                () -> assertEquals(2, result),
+                () -> assertEquals(2, computations.get())
+        );
+    }
+
+    @Test
+    @DisplayName("Queries, which were not recorded, should not be stored after the recording.")
+    void notRecordedQueriesAreNotStored() {
+        //arrange
+        PreparedQueries preparedQueries = new PreparedQueries(0);
+        AtomicInteger computations = new AtomicInteger();
+        preparedQueries.stopRecording();
+        //act
+        preparedQueries.get(PreparedQueries.Query.PARTNER, new Vector2D(1, 1), computations::incrementAndGet, r -> true);
+        preparedQueries.get(PreparedQueries.Query.PARTNER, new Vector2D(1, 1), computations::incrementAndGet, r -> true);
+        //assert
+        assertAll(
+                () -> assertFalse(preparedQueries.isRecording()),
+                () -> assertEquals(2, computations.get())
+        );
+    }
+
+    @Test
+    @DisplayName("A reset object should record again with the new seed and without the results of the last update.")
+    void resetForNextUpdate() {
+        //arrange
+        PreparedQueries preparedQueries = new PreparedQueries(0);
+        AtomicInteger computations = new AtomicInteger();
+        preparedQueries.get(PreparedQueries.Query.RANDOM_TARGET, new Vector2D(1, 1), computations::incrementAndGet, r -> true);
+        preparedQueries.stopRecording();
+        //act
+        preparedQueries.reset(42);
+        int result = preparedQueries.get(PreparedQueries.Query.RANDOM_TARGET, new Vector2D(1, 1), computations::incrementAndGet, r -> true);
+        //assert
+        assertAll(
+                () -> assertTrue(preparedQueries.isRecording()),
+                () -> assertEquals(2, result),
+                () -> assertEquals(new Random(42).nextLong(), preparedQueries.getRandom().nextLong())
+        );
+    }
+
+    @Test
+    @DisplayName("A recorded query result should only be used for the same position and direction.")
+    void differentArgumentsAreComputedAgain() {
+        //arrange
+        PreparedQueries preparedQueries = new PreparedQueries(0);
+        AtomicInteger computations = new AtomicInteger();
+        Vector2D position = new Vector2D(1, 2);
+        preparedQueries.get(PreparedQueries.Query.RANDOM_TARGET_IN_DIRECTION, position, new Vector2D(1, 0), computations::incrementAndGet, r -> true);
+        preparedQueries.stopRecording();
+        //act
+        int otherDirection = preparedQueries.get(PreparedQueries.Query.RANDOM_TARGET_IN_DIRECTION, position, new Vector2D(0, 1), computations::incrementAndGet, r -> true);
+        int otherPosition = preparedQueries.get(PreparedQueries.Query.RANDOM_TARGET_IN_DIRECTION, new Vector2D(2, 2), new Vector2D(1, 0), computations::incrementAndGet, r -> true);
+        int sameArguments = preparedQueries.get(PreparedQueries.Query.RANDOM_TARGET_IN_DIRECTION, position, new Vector2D(1, 0), computations::incrementAndGet, r -> true);
+        //assert
+        assertAll(
+                () -> assertEquals(2, otherDirection),
+                () -> assertEquals(3, otherPosition),
+                () -> assertEquals(1, sameArguments)
+        );
+    }
+}
@@ -0,0 +1,172 @@
+package com.dhbw.thesim.core.simulation;
+
+import com.dhbw.thesim.core.entity.SimulationObject;
+import com.dhbw.thesim.core.statemachine.state.StateFactory;
+import com.dhbw.thesim.core.util.SimulationTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for the updates of the {@link SimulationLoop} class.
+ *
+ * @author Daniel Czeschner
+ */
+class SimulationLoopTest {
+
+    /**
+     * The time of one update. (60 updates per second)
+     */
+    static final double UPDATE_RATE = 1.0d / 60;
+
+    Simulation simulation;
+    SimulationTime simulationTime;
+
+    @BeforeEach
+    void setUp() {
+        simulation = mock(Simulation.class);
+        simulationTime = new SimulationTime();
+        when(simulation.getCurrentSimulationTime()).thenReturn(simulationTime);
+    }
+
+    @AfterEach
+    void tearDown() {
+        simulation = null;
+        simulationTime = null;
+    }
+
+    @DisplayName("Each update simulates exactly one update rate and the rest is kept for the next call.")
+    @Test
+    void advance() {
+        //arrange
+        SimulationLoop simulationLoop = new SimulationLoop(2, 1, simulation, 0, 10);
+        //act
+        int first = simulationLoop.advance(1.25 * UPDATE_RATE);
+        int second = simulationLoop.advance(0.3 * UPDATE_RATE);
+        //assert
+        assertAll("Check updates",
+                () -> assertEquals(2, first),
+                () -> assertEquals(1, second),
+                () -> assertEquals(3 * UPDATE_RATE, simulationTime.getTime(), 1e-9),
+                () -> assertEquals(1.5 * UPDATE_RATE, simulationLoop.getLoopTime().getTime(), 1e-9),
+                () -> assertEquals(0, simulationLoop.getDroppedUpdates()));
+    }
+
+    @DisplayName("Updates beyond the catch up limit are dropped and reported.")
+    @Test
+    void advanceDropsUpdates() {
+        //arrange
+        SimulationLoop simulationLoop = new SimulationLoop(1, 1, simulation, 0, 10);
+        simulationLoop.setMaxCatchUpUpdates(3);
+        //act
+        int updates = simulationLoop.advance(10.5 * UPDATE_RATE);
+        int nextUpdates = simulationLoop.advance(0.6 * UPDATE_RATE);
+        //assert
+        assertAll("Check dropped updates",
+                () -> assertEquals(3, updates),
+                () -> assertEquals(1, nextUpdates, "The rest of a partial update should be kept."),
+                () -> assertEquals(7, simulationLoop.getDroppedUpdates()),
+                () -> assertEquals(4 * UPDATE_RATE, simulationTime.getTime(), 1e-9),
+                () -> verify(simulation).notifyUpdatesDropped(7));
+    }
+
+    @DisplayName("No updates are made or dropped while the loop is paused.")
+    @Test
+    void advancePaused() {
+        //arrange
+        SimulationLoop simulationLoop = new SimulationLoop(1, 1, simulation, 0, 10);
+        simulationLoop.togglePause();
+        //act
+        int updates = simulationLoop.advance(100 * UPDATE_RATE);
+        //assert
+        assertAll("Check paused",
+                () -> assertEquals(0, updates),
+                () -> assertEquals(0, simulationLoop.getDroppedUpdates()),
+                () -> verify(simulation, never()).notifyUpdatesDropped(anyInt()));
+    }
+
+    @DisplayName("Each update records its phases and the entity updates per state.")
+    @Test
+    void tickMetrics() {
+        //arrange
+        SimulationObject simulationObject = mock(SimulationObject.class);
+        when(simulationObject.getCurrentStateType()).thenReturn(StateFactory.States.wander);
+        when(simulation.getSimulationObjects()).thenReturn(List.of(simulationObject, simulationObject));
+        SimulationLoop simulationLoop = new SimulationLoop(1, 1, simulation, 0, 10);
+        //act
+        simulationLoop.advance(3 * UPDATE_RATE);
+        TickMetrics tickMetrics = simulationLoop.getTickMetrics();
+        //assert
+        assertAll("Check metrics",
+                () -> assertEquals(3, tickMetrics.getHistogram(TickMetrics.Phase.UPDATE).getCount()),
+                () -> assertEquals(3, tickMetrics.getHistogram(TickMetrics.Phase.ENTITY_UPDATES).getCount()),
+                () -> assertEquals(3, tickMetrics.getHistogram(TickMetrics.Phase.SPAWN_NEW_OBJECTS).getCount()),
+                () -> assertEquals(3, tickMetrics.getHistogram(StateFactory.States.wander).getCount(), "One value per update should be recorded."),
+                () -> assertEquals(6, tickMetrics.getEntityUpdates(StateFactory.States.wander)),
+                () -> assertEquals(0, tickMetrics.getEntityUpdates(StateFactory.States.hunt)),
+                () -> assertEquals(StateFactory.States.wander, tickMetrics.getMostExpensiveState()),
+                () -> assertTrue(tickMetrics.getSummary().contains("state wander")));
+    }
+
+    @DisplayName("The decision phase runs on the common pool by default and on the loop thread without a pool.")
+    @Test
+    void decisionPool() {
+        //arrange
+        when(simulation.getSimulationObjects()).thenReturn(List.of());
+        SimulationLoop simulationLoop = new SimulationLoop(1, 1, simulation, 0, 10);
+        //act
+        simulationLoop.update(UPDATE_RATE);
+        simulationLoop.setDecisionPool(null);
+        simulationLoop.update(UPDATE_RATE);
+        //assert
+        assertAll("Check decision pool",
+                () -> verify(simulation).prepareQueries(ForkJoinPool.commonPool()),
+                () -> verify(simulation).prepareQueries(null));
+    }
+
+    @DisplayName("The frame after a pause toggle is published by the simulation loop thread.")
+    @Test
+    void togglePausePublishesFrameOnLoopThread() {
+        //arrange
+        SimulationLoop simulationLoop = new SimulationLoop(1, 1, simulation, 0, 10);
+        clearInvocations(simulation);
+        List<Thread> frameThreads = new CopyOnWriteArrayList<>();
+        doAnswer(invocation -> frameThreads.add(Thread.currentThread())).when(simulation).notifyFrame();
+        simulationLoop.startSimulationRunner();
+        //act
+        simulationLoop.togglePause();
+        verify(simulation, timeout(10000).atLeastOnce()).notifyFrame();
+        simulationLoop.stopSimulationRunner();
+        //assert
+        assertAll("Check frames",
+                () -> assertTrue(simulationLoop.getSimulationPaused()),
+                () -> assertFalse(frameThreads.isEmpty()),
+                () -> assertTrue(frameThreads.stream().noneMatch(thread -> thread == Thread.currentThread()),
+                        "No frame should be published by the thread, which toggled the pause."));
+    }
+
+    @DisplayName("The max speed mode finishes a run without waiting for the real time.")
+    @Test
+    void maxSpeed() {
+        //arrange
+        SimulationLoop simulationLoop = new SimulationLoop(1, 1, simulation, 0, 1);
+        simulationLoop.setMaxSpeed(true);
+        //act
+        simulationLoop.startSimulationRunner();
+        //assert
+        verify(simulation, timeout(10000)).notifySimulationFinished(any());
+        assertAll("Check run",
+                () -> assertTrue(simulationLoop.getLoopTime().getTime() >= 60),
+                () -> assertEquals(0, simulationLoop.getDroppedUpdates()));
+    }
+}
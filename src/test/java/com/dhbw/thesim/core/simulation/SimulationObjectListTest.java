@@ -0,0 +1,122 @@
+package com.dhbw.thesim.core.simulation;
+
+import com.dhbw.thesim.core.entity.Dinosaur;
+import com.dhbw.thesim.core.entity.DinosaurStore;
+import com.dhbw.thesim.core.entity.Plant;
+import com.dhbw.thesim.core.entity.SpeciesRegistry;
+import com.dhbw.thesim.core.util.Vector2D;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link SimulationObjectList} class.
+ *
+ * @author Daniel Czeschner
+ */
+class SimulationObjectListTest {
+
+    String testSprite;
+
+    SpatialGrid spatialGrid;
+
+    SimulationObjectList simulationObjects;
+
+    @BeforeEach
+    void setUp() {
+        testSprite = "testPlant.png";
+        spatialGrid = new SpatialGrid(45, 36, 24);
+        simulationObjects = new SimulationObjectList(spatialGrid, new DinosaurStore());
+    }
+
+    @AfterEach
+    void tearDown() {
+        simulationObjects = null;
+        spatialGrid = null;
+        testSprite = null;
+    }
+
+    Dinosaur createDinosaur(String type, double x) {
+        Dinosaur dinosaur = new Dinosaur(type, testSprite, 10, 15,
+                3, 12, 5, 600, 27, 5,
+                true, false, 'a', 500,
+                10, 'm');
+        dinosaur.setPosition(new Vector2D(x, 100));
+        return dinosaur;
+    }
+
+    @DisplayName("A queued removal moves the last object into the freed slot and updates the counters")
+    @Test
+    void applyPendingRemovals() {
+        //arrange
+        Plant plant = new Plant("test", testSprite, 30, 1);
+        plant.setPosition(new Vector2D(50, 50));
+        Dinosaur first = createDinosaur("a", 100);
+        Dinosaur second = createDinosaur("b", 200);
+        Dinosaur third = createDinosaur("b", 300);
+        simulationObjects.addAll(List.of(plant, first, second, third));
+        //act
+        simulationObjects.queueRemoval(first);
+        simulationObjects.queueRemoval(first);
+        simulationObjects.applyPendingRemovals();
+        //assert
+        assertAll("Check swap remove",
+                () -> assertEquals(List.of(plant, third, second), simulationObjects),
+                () -> assertEquals(1, simulationObjects.indexOf(third)),
+                () -> assertEquals(-1, simulationObjects.indexOf(first)),
+                () -> assertFalse(simulationObjects.contains(first)),
+                () -> assertEquals(2, simulationObjects.getDinosaurCount()),
+                () -> assertEquals(1, simulationObjects.getPlantCount()),
+                () -> assertEquals(0, simulationObjects.getSpeciesCount(SpeciesRegistry.intern("a"))),
+                () -> assertEquals(2, simulationObjects.getSpeciesCount(SpeciesRegistry.intern("b"))),
+                () -> assertEquals(3, spatialGrid.size()));
+    }
+
+    @DisplayName("Queued additions are added after the queued removals and an object removed before it was added is skipped")
+    @Test
+    void applyPendingAdditions() {
+        //arrange
+        Dinosaur parent = createDinosaur("a", 100);
+        Dinosaur other = createDinosaur("a", 200);
+        Dinosaur baby = createDinosaur("a", 300);
+        Dinosaur stillborn = createDinosaur("a", 400);
+        simulationObjects.addAll(List.of(parent, other));
+        //act
+        simulationObjects.queueAddition(baby);
+        simulationObjects.queueAddition(stillborn);
+        int pending = simulationObjects.getPendingAdditionCount();
+        simulationObjects.queueRemoval(parent);
+        simulationObjects.queueRemoval(stillborn);
+        simulationObjects.applyPendingAdditions();
+        //assert
+        assertAll("Check batch",
+                () -> assertEquals(2, pending),
+                () -> assertEquals(List.of(other, baby), simulationObjects),
+                () -> assertEquals(0, simulationObjects.getPendingAdditionCount()),
+                () -> assertEquals(2, simulationObjects.getSpeciesCount(SpeciesRegistry.intern("a"))),
+                () -> assertEquals(2, spatialGrid.size()));
+    }
+
+    @DisplayName("The species are counted by their ids, so the case of the names is ignored like in the queries")
+    @Test
+    void speciesCountIgnoresCase() {
+        //arrange
+        Dinosaur lower = createDinosaur("counted", 100);
+        Dinosaur upper = createDinosaur("COUNTED", 200);
+        //act
+        simulationObjects.addAll(List.of(lower, upper));
+        int both = simulationObjects.getSpeciesCount(SpeciesRegistry.intern("Counted"));
+        simulationObjects.remove(upper);
+        //assert
+        assertAll("Check species count",
+                () -> assertEquals(2, both),
+                () -> assertEquals(1, simulationObjects.getSpeciesCount(SpeciesRegistry.intern("counted"))),
+                () -> assertEquals(0, simulationObjects.getSpeciesCount(SpeciesRegistry.intern("never added"))));
+    }
+}
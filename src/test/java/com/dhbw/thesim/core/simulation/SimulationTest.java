@@ -6,8 +6,6 @@ import com.dhbw.thesim.core.entity.SimulationObject;
 import com.dhbw.thesim.core.map.SimulationMap;
 import com.dhbw.thesim.core.map.Tile;
 import com.dhbw.thesim.core.util.Vector2D;
-import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -33,10 +31,7 @@ class SimulationTest {
     @Mock
     SimulationMap simulationMap;
 
-    @Mock
-    GraphicsContext graphicsContext;
-
-    Image testImage;
+    String testSprite;
 
     Simulation simulation;
 
@@ -44,20 +39,20 @@ class SimulationTest {
 
     @BeforeEach
     void setUp() {
-        testImage = new Image(Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream("testDinosaur.png")));
+        testSprite = "testDinosaur.png";
 
         testMidCoordinatesWhereConditionsAre = new ArrayList<>();
         testMidCoordinatesWhereConditionsAre.add(new Vector2D(10, 10));
         testMidCoordinatesWhereConditionsAre.add(new Vector2D(50, 50));
 
-        simulation = new Simulation(simulationMap, graphicsContext, new Random());
+        simulation = new Simulation(simulationMap, new Random());
     }
 
     @AfterEach
     void tearDown() {
         simulation = null;
         testMidCoordinatesWhereConditionsAre = null;
-        testImage = null;
+        testSprite = null;
     }
 
     @DisplayName("Sort a list by the distance to a vector")
@@ -114,7 +109,7 @@ class SimulationTest {
     void getClosestReachableWaterSource() {
         //arrange
         when(simulationMap.isInsideOfGrid(any())).thenReturn(true);
-        when(simulationMap.getTileAtPosition(any())).thenReturn(new Tile(testImage, 0, 0, false, false, true));
+        when(simulationMap.getTileAtPosition(any())).thenReturn(new Tile(testSprite, 0, 0, false, false, true));
         when(simulationMap.getMidCoordinatesTilesWhereConditionsAre(any(), anyDouble(), anyBoolean(), anyBoolean())).thenReturn(testMidCoordinatesWhereConditionsAre);
         //act
         Vector2D closestWater = simulation.getClosestReachableWaterSource(new Vector2D(0, 0), 500, true, false);
@@ -138,17 +133,45 @@ class SimulationTest {
         assertNull(closestWater, "There is a no test target.");
     }
 
+    @DisplayName("The water source found with the distance field is the closest water tile, which can be reached on a straight line.")
+    @ParameterizedTest
+    @CsvSource({"5, 8, false", "20, 8, false", "16, 12, false", "30, 5, true", "2, 12, false"})
+    void getClosestReachableWaterSourceWithDistanceField(int gridX, int gridY, boolean canSwim) {
+        //arrange
+        SimulationMap map = new SimulationMap(SimulationMap.LANDSCAPE_ONE_NAME);
+        Simulation realSimulation = new Simulation(map, new Random(1));
+        Vector2D position = map.getCenterPositionOfTile(map.getTileAtPosition(gridX, gridY)).add(new Vector2D(7, -5));
+        double viewRange = 6 * Tile.TILE_SIZE;
+        double expected = Double.POSITIVE_INFINITY;
+        for (int x = 0; x < SimulationMap.WIDTH; x++) {
+            for (int y = 0; y < SimulationMap.HEIGHT; y++) {
+                Tile tile = map.getTileAtPosition(x, y);
+                Vector2D center = map.getCenterPositionOfTile(tile);
+                if (tile.isSwimmable() && !tile.isClimbable() && Vector2D.distance(position, center) <= viewRange
+                        && realSimulation.canMoveTo(position, center, 0, canSwim, false, null, true, true, null))
+                    expected = Math.min(expected, Vector2D.distance(position, center));
+            }
+        }
+        //act
+        Vector2D water = realSimulation.getClosestReachableWaterSource(position, viewRange, canSwim, false);
+        double expectedDistance = expected;
+        //assert
+        assertAll("Check water source",
+                () -> assertNotNull(water),
+                () -> assertEquals(expectedDistance, Vector2D.distance(position, water), 1e-9));
+    }
+
     @DisplayName("Get the closest food source.")
     @Test
     void getClosestReachableFoodSourceInRange() {
         //arrange
-        Dinosaur testDinosaur = new Dinosaur("test", testImage, 1, 2,
+        Dinosaur testDinosaur = new Dinosaur("test", testSprite, 1, 2,
                 3, 4, 5, 6, 7, 8,
                 true, false, 'a', 500,
                 10, 'f');
         testDinosaur.setPosition(new Vector2D(10, 10));
 
-        Dinosaur testDinosaurEat = new Dinosaur("test2", testImage, 1, 2,
+        Dinosaur testDinosaurEat = new Dinosaur("test2", testSprite, 1, 2,
                 2, 4, 5, 6, 7, 8,
                 true, false, 'a', 500,
                 10, 'p');
@@ -159,12 +182,12 @@ class SimulationTest {
         simulation.getSimulationObjects().add(testDinosaurEat);
 
         when(simulationMap.isInsideOfGrid(any())).thenReturn(true);
-        when(simulationMap.getTileAtPosition(any())).thenReturn(new Tile(testImage, 0, 0, false, false, true));
+        when(simulationMap.getTileAtPosition(any())).thenReturn(new Tile(testSprite, 0, 0, false, false, true));
         when(simulationMap.tileMatchedConditions(any(), anyBoolean(), anyBoolean())).thenReturn(true);
 
         //act
         SimulationObject closest = simulation.getClosestReachableFoodSourceInRange(testDinosaur.getPosition(), testDinosaur.getViewRange(), testDinosaur.getInteractionRange(),
-                testDinosaur.getDiet(), testDinosaur.getType(), testDinosaur.canSwim(), testDinosaur.canClimb(), testDinosaur.getStrength());
+                testDinosaur.getDiet(), testDinosaur.getSpeciesId(), testDinosaur.canSwim(), testDinosaur.canClimb(), testDinosaur.getStrength());
         //assert
         assertAll("Check",
                 () -> assertNotNull(closest, "There is a test dinosaur."),
@@ -175,14 +198,14 @@ class SimulationTest {
     @Test
     void getClosestReachableSuitablePartnerInRange() {
         //arrange
-        Dinosaur testDinosaur = new Dinosaur("test", testImage, 1, 2,
+        Dinosaur testDinosaur = new Dinosaur("test", testSprite, 1, 2,
                 3, 4, 5, 6, 7, 8,
                 true, false, 'a', 500,
                 10, 'm');
 
         testDinosaur.setPosition(new Vector2D(10, 10));
 
-        Dinosaur partner = new Dinosaur("test", testImage, 1, 2,
+        Dinosaur partner = new Dinosaur("test", testSprite, 1, 2,
                 2, 4, 5, 6, 7, 8,
                 true, false, 'a', 500,
                 10, 'f');
@@ -194,10 +217,10 @@ class SimulationTest {
         simulation.getSimulationObjects().add(partner);
 
         when(simulationMap.isInsideOfGrid(any())).thenReturn(true);
-        when(simulationMap.getTileAtPosition(any())).thenReturn(new Tile(testImage, 0, 0, false, false, true));
+        when(simulationMap.getTileAtPosition(any())).thenReturn(new Tile(testSprite, 0, 0, false, false, true));
 
         //act
-        SimulationObject closest = simulation.getClosestReachableSuitablePartnerInRange(testDinosaur.getPosition(), testDinosaur.getViewRange(), testDinosaur.getType(), testDinosaur.canSwim(), testDinosaur.canClimb(), testDinosaur.getGender());
+        SimulationObject closest = simulation.getClosestReachableSuitablePartnerInRange(testDinosaur.getPosition(), testDinosaur.getViewRange(), testDinosaur.getSpeciesId(), testDinosaur.canSwim(), testDinosaur.canClimb(), testDinosaur.getGender());
         //assert
         assertAll("Check",
                 () -> assertNotNull(closest, "There is a test dinosaur."),
@@ -210,14 +233,14 @@ class SimulationTest {
     @Test
     void getClosestReachableSuitablePartnerInRangeNull() {
         //arrange
-        Dinosaur testDinosaur = new Dinosaur("test", testImage, 1, 2,
+        Dinosaur testDinosaur = new Dinosaur("test", testSprite, 1, 2,
                 3, 4, 5, 6, 7, 8,
                 true, false, 'a', 500,
                 10, 'm');
 
         testDinosaur.setPosition(new Vector2D(10, 10));
 
-        Dinosaur partner = new Dinosaur("test", testImage, 1, 2,
+        Dinosaur partner = new Dinosaur("test", testSprite, 1, 2,
                 2, 4, 5, 6, 7, 8,
                 true, false, 'a', 500,
                 10, 'f');
@@ -229,7 +252,7 @@ class SimulationTest {
         simulation.getSimulationObjects().add(partner);
 
         //act
-        SimulationObject closest = simulation.getClosestReachableSuitablePartnerInRange(testDinosaur.getPosition(), testDinosaur.getViewRange(), testDinosaur.getType(), testDinosaur.canSwim(), testDinosaur.canClimb(), testDinosaur.getGender());
+        SimulationObject closest = simulation.getClosestReachableSuitablePartnerInRange(testDinosaur.getPosition(), testDinosaur.getViewRange(), testDinosaur.getSpeciesId(), testDinosaur.canSwim(), testDinosaur.canClimb(), testDinosaur.getGender());
         //assert
         assertAll("Check",
                 () -> assertNull(closest, "There is a no test dinosaur who is willing to mate.")
@@ -240,14 +263,14 @@ class SimulationTest {
     @Test
     void makeBaby() {
         //arrange
-        Dinosaur father = new Dinosaur("test", testImage, 10, 15,
+        Dinosaur father = new Dinosaur("test", testSprite, 10, 15,
                 3, 12, 5, 600, 27, 5,
                 true, false, 'a', 500,
                 10, 'm');
 
         simulation.getSimulationObjects().add(father);
 
-        Dinosaur mother = new Dinosaur("test", testImage, 20, 25,
+        Dinosaur mother = new Dinosaur("test", testSprite, 20, 25,
                 3, 12, 3, 600, 27, 5,
                 true, false, 'a', 500,
                 10, 'f');
@@ -269,13 +292,84 @@ class SimulationTest {
         );
     }
 
+    @DisplayName("No dinosaur is added, if the population limit is reached. (mating)")
+    @Test
+    void makeBabyPopulationLimitReached() {
+        //arrange
+        Dinosaur father = new Dinosaur("test", testSprite, 10, 15,
+                3, 12, 5, 600, 27, 5,
+                true, false, 'a', 500,
+                10, 'm');
+        Dinosaur mother = new Dinosaur("test", testSprite, 20, 25,
+                3, 12, 3, 600, 27, 5,
+                true, false, 'a', 500,
+                10, 'f');
+        simulation.getSimulationObjects().add(father);
+        simulation.getSimulationObjects().add(mother);
+        simulation.setPopulationLimit(2);
+
+        //act
+        simulation.makeBaby(father, mother);
+        simulation.spawnNewObjects();
+        //assert
+        assertAll("Test population limit",
+                () -> assertEquals(2, simulation.getSimulationObjects().size()),
+                () -> assertEquals(1, simulation.getDroppedBirths())
+        );
+    }
+
+    @DisplayName("Attached observers get notified about spawned and removed objects.")
+    @Test
+    void observerGetsNotified() {
+        //arrange
+        List<SimulationObject> spawned = new ArrayList<>();
+        List<SimulationObject> removed = new ArrayList<>();
+        simulation.addObserver(new SimulationObserver() {
+            @Override
+            public void onSimulationObjectSpawned(SimulationObject simulationObject) {
+                spawned.add(simulationObject);
+            }
+
+            @Override
+            public void onSimulationObjectRemoved(SimulationObject simulationObject) {
+                removed.add(simulationObject);
+            }
+        });
+
+        Dinosaur father = new Dinosaur("test", testSprite, 10, 15,
+                3, 12, 5, 600, 27, 5,
+                true, false, 'a', 500,
+                10, 'm');
+        Dinosaur mother = new Dinosaur("test", testSprite, 20, 25,
+                3, 12, 3, 600, 27, 5,
+                true, false, 'a', 500,
+                10, 'f');
+        simulation.getSimulationObjects().add(father);
+        simulation.getSimulationObjects().add(mother);
+
+        List<Vector2D> testCords = new ArrayList<>();
+        testCords.add(new Vector2D(150, 150));
+        when(simulationMap.getMidCoordinatesOfTilesWhereConditionsMatch(any(), anyDouble(), anyBoolean(), anyBoolean())).thenReturn(testCords);
+
+        //act
+        simulation.makeBaby(father, mother);
+        simulation.deleteObject(father);
+        simulation.spawnNewObjects();
+        simulation.removeDeletedObjects();
+        //assert
+        assertAll("Check notifications",
+                () -> assertEquals(1, spawned.size(), "The baby got spawned."),
+                () -> assertEquals(List.of(father), removed, "The father got removed."),
+                () -> assertEquals(List.of(mother, spawned.get(0)), simulation.getSimulationObjects()));
+    }
+
     @DisplayName("Can move to a target position")
     @Test
     void canMoveTo() {
         //arrange
 
         when(simulationMap.isInsideOfGrid(any())).thenReturn(true);
-        when(simulationMap.getTileAtPosition(any())).thenReturn(new Tile(testImage, 0, 0, false, false, true));
+        when(simulationMap.getTileAtPosition(any())).thenReturn(new Tile(testSprite, 0, 0, false, false, true));
         when(simulationMap.tileMatchedConditions(any(), anyBoolean(), anyBoolean())).thenReturn(true);
 
         //act
@@ -302,7 +396,7 @@ class SimulationTest {
     void getRandomMovementTargetInRange() {
         //arrange
         when(simulationMap.isInsideOfGrid(any())).thenReturn(true);
-        when(simulationMap.getTileAtPosition(any())).thenReturn(new Tile(testImage, 0, 0, false, false, true));
+        when(simulationMap.getTileAtPosition(any())).thenReturn(new Tile(testSprite, 0, 0, false, false, true));
         when(simulationMap.tileMatchedConditions(any(), anyBoolean(), anyBoolean())).thenReturn(true);
 
         //act
@@ -316,7 +410,7 @@ class SimulationTest {
     void getRandomMovementTargetInRangeInDirection() {
         //arrange
         when(simulationMap.isInsideOfGrid(any())).thenReturn(true);
-        when(simulationMap.getTileAtPosition(any())).thenReturn(new Tile(testImage, 0, 0, false, false, true));
+        when(simulationMap.getTileAtPosition(any())).thenReturn(new Tile(testSprite, 0, 0, false, false, true));
         when(simulationMap.tileMatchedConditions(any(), anyBoolean(), anyBoolean())).thenReturn(true);
         //act
         Vector2D target = simulation.getRandomMovementTargetInRangeInDirection(new Vector2D(15, 15), 100, 20, true, false, new Vector2D(10, 10), new Vector2D(15, 15).directionToTarget(new Vector2D(15, 50)));
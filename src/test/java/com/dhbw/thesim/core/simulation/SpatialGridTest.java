@@ -0,0 +1,176 @@
+package com.dhbw.thesim.core.simulation;
+
+import com.dhbw.thesim.core.entity.DinosaurStore;
+import com.dhbw.thesim.core.entity.Plant;
+import com.dhbw.thesim.core.entity.SimulationObject;
+import com.dhbw.thesim.core.util.Vector2D;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link SpatialGrid} class.
+ *
+ * @author Daniel Czeschner
+ */
+class SpatialGridTest {
+
+    String testSprite;
+
+    SpatialGrid spatialGrid;
+
+    @BeforeEach
+    void setUp() {
+        testSprite = "testPlant.png";
+        spatialGrid = new SpatialGrid(45, 36, 24);
+    }
+
+    @AfterEach
+    void tearDown() {
+        spatialGrid = null;
+        testSprite = null;
+    }
+
+    @DisplayName("A range query contains the same objects as a brute force scan, ordered by the cells and the insertion order")
+    @Test
+    void getObjectsInRange() {
+        //arrange
+        Random random = new Random(42);
+        List<SimulationObject> simulationObjects = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Plant plant = new Plant("test", testSprite, 30, 1);
+            plant.setPosition(new Vector2D(random.nextDouble(-50, 1700), random.nextDouble(-50, 1150)));
+            simulationObjects.add(plant);
+            spatialGrid.insert(plant);
+        }
+        Vector2D center = new Vector2D(random.nextDouble(0, 1620), random.nextDouble(0, 1080));
+        double range = 250;
+        //act
+        List<SimulationObject> result = spatialGrid.getObjectsInRange(center, range);
+        result.removeIf(simulationObject -> Vector2D.distance(center, simulationObject.getPosition()) > range);
+        List<SimulationObject> expected = new ArrayList<>(simulationObjects);
+        expected.removeIf(simulationObject -> Vector2D.distance(center, simulationObject.getPosition()) > range);
+        //The sort is stable, so the insertion order is kept inside each cell.
+        expected.sort(Comparator.comparingInt(simulationObject -> getCellIndex(simulationObject.getPosition())));
+        //assert
+        assertEquals(expected, result);
+    }
+
+    @DisplayName("The grid follows position updates of an object")
+    @Test
+    void update() {
+        //arrange
+        Plant plant = new Plant("test", testSprite, 30, 1);
+        plant.setPosition(new Vector2D(10, 10));
+        spatialGrid.insert(plant);
+        //act
+        plant.setPosition(new Vector2D(1000, 800));
+        List<SimulationObject> oldArea = spatialGrid.getObjectsInRange(new Vector2D(10, 10), 20);
+        List<SimulationObject> newArea = spatialGrid.getObjectsInRange(new Vector2D(1000, 800), 20);
+        //assert
+        assertAll("Check the cells",
+                () -> assertFalse(oldArea.contains(plant), "The plant left the old cell."),
+                () -> assertTrue(newArea.contains(plant), "The plant is inside the new cell."));
+    }
+
+    @DisplayName("An object, which moves into another cell, is sorted into the cell by its insertion order")
+    @Test
+    void updateKeepsInsertionOrder() {
+        //arrange
+        List<SimulationObject> simulationObjects = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Plant plant = new Plant("test", testSprite, 30, 1);
+            plant.setPosition(new Vector2D(10 + i, i % 2 == 0 ? 10 : 500));
+            simulationObjects.add(plant);
+            spatialGrid.insert(plant);
+        }
+        //act
+        simulationObjects.get(1).setPosition(new Vector2D(12, 12));
+        simulationObjects.get(3).setPosition(new Vector2D(14, 14));
+        List<SimulationObject> result = spatialGrid.getObjectsInRange(new Vector2D(10, 10), 5);
+        //assert
+        assertEquals(simulationObjects, result);
+    }
+
+    @DisplayName("The collision checks use the stored positions and interaction ranges")
+    @Test
+    void collisionChecks() {
+        //arrange
+        Plant plant = new Plant("test", testSprite, 30, 1);
+        plant.setPosition(new Vector2D(100, 100));
+        spatialGrid.insert(plant);
+        //act
+        plant.setPosition(new Vector2D(200, 100));
+        //assert
+        assertAll("Check collisions",
+                () -> assertTrue(spatialGrid.doesCircleIntersectAnyInteractionRange(230, 100, 15, null, null), "The circles intersect."),
+                () -> assertTrue(spatialGrid.doesCircleIntersectAnyInteractionRange(210, 100, 0, null, null), "The point is inside the range."),
+                () -> assertFalse(spatialGrid.doesCircleIntersectAnyInteractionRange(100, 100, 15, null, null), "The old position is free."),
+                () -> assertFalse(spatialGrid.doesCircleIntersectAnyInteractionRange(230, 100, 15, new Vector2D(200, 100), null), "The plant is ignored."),
+                () -> assertTrue(spatialGrid.doesLineSegmentCollideWithAnyInteractionRange(150, 100, 300, 100, false, null, null), "The line crosses the range."),
+                () -> assertFalse(spatialGrid.doesLineSegmentCollideWithAnyInteractionRange(150, 150, 300, 150, false, null, null), "The line passes the range."),
+                () -> assertFalse(spatialGrid.doesLineSegmentCollideWithAnyInteractionRange(150, 100, 200, 100, true, null, null), "The plant is the target."));
+    }
+
+    @DisplayName("Removed objects are no longer found")
+    @Test
+    void remove() {
+        //arrange
+        Plant plant = new Plant("test", testSprite, 30, 1);
+        plant.setPosition(new Vector2D(100, 100));
+        spatialGrid.insert(plant);
+        //act
+        spatialGrid.remove(plant);
+        plant.setPosition(new Vector2D(120, 120));
+        //assert
+        assertAll("Check removed",
+                () -> assertEquals(0, spatialGrid.size()),
+                () -> assertFalse(spatialGrid.anyMatchInArea(0, 0, 1620, 1080, simulationObject -> true)));
+    }
+
+    @DisplayName("Removing many objects from a simulation object list removes them from the grid, too")
+    @Test
+    void removeAllFromSimulationObjectList() {
+        //arrange
+        SimulationObjectList simulationObjects = new SimulationObjectList(spatialGrid, new DinosaurStore());
+        List<SimulationObject> toBeRemoved = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            Plant plant = new Plant("test", testSprite, 30, 1);
+            plant.setPosition(new Vector2D(100 * i, 100));
+            simulationObjects.add(plant);
+            if (i % 2 == 0)
+                toBeRemoved.add(plant);
+        }
+        List<SimulationObject> expected = new ArrayList<>(simulationObjects);
+        expected.removeAll(toBeRemoved);
+        //act
+        boolean changed = simulationObjects.removeAll(toBeRemoved);
+        //assert
+        assertAll("Check removed",
+                () -> assertTrue(changed),
+                () -> assertEquals(expected, simulationObjects),
+                () -> assertEquals(5, spatialGrid.size()),
+                () -> assertFalse(spatialGrid.getObjectsInRange(new Vector2D(0, 100), 20).contains(toBeRemoved.get(0))));
+    }
+
+    /**
+     * Gets the index of the cell of a position in the tested {@link SpatialGrid}.
+     *
+     * @param position The {@link Vector2D} position.
+     * @return The index of the cell.
+     */
+    private static int getCellIndex(Vector2D position) {
+        int x = Math.max(0, Math.min(35, (int) Math.floor(position.getX() / 45)));
+        int y = Math.max(0, Math.min(23, (int) Math.floor(position.getY() / 45)));
+        return x + y * 36;
+    }
+}
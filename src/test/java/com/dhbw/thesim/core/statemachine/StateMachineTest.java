@@ -13,7 +13,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.mock;
 
 /**
- * Tests for {@link StateMachine}, {@link StateTransition}, {@link ITransition}.
+ * Tests for {@link StateMachine}, {@link StateTransition}, {@link ITransition}, {@link TransitionTable}.
  *
  * @author Daniel Czeschner
  */
@@ -49,6 +49,45 @@ class StateMachineTest {
         assertEquals(TestState.class.getSimpleName(), testStateMachine.getState().getClass().getSimpleName(), "The new State should be the old state.");
     }
 
+    @DisplayName("A SimulationObject creates each State only once and reuses it")
+    @Test
+    void getPooledState() {
+        //arrange
+        Dinosaur dinosaur = new Dinosaur("test", null, 10, 20,
+                3, 4, 5, 6, 7, 8,
+                true, false, 'a', 9,
+                10, 'f');
+        //act
+        State wander = StateFactory.getState(StateFactory.States.wander, dinosaur);
+        State wanderAgain = StateFactory.getState(StateFactory.States.wander, dinosaur);
+        //assert
+        assertAll("Check pool",
+                () -> assertSame(wander, wanderAgain, "The wander state should be reused."),
+                () -> assertSame(wander, dinosaur.getPooledState(StateFactory.States.wander)),
+                () -> assertInstanceOf(Stand.class, dinosaur.getPooledState(StateFactory.States.stand), "The start state should be pooled."),
+                () -> assertNull(dinosaur.getPooledState(StateFactory.States.hunt), "Unused states should not be created."));
+    }
+
+    @DisplayName("A TransitionTable returns the first met transition")
+    @Test
+    void transitionTable() {
+        //arrange
+        Simulation simulation = mock(Simulation.class);
+        TestState testState = new TestState(mock(Dinosaur.class), true);
+        TransitionTable<TestState> transitionTable = new TransitionTable<TestState>()
+                .addTransition(StateFactory.States.wander, (state, sim) -> false)
+                .addTransition(StateFactory.States.stand, (state, sim) -> state.doTransition)
+                .addTransition(StateFactory.States.dead, (state, sim) -> true);
+        //act
+        StateFactory.States nextState = transitionTable.getNextState(testState, simulation);
+        testState.doTransition = false;
+        StateFactory.States nextStateWithoutTransition = transitionTable.getNextState(testState, simulation);
+        //assert
+        assertAll("Check transitions",
+                () -> assertEquals(StateFactory.States.stand, nextState),
+                () -> assertEquals(StateFactory.States.dead, nextStateWithoutTransition));
+    }
+
     /**
      * Test {@link StateMachine}.
      */
@@ -0,0 +1,71 @@
+package com.dhbw.thesim.core.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link LatencyHistogram} class.
+ *
+ * @author Daniel Czeschner
+ */
+class LatencyHistogramTest {
+
+    @DisplayName("Small values are counted exactly.")
+    @Test
+    void smallValues() {
+        //arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+        //act
+        for (int i = 1; i <= 10; i++) {
+            histogram.record(i);
+        }
+        //assert
+        assertAll("Check small values",
+                () -> assertEquals(10, histogram.getCount()),
+                () -> assertEquals(1, histogram.getMin()),
+                () -> assertEquals(10, histogram.getMax()),
+                () -> assertEquals(5.5, histogram.getMean()),
+                () -> assertEquals(5, histogram.getValueAtPercentile(50)),
+                () -> assertEquals(10, histogram.getValueAtPercentile(100)));
+    }
+
+    @DisplayName("A percentile of large values is at most about 3% larger than the real value.")
+    @ParameterizedTest
+    @ValueSource(longs = {100, 1_234, 16_667_000, 1_000_000_000_000L, Long.MAX_VALUE / 3})
+    void relativePrecision(long value) {
+        //arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+        //act
+        histogram.record(value);
+        histogram.record(value * 2 / 3);
+        long median = histogram.getValueAtPercentile(50);
+        //assert
+        assertAll("Check precision",
+                () -> assertTrue(median >= value * 2 / 3),
+                () -> assertTrue(median <= value * 2 / 3 * 1.04),
+                () -> assertEquals(value, histogram.getValueAtPercentile(99)));
+    }
+
+    @DisplayName("A copy is not changed by further values and a reset removes all values.")
+    @Test
+    void copyAndReset() {
+        //arrange
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(500);
+        //act
+        LatencyHistogram copy = histogram.copy();
+        histogram.record(900);
+        histogram.reset();
+        //assert
+        assertAll("Check copy and reset",
+                () -> assertEquals(1, copy.getCount()),
+                () -> assertEquals(500, copy.getMax()),
+                () -> assertEquals(0, histogram.getCount()),
+                () -> assertEquals(0, histogram.getMin()),
+                () -> assertEquals(0, histogram.getValueAtPercentile(99)));
+    }
+}
@@ -215,6 +215,71 @@ class Vector2DTest {
         );
     }
 
+    @DisplayName("Writing the direction vector into an existing vector gives the same direction")
+    @ParameterizedTest
+    @CsvSource({"0, 0, 0, 0", "39, 120, 1500, 18", "1500, -30, 1560, 27"})
+    void directionToTargetIntoExistingVector(double x1, double y1, double x2, double y2) {
+        //arrange
+        Vector2D testVector1 = new Vector2D(x1, y1);
+        Vector2D testVector2 = new Vector2D(x2, y2);
+        Vector2D result = new Vector2D(7, 7);
+        //act
+        Vector2D finalTestVector = testVector1.directionToTarget(testVector2, result);
+        //assert
+        assertAll("Direction vector to a target.",
+                () -> assertSame(result, finalTestVector, "The existing vector should be reused."),
+                () -> assertEquals(testVector1.directionToTarget(testVector2), finalTestVector, "The direction should be equal.")
+        );
+    }
+
+    @DisplayName("Adding a scaled direction should be the same as adding the multiplied direction.")
+    @ParameterizedTest
+    @CsvSource({"0, 0, 1, 0, 5", "10.5, -3, 0.6, 0.8, 2.25", "-100, 40, -0.7071, 0.7071, 0.016"})
+    void addScaled(double x, double y, double directionX, double directionY, double factor) {
+        //arrange
+        Vector2D testVector = new Vector2D(x, y);
+        Vector2D direction = new Vector2D(directionX, directionY);
+        //act
+        Vector2D finalTestVector = testVector.addScaled(direction, factor);
+        //assert
+        assertEquals(testVector.add(direction.multiply(factor)), finalTestVector);
+    }
+
+    @DisplayName("The in place variants should change the vector itself and give the same values as the copying ones.")
+    @ParameterizedTest
+    @CsvSource({"0, 0, 1, 0, 5", "10.5, -3, 0.6, 0.8, 2.25", "-100, 40, -0.7071, 0.7071, 0.016"})
+    void localVariants(double x, double y, double otherX, double otherY, double factor) {
+        //arrange
+        Vector2D testVector = new Vector2D(x, y);
+        Vector2D other = new Vector2D(otherX, otherY);
+        //act
+        Vector2D added = new Vector2D(x, y).addLocal(other);
+        Vector2D addedScaled = new Vector2D(x, y).addScaledLocal(other, factor);
+        Vector2D subtracted = new Vector2D(x, y).subtractLocal(other);
+        Vector2D multiplied = new Vector2D(x, y);
+        Vector2D multipliedResult = multiplied.multiplyLocal(factor);
+        //assert
+        assertAll("Check the in place variants",
+                () -> assertEquals(testVector.add(other), added),
+                () -> assertEquals(testVector.addScaled(other, factor), addedScaled),
+                () -> assertEquals(testVector.subtract(other), subtracted),
+                () -> assertEquals(testVector.multiply(factor), multiplied),
+                () -> assertSame(multiplied, multipliedResult, "The vector itself should be returned."));
+    }
+
+    @DisplayName("The squared distance should be the square of the distance.")
+    @ParameterizedTest
+    @CsvSource({"0, 0, 0, 0, 0", "0, 0, 3, 4, 25", "-2, 1, 4, -7, 100"})
+    void distanceSq(double x1, double y1, double x2, double y2, double result) {
+        //arrange
+        Vector2D testVector1 = new Vector2D(x1, y1);
+        Vector2D testVector2 = new Vector2D(x2, y2);
+        //act
+        double distanceSq = Vector2D.distanceSq(testVector1, testVector2);
+        //assert
+        assertEquals(result, distanceSq);
+    }
+
     @DisplayName("Get the correct angle of a vector")
     @ParameterizedTest
     @CsvSource({"0, 0, 0", "27, 187, -1.4274", "1300, 18, -0.0138", "-60, -4, 3.0750"})
@@ -0,0 +1,39 @@
+package com.dhbw.thesim.gui;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link RenderingMode} enum.
+ *
+ * @author Daniel Czeschner
+ */
+class RenderingModeTest {
+
+    @DisplayName("The rendering mode is selected by its name, ignoring the case and surrounding spaces.")
+    @ParameterizedTest
+    @CsvSource({"canvas, CANVAS", "CANVAS, CANVAS", "nodes, NODES", "' Nodes ', NODES"})
+    void fromName(String name, RenderingMode expected) {
+        //act
+        RenderingMode renderingMode = RenderingMode.fromName(name);
+        //assert
+        assertEquals(expected, renderingMode);
+    }
+
+    @DisplayName("Without a name the canvas is used and an unknown name is rejected.")
+    @Test
+    void defaultAndUnknownName() {
+        //act
+        RenderingMode missing = RenderingMode.fromName(null);
+        RenderingMode blank = RenderingMode.fromName(" ");
+        //assert
+        assertAll("Check names",
+                () -> assertEquals(RenderingMode.CANVAS, missing),
+                () -> assertEquals(RenderingMode.CANVAS, blank),
+                () -> assertThrows(IllegalArgumentException.class, () -> RenderingMode.fromName("webgl")));
+    }
+}
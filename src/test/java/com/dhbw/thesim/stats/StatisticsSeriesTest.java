@@ -0,0 +1,110 @@
+package com.dhbw.thesim.stats;
+
+import com.dhbw.thesim.core.entity.Dinosaur;
+import com.dhbw.thesim.core.entity.SimulationObject;
+import com.dhbw.thesim.core.entity.SpeciesRegistry;
+import com.dhbw.thesim.core.util.SimulationTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests for the {@link StatisticsSeriesWriter} and the {@link StatisticsSeriesReader} classes.
+ *
+ * @author Daniel Czeschner
+ */
+class StatisticsSeriesTest {
+
+    @Test
+    @DisplayName("A written series with more samples than one block should be read with the same values.")
+    void writeAndRead(@TempDir Path directory) throws IOException {
+        //arrange
+        Path file = directory.resolve("series.stats");
+        int sampleCount = StatisticsSeriesWriter.BLOCK_SIZE * 2 + 17;
+        //act
+        try (StatisticsSeriesWriter writer = new StatisticsSeriesWriter(file)) {
+            writer.start(List.of("Brachiosaurus", "Tyrannosaurus Rex"));
+            for (int i = 0; i < sampleCount; i++) {
+                writer.addSample(new StatisticsSample(i * 2.5, 40 - i % 7, List.of(30 - i % 5, 10 + i % 3), 10 + i % 3, 30 - i % 5,
+                        0.5 + i % 10 / 100d, 0, 1, 0.25));
+            }
+        }
+        StatisticsSeries series = StatisticsSeriesReader.read(file);
+        //assert
+        assertAll("Check series",
+                () -> assertEquals(List.of("Brachiosaurus", "Tyrannosaurus Rex"), series.species()),
+                () -> assertEquals(sampleCount, series.getSampleCount()),
+                () -> assertEquals(2.5 * (sampleCount - 1), series.simulationTimes()[sampleCount - 1], 1e-9),
+                () -> assertEquals(40 - 300 % 7, series.livingDinosaurs()[300]),
+                () -> assertEquals(30 - 300 % 5, series.livingSpecies()[0][300]),
+                () -> assertEquals(10 + 300 % 3, series.livingSpecies()[1][300]),
+                () -> assertEquals(10 + 300 % 3, series.livingPredators()[300]),
+                () -> assertEquals(30 - 300 % 5, series.livingChased()[300]),
+                () -> assertEquals(0.5 + 300 % 10 / 100d, series.averageNutritionPredators()[300], 1e-6),
+                () -> assertEquals(0, series.averageNutritionChased()[300]),
+                () -> assertEquals(1, series.averageHydrationPredators()[300]),
+                () -> assertEquals(0.25, series.averageHydrationChased()[300]),
+                //mostly small differences, so the file should be much smaller than 8 bytes per value
+                () -> assertTrue(Files.size(file) < sampleCount * 10 * 2));
+    }
+
+    @Test
+    @DisplayName("The statistics should stream each sample to the series.")
+    void streamStatistics(@TempDir Path directory) throws IOException {
+        //arrange
+        Path file = directory.resolve("series.stats");
+        Statistics statistics = new Statistics();
+        List<SimulationObject> simulationObjects = new ArrayList<>(List.of(
+                mockDinosaur("Brachiosaurus", Dinosaur.dietType.HERBIVORE, 0.5),
+                mockDinosaur("Tyrannosaurus Rex", Dinosaur.dietType.CARNIVORE, 0.25)));
+        //act
+        try (StatisticsSeriesWriter writer = new StatisticsSeriesWriter(file)) {
+            statistics.setSeriesWriter(writer);
+            statistics.addSimulationObjectList(simulationObjects, new SimulationTime(10));
+            simulationObjects.remove(1);
+            statistics.addSimulationObjectList(simulationObjects, new SimulationTime(20));
+        }
+        StatisticsSeries series = StatisticsSeriesReader.read(file);
+        //assert
+        assertAll("Check streamed series",
+                () -> assertEquals(List.of("Brachiosaurus", "Tyrannosaurus Rex"), series.species()),
+                () -> assertArrayEquals(new double[]{10, 20}, series.simulationTimes()),
+                () -> assertArrayEquals(new int[]{2, 1}, series.livingDinosaurs()),
+                () -> assertArrayEquals(new int[]{1, 0}, series.livingSpecies()[1]),
+                () -> assertArrayEquals(new int[]{1, 0}, series.livingPredators()),
+                () -> assertArrayEquals(new double[]{0.25, 0}, series.averageNutritionPredators()),
+                () -> assertArrayEquals(new double[]{0.5, 0.5}, series.averageHydrationChased()));
+    }
+
+    @Test
+    @DisplayName("A file without the magic number should not be read.")
+    void readInvalidFile(@TempDir Path directory) throws IOException {
+        //arrange
+        Path file = directory.resolve("series.stats");
+        Files.writeString(file, "[]");
+        //act + assert
+        assertThrows(IOException.class, () -> StatisticsSeriesReader.read(file));
+    }
+
+    private Dinosaur mockDinosaur(String type, Dinosaur.dietType diet, double percentage) {
+        Dinosaur dinosaur = mock(Dinosaur.class);
+        when(dinosaur.getType()).thenReturn(type);
+        when(dinosaur.getSpeciesId()).thenReturn(SpeciesRegistry.intern(type));
+        when(dinosaur.getDiet()).thenReturn(diet);
+        when(dinosaur.getNutrition()).thenReturn(percentage * 100);
+        when(dinosaur.getMaxNutrition()).thenReturn(100d);
+        when(dinosaur.getHydration()).thenReturn(percentage * 100);
+        when(dinosaur.getMaxHydration()).thenReturn(100d);
+        return dinosaur;
+    }
+}
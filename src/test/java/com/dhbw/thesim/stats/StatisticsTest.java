@@ -6,7 +6,6 @@ import com.dhbw.thesim.core.entity.SimulationObject;
 import com.dhbw.thesim.core.util.SimulationTime;
 import org.junit.jupiter.api.*;
 
-import javafx.scene.image.Image;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -32,7 +31,7 @@ public class StatisticsTest {
 
     Dinosaur baseOmnivore = new Dinosaur(
             "omnivore",
-            makeMockImage("dinosaur"),
+            makeSpriteName("dinosaur"),
             maxHydrationNutrition,
             maxHydrationNutrition,
             100,
@@ -54,7 +53,7 @@ public class StatisticsTest {
 
     Dinosaur baseCarnivore = new Dinosaur(
             "carnivore",
-            makeMockImage("dinosaur"),
+            makeSpriteName("dinosaur"),
             maxHydrationNutrition,
             maxHydrationNutrition,
             80,
@@ -76,7 +75,7 @@ public class StatisticsTest {
 
     Dinosaur baseHerbivore = new Dinosaur(
             "herbivore",
-            makeMockImage("dinosaur"),
+            makeSpriteName("dinosaur"),
             maxHydrationNutrition,
             maxHydrationNutrition,
             50,
@@ -98,7 +97,7 @@ public class StatisticsTest {
 
     Plant basePlant = new Plant(
         "plant",
-            makeMockImage("plant"),
+            makeSpriteName("plant"),
 10,
     10
     );
@@ -151,19 +150,19 @@ public class StatisticsTest {
         int amountOfCarnivores = 2;
         double attributeMultiplier = 1;
         addNewStatsUpdate(10, amountOfOmnivores, amountOfCarnivores, 1, 0, attributeMultiplier);
-        double update1 = getExpectedAverageDietForDinosPerUpdate(Map.of(getBaseCarnivore(), amountOfCarnivores, getBaseOmnivore(), amountOfOmnivores), attributeMultiplier, dietType);
+        double update1 = getExpectedAverageDietForDinosPerUpdate(inSampleOrder(getBaseOmnivore(), amountOfOmnivores, getBaseCarnivore(), amountOfCarnivores), attributeMultiplier, dietType);
 
         amountOfOmnivores = 1 * withOmnivores;
         amountOfCarnivores = 2;
         attributeMultiplier = 1.2;
         addNewStatsUpdate(10, amountOfOmnivores, amountOfCarnivores, 0, 0, attributeMultiplier);
-        double update2 = getExpectedAverageDietForDinosPerUpdate(Map.of(getBaseCarnivore(), amountOfCarnivores, getBaseOmnivore(), amountOfOmnivores), attributeMultiplier, dietType);
+        double update2 = getExpectedAverageDietForDinosPerUpdate(inSampleOrder(getBaseOmnivore(), amountOfOmnivores, getBaseCarnivore(), amountOfCarnivores), attributeMultiplier, dietType);
 
         amountOfOmnivores = 0 * withOmnivores;
         amountOfCarnivores = 1;
         attributeMultiplier = 0.5;
         addNewStatsUpdate(10, amountOfOmnivores, amountOfCarnivores, 0, 0, attributeMultiplier);
-        double update3 = getExpectedAverageDietForDinosPerUpdate(Map.of(getBaseCarnivore(), amountOfCarnivores, getBaseOmnivore(), amountOfOmnivores), attributeMultiplier, dietType);
+        double update3 = getExpectedAverageDietForDinosPerUpdate(inSampleOrder(getBaseOmnivore(), amountOfOmnivores, getBaseCarnivore(), amountOfCarnivores), attributeMultiplier, dietType);
 
         double expected = (update1 + update2 + update3) / 3;
 
@@ -215,19 +214,19 @@ public class StatisticsTest {
         int amountOfCarnivores = 2;
         double attributeMultiplier = 1;
         addNewStatsUpdate(10, amountOfOmnivores, amountOfCarnivores, 1, 0, attributeMultiplier);
-        double update1 = getExpectedAverageDietForDinosPerUpdate(Map.of(getBaseCarnivore(), amountOfCarnivores, getBaseOmnivore(), amountOfOmnivores), attributeMultiplier, dietType);
+        double update1 = getExpectedAverageDietForDinosPerUpdate(inSampleOrder(getBaseOmnivore(), amountOfOmnivores, getBaseCarnivore(), amountOfCarnivores), attributeMultiplier, dietType);
 
         amountOfOmnivores = 1 * withOmnivores;
         amountOfCarnivores = 2;
         attributeMultiplier = 1.2;
         addNewStatsUpdate(10, amountOfOmnivores, amountOfCarnivores, 0, 0, attributeMultiplier);
-        double update2 = getExpectedAverageDietForDinosPerUpdate(Map.of(getBaseCarnivore(), amountOfCarnivores, getBaseOmnivore(), amountOfOmnivores), attributeMultiplier, dietType);
+        double update2 = getExpectedAverageDietForDinosPerUpdate(inSampleOrder(getBaseOmnivore(), amountOfOmnivores, getBaseCarnivore(), amountOfCarnivores), attributeMultiplier, dietType);
 
         amountOfOmnivores = 0 * withOmnivores;
         amountOfCarnivores = 1;
         attributeMultiplier = 0.5;
         addNewStatsUpdate(10, amountOfOmnivores, amountOfCarnivores, 0, 0, attributeMultiplier);
-        double update3 = getExpectedAverageDietForDinosPerUpdate(Map.of(getBaseCarnivore(), amountOfCarnivores, getBaseOmnivore(), amountOfOmnivores), attributeMultiplier, dietType);
+        double update3 = getExpectedAverageDietForDinosPerUpdate(inSampleOrder(getBaseOmnivore(), amountOfOmnivores, getBaseCarnivore(), amountOfCarnivores), attributeMultiplier, dietType);
 
         double expected = (update1 + update2 + update3) / 3;
 
@@ -560,6 +559,17 @@ public class StatisticsTest {
         return speciesMap;
     }
 
+    /**
+     * Keeps the dinosaurs in the order of {@link #makeSimulationObjectList(int, int, int, int, double)},
+     * so the expected percentages are summed up in the same order as the sample.
+     */
+    private Map<Dinosaur, Integer> inSampleOrder(Dinosaur first, int amountOfFirst, Dinosaur second, int amountOfSecond) {
+        Map<Dinosaur, Integer> dinosaurs = new LinkedHashMap<>();
+        dinosaurs.put(first, amountOfFirst);
+        dinosaurs.put(second, amountOfSecond);
+        return dinosaurs;
+    }
+
     private double getExpectedAverageDietForDinosPerUpdate(Map<Dinosaur, Integer> dinosaurs, double attributeMultiplier, DietType dietType){
 
         List<Double> percentages = new ArrayList<>();
@@ -693,9 +703,7 @@ public class StatisticsTest {
         return dinosaur;
     }
 
-    private Image makeMockImage(String type){
-        String filename = type.equalsIgnoreCase("dinosaur") ? "testDinosaur.png" : "testPlant.png";
-
-        return new Image(Objects.requireNonNull(getClass().getClassLoader().getResourceAsStream(filename)));
+    private String makeSpriteName(String type){
+        return type.equalsIgnoreCase("dinosaur") ? "testDinosaur.png" : "testPlant.png";
     }
 }